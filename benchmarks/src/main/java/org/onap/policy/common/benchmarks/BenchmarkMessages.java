@@ -0,0 +1,48 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import java.util.UUID;
+
+/**
+ * Messages used by the benchmarks.
+ */
+public final class BenchmarkMessages {
+
+    private BenchmarkMessages() {
+        // do nothing
+    }
+
+    /**
+     * Makes a JSON message of approximately the given size.
+     *
+     * @param size desired size of the message, in characters
+     * @return a new message
+     */
+    public static String makeMessage(int size) {
+        var builder = new StringBuilder(size + 64);
+        builder.append("{\"requestId\": \"").append(UUID.randomUUID()).append("\", \"payload\": \"");
+
+        while (builder.length() < size - 2) {
+            builder.append('x');
+        }
+
+        return builder.append("\"}").toString();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, always adding the GC profiler, so that the allocation rate is
+ * reported along with the throughput. Accepts the same arguments as JMH's own main class,
+ * e.g., a regular expression selecting the benchmarks to run, or "-rf json" to save the
+ * results for comparison with a later run.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // do nothing
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line arguments
+     * @throws CommandLineOptionException if the arguments are invalid
+     * @throws RunnerException if a benchmark cannot be run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        var options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
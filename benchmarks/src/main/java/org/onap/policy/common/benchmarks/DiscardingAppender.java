@@ -0,0 +1,44 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * Appender that formats each message, as a real appender would, and then discards it,
+ * so that the network log can be measured without filling the disk.
+ */
+public class DiscardingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    /**
+     * Sum of the lengths of the formatted messages, to keep the formatting from being
+     * optimized away.
+     */
+    private long length;
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        length += event.getFormattedMessage().length();
+    }
+
+    public long getLength() {
+        return length;
+    }
+}
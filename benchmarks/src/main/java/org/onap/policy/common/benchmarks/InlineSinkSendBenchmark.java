@@ -0,0 +1,109 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.base.BusPublisher;
+import org.onap.policy.common.message.bus.event.base.InlineBusTopicSink;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@code InlineBusTopicSink.send()}, including recording the recent
+ * event and logging the message via {@code NetLoggerUtil}, with a publisher that discards
+ * the messages.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InlineSinkSendBenchmark {
+
+    @Param({"256", "4096"})
+    public int messageSize;
+
+    private DiscardingSink sink;
+    private String message;
+
+    /**
+     * Creates and starts the sink.
+     */
+    @Setup
+    public void setUp() {
+        sink = new DiscardingSink(BusTopicParams.builder().servers(List.of("localhost")).topic("benchmark")
+                        .partitionId("benchmark-partition").build());
+        sink.start();
+
+        message = BenchmarkMessages.makeMessage(messageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.shutdown();
+    }
+
+    @Benchmark
+    public boolean send() {
+        return sink.send(message);
+    }
+
+    /**
+     * Sink whose publisher discards the messages.
+     */
+    private static class DiscardingSink extends InlineBusTopicSink {
+        public DiscardingSink(BusTopicParams busTopicParams) {
+            super(busTopicParams);
+        }
+
+        @Override
+        public void init() {
+            this.publisher = new BusPublisher() {
+                @Override
+                public boolean send(String partitionId, String message) {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                    // do nothing
+                }
+            };
+        }
+
+        @Override
+        public CommInfrastructure getTopicCommInfrastructure() {
+            return CommInfrastructure.NOOP;
+        }
+    }
+}
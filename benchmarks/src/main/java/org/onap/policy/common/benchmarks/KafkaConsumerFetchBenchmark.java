@@ -0,0 +1,109 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.KafkaConsumerWrapper;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@code KafkaConsumerWrapper.fetch()}, including committing the
+ * offsets, against Kafka's {@link MockConsumer}. Each operation queues, and then fetches,
+ * a batch of records, thus the cost of queuing them is included.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaConsumerFetchBenchmark {
+    private static final String TOPIC = "benchmark";
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    @Param({"sync", "periodic"})
+    public String commitStrategy;
+
+    private final TopicPartition partition = new TopicPartition(TOPIC, 0);
+
+    private MockConsumer<String, String> consumer;
+    private KafkaConsumerWrapper wrapper;
+    private String message;
+    private long offset;
+
+    /**
+     * Creates the wrapper, around a mock consumer to which the topic's partition is
+     * assigned.
+     */
+    @Setup
+    public void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+        var params = BusTopicParams.builder().servers(List.of("localhost:9092")).topic(TOPIC)
+                        .consumerGroup("benchmark-group").fetchTimeout(0).fetchLimit(batchSize)
+                        .commitStrategy(commitStrategy).build();
+
+        wrapper = new KafkaConsumerWrapper(params, null, props -> consumer) {};
+
+        consumer.rebalance(List.of(partition));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+
+        message = BenchmarkMessages.makeMessage(256);
+        offset = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        wrapper.close();
+    }
+
+    /**
+     * Queues a batch of records and fetches them.
+     *
+     * @return the fetched messages
+     */
+    @Benchmark
+    public Iterable<String> fetch() {
+        for (var count = 0; count < batchSize; ++count) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset++, null, message));
+        }
+
+        return wrapper.fetch();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.onap.policy.common.message.bus.event.kafka.KafkaPublisherWrapper;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@code KafkaPublisherWrapper.send()}, against Kafka's
+ * {@link MockProducer}, which acknowledges each record as soon as it is sent.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaPublisherSendBenchmark {
+    private static final String TOPIC = "benchmark";
+    private static final String PARTITION_ID = "benchmark-partition";
+
+    /**
+     * Number of records after which the producer's history is cleared, to keep it from
+     * growing without bound.
+     */
+    private static final int HISTORY_LIMIT = 10000;
+
+    @Param({"false", "true"})
+    public boolean asyncPublish;
+
+    @Param({"random", "fixed"})
+    public String keyStrategy;
+
+    private MockProducer<String, String> producer;
+    private KafkaPublisherWrapper publisher;
+    private String message;
+    private int sent;
+
+    /**
+     * Creates the publisher, around a mock producer.
+     */
+    @Setup
+    public void setUp() {
+        producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+
+        var params = BusTopicParams.builder().servers(List.of("localhost:9092")).topic(TOPIC)
+                        .asyncPublish(asyncPublish).keyStrategy(keyStrategy).build();
+
+        publisher = new KafkaPublisherWrapper(params, props -> producer) {};
+
+        message = BenchmarkMessages.makeMessage(256);
+        sent = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.close();
+    }
+
+    /**
+     * Sends a message.
+     *
+     * @return {@code true} if the message was sent
+     */
+    @Benchmark
+    public boolean send() {
+        if (++sent >= HISTORY_LIMIT) {
+            producer.clear();
+            sent = 0;
+        }
+
+        return publisher.send(PARTITION_ID, message);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.message.bus.event.noop.NoopTopicSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of delivering a message to a topic's listeners, via
+ * {@code TopicBase.broadcast()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopicBroadcastBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int listeners;
+
+    @Param({"256", "4096"})
+    public int messageSize;
+
+    private BroadcastingSource source;
+    private String message;
+
+    /**
+     * Creates the source and registers its listeners.
+     *
+     * @param blackhole sink for the messages received by the listeners
+     */
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        source = new BroadcastingSource();
+        for (var count = 0; count < listeners; ++count) {
+            source.register(new ConsumingListener(blackhole));
+        }
+
+        message = BenchmarkMessages.makeMessage(messageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.shutdown();
+    }
+
+    @Benchmark
+    public boolean broadcast() {
+        return source.deliver(message);
+    }
+
+    /**
+     * Source that exposes broadcast(), without the network logging done by offer().
+     */
+    private static class BroadcastingSource extends NoopTopicSource {
+        public BroadcastingSource() {
+            super(List.of("noop"), "benchmark");
+        }
+
+        public boolean deliver(String message) {
+            return broadcast(message);
+        }
+    }
+
+    /**
+     * Listener that hands each message to the blackhole.
+     */
+    private static class ConsumingListener implements TopicListener {
+        private final Blackhole blackhole;
+
+        public ConsumingListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onTopicEvent(CommInfrastructure commType, String topic, String event) {
+            blackhole.consume(event);
+        }
+    }
+}
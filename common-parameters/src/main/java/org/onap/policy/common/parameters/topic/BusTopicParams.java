@@ -4,7 +4,7 @@
  * ================================================================================
  * Copyright (C) 2018 Samsung Electronics Co., Ltd. All rights reserved.
  * Modifications Copyright (C) 2018-2019, 2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2019, 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2019, 2023-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,22 @@ import org.apache.commons.lang3.StringUtils;
  * consumerInstance Kafka Reader Instance
  * fetchTimeout kafka fetch timeout
  * fetchLimit Kafka fetch limit
+ * partitionWorkers number of threads dispatching Kafka partitions in parallel (0 = single threaded)
+ * maxPendingRecords number of records awaiting dispatch above which fetching is paused
+ * sharedConsumer share one Kafka consumer among the sources of a consumer group (ignored with partitionWorkers)
+ * commitStrategy how Kafka offsets are committed (sync, async or periodic)
+ * commitIntervalMs maximum time, in milliseconds, between periodic offset commits
+ * commitMaxRecords maximum number of records fetched between periodic offset commits
+ * recentEventsCapacity number of recent events kept for diagnostics (0 = disabled, negative = default)
+ * recentEventsMaxLength length beyond which recent events are truncated (0 = no truncation)
+ * asyncPublish publish without flushing each message
+ * maxInFlight maximum number of published messages awaiting acknowledgment, when publishing asynchronously
+ * keyStrategy how Kafka record keys are chosen (random, none, fixed or field)
+ * keyField dotted path of the message field used as the record key, with the "field" key strategy
+ * sharedProducer share the Kafka producer with other sinks having identical producer properties
+ * ringCapacity number of events an in-process source can buffer (rounded up to a power of two)
+ * waitStrategy how an idle in-process source waits for events (busy_spin, yielding, sleeping or blocking)
+ * busClient client used to reach the bus (kafka or, for offline testing, memory)
  * environment DME2 Environment
  * aftEnvironment DME2 AFT Environment
  * partner DME2 Partner
@@ -66,6 +82,22 @@ public class BusTopicParams {
     private String consumerInstance;
     private int fetchTimeout;
     private int fetchLimit;
+    private int partitionWorkers;
+    private int maxPendingRecords;
+    private boolean sharedConsumer;
+    private String commitStrategy;
+    private int commitIntervalMs;
+    private int commitMaxRecords;
+    private int recentEventsCapacity = -1;
+    private int recentEventsMaxLength;
+    private boolean asyncPublish;
+    private int maxInFlight;
+    private String keyStrategy;
+    private String keyField;
+    private boolean sharedProducer;
+    private int ringCapacity;
+    private String waitStrategy;
+    private String busClient;
     private boolean useHttps;
     private boolean allowTracing;
     private boolean allowSelfSignedCerts;
@@ -240,6 +272,86 @@ public class BusTopicParams {
             return this;
         }
 
+        public TopicParamsBuilder partitionWorkers(int partitionWorkers) {
+            this.params.partitionWorkers = partitionWorkers;
+            return this;
+        }
+
+        public TopicParamsBuilder maxPendingRecords(int maxPendingRecords) {
+            this.params.maxPendingRecords = maxPendingRecords;
+            return this;
+        }
+
+        public TopicParamsBuilder sharedConsumer(boolean sharedConsumer) {
+            this.params.sharedConsumer = sharedConsumer;
+            return this;
+        }
+
+        public TopicParamsBuilder commitStrategy(String commitStrategy) {
+            this.params.commitStrategy = commitStrategy;
+            return this;
+        }
+
+        public TopicParamsBuilder commitIntervalMs(int commitIntervalMs) {
+            this.params.commitIntervalMs = commitIntervalMs;
+            return this;
+        }
+
+        public TopicParamsBuilder commitMaxRecords(int commitMaxRecords) {
+            this.params.commitMaxRecords = commitMaxRecords;
+            return this;
+        }
+
+        public TopicParamsBuilder recentEventsCapacity(int recentEventsCapacity) {
+            this.params.recentEventsCapacity = recentEventsCapacity;
+            return this;
+        }
+
+        public TopicParamsBuilder recentEventsMaxLength(int recentEventsMaxLength) {
+            this.params.recentEventsMaxLength = recentEventsMaxLength;
+            return this;
+        }
+
+        public TopicParamsBuilder asyncPublish(boolean asyncPublish) {
+            this.params.asyncPublish = asyncPublish;
+            return this;
+        }
+
+        public TopicParamsBuilder maxInFlight(int maxInFlight) {
+            this.params.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public TopicParamsBuilder keyStrategy(String keyStrategy) {
+            this.params.keyStrategy = keyStrategy;
+            return this;
+        }
+
+        public TopicParamsBuilder keyField(String keyField) {
+            this.params.keyField = keyField;
+            return this;
+        }
+
+        public TopicParamsBuilder sharedProducer(boolean sharedProducer) {
+            this.params.sharedProducer = sharedProducer;
+            return this;
+        }
+
+        public TopicParamsBuilder ringCapacity(int ringCapacity) {
+            this.params.ringCapacity = ringCapacity;
+            return this;
+        }
+
+        public TopicParamsBuilder waitStrategy(String waitStrategy) {
+            this.params.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        public TopicParamsBuilder busClient(String busClient) {
+            this.params.busClient = busClient;
+            return this;
+        }
+
         public TopicParamsBuilder useHttps(boolean useHttps) {
             this.params.useHttps = useHttps;
             return this;
@@ -1,7 +1,7 @@
 /*
  * ============LICENSE_START=======================================================
  * Copyright (C) 2018-2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,19 @@ class BusTopicParamsTest {
     public static final String MY_ENV = "my-env";
     public static final int MY_FETCH_LIMIT = 100;
     public static final int MY_FETCH_TIMEOUT = 101;
+    public static final int MY_PARTITION_WORKERS = 4;
+    public static final int MY_MAX_PENDING_RECORDS = 105;
+    public static final String MY_COMMIT_STRATEGY = "periodic";
+    public static final int MY_COMMIT_INTERVAL_MS = 103;
+    public static final int MY_COMMIT_MAX_RECORDS = 104;
+    public static final int MY_RECENT_EVENTS_CAPACITY = 106;
+    public static final int MY_RECENT_EVENTS_MAX_LENGTH = 107;
+    public static final int MY_MAX_IN_FLIGHT = 108;
+    public static final String MY_KEY_STRATEGY = "field";
+    public static final String MY_KEY_FIELD = "my-key-field";
+    public static final int MY_RING_CAPACITY = 109;
+    public static final String MY_WAIT_STRATEGY = "sleeping";
+    public static final String MY_BUS_CLIENT = "memory";
     public static final String MY_HOST = "my-host";
     public static final String MY_LAT = "my-lat";
     public static final String MY_LONG = "my-long";
@@ -85,6 +98,22 @@ class BusTopicParamsTest {
         Assertions.assertEquals(MY_ENV, params.getEnvironment());
         Assertions.assertEquals(MY_FETCH_LIMIT, params.getFetchLimit());
         Assertions.assertEquals(MY_FETCH_TIMEOUT, params.getFetchTimeout());
+        Assertions.assertEquals(MY_PARTITION_WORKERS, params.getPartitionWorkers());
+        Assertions.assertEquals(MY_MAX_PENDING_RECORDS, params.getMaxPendingRecords());
+        assertTrue(params.isSharedConsumer());
+        Assertions.assertEquals(MY_COMMIT_STRATEGY, params.getCommitStrategy());
+        Assertions.assertEquals(MY_COMMIT_INTERVAL_MS, params.getCommitIntervalMs());
+        Assertions.assertEquals(MY_COMMIT_MAX_RECORDS, params.getCommitMaxRecords());
+        Assertions.assertEquals(MY_RECENT_EVENTS_CAPACITY, params.getRecentEventsCapacity());
+        Assertions.assertEquals(MY_RECENT_EVENTS_MAX_LENGTH, params.getRecentEventsMaxLength());
+        assertTrue(params.isAsyncPublish());
+        Assertions.assertEquals(MY_MAX_IN_FLIGHT, params.getMaxInFlight());
+        Assertions.assertEquals(MY_KEY_STRATEGY, params.getKeyStrategy());
+        Assertions.assertEquals(MY_KEY_FIELD, params.getKeyField());
+        assertTrue(params.isSharedProducer());
+        Assertions.assertEquals(MY_RING_CAPACITY, params.getRingCapacity());
+        Assertions.assertEquals(MY_WAIT_STRATEGY, params.getWaitStrategy());
+        Assertions.assertEquals(MY_BUS_CLIENT, params.getBusClient());
         Assertions.assertEquals(MY_HOST, params.getHostname());
         Assertions.assertEquals(MY_LAT, params.getLatitude());
         Assertions.assertEquals(MY_LONG, params.getLongitude());
@@ -192,9 +221,14 @@ class BusTopicParamsTest {
         return BusTopicParams.builder().additionalProps(addProps).aftEnvironment(MY_AFT_ENV).allowSelfSignedCerts(true)
             .apiKey(MY_API_KEY).apiSecret(MY_API_SECRET).basePath(MY_BASE_PATH).clientName(MY_CLIENT_NAME)
             .consumerGroup(MY_CONS_GROUP).consumerInstance(MY_CONS_INST).environment(MY_ENV)
-            .fetchLimit(MY_FETCH_LIMIT).fetchTimeout(MY_FETCH_TIMEOUT).hostname(MY_HOST).latitude(MY_LAT)
-            .longitude(MY_LONG).managed(true).partitionId(MY_PARTITION).partner(MY_PARTNER)
-            .password(MY_PASS).port(MY_PORT).servers(List.of("localhost")).topic(MY_TOPIC)
+            .fetchLimit(MY_FETCH_LIMIT).fetchTimeout(MY_FETCH_TIMEOUT).partitionWorkers(MY_PARTITION_WORKERS)
+            .maxPendingRecords(MY_MAX_PENDING_RECORDS).sharedConsumer(true).commitStrategy(MY_COMMIT_STRATEGY)
+            .commitIntervalMs(MY_COMMIT_INTERVAL_MS).commitMaxRecords(MY_COMMIT_MAX_RECORDS)
+            .recentEventsCapacity(MY_RECENT_EVENTS_CAPACITY).recentEventsMaxLength(MY_RECENT_EVENTS_MAX_LENGTH)
+            .asyncPublish(true).maxInFlight(MY_MAX_IN_FLIGHT).keyStrategy(MY_KEY_STRATEGY).keyField(MY_KEY_FIELD)
+            .sharedProducer(true).ringCapacity(MY_RING_CAPACITY).waitStrategy(MY_WAIT_STRATEGY).busClient(MY_BUS_CLIENT)
+            .hostname(MY_HOST).latitude(MY_LAT).longitude(MY_LONG).managed(true).partitionId(MY_PARTITION)
+            .partner(MY_PARTNER).password(MY_PASS).port(MY_PORT).servers(List.of("localhost")).topic(MY_TOPIC)
             .effectiveTopic(MY_EFFECTIVE_TOPIC).useHttps(true).allowTracing(true).userName(MY_USERNAME)
             .serializationProvider(MY_SERIALIZER);
     }
@@ -0,0 +1,51 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Listener for batches of event messages entering the Policy Engine. Topic sources deliver
+ * each batch that they fetch in a single notification, while plain {@link TopicListener}s
+ * registered with the same source continue to be notified once per message.
+ */
+public interface BatchTopicListener extends TopicListener {
+
+    /**
+     * Notification of new Events over a given Topic.
+     *
+     * @param commType communication infrastructure type
+     * @param topic    topic name
+     * @param events   event messages, in the order they were received
+     */
+    void onTopicEvents(Topic.CommInfrastructure commType, String topic, List<String> events);
+
+    /**
+     * Notification of a single Event, delivered as a batch of one.
+     *
+     * @param commType communication infrastructure type
+     * @param topic    topic name
+     * @param event    event message as a string
+     */
+    @Override
+    default void onTopicEvent(Topic.CommInfrastructure commType, String topic, String event) {
+        onTopicEvents(commType, topic, Collections.singletonList(event));
+    }
+}
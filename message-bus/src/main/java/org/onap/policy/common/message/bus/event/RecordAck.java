@@ -0,0 +1,51 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Acknowledgment of a message that was sent over a topic. Infrastructures that do not
+ * assign partitions or offsets to their messages report them as {@link #UNKNOWN}.
+ */
+@Data
+@RequiredArgsConstructor
+public class RecordAck {
+
+    /**
+     * Value of the partition, offset, or timestamp when it is not known.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final String topic;
+    private final int partition;
+    private final long offset;
+    private final long timestamp;
+
+    /**
+     * Constructs an acknowledgment for a message whose partition, offset, and timestamp
+     * are not known.
+     *
+     * @param topic topic on which the message was sent
+     */
+    public RecordAck(String topic) {
+        this(topic, (int) UNKNOWN, UNKNOWN, UNKNOWN);
+    }
+}
@@ -4,7 +4,7 @@
  * ================================================================================
  * Copyright (C) 2017-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2019 Samsung Electronics Co., Ltd.
- * Copyright (C) 2022,2024 Nordix Foundation.
+ * Copyright (C) 2022,2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,7 +47,11 @@ public interface Topic extends TopicRegisterable, Startable, Lockable {
         /**
          * REST Communication Infrastructure.
          */
-        REST
+        REST,
+        /**
+         * In-process loopback, between components sharing a JVM.
+         */
+        INPROC
     }
 
     /**
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2017-2019 AT&T Intellectual Property. All rights reserved.
- * Copyright (C) 2022,2024 Nordix Foundation.
+ * Copyright (C) 2022,2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Properties;
 import org.onap.policy.common.capabilities.Lockable;
 import org.onap.policy.common.capabilities.Startable;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicSink;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicSource;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicSink;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicSource;
 import org.onap.policy.common.message.bus.event.noop.NoopTopicSink;
@@ -142,6 +144,14 @@ public interface TopicEndpoint extends Startable, Lockable {
      */
     KafkaTopicSource getKafkaTopicSource(String topicName);
 
+    /**
+     * Get the In-process Source for the given topic name.
+     *
+     * @param topicName the topic name.
+     * @return the In-process Source.
+     */
+    InprocTopicSource getInprocTopicSource(String topicName);
+
     /**
      * Get the Topic Sinks for the given topic name.
      *
@@ -207,6 +217,18 @@ public interface TopicEndpoint extends Startable, Lockable {
      */
     KafkaTopicSink getKafkaTopicSink(String topicName);
 
+    /**
+     * Get the in-process Topic Sink for the given topic name.
+     *
+     * @param topicName the topic name
+     *
+     * @return the Topic Sink
+     * @throws IllegalStateException if the entity is in an invalid state, for example multiple
+     *         TopicWriters for a topic name and communication infrastructure
+     * @throws IllegalArgumentException if invalid parameters are present
+     */
+    InprocTopicSink getInprocTopicSink(String topicName);
+
     /**
      * Gets only the KAFKA Topic Sources.
      *
@@ -221,6 +243,13 @@ public interface TopicEndpoint extends Startable, Lockable {
      */
     List<NoopTopicSource> getNoopTopicSources();
 
+    /**
+     * Gets only the INPROC Topic Sources.
+     *
+     * @return the INPROC Topic Source List
+     */
+    List<InprocTopicSource> getInprocTopicSources();
+
     /**
      * Gets only the KAFKA Topic Sinks.
      *
@@ -235,4 +264,11 @@ public interface TopicEndpoint extends Startable, Lockable {
      */
     List<NoopTopicSink> getNoopTopicSinks();
 
+    /**
+     * Gets only the INPROC Topic Sinks.
+     *
+     * @return the INPROC Topic Sinks List
+     */
+    List<InprocTopicSink> getInprocTopicSinks();
+
 }
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2022-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@
 
 package org.onap.policy.common.message.bus.event;
 
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_NETWORK_LOG_PREFIX;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -29,12 +31,16 @@ import java.util.Properties;
 import lombok.Getter;
 import org.onap.policy.common.capabilities.Startable;
 import org.onap.policy.common.gson.annotation.GsonJsonIgnore;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicFactories;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicSink;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicSource;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicFactories;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicSink;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicSource;
 import org.onap.policy.common.message.bus.event.noop.NoopTopicFactories;
 import org.onap.policy.common.message.bus.event.noop.NoopTopicSink;
 import org.onap.policy.common.message.bus.event.noop.NoopTopicSource;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
 import org.onap.policy.common.parameters.topic.TopicParameterGroup;
 import org.onap.policy.common.parameters.topic.TopicParameters;
 import org.slf4j.Logger;
@@ -63,8 +69,10 @@ public class TopicEndpointProxy implements TopicEndpoint {
 
     @Override
     public List<Topic> addTopics(Properties properties) {
-        List<Topic> topics = new ArrayList<>(addTopicSources(properties));
-        topics.addAll(addTopicSinks(properties));
+        configureNetworkLog(properties);
+
+        List<Topic> topics = new ArrayList<>(buildTopicSources(properties));
+        topics.addAll(buildTopicSinks(properties));
         return topics;
     }
 
@@ -93,6 +101,9 @@ public class TopicEndpointProxy implements TopicEndpoint {
                 case NOOP:
                     sources.add(NoopTopicFactories.getSourceFactory().build(param));
                     break;
+                case INPROC:
+                    sources.add(InprocTopicFactories.getSourceFactory().build(param));
+                    break;
                 default:
                     logger.debug("Unknown source type {} for topic: {}", param.getTopicCommInfrastructure(),
                         param.getTopic());
@@ -107,14 +118,21 @@ public class TopicEndpointProxy implements TopicEndpoint {
 
     @Override
     public List<TopicSource> addTopicSources(Properties properties) {
+        configureNetworkLog(properties);
+        return buildTopicSources(properties);
+    }
+
+    private List<TopicSource> buildTopicSources(Properties properties) {
 
         // 1. Create KAFKA Sources
         // 2. Create NOOP Sources
+        // 3. Create INPROC Sources
 
         List<TopicSource> sources = new ArrayList<>();
 
         sources.addAll(KafkaTopicFactories.getSourceFactory().build(properties));
         sources.addAll(NoopTopicFactories.getSourceFactory().build(properties));
+        sources.addAll(InprocTopicFactories.getSourceFactory().build(properties));
 
         lockSources(sources);
 
@@ -139,6 +157,9 @@ public class TopicEndpointProxy implements TopicEndpoint {
                 case NOOP:
                     sinks.add(NoopTopicFactories.getSinkFactory().build(param));
                     break;
+                case INPROC:
+                    sinks.add(InprocTopicFactories.getSinkFactory().build(param));
+                    break;
                 default:
                     logger.debug("Unknown sink type {} for topic: {}", param.getTopicCommInfrastructure(),
                         param.getTopic());
@@ -153,13 +174,20 @@ public class TopicEndpointProxy implements TopicEndpoint {
 
     @Override
     public List<TopicSink> addTopicSinks(Properties properties) {
+        configureNetworkLog(properties);
+        return buildTopicSinks(properties);
+    }
+
+    private List<TopicSink> buildTopicSinks(Properties properties) {
         // 1. Create KAFKA Sinks
         // 2. Create NOOP Sinks
+        // 3. Create INPROC Sinks
 
         final List<TopicSink> sinks = new ArrayList<>();
 
         sinks.addAll(KafkaTopicFactories.getSinkFactory().build(properties));
         sinks.addAll(NoopTopicFactories.getSinkFactory().build(properties));
+        sinks.addAll(InprocTopicFactories.getSinkFactory().build(properties));
 
         lockSinks(sinks);
 
@@ -172,6 +200,20 @@ public class TopicEndpointProxy implements TopicEndpoint {
         }
     }
 
+    /**
+     * Configures network logging, if the properties include network log properties, thus
+     * leaving the current configuration in place when topics are added from properties
+     * that do not.
+     *
+     * @param properties topic configuration
+     */
+    private void configureNetworkLog(Properties properties) {
+        String prefix = PROPERTY_NETWORK_LOG_PREFIX + ".";
+        if (properties.stringPropertyNames().stream().anyMatch(name -> name.startsWith(prefix))) {
+            NetLoggerUtil.configure(properties);
+        }
+    }
+
     @Override
     public List<TopicSource> getTopicSources() {
 
@@ -179,6 +221,7 @@ public class TopicEndpointProxy implements TopicEndpoint {
 
         sources.addAll(KafkaTopicFactories.getSourceFactory().inventory());
         sources.addAll(NoopTopicFactories.getSourceFactory().inventory());
+        sources.addAll(InprocTopicFactories.getSourceFactory().inventory());
 
         return sources;
     }
@@ -204,6 +247,12 @@ public class TopicEndpointProxy implements TopicEndpoint {
             } catch (final Exception e) {
                 logger.debug("No NOOP source for topic: {}", topic, e);
             }
+
+            try {
+                sources.add(Objects.requireNonNull(this.getInprocTopicSource(topic)));
+            } catch (final Exception e) {
+                logger.debug("No INPROC source for topic: {}", topic, e);
+            }
         });
 
         return sources;
@@ -216,6 +265,7 @@ public class TopicEndpointProxy implements TopicEndpoint {
 
         sinks.addAll(KafkaTopicFactories.getSinkFactory().inventory());
         sinks.addAll(NoopTopicFactories.getSinkFactory().inventory());
+        sinks.addAll(InprocTopicFactories.getSinkFactory().inventory());
 
         return sinks;
     }
@@ -240,6 +290,12 @@ public class TopicEndpointProxy implements TopicEndpoint {
             } catch (final Exception e) {
                 logger.debug("No NOOP sink for topic: {}", topic, e);
             }
+
+            try {
+                sinks.add(Objects.requireNonNull(this.getInprocTopicSink(topic)));
+            } catch (final Exception e) {
+                logger.debug("No INPROC sink for topic: {}", topic, e);
+            }
         }
         return sinks;
     }
@@ -264,6 +320,12 @@ public class TopicEndpointProxy implements TopicEndpoint {
             logNoSink(topicName, e);
         }
 
+        try {
+            sinks.add(this.getInprocTopicSink(topicName));
+        } catch (final Exception e) {
+            logNoSink(topicName, e);
+        }
+
         return sinks;
     }
 
@@ -279,6 +341,12 @@ public class TopicEndpointProxy implements TopicEndpoint {
         return NoopTopicFactories.getSourceFactory().inventory();
     }
 
+    @GsonJsonIgnore
+    @Override
+    public List<InprocTopicSource> getInprocTopicSources() {
+        return InprocTopicFactories.getSourceFactory().inventory();
+    }
+
     @Override
     @GsonJsonIgnore
     public List<KafkaTopicSink> getKafkaTopicSinks() {
@@ -291,6 +359,12 @@ public class TopicEndpointProxy implements TopicEndpoint {
         return NoopTopicFactories.getSinkFactory().inventory();
     }
 
+    @GsonJsonIgnore
+    @Override
+    public List<InprocTopicSink> getInprocTopicSinks() {
+        return InprocTopicFactories.getSinkFactory().inventory();
+    }
+
     @Override
     public boolean start() {
 
@@ -372,6 +446,9 @@ public class TopicEndpointProxy implements TopicEndpoint {
         NoopTopicFactories.getSinkFactory().destroy();
         NoopTopicFactories.getSourceFactory().destroy();
 
+        InprocTopicFactories.getSinkFactory().destroy();
+        InprocTopicFactories.getSourceFactory().destroy();
+
     }
 
     @Override
@@ -432,6 +509,7 @@ public class TopicEndpointProxy implements TopicEndpoint {
         return switch (commType) {
             case KAFKA -> this.getKafkaTopicSource(topicName);
             case NOOP -> this.getNoopTopicSource(topicName);
+            case INPROC -> this.getInprocTopicSource(topicName);
             default -> throw new UnsupportedOperationException("Unsupported " + commType.name());
         };
     }
@@ -449,6 +527,7 @@ public class TopicEndpointProxy implements TopicEndpoint {
         return switch (commType) {
             case KAFKA -> this.getKafkaTopicSink(topicName);
             case NOOP -> this.getNoopTopicSink(topicName);
+            case INPROC -> this.getInprocTopicSink(topicName);
             default -> throw new UnsupportedOperationException("Unsupported " + commType.name());
         };
     }
@@ -463,6 +542,11 @@ public class TopicEndpointProxy implements TopicEndpoint {
         return NoopTopicFactories.getSourceFactory().get(topicName);
     }
 
+    @Override
+    public InprocTopicSource getInprocTopicSource(String topicName) {
+        return InprocTopicFactories.getSourceFactory().get(topicName);
+    }
+
     @Override
     public KafkaTopicSink getKafkaTopicSink(String topicName) {
         return KafkaTopicFactories.getSinkFactory().get(topicName);
@@ -473,6 +557,11 @@ public class TopicEndpointProxy implements TopicEndpoint {
         return NoopTopicFactories.getSinkFactory().get(topicName);
     }
 
+    @Override
+    public InprocTopicSink getInprocTopicSink(String topicName) {
+        return InprocTopicFactories.getSinkFactory().get(topicName);
+    }
+
     private IllegalArgumentException paramException(String topicName) {
         return new IllegalArgumentException(
             "Invalid parameter: a communication infrastructure required to fetch " + topicName);
@@ -1,7 +1,7 @@
 /*
  * ============LICENSE_START=======================================================
  * Copyright (C) 2017-2018 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@
 
 package org.onap.policy.common.message.bus.event;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Marks a given Topic Endpoint as able to send messages over a topic.
  */
@@ -35,4 +37,40 @@ public interface TopicSink extends Topic {
      */
     boolean send(String message);
 
+    /**
+     * Sends a string message over this Topic Endpoint, without waiting for it to be
+     * delivered.
+     *
+     * @param message message to send
+     * @return a future that completes when the message has been acknowledged, or
+     *         completes exceptionally if it could not be delivered
+     * @throws IllegalArgumentException an invalid message has been provided
+     * @throws IllegalStateException    the entity is in a state that prevents
+     *         it from sending messages, for example, locked or stopped.
+     */
+    default CompletableFuture<RecordAck> sendAsync(String message) {
+        return sendAsync(null, message);
+    }
+
+    /**
+     * Sends a string message over this Topic Endpoint, without waiting for it to be
+     * delivered. Infrastructures that do not support asynchronous delivery send the
+     * message synchronously and return a completed future.
+     *
+     * @param key key used to route the message, or {@code null} to use the sink's
+     *        default
+     * @param message message to send
+     * @return a future that completes when the message has been acknowledged, or
+     *         completes exceptionally if it could not be delivered
+     * @throws IllegalArgumentException an invalid message has been provided
+     * @throws IllegalStateException    the entity is in a state that prevents
+     *         it from sending messages, for example, locked or stopped.
+     */
+    default CompletableFuture<RecordAck> sendAsync(String key, String message) {
+        if (send(message)) {
+            return CompletableFuture.completedFuture(new RecordAck(getTopic()));
+        }
+
+        return CompletableFuture.failedFuture(new IllegalStateException(this + " cannot send message"));
+    }
 }
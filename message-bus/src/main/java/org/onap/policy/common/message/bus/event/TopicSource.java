@@ -1,7 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2017 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,9 @@
 
 package org.onap.policy.common.message.bus.event;
 
+import java.util.Map;
+import org.onap.policy.common.gson.annotation.GsonJsonIgnore;
+
 /**
  * Marker for a Topic Entity, indicating that the entity is able to read
  * over a topic.
@@ -33,4 +36,15 @@ public interface TopicSource extends Topic {
      */
     boolean offer(String event);
 
+    /**
+     * Gets the number of records, in each partition of the topic, that have been published
+     * but not yet consumed (i.e., committed) by this source.
+     *
+     * @return the lag, keyed by partition; empty if the source does not track it
+     */
+    @GsonJsonIgnore
+    default Map<Integer, Long> getPartitionLag() {
+        return Map.of();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Clients through which a bus topic reaches its broker.
+ */
+public enum BusClient {
+    /**
+     * The Kafka client libraries, talking to a live cluster.
+     */
+    KAFKA,
+
+    /**
+     * An in-memory broker, within the JVM, for exercising sources and sinks offline.
+     */
+    MEMORY;
+
+    /**
+     * Gets the client having the given name, ignoring case.
+     *
+     * @param name name of the client, or {@code null}
+     * @return the client, {@link #KAFKA} if the name is blank
+     * @throws IllegalArgumentException if the name is not a known client
+     */
+    public static BusClient of(String name) {
+        if (StringUtils.isBlank(name)) {
+            return KAFKA;
+        }
+
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
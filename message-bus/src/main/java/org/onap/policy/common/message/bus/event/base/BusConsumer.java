@@ -21,34 +21,35 @@
 
 package org.onap.policy.common.message.bus.event.base;
 
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_COMMIT_INTERVAL_MS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_COMMIT_MAX_RECORDS;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_TIMEOUT_MS_FETCH;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
-import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanContext;
-import io.opentelemetry.api.trace.TraceFlags;
-import io.opentelemetry.api.trace.TraceState;
-import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.kafkaclients.v2_6.KafkaTelemetry;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
-import lombok.Data;
+import java.util.function.Function;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.errors.WakeupException;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,6 +72,15 @@ public interface BusConsumer {
      */
     void close();
 
+    /**
+     * Interrupts a fetch that is in progress, or causes the next fetch to return
+     * immediately, so the thread that fetches can notice that it is to stop and close the
+     * consumer. Unlike the other methods, this may be invoked from any thread.
+     */
+    default void wakeup() {
+        // does nothing by default
+    }
+
     /**
      * Consumer that handles fetch() failures by sleeping.
      */
@@ -145,14 +155,86 @@ public interface BusConsumer {
 
         private static final String KEY_DESERIALIZER = "org.apache.kafka.common.serialization.StringDeserializer";
 
+        /**
+         * Maximum time, in milliseconds, to wait in poll() while fetching is paused, so
+         * that the caller gets a chance to resume it promptly.
+         */
+        private static final long PAUSED_POLL_MS = 100;
+
+        /**
+         * Minimum time, in milliseconds, between samples of the partition lag.
+         */
+        private static final long LAG_SAMPLE_INTERVAL_MS = 1000;
+
         /**
          * Kafka consumer.
          */
-        protected KafkaConsumer<String, String> consumer;
+        protected Consumer<String, String> consumer;
         protected Properties kafkaProps;
 
         protected boolean allowTracing;
 
+        @Getter
+        protected final CommitStrategy commitStrategy;
+        protected final long commitIntervalMs;
+        protected final int commitMaxRecords;
+
+        /**
+         * Offsets that have been handed off for committing, but have not yet been
+         * committed. Updated by the commit callbacks, thus it must be thread-safe.
+         */
+        protected final Map<TopicPartition, OffsetAndMetadata> uncommitted = new ConcurrentHashMap<>();
+
+        /**
+         * Number of records fetched since the last periodic commit.
+         */
+        private int uncommittedRecords = 0;
+
+        /**
+         * Time, in milliseconds, of the last periodic commit.
+         */
+        private long lastCommitMs;
+
+        /**
+         * Poll, commit and lag statistics.
+         */
+        @Getter
+        protected final ConsumerStats stats = new ConsumerStats();
+
+        /**
+         * Offset of the next record to be fetched from each partition, as of the last
+         * poll. Only accessed by the polling thread.
+         */
+        private final Map<TopicPartition, Long> positions = new HashMap<>();
+
+        /**
+         * Offsets that have been committed by this consumer. Only accessed by the polling
+         * thread, as that is where commit callbacks are invoked.
+         */
+        private final Map<TopicPartition, Long> committed = new HashMap<>();
+
+        /**
+         * Time, in nanoseconds, at which the last poll started, or 0 if there has not been
+         * a poll yet.
+         */
+        private long lastPollNanos = 0;
+
+        /**
+         * Time, in milliseconds, at which the lag was last sampled.
+         */
+        private long lastLagSampleMs = 0;
+
+        /**
+         * {@code true} if fetching has been paused via {@link #pause()}.
+         */
+        @Getter
+        private volatile boolean paused = false;
+
+        /**
+         * Listener to be notified when partitions are assigned or revoked, or {@code null}.
+         */
+        private final ConsumerRebalanceListener rebalanceListener;
+
         /**
          * Kafka Consumer Wrapper.
          * BusTopicParam - object contains the following parameters
@@ -162,12 +244,48 @@ public interface BusConsumer {
          * @param busTopicParams - The parameters for the bus topic
          */
         public KafkaConsumerWrapper(BusTopicParams busTopicParams) {
+            this(busTopicParams, null);
+        }
+
+        /**
+         * Kafka Consumer Wrapper.
+         * BusTopicParam - object contains the following parameters
+         * servers - messaging bus hosts.
+         * topic - topic
+         *
+         * @param busTopicParams - The parameters for the bus topic
+         * @param rebalanceListener - listener to be notified when partitions are assigned
+         *        or revoked, or {@code null}
+         */
+        public KafkaConsumerWrapper(BusTopicParams busTopicParams, ConsumerRebalanceListener rebalanceListener) {
+            this(busTopicParams, rebalanceListener, KafkaConsumer::new);
+        }
+
+        /**
+         * Kafka Consumer Wrapper.
+         *
+         * @param busTopicParams - The parameters for the bus topic
+         * @param rebalanceListener - listener to be notified when partitions are assigned
+         *        or revoked, or {@code null}
+         * @param consumerFactory - function used to create the consumer from the kafka
+         *        properties
+         */
+        protected KafkaConsumerWrapper(BusTopicParams busTopicParams, ConsumerRebalanceListener rebalanceListener,
+                        Function<Properties, Consumer<String, String>> consumerFactory) {
             super(busTopicParams);
+            this.rebalanceListener = rebalanceListener;
 
             if (busTopicParams.isTopicInvalid()) {
                 throw new IllegalArgumentException("No topic for Kafka");
             }
 
+            this.commitStrategy = CommitStrategy.of(busTopicParams.getCommitStrategy());
+            this.commitIntervalMs = (busTopicParams.getCommitIntervalMs() > 0 ? busTopicParams.getCommitIntervalMs()
+                            : DEFAULT_COMMIT_INTERVAL_MS);
+            this.commitMaxRecords = (busTopicParams.getCommitMaxRecords() > 0 ? busTopicParams.getCommitMaxRecords()
+                            : DEFAULT_COMMIT_MAX_RECORDS);
+            this.lastCommitMs = currentTimeMillis();
+
             //Setup Properties for consumer
             kafkaProps = new Properties();
             kafkaProps.setProperty(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG,
@@ -186,92 +304,357 @@ public interface BusConsumer {
             if (kafkaProps.get(ConsumerConfig.GROUP_ID_CONFIG) == null) {
                 kafkaProps.setProperty(ConsumerConfig.GROUP_ID_CONFIG, busTopicParams.getConsumerGroup());
             }
+            if (kafkaProps.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG) == null && busTopicParams.getFetchLimit() > 0) {
+                kafkaProps.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                    String.valueOf(busTopicParams.getFetchLimit()));
+            }
             if (busTopicParams.isAllowTracing()) {
                 this.allowTracing = true;
                 KafkaTelemetry telemetry = KafkaTelemetry.create(GlobalOpenTelemetry.get());
                 kafkaProps.putAll(telemetry.consumerInterceptorConfigProperties());
             }
 
-            consumer = new KafkaConsumer<>(kafkaProps);
+            consumer = consumerFactory.apply(kafkaProps);
             //Subscribe to the topic
-            consumer.subscribe(List.of(busTopicParams.getTopic()));
+            consumer.subscribe(List.of(busTopicParams.getTopic()), new RebalanceListener());
         }
 
         @Override
         public Iterable<String> fetch() {
-            ConsumerRecords<String, String> records = this.consumer.poll(Duration.ofMillis(fetchTimeout));
+            ConsumerRecords<String, String> records;
+            try {
+                records = timedPoll(fetchTimeout);
+
+            } catch (WakeupException e) {
+                // not a failure - the source is being stopped
+                logger.debug("{}: fetch interrupted", this);
+                return Collections.emptyList();
+            }
+
             if (records == null || records.count() <= 0) {
+                commit(Collections.emptyMap(), 0);
                 return Collections.emptyList();
             }
-            List<String> messages = new ArrayList<>(records.count());
+            List<ConsumerRecord<String, String>> fetched = new ArrayList<>(records.count());
             try {
-                if (allowTracing) {
-                    createParentTraceContext(records);
-                }
-
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
                 for (TopicPartition partition : records.partitions()) {
                     List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
-                    for (ConsumerRecord<String, String> partitionRecord : partitionRecords) {
-                        messages.add(partitionRecord.value());
-                    }
+                    fetched.addAll(partitionRecords);
                     long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
-                    consumer.commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(lastOffset + 1)));
+                    offsets.put(partition, new OffsetAndMetadata(lastOffset + 1));
                 }
+
+                commit(offsets, records.count());
             } catch (Exception e) {
                 logger.error("{}: cannot fetch, throwing exception after sleep...", this);
                 sleepAfterFetchFailure();
                 throw e;
             }
-            return messages;
+
+            // retains the headers, so the trace context can be extracted as each record is dispatched
+            return new TracedRecords(fetched);
+        }
+
+        /**
+         * Polls the consumer for records, without committing their offsets. Intended for
+         * sources that commit offsets themselves, once the records have been processed.
+         *
+         * @return the records that were fetched
+         */
+        public ConsumerRecords<String, String> poll() {
+            try {
+                long timeout = (paused && (fetchTimeout <= 0 || fetchTimeout > PAUSED_POLL_MS)) ? PAUSED_POLL_MS
+                                : fetchTimeout;
+                ConsumerRecords<String, String> records = timedPoll(timeout);
+                return (records != null ? records : ConsumerRecords.empty());
+
+            } catch (WakeupException e) {
+                // not a failure - the caller asked for the poll to be interrupted
+                throw e;
+
+            } catch (Exception e) {
+                logger.error("{}: cannot poll, throwing exception after sleep...", this);
+                sleepAfterFetchFailure();
+                throw e;
+            }
+        }
+
+        /**
+         * Polls the consumer, recording the interval since the previous poll and the
+         * position reached in each partition, and sampling the lag when it's due.
+         *
+         * @param timeout maximum time, in milliseconds, to wait for records
+         * @return the records that were fetched, or {@code null}
+         */
+        private ConsumerRecords<String, String> timedPoll(long timeout) {
+            long now = System.nanoTime();
+            if (lastPollNanos != 0) {
+                stats.recordPollInterval(now - lastPollNanos);
+            }
+            lastPollNanos = now;
+
+            ConsumerRecords<String, String> records = this.consumer.poll(Duration.ofMillis(timeout));
+
+            if (records != null) {
+                for (TopicPartition partition : records.partitions()) {
+                    List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+                    positions.put(partition, partitionRecords.get(partitionRecords.size() - 1).offset() + 1);
+                }
+            }
+
+            long nowMs = currentTimeMillis();
+            if (nowMs - lastLagSampleMs >= LAG_SAMPLE_INTERVAL_MS) {
+                lastLagSampleMs = nowMs;
+                sampleLag();
+            }
+
+            return records;
         }
 
-        private void createParentTraceContext(ConsumerRecords<String, String> records) {
-            TraceParentInfo traceParentInfo = new TraceParentInfo();
-            for (ConsumerRecord<String, String> consumerRecord : records) {
+        /**
+         * Samples the lag of each assigned partition, without contacting the brokers. The
+         * end offset is derived from the lag the consumer reports relative to its position,
+         * while the committed offset is the last one committed by this consumer. Partitions
+         * to which this consumer has not yet committed are omitted.
+         */
+        protected void sampleLag() {
+            Map<String, Map<Integer, Long>> lag = new HashMap<>();
+
+            for (TopicPartition partition : this.consumer.assignment()) {
+                Long committedOffset = committed.get(partition);
+                if (committedOffset == null) {
+                    continue;
+                }
+
+                var fetchLag = this.consumer.currentLag(partition);
+                if (fetchLag.isEmpty()) {
+                    continue;
+                }
 
-                Headers consumerRecordHeaders = consumerRecord.headers();
-                traceParentInfo = processTraceParentHeader(consumerRecordHeaders);
+                long endOffset = positions.getOrDefault(partition, committedOffset) + fetchLag.getAsLong();
+                lag.computeIfAbsent(partition.topic(), key -> new HashMap<>()).put(partition.partition(),
+                                Math.max(0, endOffset - committedOffset));
             }
 
-            SpanContext spanContext = SpanContext.createFromRemoteParent(
-                traceParentInfo.getTraceId(), traceParentInfo.getSpanId(),
-                TraceFlags.getSampled(), TraceState.builder().build());
+            stats.setLag(lag);
+        }
+
+        /**
+         * Synchronously commits offsets, recording the time taken.
+         *
+         * @param offsets offsets to be committed
+         */
+        private void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            long start = System.nanoTime();
+            this.consumer.commitSync(offsets);
+            stats.recordCommit(System.nanoTime() - start);
+
+            recordCommitted(offsets);
+        }
+
+        /**
+         * Records offsets that have been committed.
+         *
+         * @param offsets offsets that were committed
+         */
+        private void recordCommitted(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            offsets.forEach((partition, offset) -> committed.put(partition, offset.offset()));
+        }
+
+        /**
+         * Replaces the consumer's subscription. Must be invoked on the thread that polls
+         * the consumer.
+         *
+         * @param topics topics to which to subscribe, or an empty collection to
+         *        unsubscribe from all topics
+         */
+        public void subscribe(Collection<String> topics) {
+            if (topics.isEmpty()) {
+                this.consumer.unsubscribe();
+            } else {
+                this.consumer.subscribe(topics, new RebalanceListener());
+            }
+        }
+
+        /**
+         * Interrupts a poll that is in progress, causing it to throw a
+         * {@link WakeupException}, or causes the next poll to do so if no poll is in
+         * progress. Unlike the other methods, this may be invoked from any thread.
+         */
+        @Override
+        public void wakeup() {
+            this.consumer.wakeup();
+        }
+
+        /**
+         * Rewinds a partition, so that the next poll fetches its records again, starting at
+         * the given offset. Must be invoked on the thread that polls the consumer.
+         *
+         * @param partition partition to be rewound
+         * @param offset offset of the next record to be fetched from the partition
+         */
+        public void seek(TopicPartition partition, long offset) {
+            this.consumer.seek(partition, offset);
+        }
+
+        /**
+         * Stops fetching from the assigned partitions, while continuing to poll, so the
+         * consumer remains in its group. Must be invoked on the thread that polls the consumer.
+         */
+        public void pause() {
+            paused = true;
+            this.consumer.pause(this.consumer.assignment());
+        }
+
+        /**
+         * Resumes fetching from the assigned partitions. Must be invoked on the thread that
+         * polls the consumer.
+         */
+        public void resume() {
+            paused = false;
+            this.consumer.resume(this.consumer.assignment());
+        }
+
+        /**
+         * Commits offsets of records that have been processed, according to the commit
+         * strategy. Must be invoked on the thread that polls the consumer.
+         *
+         * @param offsets offsets to be committed, by partition
+         * @param records number of records to which the offsets correspond
+         */
+        public void commit(Map<TopicPartition, OffsetAndMetadata> offsets, int records) {
+            switch (commitStrategy) {
+                case ASYNC:
+                    if (!offsets.isEmpty()) {
+                        uncommitted.putAll(offsets);
+                        this.consumer.commitAsync(new HashMap<>(offsets), this::onCommitComplete);
+                    }
+                    break;
+
+                case PERIODIC:
+                    uncommitted.putAll(offsets);
+                    uncommittedRecords += records;
+                    if (uncommittedRecords >= commitMaxRecords
+                                    || currentTimeMillis() - lastCommitMs >= commitIntervalMs) {
+                        commitUncommitted();
+                    }
+                    break;
+
+                case SYNC:
+                default:
+                    if (!offsets.isEmpty()) {
+                        commitSync(offsets);
+                    }
+                    break;
+            }
+        }
 
-            Context.current().with(Span.wrap(spanContext)).makeCurrent();
+        /**
+         * Adds offsets to those that have not yet been committed, so they are committed by
+         * the next periodic commit, before partitions are revoked, or when the consumer is
+         * closed, whichever comes first. Unlike {@link #commit(Map, int)}, this may be
+         * invoked from any thread.
+         *
+         * @param offsets offsets to be committed, by partition
+         */
+        public void commitLater(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            uncommitted.putAll(offsets);
         }
 
-        private TraceParentInfo processTraceParentHeader(Headers headers) {
-            TraceParentInfo traceParentInfo = new TraceParentInfo();
-            if (headers.lastHeader("traceparent") != null) {
-                traceParentInfo.setParentTraceId(new String(headers.lastHeader(
-                    "traceparent").value(), StandardCharsets.UTF_8));
+        /**
+         * Synchronously commits the offsets that have not yet been committed.
+         */
+        private void commitUncommitted() {
+            if (!uncommitted.isEmpty()) {
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(uncommitted);
+                commitSync(offsets);
 
-                String[] parts = traceParentInfo.getParentTraceId().split("-");
-                traceParentInfo.setTraceId(parts[1]);
-                traceParentInfo.setSpanId(parts[2]);
+                // only discard the offsets that haven't changed in the meantime
+                offsets.forEach(uncommitted::remove);
             }
 
-            return traceParentInfo;
+            uncommittedRecords = 0;
+            lastCommitMs = currentTimeMillis();
         }
 
-        @Data
-        @NoArgsConstructor
-        private static class TraceParentInfo {
-            private String parentTraceId;
-            private String traceId;
-            private String spanId;
+        /**
+         * Invoked when an asynchronous commit completes.
+         *
+         * @param offsets offsets that were committed
+         * @param exception exception that occurred, or {@code null} if the commit succeeded
+         */
+        protected void onCommitComplete(Map<TopicPartition, OffsetAndMetadata> offsets, Exception exception) {
+            if (exception != null) {
+                logger.warn("{}: cannot commit offsets {}", this, offsets, exception);
+            } else {
+                offsets.forEach(uncommitted::remove);
+                recordCommitted(offsets);
+            }
         }
 
+        /**
+         * Commits any outstanding offsets before partitions are revoked, and keeps newly
+         * assigned partitions paused while fetching is paused.
+         */
+        protected class RebalanceListener implements ConsumerRebalanceListener {
+
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                if (rebalanceListener != null) {
+                    rebalanceListener.onPartitionsRevoked(partitions);
+                }
+
+                try {
+                    commitUncommitted();
+                } catch (RuntimeException e) {
+                    logger.warn("{}: cannot commit offsets of revoked partitions", KafkaConsumerWrapper.this, e);
+                }
+
+                // the lag of these partitions is now tracked by another consumer
+                positions.keySet().removeAll(partitions);
+                committed.keySet().removeAll(partitions);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                if (paused) {
+                    consumer.pause(partitions);
+                }
+
+                if (rebalanceListener != null) {
+                    rebalanceListener.onPartitionsAssigned(partitions);
+                }
+            }
+        }
+
+        /**
+         * Commits any outstanding offsets and closes the consumer. Must be invoked on the
+         * thread that polls the consumer.
+         */
         @Override
         public void close() {
             super.close();
+
+            try {
+                commitUncommitted();
+            } catch (RuntimeException e) {
+                logger.warn("{}: cannot commit offsets on close", this, e);
+            }
+
             this.consumer.close();
             logger.info("Kafka Consumer exited {}", this);
         }
 
         @Override
         public String toString() {
-            return "KafkaConsumerWrapper [fetchTimeout=" + fetchTimeout + "]";
+            return "KafkaConsumerWrapper [fetchTimeout=" + fetchTimeout + ", commitStrategy=" + commitStrategy + "]";
+        }
+
+        // these may be overridden by junit tests
+
+        protected long currentTimeMillis() {
+            return System.currentTimeMillis();
         }
     }
 }
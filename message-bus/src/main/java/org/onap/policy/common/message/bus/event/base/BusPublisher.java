@@ -3,7 +3,7 @@
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2018 Samsung Electronics Co., Ltd.
  * Modifications Copyright (C) 2020,2023 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2022-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,9 @@
 
 package org.onap.policy.common.message.bus.event.base;
 
+import java.util.concurrent.CompletableFuture;
+import org.onap.policy.common.message.bus.event.RecordAck;
+
 public interface BusPublisher {
 
     String NO_MESSAGE_PROVIDED = "No message provided";
@@ -36,6 +39,31 @@ public interface BusPublisher {
      */
     boolean send(String partitionId, String message);
 
+    /**
+     * sends a message, without waiting for it to be delivered. Publishers that do not
+     * support asynchronous delivery send the message synchronously.
+     *
+     * @param partitionId id
+     * @param key         key used to route the message, or {@code null} to use the publisher's default
+     * @param message     the message
+     * @return a future that completes when the message has been acknowledged
+     * @throws IllegalArgumentException if no message provided
+     */
+    default CompletableFuture<RecordAck> sendAsync(String partitionId, String key, String message) {
+        if (send(partitionId, message)) {
+            return CompletableFuture.completedFuture(new RecordAck(null));
+        }
+
+        return CompletableFuture.failedFuture(new IllegalStateException("cannot send message"));
+    }
+
+    /**
+     * flushes any messages that have been sent, but not yet delivered.
+     */
+    default void flush() {
+        // do nothing
+    }
+
     /**
      * closes the publisher.
      */
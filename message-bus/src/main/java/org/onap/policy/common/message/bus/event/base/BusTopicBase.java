@@ -4,7 +4,7 @@
  * ================================================================================
  * Copyright (C) 2017-2019, 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -77,6 +77,7 @@ public abstract class BusTopicBase extends TopicBase implements ApiKeyEnabled {
         this.useHttps = busTopicParams.isUseHttps();
         this.allowTracing = busTopicParams.isAllowTracing();
         this.allowSelfSignedCerts = busTopicParams.isAllowSelfSignedCerts();
+        configureRecentEvents(busTopicParams.getRecentEventsCapacity(), busTopicParams.getRecentEventsMaxLength());
     }
 
     protected boolean anyNullOrEmpty(String... args) {
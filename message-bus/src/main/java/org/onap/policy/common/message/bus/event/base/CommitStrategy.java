@@ -0,0 +1,59 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Strategies for committing the offsets of the records that have been fetched.
+ */
+public enum CommitStrategy {
+    /**
+     * Commit synchronously, after every poll.
+     */
+    SYNC,
+
+    /**
+     * Commit asynchronously, after every poll. Failures are logged by a callback, and any
+     * offsets not yet confirmed are committed synchronously on close.
+     */
+    ASYNC,
+
+    /**
+     * Coalesce offsets across polls, committing them synchronously once the commit
+     * interval has elapsed or enough records have been fetched.
+     */
+    PERIODIC;
+
+    /**
+     * Gets the strategy having the given name, ignoring case.
+     *
+     * @param name name of the strategy, or {@code null}
+     * @return the strategy, {@link #SYNC} if the name is blank
+     * @throws IllegalArgumentException if the name is not a known strategy
+     */
+    public static CommitStrategy of(String name) {
+        if (StringUtils.isBlank(name)) {
+            return SYNC;
+        }
+
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Health statistics of a bus consumer: how often it polls, how long its synchronous
+ * commits take, and how far it lags behind the end of the partitions assigned to it.
+ */
+@Getter
+public class ConsumerStats {
+
+    /**
+     * Time, in seconds, from the start of one poll to the start of the next.
+     */
+    private final StripedHistogram pollInterval = new StripedHistogram(StripedHistogram.LATENCY_BOUNDS_SECONDS);
+
+    /**
+     * Time, in seconds, taken by each synchronous commit.
+     */
+    private final StripedHistogram commitDuration = new StripedHistogram(StripedHistogram.LATENCY_BOUNDS_SECONDS);
+
+    /**
+     * Most recently sampled lag, keyed by topic and then partition. Replaced as a whole
+     * each time it is sampled.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile Map<String, Map<Integer, Long>> lag = Map.of();
+
+    /**
+     * Records the interval between two polls.
+     *
+     * @param nanos interval, in nanoseconds
+     */
+    public void recordPollInterval(long nanos) {
+        pollInterval.observeNanos(nanos);
+    }
+
+    /**
+     * Records the time taken by a synchronous commit.
+     *
+     * @param nanos time taken, in nanoseconds
+     */
+    public void recordCommit(long nanos) {
+        commitDuration.observeNanos(nanos);
+    }
+
+    /**
+     * Replaces the lag.
+     *
+     * @param lag lag, keyed by topic and then partition
+     */
+    public void setLag(Map<String, Map<Integer, Long>> lag) {
+        Map<String, Map<Integer, Long>> copy = new HashMap<>();
+        lag.forEach((topic, partitions) -> copy.put(topic, Map.copyOf(partitions)));
+        this.lag = Map.copyOf(copy);
+    }
+
+    /**
+     * Gets the lag of a topic's partitions: the number of records that have been published
+     * to each partition, but not yet committed by the consumer.
+     *
+     * @param topic topic of interest
+     * @return the lag, keyed by partition; empty if the lag of the topic is unknown
+     */
+    public Map<Integer, Long> getPartitionLag(String topic) {
+        return lag.getOrDefault(topic, Map.of());
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2018-2019 Samsung Electronics Co., Ltd.
  * Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
 * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,10 @@
 package org.onap.policy.common.message.bus.event.base;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.Getter;
 import lombok.Setter;
+import org.onap.policy.common.message.bus.event.RecordAck;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
@@ -136,15 +138,18 @@ public abstract class InlineBusTopicSink extends BusTopicBase implements BusTopi
         }
 
         try {
-            synchronized (this) {
-                this.recentEvents.add(message);
-            }
+            this.addRecentEvent(message);
 
+            this.metrics.recordOut(message);
             NetLoggerUtil.log(EventType.OUT, this.getTopicCommInfrastructure(), this.topic, message);
 
-            publisher.send(this.partitionKey, message);
+            if (!publisher.send(this.partitionKey, message)) {
+                this.metrics.recordSendFailure();
+            }
+
             broadcast(message);
         } catch (Exception e) {
+            this.metrics.recordSendFailure();
             logger.warn("{}: cannot send because of {}", this, e.getMessage(), e);
             return false;
         }
@@ -152,6 +157,47 @@ public abstract class InlineBusTopicSink extends BusTopicBase implements BusTopi
         return true;
     }
 
+    @Override
+    public CompletableFuture<RecordAck> sendAsync(String key, String message) {
+
+        if (message == null || message.isEmpty()) {
+            throw new IllegalArgumentException("Message to send is empty");
+        }
+
+        if (!this.alive) {
+            throw new IllegalStateException(this + " is stopped");
+        }
+
+        try {
+            this.addRecentEvent(message);
+
+            this.metrics.recordOut(message);
+            NetLoggerUtil.log(EventType.OUT, this.getTopicCommInfrastructure(), this.topic, message);
+
+            CompletableFuture<RecordAck> future = publisher.sendAsync(this.partitionKey, key, message);
+            future.whenComplete(this::recordSendResult);
+            broadcast(message);
+            return future;
+
+        } catch (Exception e) {
+            this.metrics.recordSendFailure();
+            logger.warn("{}: cannot send because of {}", this, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Records the outcome of an asynchronous send.
+     *
+     * @param ack acknowledgement, if the message was sent
+     * @param error error, if the message could not be sent
+     */
+    private void recordSendResult(RecordAck ack, Throwable error) {
+        if (error != null) {
+            this.metrics.recordSendFailure();
+        }
+    }
+
     @Override
     public void shutdown() {
         this.stop();
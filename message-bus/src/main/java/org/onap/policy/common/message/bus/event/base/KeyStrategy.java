@@ -0,0 +1,64 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Strategies for choosing the key of each record that is published.
+ */
+public enum KeyStrategy {
+    /**
+     * Generate a random key for each record (i.e., the legacy behavior).
+     */
+    RANDOM,
+
+    /**
+     * Do not set a key, letting the producer's partitioner batch records into partitions
+     * as it sees fit.
+     */
+    NONE,
+
+    /**
+     * Use the sink's partition key for every record.
+     */
+    FIXED,
+
+    /**
+     * Use the value of a field within the message, falling back to no key if the message
+     * does not contain the field.
+     */
+    FIELD;
+
+    /**
+     * Gets the strategy having the given name, ignoring case.
+     *
+     * @param name name of the strategy, or {@code null}
+     * @return the strategy, {@link #RANDOM} if the name is blank
+     * @throws IllegalArgumentException if the name is not a known strategy
+     */
+    public static KeyStrategy of(String name) {
+        if (StringUtils.isBlank(name)) {
+            return RANDOM;
+        }
+
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.Getter;
+
+/**
+ * Lock-free ring buffer holding the most recent events of a topic, for diagnostic
+ * purposes. Events may be added concurrently from any number of threads. A snapshot is
+ * a best-effort view: an event that is being added while the snapshot is taken may be
+ * missing from it.
+ */
+public class RecentEvents {
+
+    /**
+     * Number of events retained when the capacity is not specified.
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private static final String[] NO_EVENTS = new String[0];
+
+    /**
+     * Maximum number of events retained. Zero, if recording is disabled.
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * Maximum length of a retained event; longer events are truncated. Zero, if events
+     * are not truncated.
+     */
+    @Getter
+    private final int maxLength;
+
+    private final AtomicReferenceArray<String> events;
+
+    /**
+     * Total number of events that have been added.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param capacity maximum number of events retained, 0 to disable recording, or a
+     *        negative value to use the {@link #DEFAULT_CAPACITY}
+     * @param maxLength maximum length of a retained event, or a value &lt;= 0 if events
+     *        are not to be truncated
+     */
+    public RecentEvents(int capacity, int maxLength) {
+        this.capacity = (capacity < 0 ? DEFAULT_CAPACITY : capacity);
+        this.maxLength = Math.max(0, maxLength);
+        this.events = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * Adds an event, replacing the oldest event if the buffer is full.
+     *
+     * @param event event to be added
+     */
+    public void add(String event) {
+        if (capacity == 0 || event == null) {
+            return;
+        }
+
+        String retained = (maxLength > 0 && event.length() > maxLength ? event.substring(0, maxLength) : event);
+        long index = count.getAndIncrement();
+        events.set((int) (index % capacity), retained);
+    }
+
+    /**
+     * Adds events, in order.
+     *
+     * @param newEvents events to be added
+     */
+    public void addAll(List<String> newEvents) {
+        if (capacity == 0) {
+            return;
+        }
+
+        for (String event : newEvents) {
+            add(event);
+        }
+    }
+
+    /**
+     * Gets the number of events currently retained.
+     *
+     * @return the number of events retained
+     */
+    public int size() {
+        return (int) Math.min(count.get(), capacity);
+    }
+
+    /**
+     * Gets a snapshot of the retained events, oldest first.
+     *
+     * @return the retained events
+     */
+    public String[] toArray() {
+        if (capacity == 0) {
+            return NO_EVENTS;
+        }
+
+        long end = count.get();
+        long start = Math.max(0, end - capacity);
+
+        List<String> result = new ArrayList<>((int) (end - start));
+        for (long index = start; index < end; ++index) {
+            String event = events.get((int) (index % capacity));
+            if (event != null) {
+                result.add(event);
+            }
+        }
+
+        return result.toArray(NO_EVENTS);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.UUID;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.onap.policy.common.utils.coder.JsonFieldReader;
+
+/**
+ * Makes the keys of the records published to a topic, according to the topic's
+ * {@link KeyStrategy}. Used by all of the publishers, regardless of the transport, so that
+ * records are assigned to partitions the same way.
+ */
+public class RecordKeyMaker {
+
+    /**
+     * How record keys are chosen.
+     */
+    @Getter
+    private final KeyStrategy keyStrategy;
+
+    /**
+     * Field hierarchy identifying the key within a message, with {@link KeyStrategy#FIELD}.
+     */
+    private final Object[] keyField;
+
+    /**
+     * Constructs the object.
+     *
+     * @param busTopicParams topic parameters, from which the key strategy and key field
+     *        are extracted
+     * @throws IllegalArgumentException if the key strategy is not known, or if no key field
+     *         was provided with {@link KeyStrategy#FIELD}
+     */
+    public RecordKeyMaker(BusTopicParams busTopicParams) {
+        this.keyStrategy = KeyStrategy.of(busTopicParams.getKeyStrategy());
+        if (keyStrategy == KeyStrategy.FIELD && StringUtils.isBlank(busTopicParams.getKeyField())) {
+            throw new IllegalArgumentException("No key field for key strategy " + keyStrategy);
+        }
+
+        this.keyField = (keyStrategy == KeyStrategy.FIELD ? busTopicParams.getKeyField().trim().split("\\.") : null);
+    }
+
+    /**
+     * Makes the key of a record, according to the key strategy.
+     *
+     * @param partitionId the sink's partition key
+     * @param message the message
+     * @return the record key, or {@code null} if the record is to have no key
+     */
+    public String makeKey(String partitionId, String message) {
+        switch (keyStrategy) {
+            case NONE:
+                return null;
+            case FIXED:
+                return partitionId;
+            case FIELD:
+                return JsonFieldReader.getString(message, keyField);
+            default:
+                return UUID.randomUUID().toString();
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2018-2019 Samsung Electronics Co., Ltd.
  * Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,10 +24,15 @@ package org.onap.policy.common.message.bus.event.base;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.NO_LIMIT_FETCH;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.NO_TIMEOUT_MS_FETCH;
 
+import io.opentelemetry.context.Scope;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.Getter;
+import org.onap.policy.common.gson.annotation.GsonJsonIgnore;
 import org.onap.policy.common.message.bus.event.TopicListener;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
@@ -39,6 +44,11 @@ import org.slf4j.LoggerFactory;
 /**
  * This topic source implementation specializes in reading messages over a bus topic source and
  * notifying its listeners.
+ *
+ * <p/>The consumer is only used by the poller thread, which also closes it as it exits,
+ * thus consumers that are not thread-safe (e.g., Kafka consumers) are never accessed
+ * concurrently. Stopping the source merely wakes the consumer and waits, for a bounded
+ * time, for the poller thread to exit.
  */
 public abstract class SingleThreadedBusTopicSource extends BusTopicBase
         implements Runnable, BusTopicSource {
@@ -49,6 +59,13 @@ public abstract class SingleThreadedBusTopicSource extends BusTopicBase
      */
     private static final Logger logger = LoggerFactory.getLogger(SingleThreadedBusTopicSource.class);
 
+    /**
+     * Maximum time, in milliseconds, to wait for the poller thread to exit when the source
+     * is stopped. Allows for a fetch failure backoff, as well as for any processing that
+     * the poller completes before it closes the consumer.
+     */
+    protected static final long POLLER_STOP_MS = 30_000L;
+
     /**
      * Bus consumer group.
      */
@@ -74,7 +91,7 @@ public abstract class SingleThreadedBusTopicSource extends BusTopicBase
     protected final int fetchLimit;
 
     /**
-     * Message Bus Consumer.
+     * Message Bus Consumer. Only accessed by the poller thread while it is running.
      */
     protected BusConsumer consumer;
 
@@ -152,7 +169,7 @@ public abstract class SingleThreadedBusTopicSource extends BusTopicBase
         boolean stop;
         synchronized (this) {
             super.unregister(topicListener);
-            stop = this.topicListeners.isEmpty();
+            stop = (this.countTopicListeners() == 0);
         }
 
         if (stop) {
@@ -174,22 +191,22 @@ public abstract class SingleThreadedBusTopicSource extends BusTopicBase
                 throw new IllegalStateException(this + " is locked.");
             }
 
-            if (this.busPollerThread == null || !this.busPollerThread.isAlive() || this.consumer == null) {
-
-                try {
-                    this.init();
-                    this.alive = true;
-                    this.busPollerThread = makePollerThread();
-                    this.busPollerThread.setName(this.getTopicCommInfrastructure() + "-source-" + this.getTopic());
-                    busPollerThread.start();
-                    return true;
-                } catch (Exception e) {
-                    throw new IllegalStateException(this + ": cannot start", e);
-                }
+            /*
+             * A new consumer is always created, even if a previous poller thread has yet to
+             * exit; that thread exits, closing its own consumer, once it sees that its
+             * consumer has been replaced.
+             */
+            try {
+                this.init();
+                this.alive = true;
+                this.busPollerThread = makePollerThread();
+                this.busPollerThread.setName(this.getTopicCommInfrastructure() + "-source-" + this.getTopic());
+                busPollerThread.start();
+                return true;
+            } catch (Exception e) {
+                throw new IllegalStateException(this + ": cannot start", e);
             }
         }
-
-        return false;
     }
 
     /**
@@ -201,88 +218,247 @@ public abstract class SingleThreadedBusTopicSource extends BusTopicBase
         return new Thread(this);
     }
 
+    /**
+     * Stops the source. If the poller thread is running, it is woken and left to close the
+     * consumer, and this waits, for up to {@link #POLLER_STOP_MS}, for it to exit, unless
+     * invoked by the poller thread itself. Otherwise, the consumer is closed here.
+     */
     @Override
     public boolean stop() {
         logger.info("{}: stopping", this);
 
-        synchronized (this) {
-            BusConsumer consumerCopy = this.consumer;
+        BusConsumer consumerCopy;
+        Thread pollerCopy;
 
+        synchronized (this) {
             this.alive = false;
-            this.consumer = null;
+            consumerCopy = this.consumer;
+            pollerCopy = this.busPollerThread;
+        }
 
-            if (consumerCopy != null) {
-                try {
-                    consumerCopy.close();
-                } catch (Exception e) {
-                    logger.warn("{}: stop failed because of {}", this, e.getMessage(), e);
-                }
-            }
+        if (consumerCopy == null) {
+            return true;
+        }
+
+        if (pollerCopy == null || !pollerCopy.isAlive()) {
+            closeConsumer(consumerCopy);
+            return true;
+        }
+
+        try {
+            consumerCopy.wakeup();
+        } catch (RuntimeException e) {
+            logger.warn("{}: cannot wake consumer", this, e);
         }
 
-        Thread.yield();
+        if (pollerCopy != Thread.currentThread()) {
+            awaitPoller(pollerCopy);
+        }
 
         return true;
     }
 
     /**
-     * Run thread method for the Bus Reader.
+     * Waits, for a bounded time, for the poller thread to exit.
+     *
+     * @param pollerCopy poller thread
+     */
+    private void awaitPoller(Thread pollerCopy) {
+        try {
+            pollerCopy.join(POLLER_STOP_MS);
+            if (pollerCopy.isAlive()) {
+                logger.warn("{}: poller did not exit within {}ms", this, POLLER_STOP_MS);
+            }
+
+        } catch (InterruptedException e) {
+            logger.warn("{}: interrupted while waiting for the poller to exit", this, e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Run thread method for the Bus Reader. Fetches messages until the source is stopped,
+     * or the consumer is replaced by a restart, and then closes the consumer.
      */
     @Override
     public void run() {
-        while (this.alive) {
+        BusConsumer pollerConsumer = this.consumer;
+
+        try {
+            fetchWhileAlive(pollerConsumer);
+
+        } finally {
+            closeConsumer(pollerConsumer);
+            logger.info("{}: exiting thread", this);
+        }
+    }
+
+    /**
+     * Fetches and dispatches messages until the source is stopped, or the consumer is
+     * replaced by a restart.
+     *
+     * @param pollerConsumer consumer used by the poller thread
+     */
+    protected void fetchWhileAlive(BusConsumer pollerConsumer) {
+        while (this.alive && pollerConsumer != null && this.consumer == pollerConsumer) {
             try {
                 fetchAllMessages();
             } catch (IOException | RuntimeException e) {
                 logger.error("{}: cannot fetch", this, e);
             }
         }
-
-        logger.info("{}: exiting thread", this);
     }
 
-    private void fetchAllMessages() throws IOException {
-        for (String event : this.consumer.fetch()) {
-            synchronized (this) {
-                this.recentEvents.add(event);
+    /**
+     * Closes a consumer that is no longer being polled, discarding it if it's still the
+     * source's current consumer.
+     *
+     * @param consumerCopy consumer to be closed, or {@code null}
+     */
+    protected void closeConsumer(BusConsumer consumerCopy) {
+        if (consumerCopy == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.consumer == consumerCopy) {
+                this.consumer = null;
             }
+        }
 
+        try {
+            consumerCopy.close();
+        } catch (Exception e) {
+            logger.warn("{}: stop failed because of {}", this, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fetches a batch of messages from the consumer and dispatches them to the listeners.
+     * If any listener handles batches, the batch is delivered as a whole.
+     *
+     * @throws IOException if the messages cannot be fetched
+     */
+    protected void fetchAllMessages() throws IOException {
+        long start = System.nanoTime();
+        List<String> events = toList(this.consumer.fetch());
+        this.metrics.recordPoll(System.nanoTime() - start, events.size());
+
+        deliver(events);
+    }
+
+    /**
+     * Dispatches a batch of fetched messages to the listeners. If any listener handles
+     * batches, the batch is delivered as a whole. Otherwise, if tracing is allowed, the
+     * trace context of each record is made current while it's being dispatched.
+     *
+     * @param events events to be dispatched
+     */
+    protected void deliver(Iterable<String> events) {
+        if (hasBatchListeners()) {
+            broadcastBatch(toList(events));
+            return;
+        }
+
+        TracedRecords traced = (this.allowTracing && events instanceof TracedRecords records ? records : null);
+        var index = 0;
+
+        for (String event : events) {
+            this.addRecentEvent(event);
+
+            this.metrics.recordIn(event);
             NetLoggerUtil.log(EventType.IN, this.getTopicCommInfrastructure(), this.topic, event);
 
-            broadcast(event);
+            if (traced == null) {
+                broadcast(event);
+            } else {
+                try (Scope scope = traced.makeCurrent(index)) {
+                    broadcast(event);
+                }
+            }
 
             if (!this.alive) {
                 return;
             }
+
+            ++index;
         }
     }
 
+    /**
+     * Records, logs and broadcasts a batch of events. The batch is delivered as a whole,
+     * even if the source is stopped part way through.
+     *
+     * @param events events to be broadcast
+     */
+    protected void broadcastBatch(List<String> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        this.addRecentEvents(events);
+
+        for (String event : events) {
+            this.metrics.recordIn(event);
+            NetLoggerUtil.log(EventType.IN, this.getTopicCommInfrastructure(), this.topic, event);
+        }
+
+        broadcast(events);
+    }
+
+    private static List<String> toList(Iterable<String> events) {
+        if (events instanceof List<String> list) {
+            return list;
+        }
+
+        List<String> list = new ArrayList<>();
+        events.forEach(list::add);
+        return list;
+    }
+
     @Override
     public boolean offer(String event) {
         if (!this.alive) {
             throw new IllegalStateException(this + " is not alive.");
         }
 
-        synchronized (this) {
-            this.recentEvents.add(event);
-        }
+        this.addRecentEvent(event);
 
+        this.metrics.recordIn(event);
         NetLoggerUtil.log(EventType.IN, this.getTopicCommInfrastructure(), this.topic, event);
 
         return broadcast(event);
     }
 
+    /**
+     * Gets the poll, commit and lag statistics of the consumer.
+     *
+     * @return the consumer's statistics, or {@code null} if the consumer does not keep
+     *         any
+     */
+    @GsonJsonIgnore
+    public ConsumerStats getConsumerStats() {
+        return (this.consumer instanceof BusConsumer.KafkaConsumerWrapper wrapper ? wrapper.getStats() : null);
+    }
+
+    @GsonJsonIgnore
+    @Override
+    public Map<Integer, Long> getPartitionLag() {
+        ConsumerStats stats = getConsumerStats();
+        return (stats != null ? stats.getPartitionLag(this.effectiveTopic) : Map.of());
+    }
+
     @Override
     public String toString() {
         return "SingleThreadedBusTopicSource [consumerGroup=" + consumerGroup + ", consumerInstance=" + consumerInstance
                 + ", fetchTimeout=" + fetchTimeout + ", fetchLimit=" + fetchLimit + ", consumer=" + this.consumer
                 + ", alive=" + alive + ", locked=" + locked + ", uebThread=" + busPollerThread + ", topicListeners="
-                + topicListeners.size() + ", toString()=" + super.toString() + "]";
+                + countTopicListeners() + ", toString()=" + super.toString() + "]";
     }
 
     @Override
     public void shutdown() {
         this.stop();
-        this.topicListeners.clear();
+        this.unregisterAll();
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with fixed bucket boundaries. Each bucket is a {@link LongAdder}, thus
+ * concurrent observations do not contend with each other.
+ */
+public class StripedHistogram {
+
+    /**
+     * Upper bounds, in seconds, suitable for latencies.
+     */
+    public static final double[] LATENCY_BOUNDS_SECONDS = {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30
+    };
+
+    /**
+     * Upper bounds suitable for batch sizes.
+     */
+    public static final double[] SIZE_BOUNDS = {0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    private final double[] upperBounds;
+    private final LongAdder[] buckets;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * Constructs the histogram.
+     *
+     * @param upperBounds inclusive upper bounds of the buckets, in ascending order; an
+     *        additional bucket, for values exceeding the last bound, is always appended
+     */
+    public StripedHistogram(double[] upperBounds) {
+        for (var index = 1; index < upperBounds.length; ++index) {
+            if (upperBounds[index] <= upperBounds[index - 1]) {
+                throw new IllegalArgumentException("histogram bounds must be in ascending order");
+            }
+        }
+
+        this.upperBounds = Arrays.copyOf(upperBounds, upperBounds.length + 1);
+        this.upperBounds[upperBounds.length] = Double.POSITIVE_INFINITY;
+
+        this.buckets = new LongAdder[this.upperBounds.length];
+        for (var index = 0; index < buckets.length; ++index) {
+            buckets[index] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records an observation.
+     *
+     * @param value value to be recorded
+     */
+    public void observe(double value) {
+        var index = Arrays.binarySearch(upperBounds, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        buckets[Math.min(index, buckets.length - 1)].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Records a duration, in seconds.
+     *
+     * @param nanos duration, in nanoseconds
+     */
+    public void observeNanos(long nanos) {
+        observe(nanos / 1e9);
+    }
+
+    /**
+     * Gets the upper bounds of the buckets, the last of which is positive infinity.
+     *
+     * @return the upper bounds of the buckets
+     */
+    public double[] getUpperBounds() {
+        return upperBounds.clone();
+    }
+
+    /**
+     * Gets the number of observations in each bucket. The counts are not cumulative.
+     *
+     * @return the number of observations in each bucket
+     */
+    public long[] getBucketCounts() {
+        var counts = new long[buckets.length];
+        for (var index = 0; index < counts.length; ++index) {
+            counts[index] = buckets[index].sum();
+        }
+
+        return counts;
+    }
+
+    /**
+     * Gets the total number of observations.
+     *
+     * @return the total number of observations
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the sum of all observations.
+     *
+     * @return the sum of all observations
+     */
+    public double getSum() {
+        return sum.sum();
+    }
+}
@@ -4,7 +4,7 @@
  * ================================================================================
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,10 +23,12 @@
 package org.onap.policy.common.message.bus.event.base;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
-import org.apache.commons.collections4.queue.CircularFifoQueue;
+import org.onap.policy.common.gson.annotation.GsonJsonIgnore;
+import org.onap.policy.common.message.bus.event.BatchTopicListener;
 import org.onap.policy.common.message.bus.event.Topic;
 import org.onap.policy.common.message.bus.event.TopicListener;
 import org.slf4j.Logger;
@@ -40,6 +42,8 @@ public abstract class TopicBase implements Topic {
      */
     private static final Logger logger = LoggerFactory.getLogger(TopicBase.class);
 
+    private static final TopicListener[] NO_LISTENERS = new TopicListener[0];
+
     /**
      * List of servers.
      */
@@ -58,7 +62,14 @@ public abstract class TopicBase implements Topic {
     /**
      * Event cache.
      */
-    protected CircularFifoQueue<String> recentEvents = new CircularFifoQueue<>(10);
+    @Getter(AccessLevel.NONE)
+    private RecentEvents recentEvents = new RecentEvents(RecentEvents.DEFAULT_CAPACITY, 0);
+
+    /**
+     * Throughput and latency metrics.
+     */
+    @Getter(AccessLevel.NONE)
+    protected final TopicMetrics metrics = new TopicMetrics();
 
     /**
      * Am I running? reflects invocation of start()/stop() !locked & start() => alive stop() =>
@@ -74,10 +85,12 @@ public abstract class TopicBase implements Topic {
     protected volatile boolean locked = false;
 
     /**
-     * All my subscribers for new message notifications.
+     * All my subscribers for new message notifications. The array is never modified; it is
+     * replaced, while synchronized, whenever a listener is registered or unregistered, thus
+     * it can be read without locking.
      */
     @Getter(AccessLevel.NONE)
-    protected final ArrayList<TopicListener> topicListeners = new ArrayList<>();
+    private volatile TopicListener[] topicListeners = NO_LISTENERS;
 
     /**
      * Instantiates a new Topic Base.
@@ -131,13 +144,16 @@ public abstract class TopicBase implements Topic {
                 throw new IllegalArgumentException("TopicListener must be provided");
             }
 
-            for (TopicListener listener : this.topicListeners) {
+            TopicListener[] listeners = this.topicListeners;
+            for (TopicListener listener : listeners) {
                 if (listener == topicListener) {
                     return;
                 }
             }
 
-            this.topicListeners.add(topicListener);
+            TopicListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+            newListeners[listeners.length] = topicListener;
+            this.topicListeners = newListeners;
         }
     }
 
@@ -151,10 +167,26 @@ public abstract class TopicBase implements Topic {
                 throw new IllegalArgumentException("TopicListener must be provided");
             }
 
-            this.topicListeners.remove(topicListener);
+            TopicListener[] listeners = this.topicListeners;
+            int index = Arrays.asList(listeners).indexOf(topicListener);
+            if (index < 0) {
+                return;
+            }
+
+            TopicListener[] newListeners = new TopicListener[listeners.length - 1];
+            System.arraycopy(listeners, 0, newListeners, 0, index);
+            System.arraycopy(listeners, index + 1, newListeners, index, newListeners.length - index);
+            this.topicListeners = newListeners;
         }
     }
 
+    /**
+     * Unregisters all listeners.
+     */
+    protected synchronized void unregisterAll() {
+        this.topicListeners = NO_LISTENERS;
+    }
+
     /**
      * Broadcast event to all listeners.
      *
@@ -162,29 +194,100 @@ public abstract class TopicBase implements Topic {
      * @return true if all notifications are performed with no error, false otherwise
      */
     protected boolean broadcast(String message) {
-        List<TopicListener> snapshotListeners = this.snapshotTopicListeners();
+        final boolean timed = TopicMetrics.isDetailed();
+        final long start = (timed ? System.nanoTime() : 0);
 
         var success = true;
-        for (TopicListener topicListener : snapshotListeners) {
-            try {
-                topicListener.onTopicEvent(this.getTopicCommInfrastructure(), this.topic, message);
-            } catch (Exception e) {
-                logger.warn("{}: notification error @ {} because of {}", this, topicListener, e.getMessage(), e);
-                success = false;
+        for (TopicListener topicListener : this.topicListeners) {
+            success = notifyListener(topicListener, message) && success;
+        }
+
+        if (timed) {
+            metrics.recordDispatch(System.nanoTime() - start);
+        }
+
+        return success;
+    }
+
+    /**
+     * Broadcast a batch of events to all listeners. {@link BatchTopicListener}s receive the
+     * whole batch in one notification, while other listeners are notified once per event.
+     *
+     * @param messages the events
+     * @return true if all notifications are performed with no error, false otherwise
+     */
+    protected boolean broadcast(List<String> messages) {
+        final boolean timed = TopicMetrics.isDetailed();
+        final long start = (timed ? System.nanoTime() : 0);
+
+        var success = true;
+        for (TopicListener topicListener : this.topicListeners) {
+            if (topicListener instanceof BatchTopicListener batchListener) {
+                success = notifyListener(batchListener, messages) && success;
+            } else {
+                for (String message : messages) {
+                    success = notifyListener(topicListener, message) && success;
+                }
             }
         }
+
+        if (timed) {
+            metrics.recordDispatch(System.nanoTime() - start);
+        }
+
         return success;
     }
 
+    private boolean notifyListener(TopicListener topicListener, String message) {
+        try {
+            topicListener.onTopicEvent(this.getTopicCommInfrastructure(), this.topic, message);
+            return true;
+        } catch (Exception e) {
+            logger.warn("{}: notification error @ {} because of {}", this, topicListener, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private boolean notifyListener(BatchTopicListener topicListener, List<String> messages) {
+        try {
+            topicListener.onTopicEvents(this.getTopicCommInfrastructure(), this.topic, messages);
+            return true;
+        } catch (Exception e) {
+            logger.warn("{}: notification error @ {} because of {}", this, topicListener, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Counts the current topic listeners.
+     *
+     * @return the number of topic listeners
+     */
+    protected int countTopicListeners() {
+        return this.topicListeners.length;
+    }
+
+    /**
+     * Determines if any of the current topic listeners is a {@link BatchTopicListener}.
+     *
+     * @return {@code true} if batches should be delivered as a whole
+     */
+    protected boolean hasBatchListeners() {
+        for (TopicListener topicListener : this.topicListeners) {
+            if (topicListener instanceof BatchTopicListener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Take a snapshot of current topic listeners.
      *
      * @return the topic listeners
      */
-    protected synchronized List<TopicListener> snapshotTopicListeners() {
-        @SuppressWarnings("unchecked")
-        List<TopicListener> listeners = (List<TopicListener>) topicListeners.clone();
-        return listeners;
+    protected List<TopicListener> snapshotTopicListeners() {
+        return new ArrayList<>(Arrays.asList(topicListeners));
     }
 
     @Override
@@ -224,9 +327,48 @@ public abstract class TopicBase implements Topic {
     }
 
     @Override
-    public synchronized String[] getRecentEvents() {
-        var events = new String[recentEvents.size()];
-        return recentEvents.toArray(events);
+    public String[] getRecentEvents() {
+        return recentEvents.toArray();
+    }
+
+    /**
+     * Replaces the event cache with an empty one of the given size.
+     *
+     * @param capacity maximum number of events retained, 0 to disable recording, or a
+     *        negative value to use the default
+     * @param maxLength maximum length of a retained event, or a value &lt;= 0 if events
+     *        are not to be truncated
+     */
+    protected void configureRecentEvents(int capacity, int maxLength) {
+        this.recentEvents = new RecentEvents(capacity, maxLength);
+    }
+
+    /**
+     * Adds an event to the event cache.
+     *
+     * @param event event to be added
+     */
+    protected void addRecentEvent(String event) {
+        recentEvents.add(event);
+    }
+
+    /**
+     * Adds events to the event cache.
+     *
+     * @param events events to be added
+     */
+    protected void addRecentEvents(List<String> events) {
+        recentEvents.addAll(events);
+    }
+
+    /**
+     * Gets the throughput and latency metrics.
+     *
+     * @return the metrics
+     */
+    @GsonJsonIgnore
+    public TopicMetrics getMetrics() {
+        return metrics;
     }
 
 
@@ -237,7 +379,7 @@ public abstract class TopicBase implements Topic {
             + ", effectiveTopic=" + effectiveTopic
             + ", #recentEvents=" + recentEvents.size()
             + ", locked=" + locked
-            + ", #topicListeners=" + topicListeners.size()
+            + ", #topicListeners=" + topicListeners.length
             + "]";
     }
 }
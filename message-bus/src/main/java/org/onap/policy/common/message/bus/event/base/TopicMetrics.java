@@ -0,0 +1,173 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Throughput and latency metrics of a topic endpoint. All counters are striped, thus
+ * recording does not contend across the threads sending, receiving and dispatching
+ * messages.
+ *
+ * <p/>Message counts and poll metrics are always recorded. Byte counts and dispatch
+ * latencies, which cost a scan of each message and a pair of clock reads per dispatch,
+ * are only recorded while detailed metrics are enabled, which they are once the metrics
+ * are exported (e.g., to Prometheus).
+ */
+@Getter
+public class TopicMetrics {
+
+    /**
+     * {@code true} if byte counts and dispatch latencies are to be recorded.
+     */
+    private static volatile boolean detailed = false;
+
+    private final LongAdder messagesIn = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder messagesOut = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+
+    /**
+     * Time, in seconds, taken to notify the listeners of a message or batch of messages.
+     */
+    private final StripedHistogram dispatchLatency = new StripedHistogram(StripedHistogram.LATENCY_BOUNDS_SECONDS);
+
+    /**
+     * Time, in seconds, taken to fetch a batch of messages from the bus.
+     */
+    private final StripedHistogram pollDuration = new StripedHistogram(StripedHistogram.LATENCY_BOUNDS_SECONDS);
+
+    /**
+     * Number of messages fetched from the bus per poll.
+     */
+    private final StripedHistogram pollBatchSize = new StripedHistogram(StripedHistogram.SIZE_BOUNDS);
+
+    /**
+     * Determines if byte counts and dispatch latencies are recorded.
+     *
+     * @return {@code true} if detailed metrics are enabled
+     */
+    public static boolean isDetailed() {
+        return detailed;
+    }
+
+    /**
+     * Enables or disables the recording of byte counts and dispatch latencies, for all
+     * topics.
+     *
+     * @param detailed {@code true} to enable detailed metrics
+     */
+    public static void setDetailed(boolean detailed) {
+        TopicMetrics.detailed = detailed;
+    }
+
+    /**
+     * Records a message received from the bus. Its bytes are only counted while detailed
+     * metrics are enabled.
+     *
+     * @param message message that was received
+     */
+    public void recordIn(String message) {
+        messagesIn.increment();
+        if (detailed) {
+            bytesIn.add(utf8Length(message));
+        }
+    }
+
+    /**
+     * Records a message sent to the bus. Its bytes are only counted while detailed
+     * metrics are enabled.
+     *
+     * @param message message that was sent
+     */
+    public void recordOut(String message) {
+        messagesOut.increment();
+        if (detailed) {
+            bytesOut.add(utf8Length(message));
+        }
+    }
+
+    /**
+     * Records a failure to send a message.
+     */
+    public void recordSendFailure() {
+        sendFailures.increment();
+    }
+
+    /**
+     * Records the time taken to notify the listeners.
+     *
+     * @param nanos time taken, in nanoseconds
+     */
+    public void recordDispatch(long nanos) {
+        dispatchLatency.observeNanos(nanos);
+    }
+
+    /**
+     * Records a poll of the bus.
+     *
+     * @param nanos time taken, in nanoseconds
+     * @param count number of messages fetched
+     */
+    public void recordPoll(long nanos, int count) {
+        pollDuration.observeNanos(nanos);
+        pollBatchSize.observe(count);
+    }
+
+    /**
+     * Computes the number of bytes in the UTF-8 encoding of a message, without encoding it.
+     *
+     * @param message message of interest
+     * @return the number of bytes in the message's UTF-8 encoding
+     */
+    protected static long utf8Length(String message) {
+        if (message == null) {
+            return 0;
+        }
+
+        int length = message.length();
+        long bytes = length;
+
+        for (var index = 0; index < length; ++index) {
+            char chr = message.charAt(index);
+            if (chr < 0x80) {
+                continue;
+            }
+
+            if (chr < 0x800) {
+                ++bytes;
+
+            } else if (Character.isHighSurrogate(chr) && index + 1 < length
+                            && Character.isLowSurrogate(message.charAt(index + 1))) {
+                // four bytes for the pair of chars
+                bytes += 2;
+                ++index;
+
+            } else if (!Character.isSurrogate(chr)) {
+                bytes += 2;
+            }
+
+            // otherwise, it's an unpaired surrogate, which is encoded as a single '?'
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Values of a list of fetched records, which retains each record's headers so that its
+ * trace context can be extracted when, and only if, the record is dispatched.
+ */
+public class TracedRecords extends AbstractList<String> implements RandomAccess {
+
+    /**
+     * Name of the W3C trace context header.
+     */
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    /**
+     * Length of a version 00 "traceparent" header: "00-" + 32 + "-" + 16 + "-" + 2.
+     */
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final int TRACE_ID_OFFSET = 3;
+    private static final int SPAN_ID_OFFSET = 36;
+    private static final int FLAGS_OFFSET = 53;
+
+    private final List<ConsumerRecord<String, String>> records;
+
+    /**
+     * Constructs the object.
+     *
+     * @param records records whose values are to be listed
+     */
+    public TracedRecords(List<ConsumerRecord<String, String>> records) {
+        this.records = records;
+    }
+
+    @Override
+    public String get(int index) {
+        return records.get(index).value();
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Makes the trace context of a record current.
+     *
+     * @param index index of the record of interest
+     * @return a scope that restores the previous context when closed
+     */
+    public Scope makeCurrent(int index) {
+        return activate(records.get(index).headers());
+    }
+
+    /**
+     * Makes the trace context identified by a record's "traceparent" header current, as
+     * the remote parent of any span started within the returned scope.
+     *
+     * @param headers headers of the record
+     * @return a scope that restores the previous context when closed, or a no-op scope if
+     *         the headers do not contain a valid trace context
+     */
+    public static Scope activate(Headers headers) {
+        Header header = headers.lastHeader(TRACEPARENT_HEADER);
+        if (header == null || header.value() == null) {
+            return Scope.noop();
+        }
+
+        SpanContext spanContext = toSpanContext(new String(header.value(), StandardCharsets.UTF_8));
+        if (!spanContext.isValid()) {
+            return Scope.noop();
+        }
+
+        return Context.current().with(Span.wrap(spanContext)).makeCurrent();
+    }
+
+    /**
+     * Converts a "traceparent" header to a span context.
+     *
+     * @param traceparent value of the header
+     * @return the span context, which is invalid if the header is malformed
+     */
+    protected static SpanContext toSpanContext(String traceparent) {
+        if (traceparent.length() < TRACEPARENT_LENGTH || traceparent.charAt(TRACE_ID_OFFSET - 1) != '-'
+                        || traceparent.charAt(SPAN_ID_OFFSET - 1) != '-'
+                        || traceparent.charAt(FLAGS_OFFSET - 1) != '-') {
+            return SpanContext.getInvalid();
+        }
+
+        return SpanContext.createFromRemoteParent(traceparent.substring(TRACE_ID_OFFSET, SPAN_ID_OFFSET - 1),
+                        traceparent.substring(SPAN_ID_OFFSET, FLAGS_OFFSET - 1), TraceFlags.getSampled(),
+                        TraceState.getDefault());
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,12 +21,18 @@
 
 package org.onap.policy.common.message.bus.event.client;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.event.TopicEndpoint;
 import org.onap.policy.common.message.bus.event.TopicEndpointManager;
@@ -35,19 +41,27 @@ import org.onap.policy.common.message.bus.event.TopicSink;
 import org.onap.policy.common.message.bus.event.TopicSource;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.JsonFieldReader;
 import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.time.HashedTimingWheel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A "bidirectional" topic, which is a pair of topics, one of which is used to publish
- * requests and the other to receive responses.
+ * requests and the other to receive responses. Responses may be correlated with their
+ * requests via {@link #request(Object, Class, Duration)}.
  */
 @Getter
 public class BidirectionalTopicClient {
     private static final Logger logger = LoggerFactory.getLogger(BidirectionalTopicClient.class);
     private static final Coder coder = new StandardCoder();
 
+    /**
+     * Name of the field containing the request id, if none is specified.
+     */
+    public static final String DEFAULT_REQUEST_ID_FIELD = "requestId";
+
     private final String sinkTopic;
     private final String sourceTopic;
     private final TopicSink sink;
@@ -64,15 +78,68 @@ public class BidirectionalTopicClient {
      */
     private final BlockingDeque<Boolean> checkerQueue = new LinkedBlockingDeque<>();
 
+    /**
+     * Name of the request id field, which may be hierarchical.
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] requestIdFieldNames;
 
     /**
-     * Constructs the object.
+     * Requests awaiting a response, keyed by request id.
+     */
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentHashMap<String, PendingRequest<?>> pendingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Listens for responses on the source topic; registered when the first request is
+     * made, and unregistered when the client is closed.
+     */
+    @Getter(AccessLevel.NONE)
+    private final TopicListener responseListener = this::onResponse;
+
+    /**
+     * Guards {@link #responseListenerRegistered} and transitions of {@link #closed}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Object responseListenerLock = new Object();
+
+    @Getter(AccessLevel.NONE)
+    private boolean responseListenerRegistered = false;
+
+    /**
+     * {@code true} once {@link #close()} has been invoked.
+     */
+    private volatile boolean closed = false;
+
+
+    /**
+     * Constructs the object, correlating responses with requests via the
+     * {@link #DEFAULT_REQUEST_ID_FIELD} field.
      *
      * @param sinkTopic sink topic name
      * @param sourceTopic source topic name
      * @throws BidirectionalTopicClientException if either topic does not exist
      */
     public BidirectionalTopicClient(String sinkTopic, String sourceTopic) throws BidirectionalTopicClientException {
+        this(sinkTopic, sourceTopic, DEFAULT_REQUEST_ID_FIELD);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param sinkTopic sink topic name
+     * @param sourceTopic source topic name
+     * @param requestIdFieldNames name of the field, within both requests and responses,
+     *        containing the request id, which may be hierarchical
+     * @throws BidirectionalTopicClientException if either topic does not exist
+     */
+    public BidirectionalTopicClient(String sinkTopic, String sourceTopic, String... requestIdFieldNames)
+                    throws BidirectionalTopicClientException {
+        if (requestIdFieldNames.length == 0) {
+            throw new IllegalArgumentException("no request id field names");
+        }
+
+        this.requestIdFieldNames = requestIdFieldNames;
         this.sinkTopic = sinkTopic.toLowerCase();
         this.sourceTopic = sourceTopic.toLowerCase();
 
@@ -198,6 +265,174 @@ public class BidirectionalTopicClient {
         };
     }
 
+    /**
+     * Publishes a request on the sink topic, and awaits a response, on the source topic,
+     * having the same request id. Incoming messages are matched to outstanding requests by
+     * extracting just the request id from them; only the matching response is decoded. A
+     * message identical to the request (e.g., an echo of the request, if the two topics
+     * are the same) is not taken as the response.
+     *
+     * @param <T> type of request
+     * @param <R> type of response
+     * @param request request to be published
+     * @param responseClass class of response expected
+     * @param timeout maximum time to wait for the response
+     * @return a future for the response. It's completed exceptionally with a
+     *         {@link TimeoutException} if no response is received in time, with an
+     *         {@link IllegalArgumentException} if the request has no request id, with an
+     *         {@link IllegalStateException} if a request with the same id is already
+     *         outstanding or the client has been closed, and with a {@link CoderException} if
+     *         the request cannot be encoded or the response cannot be decoded. Cancelling it
+     *         abandons the request
+     */
+    public <T, R> CompletableFuture<R> request(T request, Class<R> responseClass, Duration timeout) {
+        final String requestText;
+        try {
+            requestText = coder.encode(request);
+        } catch (CoderException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        String reqid = JsonFieldReader.getString(requestText, (Object[]) requestIdFieldNames);
+        if (StringUtils.isEmpty(reqid)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("request has no request id"));
+        }
+
+        var pending = new PendingRequest<>(responseClass, requestText);
+        if (pendingRequests.putIfAbsent(reqid, pending) != null) {
+            return CompletableFuture.failedFuture(
+                            new IllegalStateException("request " + reqid + " is already outstanding"));
+        }
+
+        if (!registerResponseListener()) {
+            pendingRequests.remove(reqid, pending);
+            return CompletableFuture.failedFuture(makeClosedException());
+        }
+
+        CompletableFuture<R> future = pending.future;
+        HashedTimingWheel.Timeout expiry = getTimingWheel().schedule(() -> future.completeExceptionally(
+                        new TimeoutException("no response to request " + reqid + " after " + timeout)),
+                        timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        future.whenComplete((response, error) -> {
+            pendingRequests.remove(reqid, pending);
+            expiry.cancel();
+        });
+
+        try {
+            if (!send(requestText)) {
+                future.completeExceptionally(new BidirectionalTopicClientException(
+                                "cannot send request " + reqid + " to topic " + sinkTopic));
+            }
+
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Registers the response listener with the source, if it isn't already registered.
+     *
+     * @return {@code true} if the listener is registered, {@code false} if the client has
+     *         been closed
+     */
+    private boolean registerResponseListener() {
+        synchronized (responseListenerLock) {
+            if (closed) {
+                return false;
+            }
+
+            if (!responseListenerRegistered) {
+                source.register(responseListener);
+                responseListenerRegistered = true;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Closes the client, unregistering its response listener from the source topic.
+     * Outstanding requests are completed exceptionally with an
+     * {@link IllegalStateException}, as are any requests made afterward, and any thread
+     * stuck in {@link #awaitReady(Object, long)} is stopped. Subsequent calls have no
+     * effect.
+     */
+    public void close() {
+        synchronized (responseListenerLock) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            if (responseListenerRegistered) {
+                source.unregister(responseListener);
+                responseListenerRegistered = false;
+            }
+        }
+
+        /*
+         * Any request that found the client open has already been added to the map, thus
+         * it's seen here. Completing the future removes it and cancels its timeout.
+         */
+        for (PendingRequest<?> pending : pendingRequests.values()) {
+            pending.future.completeExceptionally(makeClosedException());
+        }
+
+        stopWaiting();
+    }
+
+    private IllegalStateException makeClosedException() {
+        return new IllegalStateException("client for topics " + sinkTopic + " and " + sourceTopic + " is closed");
+    }
+
+    /**
+     * Gets the number of requests that are awaiting a response.
+     *
+     * @return the number of outstanding requests
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * Completes the request, if any, to which a message received on the source topic is
+     * the response.
+     *
+     * @param infra infrastructure on which the message was received
+     * @param topic topic on which the message was received
+     * @param message message that was received
+     */
+    private void onResponse(CommInfrastructure infra, String topic, String message) {
+        if (pendingRequests.isEmpty()) {
+            return;
+        }
+
+        String reqid = JsonFieldReader.getString(message, (Object[]) requestIdFieldNames);
+        if (reqid == null) {
+            return;
+        }
+
+        PendingRequest<?> pending = pendingRequests.get(reqid);
+        if (pending != null && !pending.requestText.equals(message)) {
+            complete(pending, topic, message);
+        }
+    }
+
+    private <R> void complete(PendingRequest<R> pending, String topic, String message) {
+        try {
+            pending.future.complete(decode(message, pending.responseClass));
+
+        } catch (CoderException | RuntimeException e) {
+            logger.warn("cannot decode response from topic {}", topic, e);
+            decodeFailed();
+            pending.future.completeExceptionally(e);
+        }
+    }
+
     /**
      * Stops any listeners that are currently stuck in {@link #awaitReady(Object, long)} by
      * adding {@code false} to the queue.
@@ -219,4 +454,24 @@ public class BidirectionalTopicClient {
     protected void decodeFailed() {
         // already logged - nothing else to do
     }
+
+    protected HashedTimingWheel getTimingWheel() {
+        return HashedTimingWheel.getShared();
+    }
+
+    /**
+     * Request awaiting a response.
+     *
+     * @param <R> type of response
+     */
+    private static class PendingRequest<R> {
+        private final Class<R> responseClass;
+        private final String requestText;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        PendingRequest(Class<R> responseClass, String requestText) {
+            this.responseClass = responseClass;
+            this.requestText = requestText;
+        }
+    }
 }
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2019, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2019, 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,10 @@
 package org.onap.policy.common.message.bus.event.client;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.Getter;
 import lombok.NonNull;
+import org.onap.policy.common.message.bus.event.RecordAck;
 import org.onap.policy.common.message.bus.event.TopicEndpointManager;
 import org.onap.policy.common.message.bus.event.TopicSink;
 import org.onap.policy.common.utils.coder.Coder;
@@ -100,6 +102,25 @@ public class TopicSinkClient {
         }
     }
 
+    /**
+     * Sends a message to the topic, after encoding the message as json, without waiting
+     * for it to be delivered.
+     *
+     * @param message message to be encoded and sent
+     * @return a future that completes when the message has been acknowledged, or
+     *         completes exceptionally if the message could not be sent
+     */
+    public CompletableFuture<RecordAck> sendAsync(final Object message) {
+        try {
+            final String json = CODER.encode(message);
+            return sink.sendAsync(json);
+
+        } catch (RuntimeException | CoderException e) {
+            logger.warn("send to {} failed because of {}", sink.getTopic(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     // the remaining methods are wrappers that can be overridden by junit tests
 
     /**
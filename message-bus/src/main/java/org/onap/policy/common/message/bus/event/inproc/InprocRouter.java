@@ -0,0 +1,87 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes events published by in-process sinks to the in-process sources of the same
+ * (effective) topic. Sources are attached while they are running. Lookups, which happen
+ * on every send, are lock-free.
+ */
+public class InprocRouter {
+    private static final InprocTopicSource[] NO_SOURCES = new InprocTopicSource[0];
+
+    /**
+     * Running sources, keyed by effective topic. The arrays are never modified; they are
+     * replaced whenever a source is attached or detached.
+     */
+    private final Map<String, InprocTopicSource[]> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Attaches a source, so that it receives the events published to its topic.
+     *
+     * @param source source to be attached
+     */
+    public void attach(InprocTopicSource source) {
+        routes.compute(source.getEffectiveTopic(), (topic, sources) -> {
+            if (sources == null) {
+                return new InprocTopicSource[] {source};
+            }
+
+            if (Arrays.asList(sources).contains(source)) {
+                return sources;
+            }
+
+            InprocTopicSource[] newSources = Arrays.copyOf(sources, sources.length + 1);
+            newSources[sources.length] = source;
+            return newSources;
+        });
+    }
+
+    /**
+     * Detaches a source, so that it no longer receives events.
+     *
+     * @param source source to be detached
+     */
+    public void detach(InprocTopicSource source) {
+        routes.computeIfPresent(source.getEffectiveTopic(), (topic, sources) -> {
+            InprocTopicSource[] newSources = Arrays.stream(sources).filter(src -> src != source)
+                            .toArray(InprocTopicSource[]::new);
+            return (newSources.length == 0 ? null : newSources);
+        });
+    }
+
+    /**
+     * Gets the sources currently attached to a topic.
+     *
+     * @param effectiveTopic effective topic of interest
+     * @return the sources attached to the topic; must not be modified by the caller
+     */
+    InprocTopicSource[] getSources(String effectiveTopic) {
+        return routes.getOrDefault(effectiveTopic, NO_SOURCES);
+    }
+
+    @Override
+    public String toString() {
+        return "InprocRouter [topics=" + routes.keySet() + "]";
+    }
+}
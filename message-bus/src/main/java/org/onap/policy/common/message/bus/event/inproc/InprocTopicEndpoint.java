@@ -0,0 +1,147 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import java.util.Collections;
+import java.util.List;
+import org.onap.policy.common.message.bus.event.base.TopicBase;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process topic endpoint. Sinks and sources of the same topic exchange events through
+ * a shared {@link InprocRouter}, without leaving the JVM.
+ */
+public abstract class InprocTopicEndpoint extends TopicBase {
+
+    /**
+     * Logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(InprocTopicEndpoint.class);
+
+    /**
+     * Router connecting sinks to the sources of their topic.
+     */
+    protected final InprocRouter router;
+
+    /**
+     * Constructs the object.
+     *
+     * @param busTopicParams parameters object containing all the required inputs
+     * @param router router connecting sinks to the sources of their topic
+     */
+    protected InprocTopicEndpoint(BusTopicParams busTopicParams, InprocRouter router) {
+        super(makeServers(busTopicParams.getServers()), busTopicParams.getTopic(), busTopicParams.getEffectiveTopic());
+
+        this.router = router;
+        configureRecentEvents(busTopicParams.getRecentEventsCapacity(), busTopicParams.getRecentEventsMaxLength());
+    }
+
+    /**
+     * Makes the server list. As in-process endpoints do not connect to any server, the
+     * list is only descriptive, and defaults to the name of the infrastructure.
+     *
+     * @param servers configured servers, may be {@code null} or empty
+     * @return the server list
+     */
+    private static List<String> makeServers(List<String> servers) {
+        if (servers == null || servers.isEmpty()) {
+            return Collections.singletonList(CommInfrastructure.INPROC.toString());
+        }
+
+        return servers;
+    }
+
+    /**
+     * Verifies that a message may be exchanged.
+     *
+     * @param message message to be exchanged
+     * @throws IllegalArgumentException if the message is empty
+     * @throws IllegalStateException if the endpoint is stopped
+     */
+    protected void validate(String message) {
+        if (message == null || message.isEmpty()) {
+            throw new IllegalArgumentException("Message is empty");
+        }
+
+        if (!this.alive) {
+            throw new IllegalStateException(this + " is stopped");
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public CommInfrastructure getTopicCommInfrastructure() {
+        return CommInfrastructure.INPROC;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean start() {
+        logger.info("{}: starting", this);
+
+        synchronized (this) {
+            if (!this.alive) {
+                if (locked) {
+                    throw new IllegalStateException(this + " is locked.");
+                }
+
+                this.alive = true;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean stop() {
+        logger.info("{}: stopping", this);
+
+        synchronized (this) {
+            this.alive = false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void shutdown() {
+        logger.info("{}: shutdown", this);
+
+        this.stop();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "InprocTopicEndpoint[" + super.toString() + "]";
+    }
+}
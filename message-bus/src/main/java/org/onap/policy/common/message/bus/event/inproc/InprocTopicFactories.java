@@ -0,0 +1,45 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class InprocTopicFactories {
+
+    /**
+     * Router connecting the sinks to the sources of their topic.
+     */
+    @Getter
+    private static final InprocRouter router = new InprocRouter();
+
+    /**
+     * Factory for instantiation and management of sinks.
+     */
+    @Getter
+    private static final InprocTopicSinkFactory sinkFactory = new InprocTopicSinkFactory(router);
+
+    /**
+     * Factory for instantiation and management of sources.
+     */
+    @Getter
+    private static final InprocTopicSourceFactory sourceFactory = new InprocTopicSourceFactory(router);
+}
@@ -0,0 +1,206 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SERVERS_SUFFIX;
+
+import com.google.re2j.Pattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.base.TopicBaseHashedFactory;
+import org.onap.policy.common.message.bus.utils.KafkaPropertyUtils;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.onap.policy.common.parameters.topic.BusTopicParams.TopicParamsBuilder;
+import org.onap.policy.common.utils.properties.PropertyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process Topic Factory.
+ */
+public abstract class InprocTopicFactory<T extends InprocTopicEndpoint> extends TopicBaseHashedFactory<T> {
+    private static final Logger logger = LoggerFactory.getLogger(InprocTopicFactory.class);
+    private static final Pattern COMMA_SPACE_PAT = Pattern.compile("\\s*,\\s*");
+
+    /**
+     * Router connecting the sinks to the sources of their topic.
+     */
+    protected final InprocRouter router;
+
+    /**
+     * Constructs the object.
+     *
+     * @param router router connecting the sinks to the sources of their topic
+     */
+    protected InprocTopicFactory(InprocRouter router) {
+        this.router = router;
+    }
+
+    /**
+     * Get Topics Property Name.
+     *
+     * @return property name.
+     */
+    protected abstract String getTopicsPropertyName();
+
+    /**
+     * Makes a new endpoint.
+     *
+     * @param busTopicParams parameters to use to configure the endpoint
+     * @return a new endpoint
+     */
+    protected abstract T makeEndpoint(BusTopicParams busTopicParams);
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected List<String> getTopicNames(Properties properties) {
+        String topics = properties.getProperty(getTopicsPropertyName());
+        if (topics == null || topics.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return Arrays.asList(COMMA_SPACE_PAT.split(topics));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected List<String> getServers(String topicName, Properties properties) {
+        String servers =
+            properties.getProperty(getTopicsPropertyName() + "." + topicName
+                + PROPERTY_TOPIC_SERVERS_SUFFIX);
+
+        if (servers == null || servers.isEmpty()) {
+            servers = CommInfrastructure.INPROC.toString();
+        }
+
+        return new ArrayList<>(Arrays.asList(COMMA_SPACE_PAT.split(servers)));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected boolean isManaged(String topicName, Properties properties) {
+        return makeBuilder(topicName, properties).build().isManaged();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<T> build(Properties properties) {
+        List<String> topicNames = getTopicNames(properties);
+        if (topicNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<T> newEndpoints = new ArrayList<>();
+        synchronized (this) {
+            for (String name : topicNames) {
+                if (this.endpoints.containsKey(name)) {
+                    newEndpoints.add(this.endpoints.get(name));
+                    continue;
+                }
+
+                newEndpoints.add(this.build(makeBuilder(name, properties).build()));
+            }
+        }
+        return newEndpoints;
+    }
+
+    /**
+     * Makes a parameter builder, populated from a topic's properties.
+     *
+     * @param topicName name of the topic
+     * @param properties properties from which to extract the topic's properties
+     * @return a new parameter builder
+     */
+    protected TopicParamsBuilder makeBuilder(String topicName, Properties properties) {
+        return KafkaPropertyUtils.makeBuilder(makeProperties(topicName, properties), topicName,
+                        String.join(",", getServers(topicName, properties)));
+    }
+
+    /**
+     * Makes an accessor for a topic's properties.
+     *
+     * @param topicName name of the topic
+     * @param properties properties from which to extract the topic's properties
+     * @return a new property accessor
+     */
+    protected PropertyUtils makeProperties(String topicName, Properties properties) {
+        return new PropertyUtils(properties, getTopicsPropertyName() + "." + topicName,
+            (name, value, ex) -> logger.warn("{}: {} {} is in invalid format for topic {} ",
+                this, name, value, topicName));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public T build(BusTopicParams param) {
+        if (param.getTopic() == null || param.getTopic().isEmpty()) {
+            throw new IllegalArgumentException(MISSING_TOPIC_MESSAGE);
+        }
+
+        synchronized (this) {
+            if (this.endpoints.containsKey(param.getTopic())) {
+                return this.endpoints.get(param.getTopic());
+            }
+
+            var endpoint = makeEndpoint(param);
+            if (param.isManaged()) {
+                this.endpoints.put(param.getTopic(), endpoint);
+            }
+
+            return endpoint;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public T build(List<String> servers, String topic, boolean managed) {
+        return build(BusTopicParams.builder().servers(servers).topic(topic).managed(managed).build());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public T build(List<String> servers, String topic) {
+        return makeEndpoint(BusTopicParams.builder().servers(servers).topic(topic).managed(true).build());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "InprocTopicFactory[ " + super.toString() + " ]";
+    }
+}
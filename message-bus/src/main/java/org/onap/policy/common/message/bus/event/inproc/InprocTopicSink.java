@@ -0,0 +1,79 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import org.onap.policy.common.message.bus.event.TopicSink;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+/**
+ * In-process topic sink. Each message is handed to every running in-process source of the
+ * same topic, which delivers it to its listeners on its own thread. Messages sent while no
+ * source is running are not retained.
+ */
+public class InprocTopicSink extends InprocTopicEndpoint implements TopicSink {
+
+    /**
+     * Constructs the object.
+     *
+     * @param busTopicParams parameters object containing all the required inputs
+     * @param router router connecting sinks to the sources of their topic
+     */
+    public InprocTopicSink(BusTopicParams busTopicParams, InprocRouter router) {
+        super(busTopicParams, router);
+    }
+
+    /**
+     * {@inheritDoc}.
+     *
+     * @return {@code false} if the buffer of any of the topic's sources was full, in which
+     *         case that source does not receive the message
+     */
+    @Override
+    public boolean send(String message) {
+        validate(message);
+
+        this.addRecentEvent(message);
+
+        this.metrics.recordOut(message);
+        NetLoggerUtil.log(EventType.OUT, this.getTopicCommInfrastructure(), this.topic, message);
+
+        var success = true;
+        for (InprocTopicSource source : router.getSources(this.effectiveTopic)) {
+            success = source.enqueue(message) && success;
+        }
+
+        if (!success) {
+            this.metrics.recordSendFailure();
+        }
+
+        broadcast(message);
+
+        return success;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "InprocTopicSink[" + super.toString() + "]";
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_INPROC_SINK_TOPICS;
+
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+/**
+ * In-process Topic Sink Factory.
+ */
+public class InprocTopicSinkFactory extends InprocTopicFactory<InprocTopicSink> {
+
+    /**
+     * Constructs the object.
+     *
+     * @param router router connecting the sinks to the sources of their topic
+     */
+    public InprocTopicSinkFactory(InprocRouter router) {
+        super(router);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected String getTopicsPropertyName() {
+        return PROPERTY_INPROC_SINK_TOPICS;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected InprocTopicSink makeEndpoint(BusTopicParams busTopicParams) {
+        return new InprocTopicSink(busTopicParams, router);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "InprocTopicSinkFactory [" + super.toString() + "]";
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_LIMIT_FETCH;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_RING_CAPACITY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.onap.policy.common.message.bus.event.TopicSource;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.common.message.bus.utils.RingBuffer;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process topic source. Events sent by in-process sinks of the same topic are buffered
+ * in a bounded, lock-free ring buffer, and are delivered to the listeners, in batches of up
+ * to "fetchLimit" events, by a thread dedicated to this source. How that thread waits, when
+ * the buffer is empty, is determined by the source's {@link WaitStrategy}.
+ */
+public class InprocTopicSource extends InprocTopicEndpoint implements TopicSource, Runnable {
+
+    /**
+     * Logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(InprocTopicSource.class);
+
+    /**
+     * Number of times an idle thread spins before yielding, with the yielding and sleeping
+     * strategies.
+     */
+    private static final int SPIN_TRIES = 100;
+
+    /**
+     * Number of times an idle thread yields before sleeping, with the sleeping strategy.
+     */
+    private static final int YIELD_TRIES = 100;
+
+    /**
+     * Time an idle thread sleeps, with the sleeping strategy.
+     */
+    private static final long SLEEP_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Maximum time an idle thread blocks, with the blocking strategy, before checking the
+     * buffer again. Only guards against a missed signal.
+     */
+    private static final long MAX_BLOCK_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * How the thread of an idle source waits for events.
+     */
+    public enum WaitStrategy {
+        /**
+         * Spins continuously. Lowest latency, but keeps a CPU busy.
+         */
+        BUSY_SPIN,
+
+        /**
+         * Spins briefly, then yields the CPU between checks.
+         */
+        YIELDING,
+
+        /**
+         * Spins, then yields, then sleeps briefly between checks.
+         */
+        SLEEPING,
+
+        /**
+         * Parks until a sink signals that events are available. Uses no CPU while idle, at
+         * the cost of a wake-up on the sending thread.
+         */
+        BLOCKING;
+
+        /**
+         * Gets the strategy having the given name, ignoring case.
+         *
+         * @param name name of the strategy, or {@code null} for the default strategy
+         * @return the strategy
+         * @throws IllegalArgumentException if the name is not a valid strategy
+         */
+        public static WaitStrategy of(String name) {
+            if (StringUtils.isBlank(name)) {
+                return BLOCKING;
+            }
+
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    @Getter
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * Maximum number of events delivered in a batch.
+     */
+    @Getter
+    private final int fetchLimit;
+
+    /**
+     * Events awaiting delivery.
+     */
+    private final RingBuffer<String> buffer;
+
+    /**
+     * Number of events that were rejected because the buffer was full.
+     */
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Thread delivering events to the listeners, or {@code null} if the source is stopped.
+     */
+    private volatile Thread deliveryThread;
+
+    /**
+     * {@code true} while the delivery thread is parked, waiting for a signal.
+     */
+    private volatile boolean waiting = false;
+
+    /**
+     * Constructs the object.
+     *
+     * @param busTopicParams parameters object containing all the required inputs
+     * @param router router connecting sinks to the sources of their topic
+     * @throws IllegalArgumentException if the wait strategy is invalid
+     */
+    public InprocTopicSource(BusTopicParams busTopicParams, InprocRouter router) {
+        super(busTopicParams, router);
+
+        this.waitStrategy = WaitStrategy.of(busTopicParams.getWaitStrategy());
+        this.fetchLimit = (busTopicParams.getFetchLimit() > 0 ? busTopicParams.getFetchLimit() : DEFAULT_LIMIT_FETCH);
+
+        int capacity = busTopicParams.getRingCapacity();
+        this.buffer = new RingBuffer<>(capacity > 0 ? capacity : DEFAULT_RING_CAPACITY);
+    }
+
+    /**
+     * Gets the number of events the buffer can hold.
+     *
+     * @return the buffer capacity
+     */
+    public int getRingCapacity() {
+        return buffer.getCapacity();
+    }
+
+    /**
+     * Gets the number of events awaiting delivery.
+     *
+     * @return the number of events awaiting delivery
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Gets the number of events that were rejected because the buffer was full.
+     *
+     * @return the number of rejected events
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Adds an event to the buffer, waking the delivery thread, if necessary.
+     *
+     * @param event event to be added
+     * @return {@code true} if the event was added, {@code false} if the buffer was full
+     */
+    boolean enqueue(String event) {
+        if (!buffer.offer(event)) {
+            droppedCount.increment();
+            logger.debug("{}: buffer full, event dropped", this);
+            return false;
+        }
+
+        if (waiting) {
+            LockSupport.unpark(deliveryThread);
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     *
+     * <p/>The event is buffered and delivered by the source's thread, like events sent by
+     * in-process sinks.
+     */
+    @Override
+    public boolean offer(String event) {
+        validate(event);
+        return enqueue(event);
+    }
+
+    @Override
+    public boolean start() {
+        logger.info("{}: starting", this);
+
+        synchronized (this) {
+            if (this.alive) {
+                return true;
+            }
+
+            if (locked) {
+                throw new IllegalStateException(this + " is locked.");
+            }
+
+            this.alive = true;
+
+            var thread = new Thread(this, getTopicCommInfrastructure() + "-source-" + this.getTopic());
+            this.deliveryThread = thread;
+            router.attach(this);
+            thread.start();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean stop() {
+        logger.info("{}: stopping", this);
+
+        Thread thread;
+        synchronized (this) {
+            this.alive = false;
+            router.detach(this);
+
+            thread = this.deliveryThread;
+            this.deliveryThread = null;
+        }
+
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+
+        return true;
+    }
+
+    /**
+     * Delivers buffered events until the source is stopped. Events remaining in the buffer
+     * when the source is stopped are delivered if it is restarted. The same list is reused
+     * for every batch, thus waiting for events allocates nothing.
+     */
+    @Override
+    public void run() {
+        var thread = Thread.currentThread();
+        var idleCount = 0;
+        List<String> events = new ArrayList<>(Math.min(fetchLimit, buffer.getCapacity()));
+
+        while (this.alive && this.deliveryThread == thread) {
+            if (buffer.drainTo(events, fetchLimit) == 0) {
+                idleCount = await(idleCount);
+                continue;
+            }
+
+            idleCount = 0;
+
+            try {
+                deliver(events);
+            } catch (RuntimeException e) {
+                logger.error("{}: cannot deliver events", this, e);
+            } finally {
+                events.clear();
+            }
+        }
+
+        logger.info("{}: exiting thread", this);
+    }
+
+    /**
+     * Waits for events, according to the wait strategy.
+     *
+     * @param idleCount number of consecutive times the buffer was found empty
+     * @return the new idle count
+     */
+    private int await(int idleCount) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+
+            case YIELDING:
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                break;
+
+            case SLEEPING:
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(this, SLEEP_NS);
+                }
+                break;
+
+            case BLOCKING:
+            default:
+                waiting = true;
+
+                // re-check, in case an event arrived before the sinks could see the flag
+                if (buffer.isEmpty() && this.alive) {
+                    LockSupport.parkNanos(this, MAX_BLOCK_NS);
+                }
+
+                waiting = false;
+                break;
+        }
+
+        return (idleCount < Integer.MAX_VALUE ? idleCount + 1 : idleCount);
+    }
+
+    /**
+     * Dispatches a batch of events to the listeners. If any listener handles batches, the
+     * batch is delivered as a whole, as a copy, since batch listeners may keep it.
+     *
+     * @param events events to be dispatched, which may be reused once this returns
+     */
+    protected void deliver(List<String> events) {
+        if (hasBatchListeners()) {
+            this.addRecentEvents(events);
+
+            for (String event : events) {
+                this.metrics.recordIn(event);
+                NetLoggerUtil.log(EventType.IN, this.getTopicCommInfrastructure(), this.topic, event);
+            }
+
+            broadcast(new ArrayList<>(events));
+            return;
+        }
+
+        for (String event : events) {
+            this.addRecentEvent(event);
+
+            this.metrics.recordIn(event);
+            NetLoggerUtil.log(EventType.IN, this.getTopicCommInfrastructure(), this.topic, event);
+
+            broadcast(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "InprocTopicSource[waitStrategy=" + waitStrategy + ", fetchLimit=" + fetchLimit + ", ringCapacity="
+                        + buffer.getCapacity() + ", " + super.toString() + "]";
+    }
+}
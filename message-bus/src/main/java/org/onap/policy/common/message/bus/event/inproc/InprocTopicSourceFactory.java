@@ -0,0 +1,83 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_LIMIT_FETCH;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_RING_CAPACITY;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_INPROC_SOURCE_TOPICS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_RING_CAPACITY_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_WAIT_STRATEGY_SUFFIX;
+
+import java.util.Properties;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.onap.policy.common.parameters.topic.BusTopicParams.TopicParamsBuilder;
+
+/**
+ * In-process Topic Source Factory.
+ */
+public class InprocTopicSourceFactory extends InprocTopicFactory<InprocTopicSource> {
+
+    /**
+     * Constructs the object.
+     *
+     * @param router router connecting the sinks to the sources of their topic
+     */
+    public InprocTopicSourceFactory(InprocRouter router) {
+        super(router);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected String getTopicsPropertyName() {
+        return PROPERTY_INPROC_SOURCE_TOPICS;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected TopicParamsBuilder makeBuilder(String topicName, Properties properties) {
+        var props = makeProperties(topicName, properties);
+
+        return super.makeBuilder(topicName, properties)
+                        .fetchLimit(props.getInteger(PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX, DEFAULT_LIMIT_FETCH))
+                        .ringCapacity(props.getInteger(PROPERTY_TOPIC_SOURCE_RING_CAPACITY_SUFFIX,
+                                        DEFAULT_RING_CAPACITY))
+                        .waitStrategy(props.getString(PROPERTY_TOPIC_SOURCE_WAIT_STRATEGY_SUFFIX, null));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    protected InprocTopicSource makeEndpoint(BusTopicParams busTopicParams) {
+        return new InprocTopicSource(busTopicParams, router);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "InprocTopicSourceFactory [" + super.toString() + "]";
+    }
+}
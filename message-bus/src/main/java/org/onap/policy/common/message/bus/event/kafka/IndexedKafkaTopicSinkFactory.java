@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,15 @@
 
 package org.onap.policy.common.message.bus.event.kafka;
 
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_MAX_IN_FLIGHT;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_KAFKA_SINK_TOPICS;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SERVERS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_ASYNC_PUBLISH_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_KEY_FIELD_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_KEY_STRATEGY_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_MAX_IN_FLIGHT_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_PARTITION_KEY_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_SHARED_PRODUCER_SUFFIX;
 
 import com.google.re2j.Pattern;
 import java.util.ArrayList;
@@ -51,6 +57,11 @@ class IndexedKafkaTopicSinkFactory implements KafkaTopicSinkFactory {
      */
     protected HashMap<String, KafkaTopicSink> kafkaTopicSinks = new HashMap<>();
 
+    /**
+     * Producers shared among the sinks that allow it.
+     */
+    protected final KafkaProducerPool producerPool = new KafkaProducerPool();
+
     @Override
     public KafkaTopicSink build(BusTopicParams busTopicParams) {
 
@@ -126,6 +137,11 @@ class IndexedKafkaTopicSinkFactory implements KafkaTopicSinkFactory {
 
         KafkaTopicSink kafkaTopicWriter = this.build(KafkaPropertyUtils.makeBuilder(props, topic, servers)
                 .partitionId(props.getString(PROPERTY_TOPIC_SINK_PARTITION_KEY_SUFFIX, null))
+                .asyncPublish(props.getBoolean(PROPERTY_TOPIC_SINK_ASYNC_PUBLISH_SUFFIX, false))
+                .maxInFlight(props.getInteger(PROPERTY_TOPIC_SINK_MAX_IN_FLIGHT_SUFFIX, DEFAULT_MAX_IN_FLIGHT))
+                .keyStrategy(props.getString(PROPERTY_TOPIC_SINK_KEY_STRATEGY_SUFFIX, null))
+                .keyField(props.getString(PROPERTY_TOPIC_SINK_KEY_FIELD_SUFFIX, null))
+                .sharedProducer(props.getBoolean(PROPERTY_TOPIC_SINK_SHARED_PRODUCER_SUFFIX, false))
                 .build());
         newKafkaTopicSinks.add(kafkaTopicWriter);
     }
@@ -159,6 +175,8 @@ class IndexedKafkaTopicSinkFactory implements KafkaTopicSinkFactory {
         synchronized (this) {
             this.kafkaTopicSinks.clear();
         }
+
+        producerPool.close();
     }
 
     @Override
@@ -189,6 +207,10 @@ class IndexedKafkaTopicSinkFactory implements KafkaTopicSinkFactory {
      * @return a new sink
      */
     protected KafkaTopicSink makeSink(BusTopicParams busTopicParams) {
+        if (busTopicParams.isSharedProducer()) {
+            return new InlineKafkaTopicSink(busTopicParams, producerPool);
+        }
+
         return new InlineKafkaTopicSink(busTopicParams);
     }
 
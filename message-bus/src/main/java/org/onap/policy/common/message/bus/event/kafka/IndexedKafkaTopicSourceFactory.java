@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,21 +18,32 @@
 
 package org.onap.policy.common.message.bus.event.kafka;
 
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_COMMIT_INTERVAL_MS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_COMMIT_MAX_RECORDS;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_LIMIT_FETCH;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_TIMEOUT_MS_FETCH;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_KAFKA_SOURCE_TOPICS;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SERVERS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_COMMIT_INTERVAL_MS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_COMMIT_MAX_RECORDS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_COMMIT_STRATEGY_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_CONSUMER_GROUP_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_CONSUMER_INSTANCE_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_FETCH_TIMEOUT_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_MAX_PENDING_RECORDS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_PARTITION_WORKERS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_SHARED_CONSUMER_SUFFIX;
 
 import com.google.re2j.Pattern;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import org.apache.commons.lang3.StringUtils;
+import org.onap.policy.common.message.bus.event.base.BusClient;
 import org.onap.policy.common.message.bus.utils.KafkaPropertyUtils;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 import org.onap.policy.common.utils.properties.PropertyUtils;
@@ -56,6 +67,12 @@ class IndexedKafkaTopicSourceFactory implements KafkaTopicSourceFactory {
      */
     protected HashMap<String, KafkaTopicSource> kafkaTopicSources = new HashMap<>();
 
+    /**
+     * Consumers shared by the sources of a consumer group, keyed by servers, consumer
+     * group, and additional properties.
+     */
+    protected final Map<List<Object>, SharedKafkaConsumer> sharedConsumers = new HashMap<>();
+
     @Override
     public KafkaTopicSource build(BusTopicParams busTopicParams) {
         if (busTopicParams.getServers() == null || busTopicParams.getServers().isEmpty()) {
@@ -136,6 +153,14 @@ class IndexedKafkaTopicSourceFactory implements KafkaTopicSourceFactory {
                         DEFAULT_TIMEOUT_MS_FETCH))
                 .fetchLimit(props.getInteger(PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX,
                         DEFAULT_LIMIT_FETCH))
+                .partitionWorkers(props.getInteger(PROPERTY_TOPIC_SOURCE_PARTITION_WORKERS_SUFFIX, 0))
+                .maxPendingRecords(props.getInteger(PROPERTY_TOPIC_SOURCE_MAX_PENDING_RECORDS_SUFFIX, 0))
+                .sharedConsumer(props.getBoolean(PROPERTY_TOPIC_SOURCE_SHARED_CONSUMER_SUFFIX, false))
+                .commitStrategy(props.getString(PROPERTY_TOPIC_SOURCE_COMMIT_STRATEGY_SUFFIX, null))
+                .commitIntervalMs(props.getInteger(PROPERTY_TOPIC_SOURCE_COMMIT_INTERVAL_MS_SUFFIX,
+                        DEFAULT_COMMIT_INTERVAL_MS))
+                .commitMaxRecords(props.getInteger(PROPERTY_TOPIC_SOURCE_COMMIT_MAX_RECORDS_SUFFIX,
+                        DEFAULT_COMMIT_MAX_RECORDS))
                 .build());
 
         newKafkaTopicSources.add(kafkaTopicSource);
@@ -148,9 +173,38 @@ class IndexedKafkaTopicSourceFactory implements KafkaTopicSourceFactory {
      * @return a new source
      */
     protected KafkaTopicSource makeSource(BusTopicParams busTopicParams) {
+        if (BusClient.of(busTopicParams.getBusClient()) == BusClient.MEMORY) {
+            // only the single-threaded source can fetch from the in-memory broker
+            return new SingleThreadedKafkaTopicSource(busTopicParams);
+        }
+
+        if (busTopicParams.getPartitionWorkers() > 0) {
+            return new PartitionedKafkaTopicSource(busTopicParams);
+        }
+
+        if (busTopicParams.isSharedConsumer() && !busTopicParams.isConsumerGroupInvalid()) {
+            return new SharedKafkaTopicSource(busTopicParams, getSharedConsumer(busTopicParams));
+        }
+
         return new SingleThreadedKafkaTopicSource(busTopicParams);
     }
 
+    /**
+     * Gets the consumer shared by the sources of a consumer group, creating it if it
+     * doesn't exist yet. Only sources having the same servers and additional properties
+     * share a consumer.
+     *
+     * @param busTopicParams parameters of the source
+     * @return the shared consumer
+     */
+    private synchronized SharedKafkaConsumer getSharedConsumer(BusTopicParams busTopicParams) {
+        List<Object> key = Arrays.asList(busTopicParams.getServers(), busTopicParams.getConsumerGroup(),
+                        busTopicParams.getAdditionalProps());
+
+        return sharedConsumers.computeIfAbsent(key,
+            unused -> new SharedKafkaConsumer(busTopicParams.getConsumerGroup()));
+    }
+
     @Override
     public void destroy(String topic) {
 
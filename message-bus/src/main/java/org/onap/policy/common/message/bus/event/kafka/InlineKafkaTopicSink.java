@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,10 @@ package org.onap.policy.common.message.bus.event.kafka;
 
 import java.util.Map;
 import org.onap.policy.common.message.bus.event.Topic;
+import org.onap.policy.common.message.bus.event.base.BusClient;
+import org.onap.policy.common.message.bus.event.base.BusPublisher;
 import org.onap.policy.common.message.bus.event.base.InlineBusTopicSink;
+import org.onap.policy.common.message.bus.event.memory.InMemoryBusPublisher;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +41,37 @@ public class InlineKafkaTopicSink extends InlineBusTopicSink implements KafkaTop
 
     protected Map<String, String> additionalProps;
 
+    /**
+     * {@code true} if messages are not flushed as they are sent.
+     */
+    protected final boolean asyncPublish;
+
+    /**
+     * Maximum number of messages awaiting acknowledgment, when publishing asynchronously.
+     */
+    protected final int maxInFlight;
+
+    /**
+     * How record keys are chosen.
+     */
+    protected final String keyStrategy;
+
+    /**
+     * Message field used as the record key, with the "field" key strategy.
+     */
+    protected final String keyField;
+
+    /**
+     * Pool from which to obtain the producer, or {@code null} if the sink has its own
+     * producer.
+     */
+    protected final KafkaProducerPool producerPool;
+
+    /**
+     * Client through which the bus is reached.
+     */
+    protected final String busClient;
+
     /**
      * Argument-based KAFKA Topic Writer instantiation. BusTopicParams contains the below
      * attributes.
@@ -46,12 +80,36 @@ public class InlineKafkaTopicSink extends InlineBusTopicSink implements KafkaTop
      * topic                the topic to publish to
      * partitionId          the partition key (optional, autogenerated if not provided)
      * useHttps             does connection use HTTPS?
+     * asyncPublish         publish without flushing each message?
+     * maxInFlight          maximum number of messages awaiting acknowledgment
+     * keyStrategy          how record keys are chosen (random, none, fixed or field)
+     * keyField             message field used as the record key, with the "field" strategy
+     * busClient            client through which the bus is reached (kafka or memory)
      * @param busTopicParams contains attributes needed
      * @throws IllegalArgumentException if invalid arguments are detected
      */
     public InlineKafkaTopicSink(BusTopicParams busTopicParams) {
+        this(busTopicParams, null);
+    }
+
+    /**
+     * Argument-based KAFKA Topic Writer instantiation, whose producer is obtained from a
+     * pool, allowing it to be shared with other sinks.
+     *
+     * @param busTopicParams contains attributes needed
+     * @param producerPool pool from which to obtain the producer, or {@code null} if the
+     *        sink is to have its own producer
+     * @throws IllegalArgumentException if invalid arguments are detected
+     */
+    public InlineKafkaTopicSink(BusTopicParams busTopicParams, KafkaProducerPool producerPool) {
         super(busTopicParams);
+        this.producerPool = producerPool;
         this.additionalProps = busTopicParams.getAdditionalProps();
+        this.asyncPublish = busTopicParams.isAsyncPublish();
+        this.maxInFlight = busTopicParams.getMaxInFlight();
+        this.keyStrategy = busTopicParams.getKeyStrategy();
+        this.keyField = busTopicParams.getKeyField();
+        this.busClient = busTopicParams.getBusClient();
     }
 
     /**
@@ -60,20 +118,58 @@ public class InlineKafkaTopicSink extends InlineBusTopicSink implements KafkaTop
     @Override
     public void init() {
 
-        this.publisher = new KafkaPublisherWrapper(BusTopicParams.builder()
+        BusTopicParams params = BusTopicParams.builder()
                 .servers(this.servers)
                 .topic(this.effectiveTopic)
                 .useHttps(this.useHttps)
                 .allowTracing(this.allowTracing)
                 .additionalProps(this.additionalProps)
-                .build());
+                .asyncPublish(this.asyncPublish)
+                .maxInFlight(this.maxInFlight)
+                .keyStrategy(this.keyStrategy)
+                .keyField(this.keyField)
+                .build();
+
+        if (BusClient.of(this.busClient) == BusClient.MEMORY) {
+            this.publisher = new InMemoryBusPublisher(params);
+        } else if (this.producerPool != null) {
+            this.publisher = new KafkaPublisherWrapper(params, this.producerPool);
+        } else {
+            this.publisher = new KafkaPublisherWrapper(params);
+        }
         logger.info("{}: KAFKA SINK created", this);
     }
 
+    @Override
+    public void flush() {
+        BusPublisher publisherCopy = this.publisher;
+        if (publisherCopy != null) {
+            publisherCopy.flush();
+        }
+    }
+
+    @Override
+    public long getAckedCount() {
+        if (this.publisher instanceof InMemoryBusPublisher memPublisher) {
+            return memPublisher.getAckedCount();
+        }
+
+        return (this.publisher instanceof KafkaPublisherWrapper wrapper ? wrapper.getAckedCount() : 0);
+    }
+
+    @Override
+    public long getFailedCount() {
+        if (this.publisher instanceof InMemoryBusPublisher memPublisher) {
+            return memPublisher.getFailedCount();
+        }
+
+        return (this.publisher instanceof KafkaPublisherWrapper wrapper ? wrapper.getFailedCount() : 0);
+    }
+
     @Override
     public String toString() {
-        return "InlineKafkaTopicSink [getTopicCommInfrastructure()=" + getTopicCommInfrastructure() + ", toString()="
-                        + super.toString() + "]";
+        return "InlineKafkaTopicSink [getTopicCommInfrastructure()=" + getTopicCommInfrastructure()
+                        + ", asyncPublish=" + asyncPublish + ", toString()=" + super.toString() + "]";
     }
 
     @Override
@@ -0,0 +1,179 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of Kafka producers, shared among sinks whose producer properties (i.e., bootstrap
+ * servers and additional properties) are identical. Each producer is reference counted
+ * and is closed when the last sink using it releases it. Producers having a transactional
+ * id are never shared.
+ */
+public class KafkaProducerPool {
+    private static final Logger logger = LoggerFactory.getLogger(KafkaProducerPool.class);
+
+    /**
+     * Function used to create new producers.
+     */
+    private final Function<Properties, Producer<String, String>> producerFactory;
+
+    /**
+     * Shared producers, keyed by their properties.
+     */
+    private final Map<Map<Object, Object>, PooledProducer> producers = new HashMap<>();
+
+    /**
+     * Producers that have been handed out, keyed by the producer.
+     */
+    private final Map<Producer<String, String>, PooledProducer> leased = new IdentityHashMap<>();
+
+    /**
+     * Constructs the object.
+     */
+    public KafkaProducerPool() {
+        this(KafkaProducer::new);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param producerFactory function used to create new producers
+     */
+    protected KafkaProducerPool(Function<Properties, Producer<String, String>> producerFactory) {
+        this.producerFactory = producerFactory;
+    }
+
+    /**
+     * Gets a producer for the given properties, creating one if there is no producer
+     * with identical properties. The producer must be returned to the pool via
+     * {@link #release(Producer)}, rather than being closed.
+     *
+     * @param kafkaProps producer properties
+     * @return a producer
+     */
+    public synchronized Producer<String, String> acquire(Properties kafkaProps) {
+        PooledProducer pooled;
+
+        if (kafkaProps.get(ProducerConfig.TRANSACTIONAL_ID_CONFIG) != null) {
+            // transactional producers cannot be shared
+            pooled = new PooledProducer(null, producerFactory.apply(kafkaProps));
+
+        } else {
+            Map<Object, Object> key = new HashMap<>(kafkaProps);
+            pooled = producers.get(key);
+
+            if (pooled == null) {
+                pooled = new PooledProducer(key, producerFactory.apply(kafkaProps));
+                producers.put(key, pooled);
+                logger.info("created shared producer for {}", kafkaProps.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+            }
+        }
+
+        ++pooled.refs;
+        leased.put(pooled.producer, pooled);
+
+        return pooled.producer;
+    }
+
+    /**
+     * Returns a producer to the pool, closing it if it is no longer used.
+     *
+     * @param producer producer previously obtained via {@link #acquire(Properties)}
+     */
+    public void release(Producer<String, String> producer) {
+        PooledProducer pooled;
+
+        synchronized (this) {
+            pooled = leased.get(producer);
+            if (pooled == null) {
+                logger.warn("cannot release unknown producer {}", producer);
+                return;
+            }
+
+            if (--pooled.refs > 0) {
+                return;
+            }
+
+            leased.remove(producer);
+            if (pooled.key != null) {
+                producers.remove(pooled.key);
+            }
+        }
+
+        // closing may block, thus it is done outside of the lock
+        producer.close();
+    }
+
+    /**
+     * Closes the producers that are still in use, typically because their sinks were
+     * never stopped. Producers acquired afterward are new.
+     */
+    public void close() {
+        List<Producer<String, String>> remaining;
+
+        synchronized (this) {
+            remaining = new ArrayList<>(leased.keySet());
+            leased.clear();
+            producers.clear();
+        }
+
+        for (Producer<String, String> producer : remaining) {
+            try {
+                producer.close();
+            } catch (Exception e) {
+                logger.warn("cannot close producer {}", producer, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of producers currently in use.
+     *
+     * @return the number of producers in use
+     */
+    public synchronized int size() {
+        return leased.size();
+    }
+
+    /**
+     * A producer, with its reference count.
+     */
+    private static class PooledProducer {
+        private final Map<Object, Object> key;
+        private final Producer<String, String> producer;
+        private int refs = 0;
+
+        public PooledProducer(Map<Object, Object> key, Producer<String, String> producer) {
+            this.key = key;
+            this.producer = producer;
+        }
+    }
+}
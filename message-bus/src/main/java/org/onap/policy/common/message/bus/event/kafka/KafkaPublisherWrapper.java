@@ -18,27 +18,71 @@
 
 package org.onap.policy.common.message.bus.event.kafka;
 
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_MAX_IN_FLIGHT;
+
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.kafkaclients.v2_6.KafkaTelemetry;
+import java.util.Map;
 import java.util.Properties;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.onap.policy.common.message.bus.event.RecordAck;
 import org.onap.policy.common.message.bus.event.base.BusPublisher;
+import org.onap.policy.common.message.bus.event.base.KeyStrategy;
+import org.onap.policy.common.message.bus.event.base.RecordKeyMaker;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Kafka based library publisher.
+ *
+ * <p/>By default, each message is flushed as soon as it is sent. In asynchronous mode,
+ * messages are left to the producer's batching (i.e., {@code linger.ms} and
+ * {@code batch.size}), with at most {@code maxInFlight} messages awaiting acknowledgment;
+ * they are only flushed on request, or when the publisher is closed. Messages sent via
+ * {@link #sendAsync(String, String, String)} are never flushed individually, regardless of
+ * the mode.
+ *
+ * <p/>Record keys are chosen according to the {@link KeyStrategy}. The default,
+ * {@link KeyStrategy#RANDOM}, generates a new key for every record, spreading the records
+ * across partitions; the other strategies keep related records in the same partition, so
+ * they are consumed in order.
+ *
+ * <p/>When the producer is obtained from a {@link KafkaProducerPool}, it may be shared with
+ * other publishers, in which case flushing the publisher also flushes their messages.
+ * Closing the publisher waits, for up to {@link #CLOSE_TIMEOUT_MS}, for its own messages
+ * to be acknowledged before the producer is returned to the pool.
  */
 public class KafkaPublisherWrapper implements BusPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaPublisherWrapper.class);
     private static final String KEY_SERIALIZER = "org.apache.kafka.common.serialization.StringSerializer";
 
+    /**
+     * Maximum time, in milliseconds, to wait, when closing, for messages awaiting
+     * acknowledgment.
+     */
+    public static final long CLOSE_TIMEOUT_MS = 30_000L;
+
+    /**
+     * Producer properties that enable tracing. Created once, rather than per publisher, as
+     * they include objects that are not equal across instances, which would otherwise keep
+     * publishers from sharing a pooled producer.
+     */
+    private static Map<String, ?> tracingProps = null;
+
     private final String topic;
 
     /**
@@ -47,18 +91,85 @@ public class KafkaPublisherWrapper implements BusPublisher {
     private final Producer<String, String> producer;
     protected Properties kafkaProps;
 
+    /**
+     * Function used to dispose of the producer when the publisher is closed.
+     */
+    private final Consumer<Producer<String, String>> producerCloser;
+
+    /**
+     * {@code true} if messages are not flushed as they are sent.
+     */
+    @Getter
+    private final boolean asyncPublish;
+
+    /**
+     * Limits the number of messages, sent asynchronously, that are awaiting acknowledgment.
+     */
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    /**
+     * Makes the record keys, according to the key strategy.
+     */
+    private final RecordKeyMaker keyMaker;
+
+    private final LongAdder acked = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
     /**
      * Kafka Publisher Wrapper.
      *
      * @param busTopicParams topic parameters
      */
     public KafkaPublisherWrapper(BusTopicParams busTopicParams) {
+        this(busTopicParams, KafkaProducer::new);
+    }
+
+    /**
+     * Kafka Publisher Wrapper, whose producer is obtained from a pool, allowing it to be
+     * shared with other publishers.
+     *
+     * @param busTopicParams topic parameters
+     * @param producerPool pool from which to obtain the producer
+     */
+    public KafkaPublisherWrapper(BusTopicParams busTopicParams, KafkaProducerPool producerPool) {
+        this(busTopicParams, producerPool::acquire, producerPool::release);
+    }
+
+    /**
+     * Kafka Publisher Wrapper.
+     *
+     * @param busTopicParams topic parameters
+     * @param producerFactory function used to create the producer from the kafka properties
+     */
+    protected KafkaPublisherWrapper(BusTopicParams busTopicParams,
+                    Function<Properties, Producer<String, String>> producerFactory) {
+        this(busTopicParams, producerFactory, Producer::close);
+    }
+
+    /**
+     * Kafka Publisher Wrapper.
+     *
+     * @param busTopicParams topic parameters
+     * @param producerFactory function used to create the producer from the kafka properties
+     * @param producerCloser function used to dispose of the producer when the publisher is
+     *        closed
+     */
+    protected KafkaPublisherWrapper(BusTopicParams busTopicParams,
+                    Function<Properties, Producer<String, String>> producerFactory,
+                    Consumer<Producer<String, String>> producerCloser) {
 
         if (busTopicParams.isTopicInvalid()) {
             throw new IllegalArgumentException("No topic for Kafka");
         }
 
         this.topic = busTopicParams.getTopic();
+        this.asyncPublish = busTopicParams.isAsyncPublish();
+        this.maxInFlight = (busTopicParams.getMaxInFlight() > 0 ? busTopicParams.getMaxInFlight()
+                        : DEFAULT_MAX_IN_FLIGHT);
+        this.inFlight = new Semaphore(maxInFlight);
+
+        this.keyMaker = new RecordKeyMaker(busTopicParams);
 
         // Setup Properties for consumer
         kafkaProps = new Properties();
@@ -76,11 +187,24 @@ public class KafkaPublisherWrapper implements BusPublisher {
         }
 
         if (busTopicParams.isAllowTracing()) {
-            KafkaTelemetry telemetry = KafkaTelemetry.create(GlobalOpenTelemetry.get());
-            kafkaProps.putAll(telemetry.producerInterceptorConfigProperties());
+            kafkaProps.putAll(getTracingProps());
+        }
+
+        this.producerCloser = producerCloser;
+        this.producer = producerFactory.apply(kafkaProps);
+    }
+
+    /**
+     * Gets the producer properties that enable tracing, creating them the first time.
+     *
+     * @return the tracing properties
+     */
+    private static synchronized Map<String, ?> getTracingProps() {
+        if (tracingProps == null) {
+            tracingProps = KafkaTelemetry.create(GlobalOpenTelemetry.get()).producerInterceptorConfigProperties();
         }
 
-        producer = new KafkaProducer<>(kafkaProps);
+        return tracingProps;
     }
 
     @Override
@@ -89,12 +213,16 @@ public class KafkaPublisherWrapper implements BusPublisher {
             throw new IllegalArgumentException(NO_MESSAGE_PROVIDED);
         }
 
+        if (asyncPublish) {
+            return !sendAsync(partitionId, null, message).isCompletedExceptionally();
+        }
+
         try {
             // Create the record
             ProducerRecord<String, String> producerRecord =
-                new ProducerRecord<>(topic, UUID.randomUUID().toString(), message);
+                new ProducerRecord<>(topic, makeKey(partitionId, message), message);
 
-            this.producer.send(producerRecord);
+            this.producer.send(producerRecord, this::onCompletion);
             producer.flush();
         } catch (Exception e) {
             logger.warn("{}: SEND of {} cannot be performed because of {}", this, message, e.getMessage(), e);
@@ -103,20 +231,179 @@ public class KafkaPublisherWrapper implements BusPublisher {
         return true;
     }
 
+    /**
+     * Sends a message without flushing it, waiting if too many messages are already
+     * awaiting acknowledgment.
+     *
+     * @param partitionId the sink's partition key
+     * @param key key of the record, or {@code null} to choose one using the key strategy
+     * @param message the message
+     * @return a future that completes when the broker acknowledges the message
+     */
+    @Override
+    public CompletableFuture<RecordAck> sendAsync(String partitionId, String key, String message) {
+        if (message == null) {
+            throw new IllegalArgumentException(NO_MESSAGE_PROVIDED);
+        }
+
+        try {
+            inFlight.acquire();
+
+        } catch (InterruptedException e) {
+            logger.warn("{}: SEND of {} interrupted", this, message);
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        var future = new CompletableFuture<RecordAck>();
+
+        try {
+            ProducerRecord<String, String> producerRecord =
+                new ProducerRecord<>(topic, (key != null ? key : makeKey(partitionId, message)), message);
+
+            Callback callback = (metadata, exception) -> {
+                inFlight.release();
+                onCompletion(metadata, exception);
+
+                if (exception == null) {
+                    future.complete(makeAck(metadata));
+                } else {
+                    future.completeExceptionally(exception);
+                }
+            };
+
+            this.producer.send(producerRecord, callback);
+
+        } catch (Exception e) {
+            inFlight.release();
+            failed.increment();
+            logger.warn("{}: SEND of {} cannot be performed because of {}", this, message, e.getMessage(), e);
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Makes the key of a record, according to the key strategy.
+     *
+     * @param partitionId the sink's partition key
+     * @param message the message
+     * @return the record key, or {@code null} if the record is to have no key
+     */
+    protected String makeKey(String partitionId, String message) {
+        return keyMaker.makeKey(partitionId, message);
+    }
+
+    /**
+     * Gets the strategy by which record keys are chosen.
+     *
+     * @return the key strategy
+     */
+    public KeyStrategy getKeyStrategy() {
+        return keyMaker.getKeyStrategy();
+    }
+
+    /**
+     * Makes an acknowledgment from the metadata returned by the broker.
+     *
+     * @param metadata metadata of the record that was sent, may be {@code null}
+     * @return a new acknowledgment
+     */
+    private RecordAck makeAck(RecordMetadata metadata) {
+        if (metadata == null) {
+            return new RecordAck(topic);
+        }
+
+        return new RecordAck(metadata.topic(), metadata.partition(),
+                        (metadata.hasOffset() ? metadata.offset() : RecordAck.UNKNOWN),
+                        (metadata.hasTimestamp() ? metadata.timestamp() : RecordAck.UNKNOWN));
+    }
+
+    /**
+     * Invoked when the broker acknowledges a message, or the message cannot be sent.
+     *
+     * @param metadata metadata of the record that was sent
+     * @param exception exception that occurred, or {@code null} if the send succeeded
+     */
+    private void onCompletion(RecordMetadata metadata, Exception exception) {
+        if (exception == null) {
+            acked.increment();
+        } else {
+            failed.increment();
+            logger.warn("{}: SEND failed because of {}", this, exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            this.producer.flush();
+        } catch (Exception e) {
+            logger.warn("{}: FLUSH FAILED because of {}", this, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the number of messages that have been acknowledged by the broker.
+     *
+     * @return the number of messages acknowledged
+     */
+    public long getAckedCount() {
+        return acked.sum();
+    }
+
+    /**
+     * Gets the number of messages that could not be sent.
+     *
+     * @return the number of messages that failed
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
     @Override
     public void close() {
         logger.info(LOG_CLOSE, this);
 
+        awaitInFlight();
+
         try {
-            this.producer.close();
+            this.producerCloser.accept(this.producer);
         } catch (Exception e) {
             logger.warn("{}: CLOSE FAILED because of {}", this, e.getMessage(), e);
         }
     }
 
+    /**
+     * Flushes the messages awaiting acknowledgment and waits for them to be acknowledged,
+     * so they are not lost when the producer is closed or, if it is shared, returned to
+     * the pool.
+     */
+    private void awaitInFlight() {
+        if (inFlight.availablePermits() >= maxInFlight) {
+            return;
+        }
+
+        flush();
+
+        try {
+            if (inFlight.tryAcquire(maxInFlight, CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                inFlight.release(maxInFlight);
+            } else {
+                logger.warn("{}: CLOSE with {} messages still awaiting acknowledgment", this,
+                                maxInFlight - inFlight.availablePermits());
+            }
+
+        } catch (InterruptedException e) {
+            logger.warn("{}: CLOSE interrupted while awaiting acknowledgments", this);
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     public String toString() {
-        return "KafkaPublisherWrapper []";
+        return "KafkaPublisherWrapper [asyncPublish=" + asyncPublish + ", keyStrategy=" + getKeyStrategy() + "]";
     }
 
 }
@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022, 2024 Nordix Foundation.
+ * Copyright (C) 2022, 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,4 +25,23 @@ import org.onap.policy.common.message.bus.event.base.BusTopicSink;
  */
 public interface KafkaTopicSink extends BusTopicSink {
 
+    /**
+     * Blocks until all messages that have been sent are acknowledged, or have failed.
+     */
+    void flush();
+
+    /**
+     * Gets the number of messages acknowledged since the sink was last started.
+     *
+     * @return the number of messages acknowledged
+     */
+    long getAckedCount();
+
+    /**
+     * Gets the number of messages that could not be delivered since the sink was last
+     * started.
+     *
+     * @return the number of messages that failed
+     */
+    long getFailedCount();
 }
@@ -0,0 +1,379 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_MAX_PENDING_RECORDS;
+
+import io.opentelemetry.context.Scope;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.onap.policy.common.message.bus.event.base.BusConsumer;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.KafkaConsumerWrapper;
+import org.onap.policy.common.message.bus.event.base.TracedRecords;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This topic source implementation reads messages over a Kafka topic with a single poller
+ * thread, but notifies its listeners from a pool of worker threads. Records are assigned
+ * to workers by partition, thus messages within a partition are still delivered in order.
+ * Offsets are only committed once the records have been processed, and only for
+ * partitions that are still assigned to this consumer. When the source is stopped, the
+ * poller stops fetching and then waits, for a bounded time, for the workers to finish the
+ * records they are processing, and commits their offsets before closing the consumer.
+ *
+ * <p/>The poller does not wait for the workers to process the records it hands to them.
+ * Instead, once the number of records awaiting processing reaches a high-water mark, the
+ * poller pauses fetching, resuming once the workers have drained half of them. The poller
+ * continues to poll while paused, thus the consumer remains in its group.
+ */
+public class PartitionedKafkaTopicSource extends SingleThreadedKafkaTopicSource {
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedKafkaTopicSource.class);
+
+    /**
+     * Maximum time, in milliseconds, to wait for the workers to finish when the source is
+     * stopped.
+     */
+    protected static final long WORKER_SHUTDOWN_MS = 5000;
+
+    /**
+     * Number of threads used to dispatch records to the listeners.
+     */
+    @Getter
+    protected final int partitionWorkers;
+
+    /**
+     * Number of records awaiting processing above which fetching is paused.
+     */
+    @Getter
+    protected final int maxPendingRecords;
+
+    /**
+     * Number of records that have been handed to the workers, but not yet processed.
+     */
+    protected final AtomicInteger pendingRecords = new AtomicInteger();
+
+    /**
+     * Offsets of the records that have been processed, but not yet committed.
+     */
+    protected final Map<TopicPartition, OffsetAndMetadata> processed = new ConcurrentHashMap<>();
+
+    /**
+     * Number of records that have been processed, but whose offsets have not yet been
+     * committed.
+     */
+    private final AtomicInteger processedRecords = new AtomicInteger();
+
+    /**
+     * Partitions currently assigned to the consumer, as reported to the
+     * {@link RevocationListener}. Mirrors the consumer's assignment, but, unlike the
+     * consumer, may be examined from any thread.
+     */
+    protected final Set<TopicPartition> assigned = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Worker threads, each of which processes the records of a subset of the partitions.
+     * Only used by the poller thread.
+     */
+    private volatile ExecutorService[] workers;
+
+    /**
+     * Constructor.
+     *
+     * @param busTopicParams Parameters object containing all the required inputs
+     * @throws IllegalArgumentException An invalid parameter passed in
+     */
+    public PartitionedKafkaTopicSource(BusTopicParams busTopicParams) {
+        super(busTopicParams);
+        this.partitionWorkers = Math.max(1, busTopicParams.getPartitionWorkers());
+        this.maxPendingRecords = (busTopicParams.getMaxPendingRecords() > 0 ? busTopicParams.getMaxPendingRecords()
+                        : DEFAULT_MAX_PENDING_RECORDS);
+    }
+
+    /**
+     * Initialize the client.
+     */
+    @Override
+    public void init() {
+        // offsets are committed by this source, once the records have been processed
+        Map<String, String> props = new HashMap<>();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        if (this.additionalProps != null) {
+            props.putAll(this.additionalProps);
+        }
+
+        this.consumer = new KafkaConsumerWrapper(makeConsumerParams()
+                .additionalProps(props)
+                .build(), new RevocationListener());
+    }
+
+    /**
+     * Fetches records until the source is stopped. Once the poller has stopped fetching,
+     * it waits for the workers to finish the records they are processing, hands their
+     * offsets to the consumer, and closes the consumer, which commits them.
+     */
+    @Override
+    public void run() {
+        pendingRecords.set(0);
+
+        // a restarted source has its own workers, thus this poller only uses these
+        ExecutorService[] pollerWorkers = makeWorkers();
+        this.workers = pollerWorkers;
+
+        BusConsumer pollerConsumer = this.consumer;
+
+        try {
+            fetchWhileAlive(pollerConsumer);
+
+        } finally {
+            // workers stop processing records once the source is no longer alive
+            awaitWorkers(pollerWorkers);
+
+            if (pollerConsumer instanceof KafkaConsumerWrapper kafkaConsumer) {
+                kafkaConsumer.commitLater(drainProcessed());
+            }
+
+            closeConsumer(pollerConsumer);
+            logger.info("{}: exiting thread", this);
+        }
+    }
+
+    /**
+     * Shuts down the workers and waits for them to finish, for a bounded time. Invoked by
+     * the poller thread, once it has stopped handing records to the workers.
+     *
+     * @param workersCopy workers to be shut down
+     */
+    private void awaitWorkers(ExecutorService[] workersCopy) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WORKER_SHUTDOWN_MS);
+
+        for (ExecutorService worker : workersCopy) {
+            worker.shutdown();
+        }
+
+        try {
+            for (ExecutorService worker : workersCopy) {
+                if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    logger.warn("{}: workers did not finish within {}ms", this, WORKER_SHUTDOWN_MS);
+                    return;
+                }
+            }
+
+        } catch (InterruptedException e) {
+            logger.warn("{}: interrupted while waiting for the workers to finish", this, e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Makes the worker threads.
+     *
+     * @return the worker threads
+     */
+    protected ExecutorService[] makeWorkers() {
+        var threads = new ExecutorService[partitionWorkers];
+        for (var index = 0; index < threads.length; ++index) {
+            final String name = getTopicCommInfrastructure() + "-source-" + getTopic() + "-worker-" + index;
+            threads[index] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name));
+        }
+
+        return threads;
+    }
+
+    @Override
+    protected void fetchAllMessages() {
+        var kafkaConsumer = (KafkaConsumerWrapper) this.consumer;
+
+        long start = System.nanoTime();
+        ConsumerRecords<String, String> records = kafkaConsumer.poll();
+        this.metrics.recordPoll(System.nanoTime() - start, records.count());
+
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+            pendingRecords.addAndGet(partitionRecords.size());
+
+            ExecutorService worker = workers[Math.floorMod(partition.partition(), workers.length)];
+            worker.execute(() -> processRecords(partition, partitionRecords));
+        }
+
+        kafkaConsumer.commit(drainProcessed(), processedRecords.getAndSet(0));
+
+        applyBackpressure(kafkaConsumer);
+    }
+
+    /**
+     * Pauses fetching when too many records are awaiting processing, and resumes it once
+     * enough of them have been processed.
+     *
+     * @param kafkaConsumer consumer to be paused or resumed
+     */
+    protected void applyBackpressure(KafkaConsumerWrapper kafkaConsumer) {
+        int pending = pendingRecords.get();
+
+        if (kafkaConsumer.isPaused()) {
+            if (pending <= maxPendingRecords / 2) {
+                logger.debug("{}: resuming fetch with {} records pending", this, pending);
+                kafkaConsumer.resume();
+            }
+
+        } else if (pending >= maxPendingRecords) {
+            logger.debug("{}: pausing fetch with {} records pending", this, pending);
+            kafkaConsumer.pause();
+        }
+    }
+
+    /**
+     * Processes the records of a partition, in order, and records the offset of the last
+     * record that was processed.
+     *
+     * @param partition partition from which the records were fetched
+     * @param partitionRecords records to be processed
+     */
+    protected void processRecords(TopicPartition partition, List<ConsumerRecord<String, String>> partitionRecords) {
+        if (hasBatchListeners()) {
+            processBatch(partition, partitionRecords);
+            return;
+        }
+
+        for (ConsumerRecord<String, String> partitionRecord : partitionRecords) {
+            if (!this.alive) {
+                return;
+            }
+
+            String event = partitionRecord.value();
+
+            this.addRecentEvent(event);
+
+            this.metrics.recordIn(event);
+            NetLoggerUtil.log(EventType.IN, this.getTopicCommInfrastructure(), this.topic, event);
+
+            Scope scope = (this.allowTracing ? TracedRecords.activate(partitionRecord.headers()) : Scope.noop());
+            try (scope) {
+                broadcast(event);
+
+            } finally {
+                processed.put(partition, new OffsetAndMetadata(partitionRecord.offset() + 1));
+                processedRecords.incrementAndGet();
+                pendingRecords.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Processes the records of a partition as a single batch.
+     *
+     * @param partition partition from which the records were fetched
+     * @param partitionRecords records to be processed
+     */
+    private void processBatch(TopicPartition partition, List<ConsumerRecord<String, String>> partitionRecords) {
+        if (!this.alive || partitionRecords.isEmpty()) {
+            return;
+        }
+
+        List<String> events = new TracedRecords(partitionRecords);
+
+        try {
+            broadcastBatch(events);
+
+        } finally {
+            long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+            processed.put(partition, new OffsetAndMetadata(lastOffset + 1));
+            processedRecords.addAndGet(events.size());
+            pendingRecords.addAndGet(-events.size());
+        }
+    }
+
+    /**
+     * Removes the offsets of the processed records, so they can be committed. Offsets of
+     * partitions that are no longer assigned to the consumer (e.g., because a worker
+     * finished after the partition was revoked) are discarded, as committing them could
+     * move the position of the partition's new owner.
+     *
+     * @return the offsets to be committed, by partition
+     */
+    protected Map<TopicPartition, OffsetAndMetadata> drainProcessed() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : new ArrayList<>(processed.keySet())) {
+            OffsetAndMetadata offset = processed.remove(partition);
+            if (offset == null) {
+                continue;
+            }
+
+            if (assigned.contains(partition)) {
+                offsets.put(partition, offset);
+            } else {
+                logger.debug("{}: discarding offset {} of revoked partition {}", this, offset, partition);
+            }
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Hands the offsets of the records processed so far to the consumer, before its
+     * partitions are revoked, so they can be committed while it still owns them, and
+     * tracks the partitions that are assigned to the consumer.
+     */
+    protected class RevocationListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            try {
+                ((KafkaConsumerWrapper) consumer).commit(drainProcessed(), processedRecords.getAndSet(0));
+
+            } finally {
+                assigned.removeAll(partitions);
+                processed.keySet().removeAll(partitions);
+            }
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // discard anything left over from a previous assignment
+            processed.keySet().removeAll(partitions);
+            assigned.addAll(partitions);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedKafkaTopicSource [getTopicCommInfrastructure()=" + getTopicCommInfrastructure()
+            + ", partitionWorkers=" + partitionWorkers + ", maxPendingRecords=" + maxPendingRecords
+            + ", toString()=" + super.toString() + "]";
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.KafkaConsumerWrapper;
+import org.onap.policy.common.message.bus.event.base.ConsumerStats;
+import org.onap.policy.common.message.bus.event.base.TracedRecords;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single Kafka consumer, subscribed to the topics of several sources belonging to the
+ * same consumer group. One thread polls the consumer, and dispatches each record to the
+ * source whose topic it came from. The consumer is created, using the settings of the
+ * source, when the first source is attached, and is closed when the last source is
+ * detached. In between, the subscription is updated as sources come and go.
+ */
+public class SharedKafkaConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(SharedKafkaConsumer.class);
+
+    /**
+     * Consumer group shared by the sources.
+     */
+    @Getter
+    private final String consumerGroup;
+
+    /**
+     * Sources that are currently attached, keyed by effective topic.
+     */
+    private final Map<String, SharedKafkaTopicSource> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Current poller, or {@code null} if no sources are attached.
+     */
+    private Poller poller;
+
+    /**
+     * Constructs the object.
+     *
+     * @param consumerGroup consumer group shared by the sources
+     */
+    public SharedKafkaConsumer(String consumerGroup) {
+        this.consumerGroup = consumerGroup;
+    }
+
+    /**
+     * Attaches a source, adding its topic to the subscription. Starts polling if this is
+     * the first source.
+     *
+     * @param source source to be attached
+     * @throws IllegalStateException if another source, having the same effective topic, is
+     *         already attached
+     */
+    public synchronized void attach(SharedKafkaTopicSource source) {
+        SharedKafkaTopicSource prev = sources.putIfAbsent(source.getEffectiveTopic(), source);
+        if (prev == source) {
+            return;
+        }
+
+        if (prev != null) {
+            throw new IllegalStateException(this + ": topic " + source.getEffectiveTopic() + " is already attached");
+        }
+
+        if (poller == null) {
+            try {
+                poller = new Poller(makeConsumer(source));
+            } catch (RuntimeException e) {
+                sources.remove(source.getEffectiveTopic());
+                throw e;
+            }
+
+            poller.thread.start();
+
+        } else {
+            poller.resubscribe();
+        }
+    }
+
+    /**
+     * Detaches a source, removing its topic from the subscription. Stops polling, and
+     * closes the consumer, if this is the last source.
+     *
+     * @param source source to be detached
+     */
+    public synchronized void detach(SharedKafkaTopicSource source) {
+        if (!sources.remove(source.getEffectiveTopic(), source) || poller == null) {
+            return;
+        }
+
+        if (sources.isEmpty()) {
+            poller.stop();
+            poller = null;
+
+        } else {
+            poller.resubscribe();
+        }
+    }
+
+    /**
+     * Determines if the consumer is currently being polled.
+     *
+     * @return {@code true} if the consumer is being polled, {@code false} otherwise
+     */
+    public synchronized boolean isPolling() {
+        return (poller != null);
+    }
+
+    /**
+     * Gets the statistics of the consumer currently being polled.
+     *
+     * @return the consumer's statistics, or {@code null} if the consumer is not being
+     *         polled
+     */
+    public synchronized ConsumerStats getStats() {
+        return (poller != null ? poller.consumer.getStats() : null);
+    }
+
+    /**
+     * Dispatches records to the sources of their respective topics. Only the offsets of
+     * records that were handed to a source are committed. Records that could not be
+     * handed off (e.g., because their source has since been detached or stopped) are not
+     * committed; instead, their partition is rewound so they can be fetched again, by
+     * this consumer or by whichever consumer is assigned the partition next.
+     *
+     * @param consumer consumer from which the records were fetched
+     * @param records records to be dispatched
+     * @return the offsets to be committed, by partition
+     */
+    protected Map<TopicPartition, OffsetAndMetadata> dispatch(KafkaConsumerWrapper consumer,
+                    ConsumerRecords<String, String> records) {
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+
+            if (deliver(partition, partitionRecords)) {
+                long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+                offsets.put(partition, new OffsetAndMetadata(lastOffset + 1));
+
+            } else {
+                rewind(consumer, partition, partitionRecords.get(0).offset());
+            }
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Hands a partition's records to the source of their topic.
+     *
+     * @param partition partition from which the records were fetched
+     * @param partitionRecords records to be delivered
+     * @return {@code true} if the records were handed to the source, {@code false} if
+     *         they were discarded
+     */
+    private boolean deliver(TopicPartition partition, List<ConsumerRecord<String, String>> partitionRecords) {
+        SharedKafkaTopicSource source = sources.get(partition.topic());
+        if (source == null) {
+            logger.warn("{}: discarding {} records from detached topic {}", this, partitionRecords.size(),
+                            partition.topic());
+            return false;
+        }
+
+        try {
+            if (source.onRecords(new TracedRecords(partitionRecords))) {
+                return true;
+            }
+
+            logger.warn("{}: discarding {} records, as {} is not alive", this, partitionRecords.size(), source);
+
+        } catch (RuntimeException e) {
+            logger.warn("{}: cannot deliver records to {}", this, source, e);
+        }
+
+        return false;
+    }
+
+    /**
+     * Rewinds a partition to the first of the records that were discarded.
+     *
+     * @param consumer consumer from which the records were fetched
+     * @param partition partition to be rewound
+     * @param offset offset of the first record that was discarded
+     */
+    private void rewind(KafkaConsumerWrapper consumer, TopicPartition partition, long offset) {
+        try {
+            consumer.seek(partition, offset);
+
+        } catch (RuntimeException e) {
+            // the partition is no longer assigned - its next owner will resume from the committed offset
+            logger.warn("{}: cannot rewind {} to offset {}", this, partition, offset, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SharedKafkaConsumer [consumerGroup=" + consumerGroup + ", topics=" + sources.keySet() + "]";
+    }
+
+    // these may be overridden by junit tests
+
+    protected KafkaConsumerWrapper makeConsumer(SharedKafkaTopicSource source) {
+        return source.makeSharedConsumer();
+    }
+
+    /**
+     * Polls a consumer, until stopped. A new poller is created each time polling starts,
+     * so that a poller that is still shutting down never polls the consumer of its
+     * successor.
+     */
+    private class Poller implements Runnable {
+        private final KafkaConsumerWrapper consumer;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean resubscribe = true;
+
+        public Poller(KafkaConsumerWrapper consumer) {
+            this.consumer = consumer;
+            this.thread = new Thread(this, "KAFKA-source-shared-" + consumerGroup);
+        }
+
+        /**
+         * Asks the poller to update the consumer's subscription.
+         */
+        public void resubscribe() {
+            resubscribe = true;
+            consumer.wakeup();
+        }
+
+        /**
+         * Asks the poller to stop and close the consumer.
+         */
+        public void stop() {
+            running = false;
+            consumer.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    pollOnce();
+                }
+
+            } finally {
+                try {
+                    consumer.close();
+                } catch (RuntimeException e) {
+                    logger.warn("{}: cannot close consumer", SharedKafkaConsumer.this, e);
+                }
+
+                logger.info("{}: exiting thread", SharedKafkaConsumer.this);
+            }
+        }
+
+        private void pollOnce() {
+            try {
+                if (resubscribe) {
+                    resubscribe = false;
+                    consumer.subscribe(new ArrayList<>(sources.keySet()));
+                }
+
+                ConsumerRecords<String, String> records = consumer.poll();
+                consumer.commit(dispatch(consumer, records), records.count());
+
+            } catch (WakeupException e) {
+                logger.debug("{}: poll interrupted", SharedKafkaConsumer.this);
+
+            } catch (RuntimeException e) {
+                logger.error("{}: cannot fetch", SharedKafkaConsumer.this, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import java.util.List;
+import org.onap.policy.common.gson.annotation.GsonJsonIgnore;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.KafkaConsumerWrapper;
+import org.onap.policy.common.message.bus.event.base.ConsumerStats;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This topic source implementation does not have its own consumer or poller thread.
+ * Instead, it is served by a {@link SharedKafkaConsumer}, along with the other sources of
+ * its consumer group, which delivers the records of this source's topic to it.
+ */
+public class SharedKafkaTopicSource extends SingleThreadedKafkaTopicSource {
+    private static final Logger logger = LoggerFactory.getLogger(SharedKafkaTopicSource.class);
+
+    /**
+     * Consumer serving this source.
+     */
+    private final SharedKafkaConsumer sharedConsumer;
+
+    /**
+     * Constructor.
+     *
+     * @param busTopicParams Parameters object containing all the required inputs
+     * @param sharedConsumer consumer serving this source
+     * @throws IllegalArgumentException An invalid parameter passed in
+     */
+    public SharedKafkaTopicSource(BusTopicParams busTopicParams, SharedKafkaConsumer sharedConsumer) {
+        super(busTopicParams);
+        this.sharedConsumer = sharedConsumer;
+    }
+
+    /**
+     * Does nothing, as the consumer is created by the shared consumer.
+     */
+    @Override
+    public void init() {
+        // do nothing
+    }
+
+    /**
+     * Makes a consumer to be used by the shared consumer, subscribed to this source's
+     * topic and configured with this source's settings.
+     *
+     * @return a new consumer
+     */
+    protected KafkaConsumerWrapper makeSharedConsumer() {
+        return new KafkaConsumerWrapper(makeConsumerParams()
+                        .additionalProps(this.additionalProps)
+                        .build());
+    }
+
+    /**
+     * Delivers records fetched by the shared consumer to the listeners.
+     *
+     * @param events events to be delivered
+     * @return {@code true} if the events were delivered, {@code false} if they were
+     *         discarded, because the source is not alive
+     */
+    boolean onRecords(List<String> events) {
+        if (!this.alive) {
+            return false;
+        }
+
+        deliver(events);
+        return true;
+    }
+
+    @Override
+    public boolean start() {
+        logger.info("{}: starting", this);
+
+        synchronized (this) {
+            if (alive) {
+                return true;
+            }
+
+            if (locked) {
+                throw new IllegalStateException(this + " is locked.");
+            }
+
+            // must be alive before the shared consumer can dispatch records to it
+            this.alive = true;
+
+            try {
+                sharedConsumer.attach(this);
+                return true;
+
+            } catch (RuntimeException e) {
+                this.alive = false;
+                throw new IllegalStateException(this + ": cannot start", e);
+            }
+        }
+    }
+
+    @Override
+    public boolean stop() {
+        logger.info("{}: stopping", this);
+
+        synchronized (this) {
+            this.alive = false;
+            sharedConsumer.detach(this);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void run() {
+        // do nothing - records are delivered by the shared consumer
+    }
+
+    @GsonJsonIgnore
+    @Override
+    public ConsumerStats getConsumerStats() {
+        return sharedConsumer.getStats();
+    }
+
+    @Override
+    public String toString() {
+        return "SharedKafkaTopicSource [sharedConsumer=" + sharedConsumer + ", toString()=" + super.toString() + "]";
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,8 +20,10 @@ package org.onap.policy.common.message.bus.event.kafka;
 
 import java.util.Map;
 import org.onap.policy.common.message.bus.event.Topic;
+import org.onap.policy.common.message.bus.event.base.BusClient;
 import org.onap.policy.common.message.bus.event.base.BusConsumer;
 import org.onap.policy.common.message.bus.event.base.SingleThreadedBusTopicSource;
+import org.onap.policy.common.message.bus.event.memory.InMemoryBusConsumer;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 
 /**
@@ -32,6 +34,18 @@ public class SingleThreadedKafkaTopicSource extends SingleThreadedBusTopicSource
 
     protected Map<String, String> additionalProps = null;
 
+    /**
+     * How offsets are committed, along with the limits used when committing periodically.
+     */
+    protected String commitStrategy;
+    protected int commitIntervalMs;
+    protected int commitMaxRecords;
+
+    /**
+     * Client through which the bus is reached.
+     */
+    protected String busClient;
+
     /**
      * Constructor.
      *
@@ -41,6 +55,10 @@ public class SingleThreadedKafkaTopicSource extends SingleThreadedBusTopicSource
     public SingleThreadedKafkaTopicSource(BusTopicParams busTopicParams) {
         super(busTopicParams);
         this.additionalProps = busTopicParams.getAdditionalProps();
+        this.commitStrategy = busTopicParams.getCommitStrategy();
+        this.commitIntervalMs = busTopicParams.getCommitIntervalMs();
+        this.commitMaxRecords = busTopicParams.getCommitMaxRecords();
+        this.busClient = busTopicParams.getBusClient();
         try {
             this.init();
         } catch (Exception e) {
@@ -53,17 +71,33 @@ public class SingleThreadedKafkaTopicSource extends SingleThreadedBusTopicSource
      */
     @Override
     public void init() {
-        BusTopicParams.TopicParamsBuilder builder = BusTopicParams.builder()
+        if (BusClient.of(this.busClient) == BusClient.MEMORY) {
+            this.consumer = new InMemoryBusConsumer(makeConsumerParams().build());
+            return;
+        }
+
+        this.consumer = new BusConsumer.KafkaConsumerWrapper(makeConsumerParams()
+                        .additionalProps(this.additionalProps)
+                        .build());
+    }
+
+    /**
+     * Makes a builder, populated with the parameters of the consumer.
+     *
+     * @return a new builder
+     */
+    protected BusTopicParams.TopicParamsBuilder makeConsumerParams() {
+        return BusTopicParams.builder()
                 .servers(this.servers)
                 .topic(this.effectiveTopic)
                 .fetchTimeout(this.fetchTimeout)
+                .fetchLimit(this.fetchLimit)
                 .consumerGroup(this.consumerGroup)
                 .useHttps(this.useHttps)
-                .allowTracing(this.allowTracing);
-
-        this.consumer = new BusConsumer.KafkaConsumerWrapper(builder
-                        .additionalProps(this.additionalProps)
-                        .build());
+                .allowTracing(this.allowTracing)
+                .commitStrategy(this.commitStrategy)
+                .commitIntervalMs(this.commitIntervalMs)
+                .commitMaxRecords(this.commitMaxRecords);
     }
 
     @Override
@@ -0,0 +1,589 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.memory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.Setter;
+import org.onap.policy.common.message.bus.event.RecordAck;
+
+/**
+ * In-memory stand-in for a message bus broker, allowing the fetch loop, offset commits and
+ * backoff logic of a source, and the publishing path of a sink, to be exercised without a
+ * live cluster. Each topic is divided into partitions, each holding a log of records that
+ * are addressed by offset. The members of a consumer group divide a topic's partitions
+ * among themselves, and the offsets they commit outlive them, thus a member that joins
+ * later resumes where the group left off.
+ *
+ * <p/>Each partition retains a bounded number of records, discarding the oldest as new
+ * ones are appended, thus a broker may be used for long-running load tests. As with a
+ * real broker, a consumer whose position has fallen behind the oldest record retained
+ * resumes from the oldest record.
+ *
+ * <p/>Latency can be injected into publishing and fetching, and fetches can be made to
+ * fail.
+ */
+public class InMemoryBroker {
+
+    /**
+     * Default number of partitions given to topics that are created implicitly.
+     */
+    public static final int DEFAULT_PARTITIONS = 1;
+
+    /**
+     * Default maximum number of records retained by each partition.
+     */
+    public static final int DEFAULT_RETENTION = 100_000;
+
+    /**
+     * Brokers shared within the JVM, keyed by name.
+     */
+    private static final Map<String, InMemoryBroker> brokers = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String name;
+
+    /**
+     * Number of partitions given to topics that are created implicitly, when they are
+     * first published to or fetched from.
+     */
+    @Getter
+    @Setter
+    private volatile int defaultPartitions = DEFAULT_PARTITIONS;
+
+    /**
+     * Maximum number of records retained by each partition of the topics created
+     * hereafter.
+     */
+    @Getter
+    private volatile int retention = DEFAULT_RETENTION;
+
+    /**
+     * Time, in milliseconds, by which each publish is delayed.
+     */
+    @Getter
+    @Setter
+    private volatile long publishLatencyMs;
+
+    /**
+     * Time, in milliseconds, by which each fetch is delayed.
+     */
+    @Getter
+    @Setter
+    private volatile long fetchLatencyMs;
+
+    /**
+     * Number of upcoming fetches that are to fail.
+     */
+    private final AtomicInteger fetchFailures = new AtomicInteger();
+
+    private final Map<String, MemoryTopic> topics = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the object.
+     *
+     * @param name name of the broker
+     */
+    public InMemoryBroker(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the broker having the given name, creating it if it doesn't exist yet. Clients
+     * use the first of their servers as the broker name, thus clients configured with the
+     * same servers reach the same broker.
+     *
+     * @param name name of the broker
+     * @return the broker
+     */
+    public static InMemoryBroker getInstance(String name) {
+        return brokers.computeIfAbsent(name, InMemoryBroker::new);
+    }
+
+    /**
+     * Gets the broker named by the first of a client's servers.
+     *
+     * @param servers the client's servers
+     * @return the broker, or {@code null} if there are no servers
+     */
+    public static InMemoryBroker getInstance(List<String> servers) {
+        return (servers == null || servers.isEmpty() ? null : getInstance(servers.get(0)));
+    }
+
+    /**
+     * Sets the maximum number of records retained by each partition of the topics created
+     * hereafter.
+     *
+     * @param retention maximum number of records to be retained by each partition
+     * @throws IllegalArgumentException if the retention is less than one
+     */
+    public void setRetention(int retention) {
+        if (retention < 1) {
+            throw new IllegalArgumentException("invalid retention " + retention);
+        }
+
+        this.retention = retention;
+    }
+
+    /**
+     * Discards all of the shared brokers, along with their records.
+     */
+    public static void clearInstances() {
+        brokers.clear();
+    }
+
+    /**
+     * Creates a topic, if it doesn't exist yet.
+     *
+     * @param topic topic to be created
+     * @param partitions number of partitions to give the topic
+     * @return the number of partitions of the topic, which may differ from the number
+     *         requested, if the topic already existed
+     * @throws IllegalArgumentException if the number of partitions is less than one
+     */
+    public int createTopic(String topic, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("invalid partition count " + partitions + " for topic " + topic);
+        }
+
+        return topics.computeIfAbsent(topic, key -> new MemoryTopic(partitions, retention)).getPartitionCount();
+    }
+
+    /**
+     * Gets the number of partitions of a topic, creating the topic if it doesn't exist yet.
+     *
+     * @param topic topic of interest
+     * @return the number of partitions of the topic
+     */
+    public int getPartitionCount(String topic) {
+        return getTopic(topic).getPartitionCount();
+    }
+
+    /**
+     * Gets the offset that the next record published to a partition will be given.
+     *
+     * @param topic topic of interest
+     * @param partition partition of interest
+     * @return the end offset of the partition
+     */
+    public long getEndOffset(String topic, int partition) {
+        return getTopic(topic).getEndOffset(partition);
+    }
+
+    /**
+     * Gets the offset of the oldest record retained by a partition.
+     *
+     * @param topic topic of interest
+     * @param partition partition of interest
+     * @return the base offset of the partition
+     */
+    public long getBaseOffset(String topic, int partition) {
+        return getTopic(topic).getBaseOffset(partition);
+    }
+
+    /**
+     * Gets the offset a consumer group has committed for a partition.
+     *
+     * @param group consumer group of interest
+     * @param topic topic of interest
+     * @param partition partition of interest
+     * @return the committed offset, or zero, if the group has not committed an offset
+     */
+    public long getCommittedOffset(String group, String topic, int partition) {
+        return getTopic(topic).getCommittedOffset(group, partition);
+    }
+
+    /**
+     * Causes the next fetches to fail.
+     *
+     * @param count number of fetches that are to fail
+     */
+    public void failFetches(int count) {
+        fetchFailures.addAndGet(count);
+    }
+
+    /**
+     * Publishes a record, after the publish latency has elapsed. Records having a key are
+     * assigned a partition based on the key, while the others are spread across the
+     * partitions.
+     *
+     * @param topic topic to which to publish
+     * @param key key of the record, or {@code null}
+     * @param message the message
+     * @return the acknowledgment of the record
+     * @throws InterruptedException if the thread is interrupted while delayed
+     */
+    public RecordAck publish(String topic, String key, String message) throws InterruptedException {
+        delay(publishLatencyMs);
+
+        var memTopic = getTopic(topic);
+        int partition = memTopic.choosePartition(key);
+        long offset = memTopic.append(partition, message);
+
+        return new RecordAck(topic, partition, offset, currentTimeMillis());
+    }
+
+    /**
+     * Adds a member to a consumer group, causing the topic's partitions to be reassigned
+     * among the group's members.
+     *
+     * @param group consumer group to be joined
+     * @param topic topic of interest
+     * @param member identifier of the member
+     */
+    public void join(String group, String topic, String member) {
+        getTopic(topic).join(group, member);
+    }
+
+    /**
+     * Removes a member from a consumer group, first committing its positions, and causes
+     * the topic's partitions to be reassigned among the remaining members. A fetch that
+     * the member has in progress returns immediately.
+     *
+     * @param group consumer group to be left
+     * @param topic topic of interest
+     * @param member identifier of the member
+     * @param positions positions, by partition, to be committed
+     */
+    public void leave(String group, String topic, String member, Map<Integer, Long> positions) {
+        getTopic(topic).leave(group, member, positions);
+    }
+
+    /**
+     * Gets the partitions assigned to a member of a consumer group.
+     *
+     * @param group consumer group of interest
+     * @param topic topic of interest
+     * @param member identifier of the member
+     * @return the partitions assigned to the member, empty if it isn't a member
+     */
+    public List<Integer> getAssignment(String group, String topic, String member) {
+        return getTopic(topic).getAssignment(group, member);
+    }
+
+    /**
+     * Fetches records from the partitions assigned to a member of a consumer group, after
+     * the fetch latency has elapsed, waiting for records to be published, if none are
+     * available. Positions of partitions that are newly assigned to the member start at
+     * the group's committed offsets, while those of partitions that are no longer assigned
+     * to it are discarded.
+     *
+     * @param group consumer group of the member
+     * @param topic topic from which to fetch
+     * @param member identifier of the member
+     * @param positions the member's positions, by partition, updated as records are
+     *        fetched
+     * @param maxRecords maximum number of records to fetch
+     * @param timeoutMs maximum time, in milliseconds, to wait for records
+     * @return the records that were fetched
+     * @throws IOException if the fetch was made to fail
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public List<String> fetch(String group, String topic, String member, Map<Integer, Long> positions,
+                    int maxRecords, long timeoutMs) throws IOException, InterruptedException {
+
+        if (fetchFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            throw new IOException("fetch failure injected into topic " + topic);
+        }
+
+        delay(fetchLatencyMs);
+
+        return getTopic(topic).read(group, member, positions, maxRecords, timeoutMs);
+    }
+
+    /**
+     * Commits a member's positions, for the partitions that are still assigned to it.
+     *
+     * @param group consumer group of the member
+     * @param topic topic of interest
+     * @param member identifier of the member
+     * @param positions positions, by partition, to be committed
+     */
+    public void commit(String group, String topic, String member, Map<Integer, Long> positions) {
+        getTopic(topic).commit(group, member, positions);
+    }
+
+    private MemoryTopic getTopic(String topic) {
+        return topics.computeIfAbsent(topic, key -> new MemoryTopic(defaultPartitions, retention));
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryBroker [name=" + name + ", topics=" + topics.keySet() + "]";
+    }
+
+    // these may be overridden by junit tests
+
+    protected void delay(long delayMs) throws InterruptedException {
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * A consumer group's members and committed offsets, for a single topic.
+     */
+    private static class MemoryGroup {
+        private final List<String> members = new ArrayList<>();
+        private final Map<Integer, Long> committed = new HashMap<>();
+
+        /**
+         * Gets the partitions assigned to a member, distributing the partitions
+         * round-robin, in the order in which the members joined.
+         *
+         * @param member identifier of the member
+         * @param partitionCount number of partitions of the topic
+         * @return the partitions assigned to the member
+         */
+        private List<Integer> getAssignment(String member, int partitionCount) {
+            int index = members.indexOf(member);
+            if (index < 0) {
+                return Collections.emptyList();
+            }
+
+            List<Integer> assignment = new ArrayList<>();
+            for (int partition = index; partition < partitionCount; partition += members.size()) {
+                assignment.add(partition);
+            }
+
+            return assignment;
+        }
+
+        private void commit(String member, int partitionCount, Map<Integer, Long> positions) {
+            for (int partition : getAssignment(member, partitionCount)) {
+                Long position = positions.get(partition);
+                if (position != null) {
+                    committed.put(partition, position);
+                }
+            }
+        }
+    }
+
+    /**
+     * A partition's log: a ring holding the most recent records, which grows, as records
+     * are appended, up to the retention limit, after which the oldest record is discarded
+     * each time a record is appended. Records are addressed by offset.
+     */
+    private static class PartitionLog {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int retention;
+        private String[] ring;
+
+        /**
+         * Offset of the oldest record retained.
+         */
+        private long baseOffset = 0;
+
+        /**
+         * Offset that the next record appended will be given.
+         */
+        private long endOffset = 0;
+
+        private PartitionLog(int retention) {
+            this.retention = retention;
+            this.ring = new String[Math.min(retention, INITIAL_CAPACITY)];
+        }
+
+        private long append(String message) {
+            if (endOffset - baseOffset == ring.length) {
+                if (ring.length < retention) {
+                    grow();
+                } else {
+                    // full - the new record replaces the oldest
+                    ++baseOffset;
+                }
+            }
+
+            ring[index(endOffset)] = message;
+            return endOffset++;
+        }
+
+        /**
+         * Reads records, starting at the oldest record retained, if the position precedes
+         * it.
+         *
+         * @param position offset of the first record to read
+         * @param maxRecords maximum number of records to read
+         * @param records where the records are to be placed
+         * @return the position following the last record that was read
+         */
+        private long read(long position, int maxRecords, List<String> records) {
+            long start = Math.max(position, baseOffset);
+            long end = Math.min(endOffset, start + maxRecords);
+
+            for (long offset = start; offset < end; ++offset) {
+                records.add(ring[index(offset)]);
+            }
+
+            return Math.max(end, start);
+        }
+
+        private void grow() {
+            var bigger = new String[(int) Math.min(retention, 2L * ring.length)];
+            for (long offset = baseOffset; offset < endOffset; ++offset) {
+                bigger[(int) (offset % bigger.length)] = ring[index(offset)];
+            }
+
+            ring = bigger;
+        }
+
+        private int index(long offset) {
+            return (int) (offset % ring.length);
+        }
+    }
+
+    /**
+     * A topic's partitions and consumer groups. Waiting fetches are notified whenever a
+     * record is appended or a group's membership changes.
+     */
+    private static class MemoryTopic {
+        private final List<PartitionLog> partitions;
+        private final Map<String, MemoryGroup> groups = new HashMap<>();
+        private final AtomicInteger nextPartition = new AtomicInteger();
+
+        /**
+         * Partition from which the next read starts, rotated so that partitions are not
+         * starved when reads are limited.
+         */
+        private int nextRead = 0;
+
+        private MemoryTopic(int partitionCount, int retention) {
+            partitions = new ArrayList<>(partitionCount);
+            for (var count = 0; count < partitionCount; ++count) {
+                partitions.add(new PartitionLog(retention));
+            }
+        }
+
+        private int getPartitionCount() {
+            return partitions.size();
+        }
+
+        private int choosePartition(String key) {
+            int hash = (key != null ? key.hashCode() : nextPartition.getAndIncrement());
+            return Math.floorMod(hash, partitions.size());
+        }
+
+        private synchronized long getEndOffset(int partition) {
+            return partitions.get(partition).endOffset;
+        }
+
+        private synchronized long getBaseOffset(int partition) {
+            return partitions.get(partition).baseOffset;
+        }
+
+        private synchronized long append(int partition, String message) {
+            long offset = partitions.get(partition).append(message);
+            notifyAll();
+
+            return offset;
+        }
+
+        private synchronized void join(String group, String member) {
+            List<String> members = groups.computeIfAbsent(group, key -> new MemoryGroup()).members;
+            if (!members.contains(member)) {
+                members.add(member);
+                notifyAll();
+            }
+        }
+
+        private synchronized void leave(String group, String member, Map<Integer, Long> positions) {
+            var memGroup = groups.get(group);
+            if (memGroup != null && memGroup.members.contains(member)) {
+                memGroup.commit(member, partitions.size(), positions);
+                memGroup.members.remove(member);
+                notifyAll();
+            }
+        }
+
+        private synchronized List<Integer> getAssignment(String group, String member) {
+            var memGroup = groups.get(group);
+            return (memGroup != null ? memGroup.getAssignment(member, partitions.size()) : Collections.emptyList());
+        }
+
+        private synchronized void commit(String group, String member, Map<Integer, Long> positions) {
+            var memGroup = groups.get(group);
+            if (memGroup != null) {
+                memGroup.commit(member, partitions.size(), positions);
+            }
+        }
+
+        private synchronized long getCommittedOffset(String group, int partition) {
+            var memGroup = groups.get(group);
+            return (memGroup != null ? memGroup.committed.getOrDefault(partition, 0L) : 0);
+        }
+
+        private synchronized List<String> read(String group, String member, Map<Integer, Long> positions,
+                        int maxRecords, long timeoutMs) throws InterruptedException {
+
+            long deadline = System.currentTimeMillis() + timeoutMs;
+
+            for (;;) {
+                var memGroup = groups.get(group);
+                if (memGroup == null || !memGroup.members.contains(member)) {
+                    // the member has left the group
+                    return Collections.emptyList();
+                }
+
+                List<String> records = collect(memGroup, member, positions, maxRecords);
+                long remainingMs = deadline - System.currentTimeMillis();
+                if (!records.isEmpty() || remainingMs <= 0) {
+                    return records;
+                }
+
+                wait(remainingMs);
+            }
+        }
+
+        private List<String> collect(MemoryGroup memGroup, String member, Map<Integer, Long> positions,
+                        int maxRecords) {
+
+            List<Integer> assignment = memGroup.getAssignment(member, partitions.size());
+
+            // forget the partitions that have been reassigned to other members
+            positions.keySet().retainAll(assignment);
+
+            List<String> records = new ArrayList<>();
+            int nassigned = assignment.size();
+            int start = nextRead++;
+
+            for (var index = 0; index < nassigned && records.size() < maxRecords; ++index) {
+                int partition = assignment.get(Math.floorMod(start + index, nassigned));
+
+                long position = positions.computeIfAbsent(partition,
+                    key -> memGroup.committed.getOrDefault(key, 0L));
+                positions.put(partition,
+                                partitions.get(partition).read(position, maxRecords - records.size(), records));
+            }
+
+            return records;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.memory;
+
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_COMMIT_INTERVAL_MS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_COMMIT_MAX_RECORDS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_LIMIT_FETCH;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.FetchingBusConsumer;
+import org.onap.policy.common.message.bus.event.base.CommitStrategy;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumer that fetches from an {@link InMemoryBroker}, in place of a Kafka consumer. It
+ * joins its consumer group when it first fetches, so that a consumer that is never used
+ * does not hold any partitions, and leaves the group when closed. Offsets are committed
+ * according to the same strategies as the Kafka consumer.
+ */
+public class InMemoryBusConsumer extends FetchingBusConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryBusConsumer.class);
+
+    @Getter
+    private final InMemoryBroker broker;
+
+    private final String topic;
+
+    @Getter
+    private final String consumerGroup;
+
+    /**
+     * Identifies this consumer within its group.
+     */
+    private final String memberId = UUID.randomUUID().toString();
+
+    private final int fetchLimit;
+
+    /**
+     * {@code true} once this consumer has joined its group.
+     */
+    private boolean joined = false;
+
+    /**
+     * {@code true} once this consumer has been closed.
+     */
+    private boolean closed = false;
+
+    @Getter
+    private final CommitStrategy commitStrategy;
+    private final long commitIntervalMs;
+    private final int commitMaxRecords;
+
+    /**
+     * Position within each assigned partition. Only accessed by the broker, while holding
+     * the topic's lock, thus it need only be thread-safe for the benefit of toString().
+     */
+    private final Map<Integer, Long> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Number of records fetched since the last periodic commit.
+     */
+    private int uncommittedRecords = 0;
+
+    /**
+     * Time, in milliseconds, of the last periodic commit.
+     */
+    private long lastCommitMs;
+
+    /**
+     * Constructs the object, using the broker named by the first of the servers.
+     *
+     * @param busTopicParams parameters for the bus topic
+     */
+    public InMemoryBusConsumer(BusTopicParams busTopicParams) {
+        this(busTopicParams, InMemoryBroker.getInstance(busTopicParams.getServers()));
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param busTopicParams parameters for the bus topic
+     * @param broker broker from which to fetch
+     */
+    public InMemoryBusConsumer(BusTopicParams busTopicParams, InMemoryBroker broker) {
+        super(busTopicParams);
+
+        if (busTopicParams.isTopicInvalid()) {
+            throw new IllegalArgumentException("No topic for in-memory broker");
+        }
+
+        if (broker == null) {
+            throw new IllegalArgumentException("No servers for in-memory broker");
+        }
+
+        this.broker = broker;
+        this.topic = busTopicParams.getTopic();
+        this.consumerGroup = (busTopicParams.isConsumerGroupInvalid() ? UUID.randomUUID().toString()
+                        : busTopicParams.getConsumerGroup());
+        this.fetchLimit = (busTopicParams.getFetchLimit() > 0 ? busTopicParams.getFetchLimit() : DEFAULT_LIMIT_FETCH);
+
+        this.commitStrategy = CommitStrategy.of(busTopicParams.getCommitStrategy());
+        this.commitIntervalMs = (busTopicParams.getCommitIntervalMs() > 0 ? busTopicParams.getCommitIntervalMs()
+                        : DEFAULT_COMMIT_INTERVAL_MS);
+        this.commitMaxRecords = (busTopicParams.getCommitMaxRecords() > 0 ? busTopicParams.getCommitMaxRecords()
+                        : DEFAULT_COMMIT_MAX_RECORDS);
+        this.lastCommitMs = broker.currentTimeMillis();
+    }
+
+    @Override
+    public Iterable<String> fetch() throws IOException {
+        if (!joinGroup()) {
+            return Collections.emptyList();
+        }
+
+        List<String> messages;
+
+        try {
+            messages = broker.fetch(consumerGroup, topic, memberId, positions, fetchLimit,
+                            (fetchTimeout > 0 ? fetchTimeout : getSleepTime()));
+
+        } catch (IOException e) {
+            logger.error("{}: cannot fetch, throwing exception after sleep...", this);
+            sleepAfterFetchFailure();
+            throw e;
+
+        } catch (InterruptedException e) {
+            logger.warn("{}: interrupted while fetching", this);
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        }
+
+        commit(messages.size());
+        return messages;
+    }
+
+    /**
+     * Joins the consumer group, if not already joined.
+     *
+     * @return {@code true} if this consumer is a member of the group, {@code false} if it
+     *         has been closed
+     */
+    private synchronized boolean joinGroup() {
+        if (closed) {
+            return false;
+        }
+
+        if (!joined) {
+            broker.join(consumerGroup, topic, memberId);
+            joined = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Commits the positions, according to the commit strategy. Asynchronous commits are
+     * treated as synchronous, as there is no round trip to the broker.
+     *
+     * @param records number of records that were just fetched
+     */
+    private void commit(int records) {
+        if (commitStrategy != CommitStrategy.PERIODIC) {
+            if (records > 0) {
+                broker.commit(consumerGroup, topic, memberId, positions);
+            }
+            return;
+        }
+
+        uncommittedRecords += records;
+        long now = broker.currentTimeMillis();
+        if (uncommittedRecords >= commitMaxRecords || now - lastCommitMs >= commitIntervalMs) {
+            broker.commit(consumerGroup, topic, memberId, positions);
+            uncommittedRecords = 0;
+            lastCommitMs = now;
+        }
+    }
+
+    /**
+     * Closes the consumer, as that is the only way to interrupt a fetch that is in
+     * progress. Unlike a Kafka consumer, this consumer may be closed from any thread, and
+     * closing it again, once the thread that fetches exits, has no effect.
+     */
+    @Override
+    public void wakeup() {
+        close();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+
+        super.close();
+
+        // commits the positions and interrupts any fetch that is in progress
+        broker.leave(consumerGroup, topic, memberId, positions);
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryBusConsumer [broker=" + broker.getName() + ", topic=" + topic + ", consumerGroup="
+                        + consumerGroup + ", positions=" + positions + "]";
+    }
+}
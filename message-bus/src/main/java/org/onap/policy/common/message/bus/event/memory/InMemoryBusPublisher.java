@@ -0,0 +1,158 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.memory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.onap.policy.common.message.bus.event.RecordAck;
+import org.onap.policy.common.message.bus.event.base.BusPublisher;
+import org.onap.policy.common.message.bus.event.base.KeyStrategy;
+import org.onap.policy.common.message.bus.event.base.RecordKeyMaker;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publisher that publishes to an {@link InMemoryBroker}, in place of a Kafka producer.
+ * Record keys are chosen according to the same strategies as the Kafka publisher, thus
+ * records are assigned to partitions the same way.
+ */
+public class InMemoryBusPublisher implements BusPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryBusPublisher.class);
+
+    @Getter
+    private final InMemoryBroker broker;
+
+    private final String topic;
+
+    /**
+     * Makes the record keys, according to the key strategy.
+     */
+    private final RecordKeyMaker keyMaker;
+
+    private final LongAdder acked = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Constructs the object, using the broker named by the first of the servers.
+     *
+     * @param busTopicParams parameters for the bus topic
+     */
+    public InMemoryBusPublisher(BusTopicParams busTopicParams) {
+        this(busTopicParams, InMemoryBroker.getInstance(busTopicParams.getServers()));
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param busTopicParams parameters for the bus topic
+     * @param broker broker to which to publish
+     */
+    public InMemoryBusPublisher(BusTopicParams busTopicParams, InMemoryBroker broker) {
+        if (busTopicParams.isTopicInvalid()) {
+            throw new IllegalArgumentException("No topic for in-memory broker");
+        }
+
+        if (broker == null) {
+            throw new IllegalArgumentException("No servers for in-memory broker");
+        }
+
+        this.broker = broker;
+        this.topic = busTopicParams.getTopic();
+        this.keyMaker = new RecordKeyMaker(busTopicParams);
+    }
+
+    @Override
+    public boolean send(String partitionId, String message) {
+        return !sendAsync(partitionId, null, message).isCompletedExceptionally();
+    }
+
+    /**
+     * Publishes a message, returning once the broker has appended it, thus the future is
+     * always complete.
+     */
+    @Override
+    public CompletableFuture<RecordAck> sendAsync(String partitionId, String key, String message) {
+        if (message == null) {
+            throw new IllegalArgumentException(NO_MESSAGE_PROVIDED);
+        }
+
+        try {
+            RecordAck ack = broker.publish(topic, (key != null ? key : makeKey(partitionId, message)), message);
+            acked.increment();
+            return CompletableFuture.completedFuture(ack);
+
+        } catch (InterruptedException e) {
+            failed.increment();
+            logger.warn("{}: SEND of {} interrupted", this, message);
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Makes the key of a record, according to the key strategy.
+     *
+     * @param partitionId the sink's partition key
+     * @param message the message
+     * @return the record key, or {@code null} if the record is to have no key
+     */
+    protected String makeKey(String partitionId, String message) {
+        return keyMaker.makeKey(partitionId, message);
+    }
+
+    /**
+     * Gets the strategy by which record keys are chosen.
+     *
+     * @return the key strategy
+     */
+    public KeyStrategy getKeyStrategy() {
+        return keyMaker.getKeyStrategy();
+    }
+
+    /**
+     * Gets the number of messages that have been appended by the broker.
+     *
+     * @return the number of messages acknowledged
+     */
+    public long getAckedCount() {
+        return acked.sum();
+    }
+
+    /**
+     * Gets the number of messages that could not be sent.
+     *
+     * @return the number of messages that failed
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() {
+        logger.info(LOG_CLOSE, this);
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryBusPublisher [broker=" + broker.getName() + ", topic=" + topic + ", keyStrategy="
+                        + getKeyStrategy() + "]";
+    }
+}
@@ -5,7 +5,7 @@
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2019 Samsung Electronics Co., Ltd.
  * Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,8 +65,12 @@ public abstract class NoopTopicEndpoint extends TopicBase {
         }
 
         try {
-            synchronized (this) {
-                this.recentEvents.add(message);
+            this.addRecentEvent(message);
+
+            if (type == EventType.IN) {
+                this.metrics.recordIn(message);
+            } else {
+                this.metrics.recordOut(message);
             }
 
             NetLoggerUtil.log(type, this.getTopicCommInfrastructure(), this.topic, message);
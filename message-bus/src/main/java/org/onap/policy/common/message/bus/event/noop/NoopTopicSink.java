@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2017-2019 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,8 @@
 package org.onap.policy.common.message.bus.event.noop;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.onap.policy.common.message.bus.event.RecordAck;
 import org.onap.policy.common.message.bus.event.TopicSink;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 
@@ -45,6 +47,18 @@ public class NoopTopicSink extends NoopTopicEndpoint implements TopicSink {
         return super.io(EventType.OUT, message);
     }
 
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public CompletableFuture<RecordAck> sendAsync(String key, String message) {
+        if (super.io(EventType.OUT, message)) {
+            return CompletableFuture.completedFuture(new RecordAck(this.topic));
+        }
+
+        return CompletableFuture.failedFuture(new IllegalStateException(this + " cannot send message"));
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2025 Nordix Foundation.
+ * Copyright (C) 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@
 package org.onap.policy.common.message.bus.healthcheck;
 
 import org.onap.policy.common.message.bus.event.Topic;
+import org.onap.policy.common.message.bus.healthcheck.inproc.InprocHealthCheck;
 import org.onap.policy.common.message.bus.healthcheck.kafka.KafkaHealthCheck;
 import org.onap.policy.common.message.bus.healthcheck.noop.NoopHealthCheck;
 import org.onap.policy.common.parameters.topic.TopicParameters;
@@ -35,6 +36,7 @@ public class TopicHealthCheckFactory {
         return switch (Topic.CommInfrastructure.valueOf(param.getTopicCommInfrastructure().toUpperCase())) {
             case KAFKA -> new KafkaHealthCheck(param);
             case NOOP ->  new NoopHealthCheck();
+            case INPROC -> new InprocHealthCheck();
             default -> null;
         };
     }
@@ -0,0 +1,62 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.healthcheck.inproc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.onap.policy.common.message.bus.event.Topic;
+import org.onap.policy.common.message.bus.event.TopicEndpoint;
+import org.onap.policy.common.message.bus.event.TopicEndpointManager;
+import org.onap.policy.common.message.bus.healthcheck.TopicHealthCheck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Health check of in-process topics. As they do not depend on any server, a topic is
+ * healthy as long as it is alive.
+ */
+public class InprocHealthCheck implements TopicHealthCheck {
+
+    private final Logger logger = LoggerFactory.getLogger(InprocHealthCheck.class);
+
+    private final TopicEndpoint topicEndpoint = TopicEndpointManager.getManager();
+
+    @Override
+    public boolean healthCheck(List<String> topics) {
+        if (!topicEndpoint.isAlive()) {
+            logger.warn("Topic Endpoint is not alive!");
+            return false;
+        }
+
+        Map<String, Topic> actualTopics = new HashMap<>();
+        topicEndpoint.getInprocTopicSinks().forEach(sink -> actualTopics.put(sink.getTopic(), sink));
+        topicEndpoint.getInprocTopicSources().forEach(source -> actualTopics.put(source.getTopic(), source));
+
+        for (String topic : topics) {
+            var actualTopic = actualTopics.get(topic.toLowerCase());
+            if (actualTopic == null || !actualTopic.isAlive()) {
+                logger.warn("Topic {} is not alive!", topic);
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
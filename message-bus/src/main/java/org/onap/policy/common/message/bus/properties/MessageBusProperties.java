@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START===============================================
- * Copyright (C) 2024 Nordix Foundation.
+ * Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ========================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,32 +28,74 @@ public final class MessageBusProperties {
 
     public static final String PROPERTY_TOPIC_SERVERS_SUFFIX = ".servers";
     public static final String PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX = ".effectiveTopic";
+    public static final String PROPERTY_TOPIC_BUS_CLIENT_SUFFIX = ".busClient";
 
     public static final String PROPERTY_TOPIC_SOURCE_CONSUMER_GROUP_SUFFIX = ".consumerGroup";
     public static final String PROPERTY_TOPIC_SOURCE_CONSUMER_INSTANCE_SUFFIX = ".consumerInstance";
     public static final String PROPERTY_TOPIC_SOURCE_FETCH_TIMEOUT_SUFFIX = ".fetchTimeout";
     public static final String PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX = ".fetchLimit";
+    public static final String PROPERTY_TOPIC_SOURCE_PARTITION_WORKERS_SUFFIX = ".partitionWorkers";
+    public static final String PROPERTY_TOPIC_SOURCE_MAX_PENDING_RECORDS_SUFFIX = ".maxPendingRecords";
+    public static final String PROPERTY_TOPIC_SOURCE_SHARED_CONSUMER_SUFFIX = ".sharedConsumer";
+    public static final String PROPERTY_TOPIC_SOURCE_COMMIT_STRATEGY_SUFFIX = ".commitStrategy";
+    public static final String PROPERTY_TOPIC_SOURCE_COMMIT_INTERVAL_MS_SUFFIX = ".commitIntervalMs";
+    public static final String PROPERTY_TOPIC_SOURCE_COMMIT_MAX_RECORDS_SUFFIX = ".commitMaxRecords";
+    public static final String PROPERTY_TOPIC_SOURCE_RING_CAPACITY_SUFFIX = ".ringCapacity";
+    public static final String PROPERTY_TOPIC_SOURCE_WAIT_STRATEGY_SUFFIX = ".waitStrategy";
     public static final String PROPERTY_MANAGED_SUFFIX = ".managed";
     public static final String PROPERTY_ADDITIONAL_PROPS_SUFFIX = ".additionalProps";
 
     public static final String PROPERTY_TOPIC_SINK_PARTITION_KEY_SUFFIX = ".partitionKey";
+    public static final String PROPERTY_TOPIC_SINK_ASYNC_PUBLISH_SUFFIX = ".asyncPublish";
+    public static final String PROPERTY_TOPIC_SINK_MAX_IN_FLIGHT_SUFFIX = ".maxInFlight";
+    public static final String PROPERTY_TOPIC_SINK_KEY_STRATEGY_SUFFIX = ".keyStrategy";
+    public static final String PROPERTY_TOPIC_SINK_KEY_FIELD_SUFFIX = ".keyField";
+    public static final String PROPERTY_TOPIC_SINK_SHARED_PRODUCER_SUFFIX = ".sharedProducer";
+
+    public static final String PROPERTY_TOPIC_RECENT_EVENTS_SUFFIX = ".recentEvents";
+    public static final String PROPERTY_TOPIC_RECENT_EVENTS_MAX_LENGTH_SUFFIX = ".recentEventsMaxLength";
 
     public static final String PROPERTY_ALLOW_SELF_SIGNED_CERTIFICATES_SUFFIX = ".selfSignedCertificates";
 
     public static final String PROPERTY_NOOP_SOURCE_TOPICS = "noop.source.topics";
     public static final String PROPERTY_NOOP_SINK_TOPICS = "noop.sink.topics";
 
+    /* INPROC Properties */
+
+    public static final String PROPERTY_INPROC_SOURCE_TOPICS = "inproc.source.topics";
+    public static final String PROPERTY_INPROC_SINK_TOPICS = "inproc.sink.topics";
+
     /* KAFKA Properties */
 
     public static final String PROPERTY_KAFKA_SOURCE_TOPICS = "kafka.source.topics";
     public static final String PROPERTY_KAFKA_SINK_TOPICS = "kafka.sink.topics";
 
+    /* Network Log Properties */
+
+    public static final String PROPERTY_NETWORK_LOG_PREFIX = "network.log";
+    public static final String PROPERTY_NETWORK_LOG_ASYNC_SUFFIX = ".async";
+    public static final String PROPERTY_NETWORK_LOG_BUFFER_CAPACITY_SUFFIX = ".bufferCapacity";
+    public static final String PROPERTY_NETWORK_LOG_MAX_BODY_LENGTH_SUFFIX = ".maxBodyLength";
+    public static final String PROPERTY_NETWORK_LOG_SAMPLE_RATE_SUFFIX = ".sampleRate";
+
     /* HTTP Server Properties */
 
     public static final String PROPERTY_HTTP_HTTPS_SUFFIX = ".https";
 
     /* Topic Sink Values */
 
+    /**
+     * Default maximum number of published messages awaiting acknowledgment.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+    /* Network Log values */
+
+    /**
+     * Default number of messages that may await the asynchronous network log writer.
+     */
+    public static final int DEFAULT_NETWORK_LOG_BUFFER_CAPACITY = 8192;
+
     /* Topic Source values */
 
     /**
@@ -66,6 +108,26 @@ public final class MessageBusProperties {
      */
     public static final int DEFAULT_LIMIT_FETCH = 100;
 
+    /**
+     * Default number of records awaiting dispatch above which fetching is paused.
+     */
+    public static final int DEFAULT_MAX_PENDING_RECORDS = 1000;
+
+    /**
+     * Default maximum time, in milliseconds, between periodic offset commits.
+     */
+    public static final int DEFAULT_COMMIT_INTERVAL_MS = 1000;
+
+    /**
+     * Default maximum number of records fetched between periodic offset commits.
+     */
+    public static final int DEFAULT_COMMIT_MAX_RECORDS = 500;
+
+    /**
+     * Default number of events an in-process source can buffer.
+     */
+    public static final int DEFAULT_RING_CAPACITY = 1024;
+
     /**
      * Definition of No Timeout fetching.
      */
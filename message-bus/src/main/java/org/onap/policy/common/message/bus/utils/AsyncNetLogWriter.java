@@ -0,0 +1,158 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background writer for the network log. Log operations are queued in a bounded ring
+ * buffer and executed, in order, by a single daemon thread, so that formatting and
+ * appending do not occur on the threads sending and receiving messages.
+ */
+class AsyncNetLogWriter implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncNetLogWriter.class);
+
+    /**
+     * Maximum number of operations to remove from the buffer at a time.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * Maximum time to park while the buffer is empty, as a guard against a missed signal.
+     */
+    private static final long MAX_PARK_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * Maximum time to wait for the thread to drain the buffer when the writer is stopped.
+     */
+    private static final long STOP_WAIT_MS = 5000;
+
+    /**
+     * Log operations awaiting execution.
+     */
+    private final RingBuffer<Runnable> buffer;
+
+    /**
+     * Thread executing the log operations.
+     */
+    private final Thread thread;
+
+    /**
+     * {@code true} until the writer is stopped.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * {@code true} while the thread is parked, waiting for a signal.
+     */
+    private volatile boolean waiting = false;
+
+    /**
+     * Constructs the writer and starts its thread.
+     *
+     * @param capacity maximum number of operations that may await execution
+     */
+    AsyncNetLogWriter(int capacity) {
+        this.buffer = new RingBuffer<>(capacity);
+        this.thread = new Thread(this, "network-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a log operation.
+     *
+     * @param operation operation to be executed
+     * @return {@code true} if the operation was queued, {@code false} if the buffer is
+     *         full
+     */
+    boolean offer(Runnable operation) {
+        if (!buffer.offer(operation)) {
+            return false;
+        }
+
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of operations awaiting execution.
+     *
+     * @return the number of operations awaiting execution
+     */
+    int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Stops the writer, waiting for it to execute the operations already queued.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join(STOP_WAIT_MS);
+
+        } catch (InterruptedException e) {
+            logger.warn("{}: interrupted while stopping", this);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executes queued operations until the writer is stopped and the buffer is empty.
+     */
+    @Override
+    public void run() {
+        List<Runnable> operations = new ArrayList<>(BATCH_SIZE);
+
+        while (running || !buffer.isEmpty()) {
+            if (buffer.drainTo(operations, BATCH_SIZE) == 0) {
+                waiting = true;
+
+                // re-check, in case an operation arrived before the flag was visible
+                if (buffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, MAX_PARK_NS);
+                }
+
+                waiting = false;
+                continue;
+            }
+
+            for (Runnable operation : operations) {
+                try {
+                    operation.run();
+                } catch (RuntimeException e) {
+                    logger.warn("{}: cannot write network log", this, e);
+                }
+            }
+
+            operations.clear();
+        }
+    }
+}
@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  * ONAP
  * ================================================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,10 @@ package org.onap.policy.common.message.bus.utils;
 
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_ADDITIONAL_PROPS_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_MANAGED_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_BUS_CLIENT_SUFFIX;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_RECENT_EVENTS_MAX_LENGTH_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_RECENT_EVENTS_SUFFIX;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.re2j.Pattern;
@@ -59,6 +62,9 @@ public class KafkaPropertyUtils {
             .topic(topic)
             .effectiveTopic(props.getString(PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX, topic))
             .managed(props.getBoolean(PROPERTY_MANAGED_SUFFIX, true))
+            .busClient(props.getString(PROPERTY_TOPIC_BUS_CLIENT_SUFFIX, null))
+            .recentEventsCapacity(props.getInteger(PROPERTY_TOPIC_RECENT_EVENTS_SUFFIX, -1))
+            .recentEventsMaxLength(props.getInteger(PROPERTY_TOPIC_RECENT_EVENTS_MAX_LENGTH_SUFFIX, 0))
             .additionalProps(getAdditionalProps(props.getString(PROPERTY_ADDITIONAL_PROPS_SUFFIX, "")));
     }
 
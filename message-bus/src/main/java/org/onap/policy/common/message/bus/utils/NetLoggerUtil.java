@@ -1,7 +1,8 @@
 /*
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +20,30 @@
 
 package org.onap.policy.common.message.bus.utils;
 
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_NETWORK_LOG_BUFFER_CAPACITY;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_NETWORK_LOG_ASYNC_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_NETWORK_LOG_BUFFER_CAPACITY_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_NETWORK_LOG_MAX_BODY_LENGTH_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_NETWORK_LOG_PREFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_NETWORK_LOG_SAMPLE_RATE_SUFFIX;
+
+import io.opentelemetry.context.Context;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.Getter;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicEndpoint;
+import org.onap.policy.common.message.bus.features.NetLoggerFeatureApi;
 import org.onap.policy.common.message.bus.features.NetLoggerFeatureProviders;
+import org.onap.policy.common.utils.properties.PropertyUtils;
 import org.onap.policy.common.utils.services.FeatureApiUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 /**
  * A network logging utility class that allows drools applications code to access the
@@ -45,6 +64,21 @@ public class NetLoggerUtil {
      */
     public static final String SYSTEM_LS = System.lineSeparator();
 
+    /**
+     * Sampling and truncation settings, replaced as a whole by {@link #configure(Properties)}.
+     */
+    private static volatile LogSettings settings = LogSettings.DEFAULT;
+
+    /**
+     * Background writer, or {@code null} if messages are logged on the caller's thread.
+     */
+    private static volatile AsyncNetLogWriter writer = null;
+
+    /**
+     * Number of messages discarded because the background writer's buffer was full.
+     */
+    private static final LongAdder dropped = new LongAdder();
+
     /**
      * Specifies if the message is coming in or going out.
      */
@@ -65,7 +99,8 @@ public class NetLoggerUtil {
     }
 
     /**
-     * Logs a message to the specified logger (i.e. a controller logger).
+     * Logs a message to the specified logger (i.e. a controller logger). Nothing is logged,
+     * and the features are not invoked, if the logger is not enabled for INFO.
      *
      * @param eventLogger the logger that will have the message appended
      * @param type can either be IN or OUT
@@ -75,23 +110,203 @@ public class NetLoggerUtil {
      */
     public static void log(Logger eventLogger, EventType type, CommInfrastructure protocol, String topic,
                     String message) {
-        if (eventLogger == null) {
+        Logger target = eventLogger;
+        if (target == null) {
             logger.debug("the logger is null, defaulting to network logger");
-            eventLogger = networkLogger;
+            target = networkLogger;
+        }
+
+        // nothing to log, thus nothing for the features to pre- or post-process
+        if (!target.isInfoEnabled()) {
+            return;
+        }
+
+        var current = settings;
+        if (!current.isSampled(topic)) {
+            return;
         }
 
-        if (featureBeforeLog(eventLogger, type, protocol, topic, message)) {
+        var asyncWriter = writer;
+        if (asyncWriter == null) {
+            write(target, type, protocol, topic, message, current);
             return;
         }
 
-        eventLogger.info("[{}|{}|{}]{}{}", type, protocol, topic, SYSTEM_LS, message);
+        // the features run on the writer's thread, thus they are given the caller's context
+        final var finalTarget = target;
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Runnable operation = Context.current().wrap(() -> {
+            setMdc(mdc);
+            try {
+                write(finalTarget, type, protocol, topic, message, current);
+            } finally {
+                MDC.clear();
+            }
+        });
+
+        if (!asyncWriter.offer(operation)) {
+            dropped.increment();
+        }
+    }
 
-        featureAfterLog(eventLogger, type, protocol, topic, message);
+    /**
+     * Replaces the current thread's MDC.
+     *
+     * @param mdc MDC to be installed, or {@code null} to clear it
+     */
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+
+    /**
+     * Configures network logging. Messages are logged on the caller's thread, in full,
+     * unless the properties specify otherwise:
+     * <ul>
+     * <li>network.log.async: {@code true} to hand messages to a background writer</li>
+     * <li>network.log.bufferCapacity: maximum number of messages awaiting the background
+     * writer; messages arriving while it is full are dropped and counted</li>
+     * <li>network.log.maxBodyLength: maximum number of characters of a message body to be
+     * logged, or zero for no limit</li>
+     * <li>network.log.sampleRate: fraction, between 0 and 1, of messages to be logged</li>
+     * <li>network.log.sampleRate.&lt;topic&gt;: fraction of a topic's messages to be logged,
+     * overriding the general sample rate</li>
+     * </ul>
+     * Messages already handed to a previous background writer are logged before this
+     * returns. Invoked by {@link TopicEndpoint#addTopics(Properties)}, and its variants,
+     * whenever the topic properties include network log properties.
+     *
+     * @param properties properties from which to take the configuration
+     */
+    public static synchronized void configure(Properties properties) {
+        var props = new PropertyUtils(properties, PROPERTY_NETWORK_LOG_PREFIX,
+            (name, value, ex) -> logger.warn("ignoring invalid network log property {}={}", name, value));
+
+        var rateName = PROPERTY_NETWORK_LOG_PREFIX + PROPERTY_NETWORK_LOG_SAMPLE_RATE_SUFFIX;
+        double sampleRate = toSampleRate(rateName, props.getString(PROPERTY_NETWORK_LOG_SAMPLE_RATE_SUFFIX, null));
+
+        var topicPrefix = rateName + ".";
+        Map<String, Double> topicSampleRates = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(topicPrefix) && name.length() > topicPrefix.length()) {
+                topicSampleRates.put(name.substring(topicPrefix.length()).toLowerCase(),
+                                toSampleRate(name, properties.getProperty(name)));
+            }
+        }
+
+        int maxBodyLength = props.getInteger(PROPERTY_NETWORK_LOG_MAX_BODY_LENGTH_SUFFIX, 0);
+        settings = new LogSettings(sampleRate, topicSampleRates, maxBodyLength);
+
+        var oldWriter = writer;
+
+        if (props.getBoolean(PROPERTY_NETWORK_LOG_ASYNC_SUFFIX, false)) {
+            int capacity = props.getInteger(PROPERTY_NETWORK_LOG_BUFFER_CAPACITY_SUFFIX,
+                            DEFAULT_NETWORK_LOG_BUFFER_CAPACITY);
+            if (capacity <= 0) {
+                logger.warn("ignoring invalid network log buffer capacity {}", capacity);
+                capacity = DEFAULT_NETWORK_LOG_BUFFER_CAPACITY;
+            }
+
+            writer = new AsyncNetLogWriter(capacity);
+        } else {
+            writer = null;
+        }
+
+        if (oldWriter != null) {
+            oldWriter.stop();
+        }
+    }
+
+    /**
+     * Determines if messages are logged by a background writer.
+     *
+     * @return {@code true} if messages are logged by a background writer
+     */
+    public static boolean isAsync() {
+        return (writer != null);
+    }
+
+    /**
+     * Gets the number of messages awaiting the background writer.
+     *
+     * @return the number of messages awaiting the background writer
+     */
+    public static int getPendingCount() {
+        var asyncWriter = writer;
+        return (asyncWriter == null ? 0 : asyncWriter.getPendingCount());
+    }
+
+    /**
+     * Gets the number of messages discarded because the background writer's buffer was
+     * full.
+     *
+     * @return the number of messages discarded
+     */
+    public static long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Logs a message, invoking the features before and after.
+     *
+     * @param eventLogger the logger that will have the message appended
+     * @param type can either be IN or OUT
+     * @param protocol the protocol used to receive/send the message
+     * @param topic the topic the message came from or null if the type is REST
+     * @param message message to be logged
+     * @param current settings that were in effect when the message was sent or received
+     */
+    private static void write(Logger eventLogger, EventType type, CommInfrastructure protocol, String topic,
+                    String message, LogSettings current) {
+
+        List<NetLoggerFeatureApi> features = NetLoggerFeatureProviders.getProviders().getList();
+        if (features.isEmpty()) {
+            eventLogger.info("[{}|{}|{}]{}{}", type, protocol, topic, SYSTEM_LS, current.truncate(message));
+            return;
+        }
+
+        if (featureBeforeLog(features, eventLogger, type, protocol, topic, message)) {
+            return;
+        }
+
+        eventLogger.info("[{}|{}|{}]{}{}", type, protocol, topic, SYSTEM_LS, current.truncate(message));
+
+        featureAfterLog(features, eventLogger, type, protocol, topic, message);
+    }
+
+    /**
+     * Converts a property value to a sample rate.
+     *
+     * @param name name of the property
+     * @param value property value, or {@code null}
+     * @return the sample rate, or 1 if the value is missing or invalid
+     */
+    private static double toSampleRate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return 1.0;
+        }
+
+        try {
+            double rate = Double.parseDouble(value.trim());
+            if (rate >= 0.0 && rate <= 1.0) {
+                return rate;
+            }
+
+        } catch (NumberFormatException e) {
+            logger.debug("cannot parse network log sample rate {}", value, e);
+        }
+
+        logger.warn("ignoring invalid network log property {}={}", name, value);
+        return 1.0;
     }
 
     /**
      * Executes features that pre-process a message before it is logged.
      *
+     * @param features feature providers
      * @param eventLogger the logger that will have the message appended
      * @param type can either be IN or OUT
      * @param protocol the protocol used to receive/send the message
@@ -101,10 +316,10 @@ public class NetLoggerUtil {
      * @return true if this feature intercepts and takes ownership of the operation
      *         preventing the invocation of lower priority features. False, otherwise
      */
-    private static boolean featureBeforeLog(Logger eventLogger, EventType type, CommInfrastructure protocol,
-                    String topic, String message) {
+    private static boolean featureBeforeLog(List<NetLoggerFeatureApi> features, Logger eventLogger, EventType type,
+                    CommInfrastructure protocol, String topic, String message) {
 
-        return FeatureApiUtils.apply(NetLoggerFeatureProviders.getProviders().getList(),
+        return FeatureApiUtils.apply(features,
             feature -> feature.beforeLog(eventLogger, type, protocol, topic, message),
             (feature, ex) -> logger.error("feature {} before-log failure because of {}",
                             feature.getClass().getName(), ex.getMessage(), ex));
@@ -113,6 +328,7 @@ public class NetLoggerUtil {
     /**
      * Executes features that post-process a message after it is logged.
      *
+     * @param features feature providers
      * @param eventLogger the logger that will have the message appended
      * @param type can either be IN or OUT
      * @param protocol the protocol used to receive/send the message
@@ -122,13 +338,59 @@ public class NetLoggerUtil {
      * @return true if this feature intercepts and takes ownership of the operation
      *         preventing the invocation of lower priority features. False, otherwise
      */
-    private static boolean featureAfterLog(Logger eventLogger, EventType type, CommInfrastructure protocol,
-                    String topic, String message) {
+    private static boolean featureAfterLog(List<NetLoggerFeatureApi> features, Logger eventLogger, EventType type,
+                    CommInfrastructure protocol, String topic, String message) {
 
-        return FeatureApiUtils.apply(NetLoggerFeatureProviders.getProviders().getList(),
+        return FeatureApiUtils.apply(features,
             feature -> feature.afterLog(eventLogger, type, protocol, topic, message),
             (feature, ex) -> logger.error("feature {} after-log failure because of {}",
                             feature.getClass().getName(), ex.getMessage(), ex));
     }
 
+    /**
+     * Sampling and truncation settings.
+     */
+    private static class LogSettings {
+        private static final LogSettings DEFAULT = new LogSettings(1.0, Map.of(), 0);
+
+        private final double sampleRate;
+        private final Map<String, Double> topicSampleRates;
+        private final int maxBodyLength;
+
+        LogSettings(double sampleRate, Map<String, Double> topicSampleRates, int maxBodyLength) {
+            this.sampleRate = sampleRate;
+            this.topicSampleRates = Map.copyOf(topicSampleRates);
+            this.maxBodyLength = maxBodyLength;
+        }
+
+        /**
+         * Determines if a message should be logged.
+         *
+         * @param topic the topic the message came from or null if the type is REST
+         * @return {@code true} if the message should be logged
+         */
+        boolean isSampled(String topic) {
+            double rate = sampleRate;
+            if (topic != null && !topicSampleRates.isEmpty()) {
+                rate = topicSampleRates.getOrDefault(topic.toLowerCase(), sampleRate);
+            }
+
+            return (rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate));
+        }
+
+        /**
+         * Truncates a message body to the maximum length.
+         *
+         * @param message message to be truncated
+         * @return the message, truncated if it exceeds the maximum length
+         */
+        String truncate(String message) {
+            if (maxBodyLength <= 0 || message == null || message.length() <= maxBodyLength) {
+                return message;
+            }
+
+            return message.substring(0, maxBodyLength) + "...[truncated " + (message.length() - maxBodyLength)
+                            + " chars]";
+        }
+    }
 }
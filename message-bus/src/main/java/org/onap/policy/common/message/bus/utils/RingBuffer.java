@@ -0,0 +1,186 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.utils;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.Getter;
+
+/**
+ * Bounded, lock-free queue backed by a ring buffer. Elements may be offered and polled
+ * concurrently from any number of threads. Each slot carries a sequence number, which
+ * tells producers whether the slot is free and consumers whether it has been filled, so
+ * that neither side ever blocks the other.
+ *
+ * @param <E> type of element held in the buffer
+ */
+public class RingBuffer<E> {
+
+    /**
+     * Number of slots, always a power of two. A single slot cannot be used, as its
+     * sequence number would not distinguish a full slot from a free one.
+     */
+    @Getter
+    private final int capacity;
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+
+    /**
+     * Position of the next slot to be filled.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Position of the next slot to be drained.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Constructs the object.
+     *
+     * @param capacity minimum number of elements the buffer can hold; rounded up to a
+     *        power of two, of at least two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("invalid ring buffer capacity: " + capacity);
+        }
+
+        this.capacity = (capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+
+        for (var index = 0; index < this.capacity; ++index) {
+            sequences.set(index, index);
+        }
+    }
+
+    /**
+     * Adds an element to the buffer, if there is room for it.
+     *
+     * @param element element to be added
+     * @return {@code true} if the element was added, {@code false} if the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("null element");
+        }
+
+        var pos = tail.get();
+        for (;;) {
+            var index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+
+            } else if (diff < 0) {
+                // the slot still holds an element from the previous lap
+                return false;
+
+            } else {
+                // another producer claimed the slot
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element from the buffer.
+     *
+     * @return the oldest element, or {@code null} if the buffer is empty
+     */
+    public E poll() {
+        var pos = head.get();
+        for (;;) {
+            var index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E element = slots.get(index);
+                    slots.lazySet(index, null);
+                    sequences.set(index, pos + capacity);
+                    return element;
+                }
+                pos = head.get();
+
+            } else if (diff < 0) {
+                // the slot has not been filled yet
+                return null;
+
+            } else {
+                // another consumer drained the slot
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * Removes elements from the buffer, oldest first, adding them to a collection.
+     *
+     * @param target collection to which elements are to be added
+     * @param maxElements maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        var count = 0;
+        while (count < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+
+            target.add(element);
+            ++count;
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the number of elements in the buffer. As elements may be added or removed
+     * concurrently, this is only an estimate.
+     *
+     * @return the number of elements in the buffer
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * Determines if the buffer is empty.
+     *
+     * @return {@code true} if the buffer is empty
+     */
+    public boolean isEmpty() {
+        return (size() == 0);
+    }
+}
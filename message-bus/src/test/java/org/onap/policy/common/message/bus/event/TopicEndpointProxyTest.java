@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,11 +36,13 @@ import java.util.Properties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicFactories;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicFactories;
 import org.onap.policy.common.message.bus.event.kafka.KafkaTopicPropertyBuilder;
 import org.onap.policy.common.message.bus.event.noop.NoopTopicFactories;
 import org.onap.policy.common.message.bus.event.noop.NoopTopicPropertyBuilder;
 import org.onap.policy.common.message.bus.properties.MessageBusProperties;
+import org.onap.policy.common.message.bus.utils.NetLoggerUtil;
 import org.onap.policy.common.parameters.topic.TopicParameterGroup;
 import org.onap.policy.common.parameters.topic.TopicParameters;
 import org.onap.policy.common.utils.gson.GsonTestUtils;
@@ -53,6 +55,8 @@ class TopicEndpointProxyTest {
     private static final String KAFKA_SOURCE_TOPIC = "kafka-source";
     private static final String KAFKA_SINK_TOPIC = "kafka-sink";
 
+    private static final String INPROC_TOPIC = "inproc-topic";
+
     private final Properties configuration = new Properties();
     private final TopicParameterGroup group = new TopicParameterGroup();
 
@@ -112,6 +116,8 @@ class TopicEndpointProxyTest {
         NoopTopicFactories.getSourceFactory().destroy();
         KafkaTopicFactories.getSinkFactory().destroy();
         KafkaTopicFactories.getSourceFactory().destroy();
+        InprocTopicFactories.getSinkFactory().destroy();
+        InprocTopicFactories.getSourceFactory().destroy();
     }
 
     @Test
@@ -225,6 +231,31 @@ class TopicEndpointProxyTest {
         assertTrue(allSinks(topics));
     }
 
+    @Test
+    void testAddTopicsProperties_NetworkLog() {
+        TopicEndpoint manager = new TopicEndpointProxy();
+
+        Properties props = new Properties();
+        props.putAll(configuration);
+        props.setProperty("network.log.async", "true");
+
+        try {
+            manager.addTopics(props);
+            assertTrue(NetLoggerUtil.isAsync());
+
+            // properties without network log properties leave the configuration as is
+            manager.addTopicSinks(configuration);
+            assertTrue(NetLoggerUtil.isAsync());
+
+            props.setProperty("network.log.async", "false");
+            manager.addTopicSources(props);
+            assertFalse(NetLoggerUtil.isAsync());
+
+        } finally {
+            NetLoggerUtil.configure(new Properties());
+        }
+    }
+
     @Test
     void testAddTopicsTopicParameterGroup() {
         TopicEndpoint manager = new TopicEndpointProxy();
@@ -397,4 +428,49 @@ class TopicEndpointProxyTest {
         assertThatIllegalArgumentException().isThrownBy(() -> manager.getNoopTopicSink(null));
         assertThatIllegalArgumentException().isThrownBy(() -> manager.getNoopTopicSink(""));
     }
+
+    @Test
+    void testInprocTopics() {
+        TopicEndpoint manager = new TopicEndpointProxy();
+
+        Properties props = new Properties();
+        props.setProperty(MessageBusProperties.PROPERTY_INPROC_SOURCE_TOPICS, INPROC_TOPIC);
+        props.setProperty(MessageBusProperties.PROPERTY_INPROC_SINK_TOPICS, INPROC_TOPIC);
+        assertEquals(2, manager.addTopics(props).size());
+
+        assertEquals(1, manager.getInprocTopicSources().size());
+        assertEquals(1, manager.getInprocTopicSinks().size());
+
+        assertEquals(INPROC_TOPIC, manager.getTopicSource(CommInfrastructure.INPROC, INPROC_TOPIC).getTopic());
+        assertEquals(INPROC_TOPIC, manager.getTopicSink(CommInfrastructure.INPROC, INPROC_TOPIC).getTopic());
+        assertSame(manager.getInprocTopicSource(INPROC_TOPIC), manager.getTopicSources(List.of(INPROC_TOPIC)).get(0));
+        assertSame(manager.getInprocTopicSink(INPROC_TOPIC), manager.getTopicSinks(List.of(INPROC_TOPIC)).get(0));
+        assertSame(manager.getInprocTopicSink(INPROC_TOPIC), manager.getTopicSinks(INPROC_TOPIC).get(0));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> manager.getInprocTopicSource(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> manager.getInprocTopicSink(""));
+
+        // lifecycle is managed along with the other topics
+        assertTrue(manager.start());
+        assertTrue(manager.getInprocTopicSource(INPROC_TOPIC).isAlive());
+        assertTrue(manager.getInprocTopicSink(INPROC_TOPIC).isAlive());
+
+        manager.shutdown();
+        assertTrue(manager.getInprocTopicSources().isEmpty());
+        assertTrue(manager.getInprocTopicSinks().isEmpty());
+    }
+
+    @Test
+    void testAddTopicsListOfTopicParameters_Inproc() {
+        TopicEndpoint manager = new TopicEndpointProxy();
+
+        TopicParameters params = new TopicParameters();
+        params.setTopic(INPROC_TOPIC);
+        params.setTopicCommInfrastructure("inproc");
+
+        assertEquals(1, manager.addTopicSources(List.of(params)).size());
+        assertEquals(1, manager.addTopicSinks(List.of(params)).size());
+        assertEquals(INPROC_TOPIC, manager.getInprocTopicSource(INPROC_TOPIC).getTopic());
+        assertEquals(INPROC_TOPIC, manager.getInprocTopicSink(INPROC_TOPIC).getTopic());
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class BusClientTest {
+
+    @Test
+    void testOf() {
+        assertEquals(BusClient.KAFKA, BusClient.of(null));
+        assertEquals(BusClient.KAFKA, BusClient.of(" "));
+        assertEquals(BusClient.KAFKA, BusClient.of("kafka"));
+        assertEquals(BusClient.MEMORY, BusClient.of(" Memory "));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> BusClient.of("bogus"));
+    }
+}
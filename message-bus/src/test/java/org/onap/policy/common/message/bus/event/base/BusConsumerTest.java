@@ -1,7 +1,7 @@
 /*
  * ============LICENSE_START=======================================================
  * Copyright (C) 2018-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2023-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,32 +21,52 @@ package org.onap.policy.common.message.bus.event.base;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.onap.policy.common.message.bus.event.base.BusConsumer.FetchingBusConsumer;
@@ -58,6 +78,7 @@ class BusConsumerTest extends TopicTestBase {
 
     private static final int SHORT_TIMEOUT_MILLIS = 10;
     private static final int LONG_TIMEOUT_MILLIS = 3000;
+    private static final TopicPartition PARTITION0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
 
     @Mock
     KafkaConsumer<String, String> mockedKafkaConsumer;
@@ -145,6 +166,19 @@ class BusConsumerTest extends TopicTestBase {
         assertThatCode(() -> new KafkaConsumerWrapper(makeKafkaBuilder().build())).doesNotThrowAnyException();
     }
 
+    @Test
+    void testKafkaConsumerWrapper_ConsumerFactory() {
+        List<Properties> props = new ArrayList<>();
+        KafkaConsumerWrapper kafka = new KafkaConsumerWrapper(makeKafkaBuilder().build(), null, kafkaProps -> {
+            props.add(kafkaProps);
+            return mockedKafkaConsumer;
+        }) {};
+
+        assertSame(mockedKafkaConsumer, kafka.consumer);
+        assertEquals(MY_CONS_GROUP, props.get(0).getProperty(ConsumerConfig.GROUP_ID_CONFIG));
+        verify(mockedKafkaConsumer).subscribe(eq(List.of(MY_TOPIC)), any(ConsumerRebalanceListener.class));
+    }
+
     @Test
     void testKafkaConsumerWrapper_InvalidTopic() {
         BusTopicParams params = makeBuilder().topic(null).build();
@@ -254,9 +288,331 @@ class BusConsumerTest extends TopicTestBase {
 
         assertEquals("value", result.iterator().next());
 
+        // the trace context is only extracted when asked for
+        assertFalse(Span.current().getSpanContext().isValid());
+        try (Scope scope = ((TracedRecords) result).makeCurrent(0)) {
+            assertEquals("0af7651916cd43dd8448eb211c80319c", Span.current().getSpanContext().getTraceId());
+        }
+
         mockedKafkaConsumer.close();
     }
 
+    @Test
+    void testCommitStrategyOf() {
+        assertEquals(CommitStrategy.SYNC, CommitStrategy.of(null));
+        assertEquals(CommitStrategy.SYNC, CommitStrategy.of(" "));
+        assertEquals(CommitStrategy.ASYNC, CommitStrategy.of("async"));
+        assertEquals(CommitStrategy.PERIODIC, CommitStrategy.of(" Periodic "));
+        assertThatIllegalArgumentException().isThrownBy(() -> CommitStrategy.of("unknown"));
+
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> new KafkaConsumerWrapper(makeKafkaBuilder().commitStrategy("bogus").build()));
+    }
+
+    @Test
+    void testFetchAsyncCommit() {
+        KafkaConsumerWrapper kafkaConsumerWrapper =
+                        new KafkaConsumerWrapper(makeKafkaBuilder().commitStrategy("async").build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+        assertEquals(CommitStrategy.ASYNC, kafkaConsumerWrapper.getCommitStrategy());
+
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 10));
+
+        assertEquals(List.of("value-10"), kafkaConsumerWrapper.fetch());
+
+        ArgumentCaptor<OffsetCommitCallback> callback = ArgumentCaptor.forClass(OffsetCommitCallback.class);
+        verify(mockedKafkaConsumer).commitAsync(any(Map.class), callback.capture());
+        verify(mockedKafkaConsumer, never()).commitSync(any(Map.class));
+
+        // failure - the offsets should remain uncommitted
+        Map<TopicPartition, OffsetAndMetadata> offsets = Map.of(PARTITION0, new OffsetAndMetadata(11));
+        callback.getValue().onComplete(offsets, new IllegalStateException("expected exception"));
+        assertEquals(offsets, kafkaConsumerWrapper.uncommitted);
+
+        // success
+        callback.getValue().onComplete(offsets, null);
+        assertTrue(kafkaConsumerWrapper.uncommitted.isEmpty());
+
+        // close should commit anything that hasn't been confirmed
+        kafkaConsumerWrapper.fetch();
+        kafkaConsumerWrapper.close();
+        verify(mockedKafkaConsumer).commitSync(offsets);
+    }
+
+    @Test
+    void testFetchPeriodicCommit() {
+        AtomicLong time = new AtomicLong(1000);
+        BusTopicParams params =
+                        makeKafkaBuilder().commitStrategy("periodic").commitIntervalMs(100).commitMaxRecords(3).build();
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(params) {
+            @Override
+            protected long currentTimeMillis() {
+                return time.get();
+            }
+        };
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        // nothing to commit yet
+        when(mockedKafkaConsumer.poll(any())).thenReturn(ConsumerRecords.empty());
+        kafkaConsumerWrapper.fetch();
+        verify(mockedKafkaConsumer, never()).commitSync(any(Map.class));
+
+        // below both limits - nothing committed
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 10), makeRecords(0, 11));
+        kafkaConsumerWrapper.fetch();
+        kafkaConsumerWrapper.fetch();
+        verify(mockedKafkaConsumer, never()).commitSync(any(Map.class));
+
+        // third record reaches the limit - coalesced into a single commit
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(1, 20));
+        kafkaConsumerWrapper.fetch();
+        verify(mockedKafkaConsumer).commitSync(Map.of(PARTITION0, new OffsetAndMetadata(12),
+                        new TopicPartition(MY_EFFECTIVE_TOPIC, 1), new OffsetAndMetadata(21)));
+
+        // interval elapses, even without new records
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 12), ConsumerRecords.empty());
+        kafkaConsumerWrapper.fetch();
+        time.addAndGet(100);
+        kafkaConsumerWrapper.fetch();
+        verify(mockedKafkaConsumer).commitSync(Map.of(PARTITION0, new OffsetAndMetadata(13)));
+
+        // nothing left to commit on close
+        kafkaConsumerWrapper.close();
+        verify(mockedKafkaConsumer, times(2)).commitSync(any(Map.class));
+    }
+
+    @Test
+    void testKafkaConsumerWrapperClose_CommitFails() {
+        KafkaConsumerWrapper kafkaConsumerWrapper =
+                        new KafkaConsumerWrapper(makeKafkaBuilder().commitStrategy("periodic").build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 10));
+        kafkaConsumerWrapper.fetch();
+
+        doThrow(new IllegalStateException("expected exception")).when(mockedKafkaConsumer).commitSync(any(Map.class));
+        assertThatCode(kafkaConsumerWrapper::close).doesNotThrowAnyException();
+        verify(mockedKafkaConsumer).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testKafkaConsumerWrapperSubscribe() {
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(makeKafkaBuilder().build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        kafkaConsumerWrapper.subscribe(List.of("topic-a", "topic-b"));
+        verify(mockedKafkaConsumer).subscribe(any(Collection.class), any(ConsumerRebalanceListener.class));
+
+        kafkaConsumerWrapper.subscribe(List.of());
+        verify(mockedKafkaConsumer).unsubscribe();
+    }
+
+    @Test
+    void testKafkaConsumerWrapperWakeup() {
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(makeKafkaBuilder().build()) {
+            @Override
+            protected void sleepAfterFetchFailure() {
+                throw new AssertionError("should not sleep after wakeup");
+            }
+        };
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        kafkaConsumerWrapper.wakeup();
+        verify(mockedKafkaConsumer).wakeup();
+
+        when(mockedKafkaConsumer.poll(any())).thenThrow(new WakeupException());
+        assertThatThrownBy(kafkaConsumerWrapper::poll).isInstanceOf(WakeupException.class);
+
+        // fetch() is used by sources that are being stopped, thus it returns nothing
+        assertFalse(kafkaConsumerWrapper.fetch().iterator().hasNext());
+    }
+
+    @Test
+    void testBusConsumerWakeup() {
+        // does nothing by default
+        BusConsumer busConsumer = new FetchingBusConsumerImpl(makeBuilder().build());
+        assertThatCode(busConsumer::wakeup).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testKafkaConsumerWrapperFetchLimit() {
+        assertEquals(String.valueOf(MY_FETCH_LIMIT), new KafkaConsumerWrapper(makeKafkaBuilder().build()).kafkaProps
+                        .getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG));
+
+        // explicit property takes precedence
+        BusTopicParams.TopicParamsBuilder kafkaBuilder = makeKafkaBuilder();
+        addProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "7");
+        assertEquals("7", new KafkaConsumerWrapper(kafkaBuilder.build()).kafkaProps
+                        .getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG));
+
+        // no limit
+        assertNull(new KafkaConsumerWrapper(makeKafkaBuilder().fetchLimit(-1).build()).kafkaProps
+                        .getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG));
+    }
+
+    @Test
+    void testCommitLater() {
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(makeKafkaBuilder().build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = Map.of(PARTITION0, new OffsetAndMetadata(5));
+        kafkaConsumerWrapper.commitLater(offsets);
+        verify(mockedKafkaConsumer, never()).commitSync(any(Map.class));
+
+        // committed when closed
+        kafkaConsumerWrapper.close();
+        verify(mockedKafkaConsumer).commitSync(offsets);
+    }
+
+    @Test
+    void testSeek() {
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(makeKafkaBuilder().build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        kafkaConsumerWrapper.seek(PARTITION0, 17);
+        verify(mockedKafkaConsumer).seek(PARTITION0, 17);
+    }
+
+    @Test
+    void testPauseResume() {
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(makeKafkaBuilder().build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        Set<TopicPartition> assignment = Set.of(PARTITION0);
+        when(mockedKafkaConsumer.assignment()).thenReturn(assignment);
+        when(mockedKafkaConsumer.poll(any())).thenReturn(ConsumerRecords.empty());
+
+        assertFalse(kafkaConsumerWrapper.isPaused());
+        kafkaConsumerWrapper.poll();
+        verify(mockedKafkaConsumer).poll(Duration.ofMillis(MY_FETCH_TIMEOUT));
+
+        kafkaConsumerWrapper.pause();
+        assertTrue(kafkaConsumerWrapper.isPaused());
+        verify(mockedKafkaConsumer).pause(assignment);
+
+        // polls with a shorter timeout while paused
+        kafkaConsumerWrapper.poll();
+        verify(mockedKafkaConsumer).poll(Duration.ofMillis(100));
+
+        kafkaConsumerWrapper.resume();
+        assertFalse(kafkaConsumerWrapper.isPaused());
+        verify(mockedKafkaConsumer).resume(assignment);
+    }
+
+    @Test
+    void testRebalanceListener() {
+        ConsumerRebalanceListener listener = mock(ConsumerRebalanceListener.class);
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(
+                        makeKafkaBuilder().commitStrategy("periodic").build(), listener);
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 10));
+        kafkaConsumerWrapper.fetch();
+
+        // revocation commits the outstanding offsets
+        var rebalance = kafkaConsumerWrapper.new RebalanceListener();
+        List<TopicPartition> partitions = List.of(PARTITION0);
+        rebalance.onPartitionsRevoked(partitions);
+        verify(listener).onPartitionsRevoked(partitions);
+        verify(mockedKafkaConsumer).commitSync(Map.of(PARTITION0, new OffsetAndMetadata(11)));
+
+        // not paused
+        rebalance.onPartitionsAssigned(partitions);
+        verify(listener).onPartitionsAssigned(partitions);
+        verify(mockedKafkaConsumer, never()).pause(any());
+
+        // paused - newly assigned partitions should be paused, too
+        kafkaConsumerWrapper.pause();
+        rebalance.onPartitionsAssigned(partitions);
+        verify(mockedKafkaConsumer).pause(partitions);
+
+        // commit failure is not propagated
+        kafkaConsumerWrapper.fetch();
+        doThrow(new IllegalStateException("expected exception")).when(mockedKafkaConsumer).commitSync(any(Map.class));
+        assertThatCode(() -> rebalance.onPartitionsRevoked(partitions)).doesNotThrowAnyException();
+
+        // no listener
+        var rebalance2 = new KafkaConsumerWrapper(makeKafkaBuilder().build()).new RebalanceListener();
+        assertThatCode(() -> rebalance2.onPartitionsRevoked(partitions)).doesNotThrowAnyException();
+        assertThatCode(() -> rebalance2.onPartitionsAssigned(partitions)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testConsumerStats() {
+        AtomicLong time = new AtomicLong(1000);
+        KafkaConsumerWrapper kafkaConsumerWrapper = new KafkaConsumerWrapper(makeKafkaBuilder().build()) {
+            @Override
+            protected long currentTimeMillis() {
+                return time.get();
+            }
+        };
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+        ConsumerStats stats = kafkaConsumerWrapper.getStats();
+
+        TopicPartition partition1 = new TopicPartition(MY_EFFECTIVE_TOPIC, 1);
+        when(mockedKafkaConsumer.assignment()).thenReturn(Set.of(PARTITION0, partition1));
+        when(mockedKafkaConsumer.currentLag(PARTITION0)).thenReturn(OptionalLong.of(5));
+        when(mockedKafkaConsumer.currentLag(partition1)).thenReturn(OptionalLong.empty());
+
+        // nothing committed yet - lag is unknown
+        when(mockedKafkaConsumer.poll(any())).thenReturn(ConsumerRecords.empty());
+        kafkaConsumerWrapper.fetch();
+        assertEquals(0, stats.getPollInterval().getCount());
+        assertEquals(0, stats.getCommitDuration().getCount());
+        assertTrue(stats.getPartitionLag(MY_EFFECTIVE_TOPIC).isEmpty());
+
+        // commits offset 11, while the broker has 5 more records beyond that
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 10));
+        kafkaConsumerWrapper.fetch();
+        assertEquals(1, stats.getPollInterval().getCount());
+        assertEquals(1, stats.getCommitDuration().getCount());
+
+        // not yet time to sample again
+        assertTrue(stats.getPartitionLag(MY_EFFECTIVE_TOPIC).isEmpty());
+
+        time.addAndGet(1000);
+        when(mockedKafkaConsumer.poll(any())).thenReturn(ConsumerRecords.empty());
+        kafkaConsumerWrapper.fetch();
+        assertEquals(Map.of(0, 5L), stats.getPartitionLag(MY_EFFECTIVE_TOPIC));
+        assertEquals(2, stats.getPollInterval().getCount());
+
+        // revoked partitions are no longer reported
+        kafkaConsumerWrapper.new RebalanceListener().onPartitionsRevoked(List.of(PARTITION0));
+        time.addAndGet(1000);
+        kafkaConsumerWrapper.fetch();
+        assertTrue(stats.getPartitionLag(MY_EFFECTIVE_TOPIC).isEmpty());
+    }
+
+    @Test
+    void testConsumerStatsAsyncCommit() {
+        KafkaConsumerWrapper kafkaConsumerWrapper =
+                        new KafkaConsumerWrapper(makeKafkaBuilder().commitStrategy("async").build());
+        kafkaConsumerWrapper.consumer = mockedKafkaConsumer;
+
+        when(mockedKafkaConsumer.assignment()).thenReturn(Set.of(PARTITION0));
+        when(mockedKafkaConsumer.currentLag(PARTITION0)).thenReturn(OptionalLong.of(0));
+        when(mockedKafkaConsumer.poll(any())).thenReturn(makeRecords(0, 10));
+        kafkaConsumerWrapper.fetch();
+
+        ArgumentCaptor<OffsetCommitCallback> callback = ArgumentCaptor.forClass(OffsetCommitCallback.class);
+        verify(mockedKafkaConsumer).commitAsync(any(Map.class), callback.capture());
+
+        // only confirmed commits count toward the lag
+        callback.getValue().onComplete(Map.of(PARTITION0, new OffsetAndMetadata(8)), null);
+        kafkaConsumerWrapper.sampleLag();
+        assertEquals(Map.of(0, 3L), kafkaConsumerWrapper.getStats().getPartitionLag(MY_EFFECTIVE_TOPIC));
+
+        // asynchronous commits are not timed
+        assertEquals(0, kafkaConsumerWrapper.getStats().getCommitDuration().getCount());
+    }
+
+    private ConsumerRecords<String, String> makeRecords(int partition, long offset) {
+        ConsumerRecord<String, String> consumerRecord =
+                        new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, partition, offset, "key", "value-" + offset);
+        return new ConsumerRecords<>(Map.of(new TopicPartition(MY_EFFECTIVE_TOPIC, partition),
+                        List.of(consumerRecord)));
+    }
 
     @Test
     void testKafkaConsumerWrapperClose() {
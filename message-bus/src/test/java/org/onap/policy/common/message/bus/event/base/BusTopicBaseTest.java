@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2018-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +21,14 @@
 package org.onap.policy.common.message.bus.event.base;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
@@ -56,6 +59,24 @@ class BusTopicBaseTest extends TopicTestBase {
         assertThatCode(() -> new GsonTestUtils().compareGson(base, BusTopicBaseTest.class)).doesNotThrowAnyException();
     }
 
+    @Test
+    void testRecentEvents() {
+        // default
+        for (var count = 0; count <= RecentEvents.DEFAULT_CAPACITY; ++count) {
+            base.addRecentEvent("message-" + count);
+        }
+        assertEquals(RecentEvents.DEFAULT_CAPACITY, base.getRecentEvents().length);
+
+        BusTopicBaseImpl base2 = new BusTopicBaseImpl(builder.recentEventsCapacity(2).recentEventsMaxLength(4).build());
+        base2.addRecentEvents(List.of("message-A", "message-B", "message-C"));
+        assertArrayEquals(new String[] {"mess", "mess"}, base2.getRecentEvents());
+
+        // disabled
+        BusTopicBaseImpl base3 = new BusTopicBaseImpl(builder.recentEventsCapacity(0).build());
+        base3.addRecentEvent("message-A");
+        assertEquals(0, base3.getRecentEvents().length);
+    }
+
     @Test
     void testGetApiKey() {
         assertEquals(MY_API_KEY, base.getApiKey());
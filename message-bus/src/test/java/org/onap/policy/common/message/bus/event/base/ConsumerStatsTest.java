@@ -0,0 +1,65 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConsumerStatsTest {
+
+    @Test
+    void testRecord() {
+        var stats = new ConsumerStats();
+
+        stats.recordPollInterval(2_000_000L);
+        stats.recordPollInterval(3_000_000L);
+        stats.recordCommit(1_000_000L);
+
+        assertEquals(2, stats.getPollInterval().getCount());
+        assertEquals(0.005, stats.getPollInterval().getSum(), 1e-9);
+        assertEquals(1, stats.getCommitDuration().getCount());
+        assertEquals(0.001, stats.getCommitDuration().getSum(), 1e-9);
+    }
+
+    @Test
+    void testLag() {
+        var stats = new ConsumerStats();
+        assertTrue(stats.getPartitionLag("my-topic").isEmpty());
+
+        Map<Integer, Long> partitions = new HashMap<>(Map.of(0, 10L, 1, 0L));
+        stats.setLag(Map.of("my-topic", partitions));
+
+        // later changes to the original map are not seen
+        partitions.put(2, 3L);
+        Map<Integer, Long> lag = stats.getPartitionLag("my-topic");
+        assertEquals(Map.of(0, 10L, 1, 0L), lag);
+        assertThatThrownBy(() -> lag.put(2, 3L)).isInstanceOf(UnsupportedOperationException.class);
+
+        assertTrue(stats.getPartitionLag("other-topic").isEmpty());
+
+        // replaced as a whole
+        stats.setLag(Map.of());
+        assertTrue(stats.getPartitionLag("my-topic").isEmpty());
+    }
+}
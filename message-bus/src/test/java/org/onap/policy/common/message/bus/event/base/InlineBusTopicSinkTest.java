@@ -1,7 +1,7 @@
 /*
  * ============LICENSE_START=======================================================
  * Copyright (C) 2018-2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,18 +24,23 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.RecordAck;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.event.TopicListener;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
@@ -52,6 +57,7 @@ class InlineBusTopicSinkTest extends TopicTestBase {
     @Override
     public void setUp() {
         super.setUp();
+        TopicMetrics.setDetailed(true);
 
         sink = new InlineBusTopicSinkImpl(makeBuilder().build());
     }
@@ -59,6 +65,7 @@ class InlineBusTopicSinkTest extends TopicTestBase {
     @AfterEach
     public void tearDown() {
         sink.shutdown();
+        TopicMetrics.setDetailed(false);
     }
 
     @Test
@@ -121,19 +128,29 @@ class InlineBusTopicSinkTest extends TopicTestBase {
         TopicListener listener = mock(TopicListener.class);
         sink.register(listener);
 
+        when(pub.send(anyString(), anyString())).thenReturn(true);
         assertTrue(sink.send(MY_MESSAGE));
 
         verify(pub).send(MY_PARTITION, MY_MESSAGE);
         verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
         assertEquals(List.of(MY_MESSAGE), Arrays.asList(sink.getRecentEvents()));
+        assertEquals(1, sink.getMetrics().getMessagesOut().sum());
+        assertEquals(MY_MESSAGE.length(), sink.getMetrics().getBytesOut().sum());
+        assertEquals(0, sink.getMetrics().getSendFailures().sum());
+
+        // publisher reports that the message was not sent
+        when(pub.send(anyString(), anyString())).thenReturn(false);
+        assertTrue(sink.send(MY_MESSAGE));
+        assertEquals(1, sink.getMetrics().getSendFailures().sum());
 
         // arrange for send to throw an exception
         when(pub.send(anyString(), anyString())).thenThrow(new RuntimeException(EXPECTED));
 
         assertFalse(sink.send(MY_MESSAGE));
+        assertEquals(2, sink.getMetrics().getSendFailures().sum());
 
         // no more event deliveries
-        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
+        verify(listener, times(2)).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
     }
 
     @Test
@@ -158,6 +175,49 @@ class InlineBusTopicSinkTest extends TopicTestBase {
         assertThatThrownBy(() -> sink.send(MY_MESSAGE)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void testSendAsync() {
+        sink.start();
+        BusPublisher pub = mock(BusPublisher.class);
+        sink.publisher = pub;
+
+        CompletableFuture<RecordAck> future = new CompletableFuture<>();
+        when(pub.sendAsync(MY_PARTITION, "my-key", MY_MESSAGE)).thenReturn(future);
+
+        TopicListener listener = mock(TopicListener.class);
+        sink.register(listener);
+
+        assertSame(future, sink.sendAsync("my-key", MY_MESSAGE));
+
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
+        assertEquals(List.of(MY_MESSAGE), Arrays.asList(sink.getRecentEvents()));
+        assertEquals(1, sink.getMetrics().getMessagesOut().sum());
+
+        // asynchronous failure
+        assertEquals(0, sink.getMetrics().getSendFailures().sum());
+        future.completeExceptionally(new RuntimeException(EXPECTED));
+        assertEquals(1, sink.getMetrics().getSendFailures().sum());
+
+        // arrange for send to throw an exception
+        when(pub.sendAsync(anyString(), any(), anyString())).thenThrow(new RuntimeException(EXPECTED));
+
+        assertTrue(sink.sendAsync(MY_MESSAGE).isCompletedExceptionally());
+        assertEquals(2, sink.getMetrics().getSendFailures().sum());
+
+        // no more event deliveries
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
+    }
+
+    @Test
+    void testSendAsync_InvalidMessage() {
+        sink.publisher = mock(BusPublisher.class);
+        assertThatThrownBy(() -> sink.sendAsync(MY_MESSAGE)).isInstanceOf(IllegalStateException.class);
+
+        sink.start();
+        assertThatThrownBy(() -> sink.sendAsync(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sink.sendAsync("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void testSetPartitionKey_getPartitionKey() {
         assertEquals(MY_PARTITION, sink.getPartitionKey());
@@ -0,0 +1,99 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RecentEventsTest {
+
+    @Test
+    void testRecentEvents() {
+        RecentEvents events = new RecentEvents(3, 0);
+        assertEquals(3, events.getCapacity());
+        assertEquals(0, events.getMaxLength());
+        assertEquals(0, events.size());
+        assertThat(events.toArray()).isEmpty();
+
+        events.add("a");
+        events.add(null);
+        events.add("b");
+        assertEquals(2, events.size());
+        assertThat(events.toArray()).containsExactly("a", "b");
+
+        // wraps around, discarding the oldest
+        events.addAll(List.of("c", "d", "e"));
+        assertEquals(3, events.size());
+        assertThat(events.toArray()).containsExactly("c", "d", "e");
+    }
+
+    @Test
+    void testRecentEvents_Default() {
+        RecentEvents events = new RecentEvents(-1, -1);
+        assertEquals(RecentEvents.DEFAULT_CAPACITY, events.getCapacity());
+        assertEquals(0, events.getMaxLength());
+    }
+
+    @Test
+    void testRecentEvents_Disabled() {
+        RecentEvents events = new RecentEvents(0, 0);
+        events.add("a");
+        events.addAll(List.of("b", "c"));
+        assertEquals(0, events.size());
+        assertThat(events.toArray()).isEmpty();
+    }
+
+    @Test
+    void testRecentEvents_Truncated() {
+        RecentEvents events = new RecentEvents(2, 3);
+        events.add("abcdef");
+        events.add("xyz");
+        assertThat(events.toArray()).containsExactly("abc", "xyz");
+    }
+
+    @Test
+    void testRecentEvents_Concurrent() throws InterruptedException {
+        final int nthreads = 4;
+        final int nevents = 1000;
+        RecentEvents events = new RecentEvents(5, 0);
+
+        List<Thread> threads = new ArrayList<>(nthreads);
+        for (var nthread = 0; nthread < nthreads; ++nthread) {
+            final String prefix = "thread-" + nthread + "-";
+            Thread thread = new Thread(() -> {
+                for (var nevent = 0; nevent < nevents; ++nevent) {
+                    events.add(prefix + nevent);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(5, events.size());
+        assertThat(events.toArray()).hasSize(5).doesNotContainNull();
+    }
+}
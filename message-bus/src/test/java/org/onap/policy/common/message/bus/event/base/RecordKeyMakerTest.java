@@ -0,0 +1,73 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+class RecordKeyMakerTest {
+    private static final String MY_PARTITION = "my-partition";
+    private static final String MY_MESSAGE = "{\"body\":{\"requestId\":\"req-1\"}}";
+
+    @Test
+    void testKeyStrategyOf() {
+        assertEquals(KeyStrategy.RANDOM, KeyStrategy.of(null));
+        assertEquals(KeyStrategy.RANDOM, KeyStrategy.of(" "));
+        assertEquals(KeyStrategy.NONE, KeyStrategy.of("none"));
+        assertEquals(KeyStrategy.FIXED, KeyStrategy.of(" Fixed "));
+        assertEquals(KeyStrategy.FIELD, KeyStrategy.of("FIELD"));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeyStrategy.of("unknown"));
+    }
+
+    @Test
+    void testRecordKeyMaker() {
+        assertThatIllegalArgumentException().isThrownBy(() -> makeKeyMaker("unknown", null));
+        assertThatIllegalArgumentException().isThrownBy(() -> makeKeyMaker("field", null));
+        assertThatIllegalArgumentException().isThrownBy(() -> makeKeyMaker("field", " "));
+    }
+
+    @Test
+    void testMakeKey() {
+        // random, by default
+        RecordKeyMaker keyMaker = makeKeyMaker(null, null);
+        assertEquals(KeyStrategy.RANDOM, keyMaker.getKeyStrategy());
+        String key = keyMaker.makeKey(MY_PARTITION, MY_MESSAGE);
+        assertNotNull(key);
+        assertNotEquals(key, keyMaker.makeKey(MY_PARTITION, MY_MESSAGE));
+
+        assertNull(makeKeyMaker("none", null).makeKey(MY_PARTITION, MY_MESSAGE));
+        assertEquals(MY_PARTITION, makeKeyMaker("fixed", null).makeKey(MY_PARTITION, MY_MESSAGE));
+
+        keyMaker = makeKeyMaker("field", " body.requestId ");
+        assertEquals("req-1", keyMaker.makeKey(MY_PARTITION, MY_MESSAGE));
+        assertNull(keyMaker.makeKey(MY_PARTITION, "{\"requestId\":\"req-1\"}"));
+        assertNull(keyMaker.makeKey(MY_PARTITION, "not json"));
+    }
+
+    private RecordKeyMaker makeKeyMaker(String keyStrategy, String keyField) {
+        return new RecordKeyMaker(BusTopicParams.builder().topic("my-topic").keyStrategy(keyStrategy)
+                        .keyField(keyField).build());
+    }
+}
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2018-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,8 +24,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -32,15 +37,28 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.TraceId;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.onap.policy.common.message.bus.event.BatchTopicListener;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.event.TopicListener;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
@@ -48,6 +66,9 @@ import org.onap.policy.common.utils.gson.GsonTestUtils;
 import org.onap.policy.common.utils.network.NetworkUtil;
 
 class SingleThreadedBusTopicSourceTest extends TopicTestBase {
+    private static final String TRACE_ID1 = "0af7651916cd43dd8448eb211c80319c";
+    private static final String TRACE_ID2 = "4bf92f3577b34da6a3ce929d0e0e4736";
+
     private Thread thread;
     private BusConsumer cons;
     private TopicListener listener;
@@ -60,6 +81,7 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
     @Override
     public void setUp() {
         super.setUp();
+        TopicMetrics.setDetailed(true);
 
         thread = mock(Thread.class);
         cons = mock(BusConsumer.class);
@@ -70,6 +92,7 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
     @AfterEach
     public void tearDown() {
         source.shutdown();
+        TopicMetrics.setDetailed(false);
     }
 
     @Test
@@ -224,6 +247,16 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
         }).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void testStop_NoPoller() {
+        // the poller thread never ran, thus the consumer is closed by stop()
+        source.start();
+        when(thread.isAlive()).thenReturn(false);
+        source.stop();
+        verify(cons).close();
+        verify(cons, never()).wakeup();
+    }
+
     @Test
     void testStop() {
         source.start();
@@ -268,6 +301,12 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
         verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
         verify(listener, never()).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE2);
 
+        // only the successful fetch is recorded
+        assertEquals(1, source.getMetrics().getPollDuration().getCount());
+        assertEquals(2.0, source.getMetrics().getPollBatchSize().getSum());
+        assertEquals(1, source.getMetrics().getMessagesIn().sum());
+        assertEquals(1, source.getMetrics().getDispatchLatency().getCount());
+
         /*
          * Die AFTER fetching messages.
          */
@@ -288,11 +327,117 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
             }
         });
         source.alive = true;
+        source.consumer = cons;
         source.run();
         verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, msga);
         verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, msgb);
 
         assertEquals(Arrays.asList(MY_MESSAGE, msga, msgb), Arrays.asList(source.getRecentEvents()));
+
+        // the poller closes the consumer as it exits
+        verify(cons, times(2)).close();
+        assertNull(source.consumer);
+    }
+
+    @Test
+    void testRun_ConsumerReplaced() throws Exception {
+        source.register(listener);
+
+        // a restart replaces the consumer, thus the old poller exits
+        when(cons.fetch()).thenAnswer(invocation -> {
+            source.consumer = mock(BusConsumer.class);
+            return Collections.emptyList();
+        });
+        source.alive = true;
+        source.run();
+
+        verify(cons).fetch();
+        verify(cons).close();
+        assertNotNull(source.consumer);
+    }
+
+    @Test
+    void testStop_ClosesOnPollerThread() throws Exception {
+        var pollerCons = new PollerOnlyConsumer();
+        source = new SingleThreadedBusTopicSourceImpl(makeBuilder().build()) {
+            @Override
+            public void init() {
+                consumer = pollerCons;
+            }
+
+            @Override
+            protected Thread makePollerThread() {
+                return new Thread(this);
+            }
+        };
+
+        source.register(listener);
+        assertTrue(pollerCons.fetched.await(5, TimeUnit.SECONDS));
+
+        // the poller is woken and closes the consumer itself, before stop() returns
+        source.stop();
+        assertTrue(pollerCons.closed);
+        assertEquals(List.of(), pollerCons.errors);
+        assertFalse(pollerCons.poller.isAlive());
+    }
+
+    @Test
+    void testDeliver_Traced() {
+        List<String> traceIds = new ArrayList<>();
+        TopicListener tracer = (infra, topic, event) -> traceIds.add(Span.current().getSpanContext().getTraceId());
+        source.register(tracer);
+
+        ConsumerRecord<String, String> record1 = new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 0, "key", MY_MESSAGE);
+        record1.headers().add(TracedRecords.TRACEPARENT_HEADER,
+                        ("00-" + TRACE_ID1 + "-b7ad6b7169203331-01").getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, String> record2 = new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 1, "key", MY_MESSAGE2);
+        record2.headers().add(TracedRecords.TRACEPARENT_HEADER,
+                        ("00-" + TRACE_ID2 + "-00f067aa0ba902b7-01").getBytes(StandardCharsets.UTF_8));
+        var records = new TracedRecords(List.of(record1, record2));
+
+        // each listener invocation sees its own record's parent
+        source.alive = true;
+        source.deliver(records);
+        assertEquals(List.of(TRACE_ID1, TRACE_ID2), traceIds);
+        assertFalse(Span.current().getSpanContext().isValid());
+
+        // tracing not allowed
+        traceIds.clear();
+        source.allowTracing = false;
+        source.deliver(records);
+        assertEquals(List.of(TraceId.getInvalid(), TraceId.getInvalid()), traceIds);
+    }
+
+    @Test
+    void testRun_BatchListener() throws Exception {
+        BatchTopicListener batchListener = mock(BatchTopicListener.class);
+        source.register(listener);
+        source.register(batchListener);
+
+        // the whole batch is delivered, even though the source dies part way through
+        when(cons.fetch()).thenAnswer(new Answer<Iterable<String>>() {
+            int count = 0;
+
+            @Override
+            public Iterable<String> answer(InvocationOnMock invocation) throws Throwable {
+                if (++count > 1) {
+                    source.alive = false;
+                    return new LinkedHashSet<>(Arrays.asList(MY_MESSAGE, MY_MESSAGE2));
+
+                } else {
+                    return Collections.emptyList();
+                }
+            }
+        });
+        source.alive = true;
+        source.run();
+
+        verify(batchListener).onTopicEvents(CommInfrastructure.NOOP, MY_TOPIC, Arrays.asList(MY_MESSAGE, MY_MESSAGE2));
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE);
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, MY_MESSAGE2);
+        verify(batchListener, times(1)).onTopicEvents(any(), any(), any());
+
+        assertEquals(Arrays.asList(MY_MESSAGE, MY_MESSAGE2), Arrays.asList(source.getRecentEvents()));
     }
 
     @Test
@@ -308,6 +453,27 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
         assertThatThrownBy(() -> source.offer(MY_MESSAGE)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void testGetConsumerStats() throws Exception {
+        // no consumer yet
+        assertNull(source.getConsumerStats());
+        assertTrue(source.getPartitionLag().isEmpty());
+
+        // consumer that does not keep statistics
+        source.start();
+        assertNull(source.getConsumerStats());
+        assertTrue(source.getPartitionLag().isEmpty());
+
+        var stats = new ConsumerStats();
+        stats.setLag(Map.of(MY_EFFECTIVE_TOPIC, Map.of(0, 4L), MY_TOPIC, Map.of(0, 7L)));
+        var wrapper = mock(BusConsumer.KafkaConsumerWrapper.class);
+        when(wrapper.getStats()).thenReturn(stats);
+        source.consumer = wrapper;
+
+        assertSame(stats, source.getConsumerStats());
+        assertEquals(Map.of(0, 4L), source.getPartitionLag());
+    }
+
     @Test
     void testGetConsumerGroup() {
         assertEquals(MY_CONS_GROUP, source.getConsumerGroup());
@@ -337,6 +503,52 @@ class SingleThreadedBusTopicSourceTest extends TopicTestBase {
         assertEquals(MY_FETCH_LIMIT, source.getFetchLimit());
     }
 
+    /**
+     * Consumer that records any use by a thread other than the one that first fetched
+     * from it, as a Kafka consumer would fail. Each fetch waits until the consumer is
+     * woken.
+     */
+    private static class PollerOnlyConsumer implements BusConsumer {
+        private final CountDownLatch fetched = new CountDownLatch(1);
+        private final Semaphore woken = new Semaphore(0);
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+        private volatile Thread poller;
+        private volatile boolean closed = false;
+
+        @Override
+        public Iterable<String> fetch() {
+            checkThread("fetch");
+            fetched.countDown();
+
+            try {
+                woken.tryAcquire(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void wakeup() {
+            woken.release();
+        }
+
+        @Override
+        public void close() {
+            checkThread("close");
+            closed = true;
+        }
+
+        private void checkThread(String operation) {
+            if (poller == null && "fetch".equals(operation)) {
+                poller = Thread.currentThread();
+            } else if (poller != Thread.currentThread()) {
+                errors.add(operation + " invoked by " + Thread.currentThread().getName());
+            }
+        }
+    }
+
     /**
      * Implementation of SingleThreadedBusTopicSource that counts the number of times
      * init() is invoked.
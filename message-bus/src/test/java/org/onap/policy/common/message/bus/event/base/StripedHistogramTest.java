@@ -0,0 +1,72 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class StripedHistogramTest {
+
+    @Test
+    void testConstructor() {
+        var histogram = new StripedHistogram(new double[] {1, 2});
+        assertArrayEquals(new double[] {1, 2, Double.POSITIVE_INFINITY}, histogram.getUpperBounds());
+        assertArrayEquals(new long[] {0, 0, 0}, histogram.getBucketCounts());
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getSum());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new StripedHistogram(new double[] {2, 1}));
+        assertThatIllegalArgumentException().isThrownBy(() -> new StripedHistogram(new double[] {1, 1}));
+    }
+
+    @Test
+    void testObserve() {
+        var histogram = new StripedHistogram(new double[] {1, 2, 5});
+
+        // bounds are inclusive
+        histogram.observe(0.5);
+        histogram.observe(1);
+        histogram.observe(1.5);
+        histogram.observe(5);
+        histogram.observe(100);
+
+        assertArrayEquals(new long[] {2, 1, 1, 1}, histogram.getBucketCounts());
+        assertEquals(5, histogram.getCount());
+        assertEquals(108.0, histogram.getSum(), 1e-9);
+    }
+
+    @Test
+    void testObserveNanos() {
+        var histogram = new StripedHistogram(StripedHistogram.LATENCY_BOUNDS_SECONDS);
+
+        // 3 ms
+        histogram.observeNanos(3_000_000L);
+
+        long[] counts = histogram.getBucketCounts();
+        double[] bounds = histogram.getUpperBounds();
+        for (var index = 0; index < counts.length; ++index) {
+            assertEquals(bounds[index] == 0.005 ? 1 : 0, counts[index]);
+        }
+
+        assertEquals(0.003, histogram.getSum(), 1e-9);
+    }
+}
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2018-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,10 +33,13 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.BatchTopicListener;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.event.TopicListener;
 import org.onap.policy.common.utils.gson.GsonTestUtils;
@@ -52,9 +56,15 @@ class TopicBaseTest extends TopicTestBase {
     public void setUp() {
         super.setUp();
 
+        TopicMetrics.setDetailed(true);
         base = new TopicBaseImpl(servers, MY_TOPIC);
     }
 
+    @AfterEach
+    public void tearDown() {
+        TopicMetrics.setDetailed(false);
+    }
+
     @Test
     void testTopicBase_NullServers() {
         assertThatThrownBy(() -> new TopicBaseImpl(null, MY_TOPIC)).isInstanceOf(IllegalArgumentException.class);
@@ -117,6 +127,7 @@ class TopicBaseTest extends TopicTestBase {
         TopicListener listener2 = mock(TopicListener.class);
         base.register(listener2);
         assertEquals(List.of(listener, listener2), base.snapshotTopicListeners());
+        assertEquals(2, base.countTopicListeners());
     }
 
     @Test
@@ -145,6 +156,45 @@ class TopicBaseTest extends TopicTestBase {
         assertTrue(base.snapshotTopicListeners().isEmpty());
     }
 
+    @Test
+    void testUnregister_Middle() {
+        TopicListener listener = mock(TopicListener.class);
+        TopicListener listener2 = mock(TopicListener.class);
+        TopicListener listener3 = mock(TopicListener.class);
+        base.register(listener);
+        base.register(listener2);
+        base.register(listener3);
+
+        base.unregister(listener2);
+        assertEquals(List.of(listener, listener3), base.snapshotTopicListeners());
+    }
+
+    @Test
+    void testUnregisterAll() {
+        base.register(mock(TopicListener.class));
+        base.register(mock(TopicListener.class));
+
+        base.unregisterAll();
+        assertTrue(base.snapshotTopicListeners().isEmpty());
+    }
+
+    @Test
+    void testSnapshotTopicListeners() {
+        TopicListener listener = mock(TopicListener.class);
+        base.register(listener);
+
+        List<TopicListener> snapshot = base.snapshotTopicListeners();
+
+        // snapshot should not be affected by subsequent changes
+        base.register(mock(TopicListener.class));
+        base.unregister(listener);
+        assertEquals(List.of(listener), snapshot);
+
+        // the snapshot is a copy, which may be modified without affecting the topic
+        snapshot.clear();
+        assertEquals(1, base.snapshotTopicListeners().size());
+    }
+
     @Test
     void testUnregister_NullListener() {
         base.register(mock(TopicListener.class));
@@ -164,6 +214,7 @@ class TopicBaseTest extends TopicTestBase {
         base.broadcast(msg1);
         verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, msg1);
         verify(listener2).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, msg1);
+        assertEquals(1, base.getMetrics().getDispatchLatency().getCount());
 
         // broadcast another message, with an exception
         final String msg2 = "message-B";
@@ -173,6 +224,70 @@ class TopicBaseTest extends TopicTestBase {
         verify(listener2).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, msg2);
     }
 
+    @Test
+    void testBroadcast_NotDetailed() {
+        TopicMetrics.setDetailed(false);
+
+        TopicListener listener = mock(TopicListener.class);
+        base.register(listener);
+
+        assertTrue(base.broadcast("message-A"));
+        assertTrue(base.broadcast(List.of("message-B", "message-C")));
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, "message-C");
+        assertEquals(0, base.getMetrics().getDispatchLatency().getCount());
+    }
+
+    @Test
+    void testBroadcastBatch() {
+        TopicListener listener = mock(TopicListener.class);
+        BatchTopicListener batchListener = mock(BatchTopicListener.class);
+        base.register(listener);
+        base.register(batchListener);
+
+        // batch listener gets the whole batch, the other gets each message
+        final List<String> msgs = List.of("message-A", "message-B");
+        assertTrue(base.broadcast(msgs));
+        verify(batchListener).onTopicEvents(CommInfrastructure.NOOP, MY_TOPIC, msgs);
+        assertEquals(1, base.getMetrics().getDispatchLatency().getCount());
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, "message-A");
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, "message-B");
+
+        // exceptions - the remaining messages should still be delivered
+        final List<String> msgs2 = List.of("message-C", "message-D");
+        doThrow(new RuntimeException(EXPECTED)).when(listener).onTopicEvent(any(), any(), any());
+        doThrow(new RuntimeException(EXPECTED)).when(batchListener).onTopicEvents(any(), any(), any());
+        assertFalse(base.broadcast(msgs2));
+        verify(batchListener).onTopicEvents(CommInfrastructure.NOOP, MY_TOPIC, msgs2);
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, "message-C");
+        verify(listener).onTopicEvent(CommInfrastructure.NOOP, MY_TOPIC, "message-D");
+    }
+
+    @Test
+    void testBroadcast_BatchListener() {
+        List<List<String>> batches = new ArrayList<>();
+        BatchTopicListener batchListener = (infra, topic, events) -> batches.add(events);
+        base.register(batchListener);
+
+        // a single message is delivered as a batch of one
+        assertTrue(base.broadcast("message-A"));
+        assertEquals(List.of(List.of("message-A")), batches);
+    }
+
+    @Test
+    void testHasBatchListeners() {
+        assertFalse(base.hasBatchListeners());
+
+        base.register(mock(TopicListener.class));
+        assertFalse(base.hasBatchListeners());
+
+        BatchTopicListener batchListener = mock(BatchTopicListener.class);
+        base.register(batchListener);
+        assertTrue(base.hasBatchListeners());
+
+        base.unregister(batchListener);
+        assertFalse(base.hasBatchListeners());
+    }
+
     @Test
     void testLock_testUnlock() {
         assertFalse(base.isLocked());
@@ -349,7 +464,7 @@ class TopicBaseTest extends TopicTestBase {
          * @param event event to be added
          */
         public void addEvent(String event) {
-            recentEvents.add(event);
+            addRecentEvent(event);
         }
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TopicMetricsTest {
+
+    @AfterEach
+    public void tearDown() {
+        TopicMetrics.setDetailed(false);
+    }
+
+    @Test
+    void testRecordIn() {
+        TopicMetrics.setDetailed(true);
+        var metrics = new TopicMetrics();
+        metrics.recordIn("abc");
+        metrics.recordIn("d\u00e9fg");
+
+        assertEquals(2, metrics.getMessagesIn().sum());
+        assertEquals(8, metrics.getBytesIn().sum());
+        assertEquals(0, metrics.getMessagesOut().sum());
+    }
+
+    @Test
+    void testRecordOut() {
+        TopicMetrics.setDetailed(true);
+        var metrics = new TopicMetrics();
+        metrics.recordOut("hello");
+
+        assertEquals(1, metrics.getMessagesOut().sum());
+        assertEquals(5, metrics.getBytesOut().sum());
+        assertEquals(0, metrics.getMessagesIn().sum());
+    }
+
+    @Test
+    void testRecord_NotDetailed() {
+        assertFalse(TopicMetrics.isDetailed());
+
+        var metrics = new TopicMetrics();
+        metrics.recordIn("abc");
+        metrics.recordOut("hello");
+
+        // messages are still counted, but bytes are not
+        assertEquals(1, metrics.getMessagesIn().sum());
+        assertEquals(1, metrics.getMessagesOut().sum());
+        assertEquals(0, metrics.getBytesIn().sum());
+        assertEquals(0, metrics.getBytesOut().sum());
+    }
+
+    @Test
+    void testRecordSendFailure() {
+        var metrics = new TopicMetrics();
+        metrics.recordSendFailure();
+        metrics.recordSendFailure();
+
+        assertEquals(2, metrics.getSendFailures().sum());
+    }
+
+    @Test
+    void testRecordDispatch() {
+        var metrics = new TopicMetrics();
+        metrics.recordDispatch(2_000_000L);
+
+        assertEquals(1, metrics.getDispatchLatency().getCount());
+        assertEquals(0.002, metrics.getDispatchLatency().getSum(), 1e-9);
+    }
+
+    @Test
+    void testRecordPoll() {
+        var metrics = new TopicMetrics();
+        metrics.recordPoll(1_000_000_000L, 10);
+        metrics.recordPoll(0, 0);
+
+        assertEquals(2, metrics.getPollDuration().getCount());
+        assertEquals(1.0, metrics.getPollDuration().getSum(), 1e-9);
+        assertEquals(2, metrics.getPollBatchSize().getCount());
+        assertEquals(10.0, metrics.getPollBatchSize().getSum(), 1e-9);
+    }
+
+    @Test
+    void testUtf8Length() {
+        assertEquals(0, TopicMetrics.utf8Length(null));
+        assertEquals(0, TopicMetrics.utf8Length(""));
+
+        // one, two, three and four byte characters, plus an unpaired surrogate
+        for (String text : new String[] {"abc", "\u00e9", "\u20ac", "\uD83D\uDE00", "x\uD83Dy"}) {
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, TopicMetrics.utf8Length(text), text);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Scope;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+class TracedRecordsTest {
+    private static final String TOPIC = "my-topic";
+    private static final String TRACE_ID1 = "0af7651916cd43dd8448eb211c80319c";
+    private static final String SPAN_ID1 = "b7ad6b7169203331";
+    private static final String TRACE_ID2 = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID2 = "00f067aa0ba902b7";
+
+    @Test
+    void testList() {
+        var records = new TracedRecords(List.of(makeRecord(0, "hello", null), makeRecord(1, "world", null)));
+
+        assertEquals(2, records.size());
+        assertEquals("hello", records.get(0));
+        assertEquals(List.of("hello", "world"), records);
+    }
+
+    @Test
+    void testMakeCurrent() {
+        var records = new TracedRecords(List.of(makeRecord(0, "hello", traceparent(TRACE_ID1, SPAN_ID1)),
+                        makeRecord(1, "world", traceparent(TRACE_ID2, SPAN_ID2)), makeRecord(2, "none", null)));
+
+        // each record has its own parent
+        try (Scope scope = records.makeCurrent(0)) {
+            assertEquals(TRACE_ID1, Span.current().getSpanContext().getTraceId());
+            assertEquals(SPAN_ID1, Span.current().getSpanContext().getSpanId());
+            assertTrue(Span.current().getSpanContext().isRemote());
+        }
+
+        try (Scope scope = records.makeCurrent(1)) {
+            assertEquals(TRACE_ID2, Span.current().getSpanContext().getTraceId());
+            assertEquals(SPAN_ID2, Span.current().getSpanContext().getSpanId());
+        }
+
+        // the previous context is restored
+        assertFalse(Span.current().getSpanContext().isValid());
+
+        // no header
+        assertSame(Scope.noop(), records.makeCurrent(2));
+    }
+
+    @Test
+    void testActivate_Invalid() {
+        assertSame(Scope.noop(), TracedRecords.activate(makeRecord(0, "a", "garbage").headers()));
+        assertSame(Scope.noop(), TracedRecords.activate(makeRecord(0, "a", "00-" + TRACE_ID1).headers()));
+        assertSame(Scope.noop(), TracedRecords.activate(
+                        makeRecord(0, "a", traceparent("00000000000000000000000000000000", SPAN_ID1)).headers()));
+    }
+
+    @Test
+    void testToSpanContext() {
+        SpanContext context = TracedRecords.toSpanContext(traceparent(TRACE_ID1, SPAN_ID1));
+        assertTrue(context.isValid());
+        assertEquals(TRACE_ID1, context.getTraceId());
+        assertEquals(SPAN_ID1, context.getSpanId());
+
+        // misplaced separators
+        assertFalse(TracedRecords.toSpanContext("00_" + TRACE_ID1 + "-" + SPAN_ID1 + "-01").isValid());
+        assertFalse(TracedRecords.toSpanContext("00-" + TRACE_ID1 + "_" + SPAN_ID1 + "-01").isValid());
+        assertFalse(TracedRecords.toSpanContext("00-" + TRACE_ID1 + "-" + SPAN_ID1 + "_01").isValid());
+
+        // non-hex identifiers
+        assertFalse(TracedRecords.toSpanContext(traceparent(TRACE_ID1.replace('a', 'x'), SPAN_ID1)).isValid());
+    }
+
+    private static String traceparent(String traceId, String spanId) {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    private static ConsumerRecord<String, String> makeRecord(long offset, String value, String traceparent) {
+        var consumerRecord = new ConsumerRecord<>(TOPIC, 0, offset, "key", value);
+        if (traceparent != null) {
+            consumerRecord.headers().add(TracedRecords.TRACEPARENT_HEADER,
+                            traceparent.getBytes(StandardCharsets.UTF_8));
+        }
+        return consumerRecord;
+    }
+}
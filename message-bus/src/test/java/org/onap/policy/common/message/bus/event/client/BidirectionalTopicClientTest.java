@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024-2025 Nordix Foundation.
+ * Modifications Copyright (C) 2024-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,10 @@
 package org.onap.policy.common.message.bus.event.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -32,14 +34,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -61,6 +68,7 @@ import org.onap.policy.common.message.bus.event.TopicSource;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.common.utils.time.HashedTimingWheel;
 
 @ExtendWith(MockitoExtension.class)
 class BidirectionalTopicClientTest {
@@ -70,6 +78,8 @@ class BidirectionalTopicClientTest {
     private static final String SINK_TOPIC = "my-sink-topic";
     private static final String SOURCE_TOPIC = "my-source-topic";
     private static final String MY_TEXT = "my-text";
+    private static final String REQUEST_ID = "my-request";
+    private static final Duration LONG_TIMEOUT = Duration.ofMinutes(1);
 
     private static final CommInfrastructure SINK_INFRA = CommInfrastructure.NOOP;
     private static final CommInfrastructure SOURCE_INFRA = CommInfrastructure.NOOP;
@@ -293,6 +303,163 @@ class BidirectionalTopicClientTest {
         verifyNoReceipt();
     }
 
+    @Test
+    void testRequest() throws Exception {
+        CompletableFuture<MyResponse> future =
+                        client.request(new MyRequest(REQUEST_ID, MY_TEXT), MyResponse.class, LONG_TIMEOUT);
+
+        String requestText = coder.encode(new MyRequest(REQUEST_ID, MY_TEXT));
+        verify(sink).send(requestText);
+        assertEquals(1, client.getPendingRequestCount());
+
+        // neither the request itself, nor messages for other requests, are taken as the response
+        inject(requestText);
+        inject("{\"text\": \"no request id\"}");
+        inject(coder.encode(new MyResponse("other-request", "other-response")));
+        assertFalse(future.isDone());
+
+        inject(coder.encode(new MyResponse(REQUEST_ID, "my-response")));
+        assertEquals(new MyResponse(REQUEST_ID, "my-response"), future.get(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(0, client.getPendingRequestCount());
+
+        // the listener is only registered once
+        client.request(new MyRequest("request-2", MY_TEXT), MyResponse.class, LONG_TIMEOUT);
+        verify(source).register(any());
+
+        // late responses are ignored
+        inject(coder.encode(new MyResponse(REQUEST_ID, "late-response")));
+    }
+
+    @Test
+    void testRequest_HierarchicalRequestId() throws Exception {
+        client = new BidirectionalTopicClient2(SINK_TOPIC, SOURCE_TOPIC, "header", "id");
+
+        var request = Map.of("header", Map.of("id", REQUEST_ID), "body", MY_TEXT);
+        CompletableFuture<MyMessage> future = client.request(request, MyMessage.class, LONG_TIMEOUT);
+
+        inject("{\"text\": \"my-response\", \"header\": {\"id\": \"" + REQUEST_ID + "\"}}");
+        assertEquals(new MyMessage("my-response"), future.get(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BidirectionalTopicClient2(SINK_TOPIC, SOURCE_TOPIC,
+                        new String[0]));
+    }
+
+    @Test
+    void testRequest_Timeout() throws Exception {
+        var wheel = new HashedTimingWheel("my-wheel", 1, TimeUnit.MILLISECONDS, 16);
+        client = new BidirectionalTopicClient2(SINK_TOPIC, SOURCE_TOPIC) {
+            @Override
+            protected HashedTimingWheel getTimingWheel() {
+                return wheel;
+            }
+        };
+
+        try {
+            CompletableFuture<MyResponse> future =
+                            client.request(new MyRequest(REQUEST_ID, MY_TEXT), MyResponse.class, Duration.ofMillis(5));
+
+            assertThatThrownBy(() -> future.get(MAX_WAIT_MS, TimeUnit.MILLISECONDS))
+                            .hasCauseInstanceOf(TimeoutException.class);
+            assertEquals(0, client.getPendingRequestCount());
+
+            // a response is completed without a timeout being left behind
+            future = client.request(new MyRequest(REQUEST_ID, MY_TEXT), MyResponse.class, LONG_TIMEOUT);
+            inject(coder.encode(new MyResponse(REQUEST_ID, "my-response")));
+            assertTrue(future.isDone());
+            assertEquals(0, wheel.getPendingCount());
+
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void testRequest_Failures() throws Exception {
+        // no request id
+        assertThatThrownBy(() -> client.request(theMessage, MyResponse.class, LONG_TIMEOUT).join())
+                        .hasCauseInstanceOf(IllegalArgumentException.class);
+
+        // already outstanding
+        var request = new MyRequest(REQUEST_ID, MY_TEXT);
+        CompletableFuture<MyResponse> future = client.request(request, MyResponse.class, LONG_TIMEOUT);
+        assertThatThrownBy(() -> client.request(request, MyResponse.class, LONG_TIMEOUT).join())
+                        .hasCauseInstanceOf(IllegalStateException.class);
+
+        // cancelled
+        future.cancel(false);
+        assertEquals(0, client.getPendingRequestCount());
+
+        // response cannot be decoded
+        future = client.request(request, MyResponse.class, LONG_TIMEOUT);
+        inject("{\"requestId\": \"" + REQUEST_ID + "\", \"text\": {\"nested\": true}}");
+        assertThatThrownBy(future::join).hasCauseInstanceOf(CoderException.class);
+        assertEquals(0, client.getPendingRequestCount());
+
+        // send fails
+        when(sink.send(anyString())).thenReturn(false);
+        assertThatThrownBy(client.request(request, MyResponse.class, LONG_TIMEOUT)::join)
+                        .hasCauseInstanceOf(BidirectionalTopicClientException.class);
+
+        when(sink.send(anyString())).thenThrow(new IllegalStateException("expected exception"));
+        assertThatThrownBy(client.request(request, MyResponse.class, LONG_TIMEOUT)::join)
+                        .hasCauseInstanceOf(IllegalStateException.class);
+        assertEquals(0, client.getPendingRequestCount());
+    }
+
+    @Test
+    void testClose() throws Exception {
+        var wheel = new HashedTimingWheel("my-wheel", 1, TimeUnit.MILLISECONDS, 16);
+        client = new BidirectionalTopicClient2(SINK_TOPIC, SOURCE_TOPIC) {
+            @Override
+            protected HashedTimingWheel getTimingWheel() {
+                return wheel;
+            }
+        };
+
+        try {
+            CompletableFuture<MyResponse> future =
+                            client.request(new MyRequest(REQUEST_ID, MY_TEXT), MyResponse.class, LONG_TIMEOUT);
+            assertFalse(client.isClosed());
+            assertEquals(1, wheel.getPendingCount());
+
+            client.close();
+            assertTrue(client.isClosed());
+
+            // the listener is unregistered and the outstanding request fails
+            ArgumentCaptor<TopicListener> cap = ArgumentCaptor.forClass(TopicListener.class);
+            verify(source).register(cap.capture());
+            verify(source).unregister(cap.getValue());
+
+            assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalStateException.class);
+            assertEquals(0, client.getPendingRequestCount());
+            assertEquals(0, wheel.getPendingCount());
+
+            // later requests fail without being sent or registering the listener again
+            assertThatThrownBy(client.request(new MyRequest("request-2", MY_TEXT), MyResponse.class,
+                            LONG_TIMEOUT)::join).hasCauseInstanceOf(IllegalStateException.class);
+            assertEquals(0, client.getPendingRequestCount());
+            verify(sink, times(1)).send(anyString());
+            verify(source).register(any());
+
+            // closing again has no effect
+            client.close();
+            verify(source).unregister(any());
+
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void testClose_Waiting() throws Exception {
+        context.start(theMessage);
+        assertThat(context.awaitSend(1)).isTrue();
+
+        // stops the waiting thread; only its own listener is unregistered
+        context.checker.close();
+        verifyNoReceipt();
+    }
+
     /**
      * Verifies that awaitReceipt() returns {@code true}.
      *
@@ -356,6 +523,11 @@ class BidirectionalTopicClientTest {
             super(sinkTopic, sourceTopic);
         }
 
+        public BidirectionalTopicClient2(String sinkTopic, String sourceTopic, String... requestIdFieldNames)
+            throws BidirectionalTopicClientException {
+            super(sinkTopic, sourceTopic, requestIdFieldNames);
+        }
+
         @Override
         protected TopicEndpoint getTopicEndpointManager() {
             return endpoint;
@@ -452,4 +624,20 @@ class BidirectionalTopicClientTest {
     public static class MyMessage {
         private String text;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MyRequest {
+        private String requestId;
+        private String text;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MyResponse {
+        private String requestId;
+        private String text;
+    }
 }
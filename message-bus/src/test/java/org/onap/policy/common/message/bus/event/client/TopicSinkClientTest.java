@@ -3,7 +3,7 @@
  * ONAP PAP
  * ================================================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2019, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2019, 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -34,10 +36,12 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.RecordAck;
 import org.onap.policy.common.message.bus.event.TopicEndpointManager;
 import org.onap.policy.common.message.bus.event.TopicSink;
 
@@ -130,6 +134,20 @@ class TopicSinkClientTest {
         assertFalse(client.send("jkl"));
     }
 
+    @Test
+    void testSendAsync() {
+        CompletableFuture<RecordAck> future = CompletableFuture.completedFuture(new RecordAck(TOPIC));
+        when(sink.sendAsync(anyString())).thenReturn(future);
+
+        assertSame(future, client.sendAsync(Arrays.asList("abc", "def")));
+        verify(sink).sendAsync("['abc','def']".replace('\'', '"'));
+
+        // sink send throws an exception
+        final RuntimeException ex = new RuntimeException("expected exception");
+        when(sink.sendAsync(anyString())).thenThrow(ex);
+        assertTrue(client.sendAsync("jkl").isCompletedExceptionally());
+    }
+
     /**
      * TopicSinkClient with some overrides.
      */
@@ -0,0 +1,65 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+class InprocRouterTest {
+    private static final String TOPIC_A = "topic-a";
+    private static final String TOPIC_B = "topic-b";
+
+    private final InprocRouter router = new InprocRouter();
+
+    @Test
+    void testAttach_testDetach() {
+        InprocTopicSource sourceA1 = makeSource(TOPIC_A);
+        InprocTopicSource sourceA2 = makeSource(TOPIC_A);
+        InprocTopicSource sourceB = makeSource(TOPIC_B);
+
+        assertThat(router.getSources(TOPIC_A)).isEmpty();
+
+        router.attach(sourceA1);
+        router.attach(sourceA2);
+        router.attach(sourceB);
+
+        // attaching again has no effect
+        router.attach(sourceA1);
+
+        assertThat(router.getSources(TOPIC_A)).containsExactly(sourceA1, sourceA2);
+        assertThat(router.getSources(TOPIC_B)).containsExactly(sourceB);
+
+        router.detach(sourceA1);
+        assertThat(router.getSources(TOPIC_A)).containsExactly(sourceA2);
+
+        // detaching again has no effect
+        router.detach(sourceA1);
+        assertThat(router.getSources(TOPIC_A)).containsExactly(sourceA2);
+
+        router.detach(sourceA2);
+        assertThat(router.getSources(TOPIC_A)).isEmpty();
+        assertThat(router.toString()).startsWith("InprocRouter [").doesNotContain(TOPIC_A).contains(TOPIC_B);
+    }
+
+    private InprocTopicSource makeSource(String topic) {
+        return new InprocTopicSource(BusTopicParams.builder().topic(topic).build(), router);
+    }
+}
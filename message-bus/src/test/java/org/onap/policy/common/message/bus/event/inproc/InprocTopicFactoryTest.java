@@ -0,0 +1,172 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_INPROC_SINK_TOPICS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_INPROC_SOURCE_TOPICS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_MANAGED_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_RING_CAPACITY_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_WAIT_STRATEGY_SUFFIX;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicSource.WaitStrategy;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+class InprocTopicFactoryTest {
+    private static final String MY_TOPIC = "my-topic";
+    private static final String MY_TOPIC2 = "my-topic2";
+    private static final String MY_EFFECTIVE_TOPIC = "my-effective-topic";
+
+    private InprocRouter router;
+    private InprocTopicSourceFactory sourceFactory;
+    private InprocTopicSinkFactory sinkFactory;
+
+    /**
+     * Creates the objects to be tested.
+     */
+    @BeforeEach
+    public void setUp() {
+        router = new InprocRouter();
+        sourceFactory = new InprocTopicSourceFactory(router);
+        sinkFactory = new InprocTopicSinkFactory(router);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sourceFactory.destroy();
+        sinkFactory.destroy();
+    }
+
+    @Test
+    void testBuildProperties_Source() {
+        assertTrue(sourceFactory.build(new Properties()).isEmpty());
+
+        String prefix = PROPERTY_INPROC_SOURCE_TOPICS + "." + MY_TOPIC;
+
+        Properties props = new Properties();
+        props.setProperty(PROPERTY_INPROC_SOURCE_TOPICS, MY_TOPIC + ", " + MY_TOPIC2);
+        props.setProperty(prefix + PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX, MY_EFFECTIVE_TOPIC);
+        props.setProperty(prefix + PROPERTY_TOPIC_SOURCE_FETCH_LIMIT_SUFFIX, "7");
+        props.setProperty(prefix + PROPERTY_TOPIC_SOURCE_RING_CAPACITY_SUFFIX, "100");
+        props.setProperty(prefix + PROPERTY_TOPIC_SOURCE_WAIT_STRATEGY_SUFFIX, "yielding");
+        props.setProperty(PROPERTY_INPROC_SOURCE_TOPICS + "." + MY_TOPIC2 + PROPERTY_TOPIC_SOURCE_RING_CAPACITY_SUFFIX,
+                        "invalid");
+
+        List<InprocTopicSource> sources = sourceFactory.build(props);
+        assertEquals(2, sources.size());
+
+        InprocTopicSource source = sources.get(0);
+        assertEquals(MY_TOPIC, source.getTopic());
+        assertEquals(MY_EFFECTIVE_TOPIC, source.getEffectiveTopic());
+        assertEquals(7, source.getFetchLimit());
+        assertEquals(128, source.getRingCapacity());
+        assertEquals(WaitStrategy.YIELDING, source.getWaitStrategy());
+        assertEquals(List.of(CommInfrastructure.INPROC.toString()), source.getServers());
+
+        // invalid values fall back to the defaults
+        source = sources.get(1);
+        assertEquals(MY_TOPIC2, source.getEffectiveTopic());
+        assertEquals(WaitStrategy.BLOCKING, source.getWaitStrategy());
+        assertEquals(1024, source.getRingCapacity());
+
+        // building again returns the same sources
+        assertEquals(sources, sourceFactory.build(props));
+        assertSame(source, sourceFactory.get(MY_TOPIC2));
+    }
+
+    @Test
+    void testBuildProperties_Sink() {
+        Properties props = new Properties();
+        props.setProperty(PROPERTY_INPROC_SINK_TOPICS, MY_TOPIC + "," + MY_TOPIC2);
+        props.setProperty(PROPERTY_INPROC_SINK_TOPICS + "." + MY_TOPIC2 + PROPERTY_MANAGED_SUFFIX, "false");
+
+        List<InprocTopicSink> sinks = sinkFactory.build(props);
+        assertEquals(2, sinks.size());
+
+        // unmanaged sinks are not retained
+        assertEquals(List.of(sinks.get(0)), sinkFactory.inventory());
+        assertSame(sinks.get(0), sinkFactory.get(MY_TOPIC));
+        assertThatIllegalStateException().isThrownBy(() -> sinkFactory.get(MY_TOPIC2));
+    }
+
+    @Test
+    void testBuildParams() {
+        InprocTopicSource source = sourceFactory.build(BusTopicParams.builder().topic(MY_TOPIC).managed(true)
+                        .waitStrategy("busy_spin").build());
+        assertEquals(WaitStrategy.BUSY_SPIN, source.getWaitStrategy());
+        assertSame(source, sourceFactory.build(BusTopicParams.builder().topic(MY_TOPIC).managed(true).build()));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sourceFactory.build(BusTopicParams.builder().build()));
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> sourceFactory.build(BusTopicParams.builder().topic("").build()));
+    }
+
+    @Test
+    void testBuildServersTopicManaged() {
+        InprocTopicSink sink = sinkFactory.build(null, MY_TOPIC, true);
+        assertEquals(List.of(CommInfrastructure.INPROC.toString()), sink.getServers());
+        assertSame(sink, sinkFactory.get(MY_TOPIC));
+
+        InprocTopicSink unmanaged = sinkFactory.build(List.of("my-server"), MY_TOPIC2, false);
+        assertEquals(List.of("my-server"), unmanaged.getServers());
+        assertEquals(1, sinkFactory.inventory().size());
+
+        assertFalse(sinkFactory.build(List.of(), MY_TOPIC2).isAlive());
+        assertEquals(1, sinkFactory.inventory().size());
+    }
+
+    @Test
+    void testEndToEnd() throws InterruptedException {
+        Properties props = new Properties();
+        props.setProperty(PROPERTY_INPROC_SOURCE_TOPICS, MY_TOPIC);
+        props.setProperty(PROPERTY_INPROC_SINK_TOPICS, MY_TOPIC);
+
+        InprocTopicSource source = sourceFactory.build(props).get(0);
+        InprocTopicSink sink = sinkFactory.build(props).get(0);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        source.register((infra, topic, event) -> latch.countDown());
+        sink.start();
+
+        assertTrue(sink.send("my-message"));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testToString() {
+        assertThat(sourceFactory.toString()).startsWith("InprocTopicSourceFactory [");
+        assertThat(sinkFactory.toString()).startsWith("InprocTopicSinkFactory [");
+    }
+}
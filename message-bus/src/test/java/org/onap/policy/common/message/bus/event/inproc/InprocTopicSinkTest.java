@@ -0,0 +1,146 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+class InprocTopicSinkTest {
+    private static final String MY_TOPIC = "my-topic";
+    private static final String MY_EFFECTIVE_TOPIC = "my-effective-topic";
+    private static final String MY_MESSAGE = "my-message";
+
+    private InprocRouter router;
+    private InprocTopicSink sink;
+
+    /**
+     * Creates the object to be tested.
+     */
+    @BeforeEach
+    public void setUp() {
+        router = new InprocRouter();
+        sink = new InprocTopicSink(
+                        BusTopicParams.builder().topic(MY_TOPIC).effectiveTopic(MY_EFFECTIVE_TOPIC).build(), router);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sink.shutdown();
+    }
+
+    @Test
+    void testSend() {
+        assertThatIllegalStateException().isThrownBy(() -> sink.send(MY_MESSAGE));
+
+        TopicListener listener = mock(TopicListener.class);
+        sink.register(listener);
+        assertTrue(sink.isAlive());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sink.send(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> sink.send(""));
+
+        // no sources
+        assertTrue(sink.send(MY_MESSAGE));
+        verify(listener).onTopicEvent(CommInfrastructure.INPROC, MY_TOPIC, MY_MESSAGE);
+        assertThat(sink.getRecentEvents()).containsExactly(MY_MESSAGE);
+    }
+
+    @Test
+    void testSend_RoutedByEffectiveTopic() {
+        InprocTopicSource source = new InprocTopicSource(
+                        BusTopicParams.builder().topic("other-topic").effectiveTopic(MY_EFFECTIVE_TOPIC).build(),
+                        router);
+        InprocTopicSource other = new InprocTopicSource(BusTopicParams.builder().topic(MY_TOPIC).build(), router);
+        router.attach(source);
+        router.attach(other);
+
+        sink.start();
+        assertTrue(sink.send(MY_MESSAGE));
+
+        assertEquals(1, source.getPendingCount());
+        assertEquals(0, other.getPendingCount());
+    }
+
+    @Test
+    void testSendAsync() {
+        InprocTopicSource source = new InprocTopicSource(BusTopicParams.builder().topic(MY_TOPIC)
+                        .effectiveTopic(MY_EFFECTIVE_TOPIC).ringCapacity(2).build(), router);
+        router.attach(source);
+
+        sink.start();
+        assertThat(sink.sendAsync(MY_MESSAGE)).isCompleted();
+        assertThat(sink.sendAsync("my-key", MY_MESSAGE)).isCompleted();
+
+        // the source's buffer is full
+        assertThat(sink.sendAsync(MY_MESSAGE)).isCompletedExceptionally();
+
+        // invalid messages and stopped sinks are reported the same way as by the other sinks
+        assertThatIllegalArgumentException().isThrownBy(() -> sink.sendAsync(null));
+
+        sink.stop();
+        assertThatIllegalStateException().isThrownBy(() -> sink.sendAsync(MY_MESSAGE));
+    }
+
+    @Test
+    void testLifecycle() {
+        assertFalse(sink.isAlive());
+
+        sink.lock();
+        assertThatIllegalStateException().isThrownBy(sink::start);
+        sink.unlock();
+
+        assertTrue(sink.start());
+        assertTrue(sink.isAlive());
+
+        assertTrue(sink.stop());
+        assertFalse(sink.isAlive());
+    }
+
+    @Test
+    void testGetServers() {
+        assertEquals(List.of(CommInfrastructure.INPROC.toString()), sink.getServers());
+        assertEquals(List.of("my-server"), new InprocTopicSink(
+                        BusTopicParams.builder().topic(MY_TOPIC).servers(List.of("my-server")).build(), router)
+                        .getServers());
+    }
+
+    @Test
+    void testGetTopicCommInfrastructure() {
+        assertEquals(CommInfrastructure.INPROC, sink.getTopicCommInfrastructure());
+    }
+
+    @Test
+    void testToString() {
+        assertThat(sink.toString()).startsWith("InprocTopicSink[");
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.inproc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_LIMIT_FETCH;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_RING_CAPACITY;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.BatchTopicListener;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.message.bus.event.inproc.InprocTopicSource.WaitStrategy;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+
+class InprocTopicSourceTest {
+    private static final String MY_TOPIC = "my-topic";
+    private static final String MY_MESSAGE = "my-message";
+    private static final int EVENTS = 1000;
+    private static final long WAIT_SEC = 5;
+    private static final long WAIT_INTERVAL_MS = 10;
+
+    private InprocRouter router;
+    private InprocTopicSink sink;
+    private List<InprocTopicSource> sources;
+
+    /**
+     * Creates the objects to be tested.
+     */
+    @BeforeEach
+    public void setUp() {
+        router = new InprocRouter();
+        sources = new ArrayList<>();
+
+        sink = new InprocTopicSink(BusTopicParams.builder().topic(MY_TOPIC).build(), router);
+        sink.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sink.shutdown();
+        sources.forEach(InprocTopicSource::shutdown);
+    }
+
+    @Test
+    void testWaitStrategyOf() {
+        assertEquals(WaitStrategy.BLOCKING, WaitStrategy.of(null));
+        assertEquals(WaitStrategy.BLOCKING, WaitStrategy.of(" "));
+        assertEquals(WaitStrategy.BUSY_SPIN, WaitStrategy.of("busy_spin"));
+        assertEquals(WaitStrategy.YIELDING, WaitStrategy.of("Yielding"));
+        assertEquals(WaitStrategy.SLEEPING, WaitStrategy.of(" SLEEPING "));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> WaitStrategy.of("bogus"));
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> makeSource(BusTopicParams.builder().topic(MY_TOPIC).waitStrategy("bogus")));
+    }
+
+    @Test
+    void testConstructor() {
+        InprocTopicSource source = makeSource(BusTopicParams.builder().topic(MY_TOPIC));
+        assertEquals(WaitStrategy.BLOCKING, source.getWaitStrategy());
+        assertEquals(DEFAULT_LIMIT_FETCH, source.getFetchLimit());
+        assertEquals(DEFAULT_RING_CAPACITY, source.getRingCapacity());
+        assertEquals(List.of(CommInfrastructure.INPROC.toString()), source.getServers());
+        assertEquals(CommInfrastructure.INPROC, source.getTopicCommInfrastructure());
+
+        source = makeSource(BusTopicParams.builder().topic(MY_TOPIC).fetchLimit(5).ringCapacity(10)
+                        .waitStrategy("sleeping"));
+        assertEquals(WaitStrategy.SLEEPING, source.getWaitStrategy());
+        assertEquals(5, source.getFetchLimit());
+        assertEquals(16, source.getRingCapacity());
+    }
+
+    @Test
+    void testDelivery() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            InprocTopicSource source =
+                            makeSource(BusTopicParams.builder().topic(MY_TOPIC).waitStrategy(strategy.name()));
+
+            List<String> received = Collections.synchronizedList(new ArrayList<>());
+            TopicListener listener = (infra, topic, event) -> received.add(event);
+            source.register(listener);
+            assertTrue(source.isAlive());
+
+            List<String> expected = new ArrayList<>(EVENTS);
+            for (var count = 0; count < EVENTS; ++count) {
+                String message = strategy + "-" + count;
+                expected.add(message);
+
+                // the buffer may fill up while the source catches up
+                waitFor(() -> sink.send(message));
+            }
+
+            waitFor(() -> received.size() >= EVENTS);
+            assertEquals(expected, received);
+
+            source.shutdown();
+        }
+    }
+
+    @Test
+    void testDelivery_MultipleSources() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        TopicListener listener = (infra, topic, event) -> latch.countDown();
+
+        InprocTopicSource source1 = makeSource(BusTopicParams.builder().topic(MY_TOPIC));
+        source1.register(listener);
+
+        InprocTopicSource source2 = makeSource(BusTopicParams.builder().topic(MY_TOPIC));
+        source2.register(listener);
+
+        // different topic - should not receive anything
+        InprocTopicSource other = makeSource(BusTopicParams.builder().topic("other-topic"));
+        other.register((infra, topic, event) -> latch.countDown());
+
+        assertTrue(sink.send(MY_MESSAGE));
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        assertThat(source1.getRecentEvents()).containsExactly(MY_MESSAGE);
+        assertThat(source2.getRecentEvents()).containsExactly(MY_MESSAGE);
+        assertThat(other.getRecentEvents()).isEmpty();
+    }
+
+    @Test
+    void testDelivery_Batch() throws InterruptedException {
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        BatchTopicListener listener = (infra, topic, events) -> batches.add(events);
+
+        // lock it so that registration does not start the thread
+        InprocTopicSource source = makeSource(BusTopicParams.builder().topic(MY_TOPIC).fetchLimit(3));
+        source.lock();
+        source.register(listener);
+
+        for (var count = 0; count < 5; ++count) {
+            assertTrue(source.enqueue(MY_MESSAGE + count));
+        }
+
+        source.unlock();
+        source.start();
+
+        waitFor(() -> batches.size() >= 2);
+        assertEquals(List.of(MY_MESSAGE + "0", MY_MESSAGE + "1", MY_MESSAGE + "2"), batches.get(0));
+        assertEquals(List.of(MY_MESSAGE + "3", MY_MESSAGE + "4"), batches.get(1));
+        assertEquals(5, source.getRecentEvents().length);
+    }
+
+    @Test
+    void testEnqueue_Full() {
+        InprocTopicSource source = makeSource(BusTopicParams.builder().topic(MY_TOPIC).ringCapacity(2));
+
+        // not started, so nothing is routed to it yet
+        assertTrue(sink.send(MY_MESSAGE));
+        assertEquals(0, source.getPendingCount());
+
+        assertTrue(source.enqueue(MY_MESSAGE));
+        assertTrue(source.enqueue(MY_MESSAGE));
+        assertFalse(source.enqueue(MY_MESSAGE));
+
+        assertEquals(2, source.getPendingCount());
+        assertEquals(1, source.getDroppedCount());
+
+        // sink reports the failure
+        router.attach(source);
+        assertFalse(sink.send(MY_MESSAGE));
+        assertEquals(2, source.getDroppedCount());
+    }
+
+    @Test
+    void testOffer() throws InterruptedException {
+        InprocTopicSource source = makeSource(BusTopicParams.builder().topic(MY_TOPIC));
+
+        assertThatIllegalStateException().isThrownBy(() -> source.offer(MY_MESSAGE));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        source.register((infra, topic, event) -> latch.countDown());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> source.offer(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> source.offer(""));
+
+        assertTrue(source.offer(MY_MESSAGE));
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testStart_testStop() throws InterruptedException {
+        InprocTopicSource source = makeSource(BusTopicParams.builder().topic(MY_TOPIC));
+
+        source.lock();
+        assertThatIllegalStateException().isThrownBy(source::start);
+        source.unlock();
+
+        assertTrue(source.start());
+        assertTrue(source.start());
+        assertTrue(source.isAlive());
+        assertEquals(1, router.getSources(MY_TOPIC).length);
+
+        assertTrue(source.stop());
+        assertFalse(source.isAlive());
+        assertEquals(0, router.getSources(MY_TOPIC).length);
+
+        // events buffered while stopped are delivered once restarted
+        assertTrue(source.enqueue(MY_MESSAGE));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        source.register((infra, topic, event) -> latch.countDown());
+        assertTrue(source.isAlive());
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testToString() {
+        assertThat(makeSource(BusTopicParams.builder().topic(MY_TOPIC)).toString()).startsWith("InprocTopicSource[");
+    }
+
+    private InprocTopicSource makeSource(BusTopicParams.TopicParamsBuilder builder) {
+        InprocTopicSource source = new InprocTopicSource(builder.build(), router);
+        sources.add(source);
+        return source;
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(WAIT_SEC);
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(WAIT_INTERVAL_MS);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+}
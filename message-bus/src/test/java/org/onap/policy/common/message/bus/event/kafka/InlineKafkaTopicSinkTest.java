@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@
 package org.onap.policy.common.message.bus.event.kafka;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.message.bus.event.base.TopicTestBase;
+import org.onap.policy.common.message.bus.event.memory.InMemoryBroker;
 
 class InlineKafkaTopicSinkTest extends TopicTestBase {
     private InlineKafkaTopicSink sink;
@@ -45,6 +47,7 @@ class InlineKafkaTopicSinkTest extends TopicTestBase {
     @AfterEach
     public void tearDown() {
         sink.shutdown();
+        InMemoryBroker.clearInstances();
     }
 
     @Test
@@ -60,6 +63,55 @@ class InlineKafkaTopicSinkTest extends TopicTestBase {
         assertThatCode(() -> sink.shutdown()).doesNotThrowAnyException();
     }
 
+    @Test
+    void testFlush_testCounts() {
+        // no publisher yet
+        assertThatCode(() -> sink.flush()).doesNotThrowAnyException();
+        assertEquals(0, sink.getAckedCount());
+        assertEquals(0, sink.getFailedCount());
+
+        sink = new InlineKafkaTopicSink(makeKafkaBuilder().asyncPublish(true).build());
+        sink.init();
+        assertEquals(0, sink.getAckedCount());
+        assertEquals(0, sink.getFailedCount());
+        assertTrue(sink.toString().contains("asyncPublish=true"));
+    }
+
+    @Test
+    void testInit_KeyStrategy() {
+        sink = new InlineKafkaTopicSink(makeKafkaBuilder().keyStrategy("field").keyField("requestId").build());
+        sink.init();
+        assertTrue(sink.toString().contains("keyStrategy=FIELD"));
+
+        sink = new InlineKafkaTopicSink(makeKafkaBuilder().keyStrategy("bogus").build());
+        assertThatThrownBy(() -> sink.init()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testInit_SharedProducer() {
+        KafkaProducerPool pool = new KafkaProducerPool();
+
+        sink = new InlineKafkaTopicSink(makeKafkaBuilder().build(), pool);
+        sink.init();
+        assertEquals(1, pool.size());
+
+        sink.shutdown();
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void testInit_MemoryClient() {
+        sink = new InlineKafkaTopicSink(makeKafkaBuilder().busClient("memory").build(), new KafkaProducerPool());
+        assertTrue(sink.start());
+
+        assertTrue(sink.send("hello"));
+        assertEquals(1, sink.getAckedCount());
+        assertEquals(0, sink.getFailedCount());
+
+        InMemoryBroker broker = InMemoryBroker.getInstance(kafkaServers);
+        assertEquals(1, broker.getEndOffset(sink.getEffectiveTopic(), 0));
+    }
+
     @Test
     void testGetTopicCommInfrastructure() {
         assertEquals(CommInfrastructure.KAFKA, sink.getTopicCommInfrastructure());
@@ -0,0 +1,144 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaProducerPoolTest {
+    private static final String SERVER1 = "my-server-1";
+    private static final String SERVER2 = "my-server-2";
+
+    private List<Producer<String, String>> created;
+    private KafkaProducerPool pool;
+
+    /**
+     * Creates the pool to be tested, with a factory that creates mock producers.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        created = new ArrayList<>();
+        pool = new KafkaProducerPool(props -> {
+            Producer<String, String> producer = mock(Producer.class);
+            created.add(producer);
+            return producer;
+        });
+    }
+
+    @Test
+    void testAcquire_testRelease() {
+        Producer<String, String> producer1 = pool.acquire(makeProps(SERVER1));
+        Producer<String, String> producer2 = pool.acquire(makeProps(SERVER1));
+        Producer<String, String> producer3 = pool.acquire(makeProps(SERVER2));
+
+        // identical properties share a producer
+        assertSame(producer1, producer2);
+        assertNotSame(producer1, producer3);
+        assertEquals(2, created.size());
+        assertEquals(2, pool.size());
+
+        // still in use by another publisher
+        pool.release(producer1);
+        verify(producer1, never()).close();
+
+        pool.release(producer2);
+        verify(producer1).close();
+        assertEquals(1, pool.size());
+
+        pool.release(producer3);
+        verify(producer3).close();
+        assertEquals(0, pool.size());
+
+        // acquiring again creates a new producer
+        assertNotSame(producer1, pool.acquire(makeProps(SERVER1)));
+        assertEquals(3, created.size());
+    }
+
+    @Test
+    void testAcquire_Transactional() {
+        Properties props = makeProps(SERVER1);
+        props.setProperty(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "my-transaction");
+
+        Producer<String, String> producer1 = pool.acquire(props);
+        Producer<String, String> producer2 = pool.acquire(props);
+        assertNotSame(producer1, producer2);
+
+        pool.release(producer1);
+        verify(producer1).close();
+        verify(producer2, never()).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelease_Unknown() {
+        Producer<String, String> producer = mock(Producer.class);
+        assertThatCode(() -> pool.release(producer)).doesNotThrowAnyException();
+        verify(producer, never()).close();
+
+        // releasing too many times
+        Producer<String, String> producer1 = pool.acquire(makeProps(SERVER1));
+        pool.release(producer1);
+        pool.release(producer1);
+        verify(producer1).close();
+    }
+
+    @Test
+    void testClose() {
+        Producer<String, String> producer1 = pool.acquire(makeProps(SERVER1));
+        Producer<String, String> producer2 = pool.acquire(makeProps(SERVER2));
+        pool.acquire(makeProps(SERVER2));
+
+        doThrow(new RuntimeException("expected exception")).when(producer1).close();
+
+        // remaining producers are closed, even if one of them throws
+        pool.close();
+        verify(producer1).close();
+        verify(producer2).close();
+        assertEquals(0, pool.size());
+
+        // releasing afterward is harmless
+        pool.release(producer2);
+        verify(producer2).close();
+
+        // acquiring afterward creates a new producer
+        assertNotSame(producer1, pool.acquire(makeProps(SERVER1)));
+        assertEquals(3, created.size());
+    }
+
+    private Properties makeProps(String server) {
+        Properties props = new Properties();
+        props.setProperty(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, server);
+        return props;
+    }
+}
@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,20 +21,37 @@ package org.onap.policy.common.message.bus.event.kafka;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
+import org.onap.policy.common.message.bus.event.RecordAck;
+import org.onap.policy.common.message.bus.event.base.KeyStrategy;
 import org.onap.policy.common.parameters.topic.BusTopicParams;
 
 class KafkaPublisherWrapperTest {
@@ -95,4 +113,252 @@ class KafkaPublisherWrapperTest {
     void testClose() {
         assertThatCode(kafkaPublisherWrapper::close).doesNotThrowAnyException();
     }
+
+    @Test
+    void testSendSync_Callback() {
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+
+        assertTrue(publisher.send("partitionId", "testMessage"));
+        assertTrue(publisher.send("partitionId", "testMessage"));
+        verify(mockProducer, times(2)).flush();
+
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(mockProducer, times(2)).send(any(), callback.capture());
+
+        callback.getAllValues().get(0).onCompletion(null, null);
+        callback.getAllValues().get(1).onCompletion(null, new RuntimeException("expected exception"));
+
+        assertEquals(1, publisher.getAckedCount());
+        assertEquals(1, publisher.getFailedCount());
+    }
+
+    @Test
+    void testSendSync_Failure() {
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+
+        when(mockProducer.send(any(), any())).thenThrow(new RuntimeException("expected exception"));
+        assertFalse(publisher.send("partitionId", "testMessage"));
+    }
+
+    @Test
+    void testSendAsync() {
+        when(mockBusTopicParams.isAsyncPublish()).thenReturn(true);
+        when(mockBusTopicParams.getMaxInFlight()).thenReturn(1);
+
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+        assertTrue(publisher.isAsyncPublish());
+
+        assertTrue(publisher.send("partitionId", "testMessage"));
+        verify(mockProducer, never()).flush();
+
+        // acknowledge the first message, freeing up the window for the next one
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(mockProducer).send(any(), callback.capture());
+        callback.getValue().onCompletion(null, null);
+
+        assertTrue(publisher.send("partitionId", "testMessage"));
+        verify(mockProducer, times(2)).send(any(), any());
+        verify(mockProducer, never()).flush();
+
+        assertEquals(1, publisher.getAckedCount());
+        assertEquals(0, publisher.getFailedCount());
+
+        publisher.flush();
+        verify(mockProducer).flush();
+    }
+
+    @Test
+    void testSendAsync_Failure() {
+        when(mockBusTopicParams.isAsyncPublish()).thenReturn(true);
+        when(mockBusTopicParams.getMaxInFlight()).thenReturn(1);
+
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+
+        when(mockProducer.send(any(), any())).thenThrow(new RuntimeException("expected exception"));
+        assertFalse(publisher.send("partitionId", "testMessage"));
+
+        // the window should have been released
+        assertFalse(publisher.send("partitionId", "testMessage"));
+        assertEquals(2, publisher.getFailedCount());
+    }
+
+    @Test
+    void testSendAsync_Interrupted() {
+        when(mockBusTopicParams.isAsyncPublish()).thenReturn(true);
+        when(mockBusTopicParams.getMaxInFlight()).thenReturn(1);
+
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+
+        // fill the window
+        assertTrue(publisher.send("partitionId", "testMessage"));
+
+        Thread.currentThread().interrupt();
+        assertFalse(publisher.send("partitionId", "testMessage"));
+        assertTrue(Thread.interrupted());
+
+        verify(mockProducer).send(any(), any());
+    }
+
+    @Test
+    void testSendAsync_Future() throws Exception {
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+
+        CompletableFuture<RecordAck> future1 = publisher.sendAsync("partitionId", "my-key", "testMessage");
+        CompletableFuture<RecordAck> future2 = publisher.sendAsync("partitionId", null, "testMessage");
+        assertFalse(future1.isDone());
+        verify(mockProducer, never()).flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(mockProducer, times(2)).send(record.capture(), callback.capture());
+
+        assertEquals("my-key", record.getAllValues().get(0).key());
+        assertNotNull(record.getAllValues().get(1).key());
+
+        callback.getAllValues().get(0)
+                        .onCompletion(new RecordMetadata(new TopicPartition("testTopic", 2), 10, 0, 20, 0, 0), null);
+        assertEquals(new RecordAck("testTopic", 2, 10, 20), future1.get());
+
+        callback.getAllValues().get(1).onCompletion(null, new RuntimeException("expected exception"));
+        assertTrue(future2.isCompletedExceptionally());
+
+        assertEquals(1, publisher.getAckedCount());
+        assertEquals(1, publisher.getFailedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> publisher.sendAsync("partitionId", "my-key", null));
+    }
+
+    @Test
+    void testKeyStrategy() {
+        // random, by default
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+        assertEquals(KeyStrategy.RANDOM, publisher.getKeyStrategy());
+        String key = publisher.makeKey("partitionId", "testMessage");
+        assertNotNull(key);
+        assertNotEquals(key, publisher.makeKey("partitionId", "testMessage"));
+
+        when(mockBusTopicParams.getKeyStrategy()).thenReturn("none");
+        publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+        assertNull(publisher.makeKey("partitionId", "testMessage"));
+
+        when(mockBusTopicParams.getKeyStrategy()).thenReturn("Fixed");
+        publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+        assertEquals("partitionId", publisher.makeKey("partitionId", "testMessage"));
+
+        when(mockBusTopicParams.getKeyStrategy()).thenReturn("field");
+        when(mockBusTopicParams.getKeyField()).thenReturn("body.requestId");
+        publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+        assertEquals("req-1", publisher.makeKey("partitionId", "{\"body\":{\"requestId\":\"req-1\"}}"));
+        assertNull(publisher.makeKey("partitionId", "{\"requestId\":\"req-1\"}"));
+        assertNull(publisher.makeKey("partitionId", "not json"));
+
+        // the key is used when sending
+        assertTrue(publisher.send("partitionId", "{\"body\":{\"requestId\":\"req-2\"}}"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(mockProducer).send(record.capture(), any());
+        assertEquals("req-2", record.getValue().key());
+    }
+
+    @Test
+    void testKeyStrategy_Invalid() {
+        when(mockBusTopicParams.getKeyStrategy()).thenReturn("unknown");
+        assertThrows(IllegalArgumentException.class,
+            () -> new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer));
+
+        // field strategy requires a field
+        when(mockBusTopicParams.getKeyStrategy()).thenReturn("field");
+        assertThrows(IllegalArgumentException.class,
+            () -> new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProducerPool() {
+        KafkaProducerPool pool = new KafkaProducerPool(props -> mockProducer);
+
+        KafkaPublisherWrapper publisher1 = new KafkaPublisherWrapper(mockBusTopicParams, pool);
+        KafkaPublisherWrapper publisher2 = new KafkaPublisherWrapper(mockBusTopicParams, pool);
+        assertEquals(1, pool.size());
+
+        assertTrue(publisher1.send("partitionId", "testMessage"));
+        assertTrue(publisher2.send("partitionId", "testMessage"));
+        verify(mockProducer, times(2)).send(any(ProducerRecord.class), any());
+
+        // the producer is only closed with its last publisher
+        publisher1.close();
+        verify(mockProducer, never()).close();
+
+        publisher2.close();
+        verify(mockProducer).close();
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProducerPool_Tracing() {
+        when(mockBusTopicParams.isAllowTracing()).thenReturn(true);
+        KafkaProducerPool pool = new KafkaProducerPool(props -> mock(Producer.class));
+
+        // tracing publishers still share a producer
+        KafkaPublisherWrapper publisher1 = new KafkaPublisherWrapper(mockBusTopicParams, pool);
+        KafkaPublisherWrapper publisher2 = new KafkaPublisherWrapper(mockBusTopicParams, pool);
+        assertEquals(1, pool.size());
+        assertEquals(publisher1.kafkaProps, publisher2.kafkaProps);
+        assertNotNull(publisher1.kafkaProps.get(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG));
+
+        publisher1.close();
+        publisher2.close();
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void testClose_AwaitsInFlight() throws Exception {
+        KafkaProducerPool pool = new KafkaProducerPool(props -> mockProducer);
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, pool);
+
+        CompletableFuture<RecordAck> future = publisher.sendAsync("partitionId", "my-key", "testMessage");
+        ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+        verify(mockProducer).send(any(), callback.capture());
+
+        Thread closer = new Thread(publisher::close);
+        closer.start();
+
+        // the producer is flushed, but not released until the message is acknowledged
+        verify(mockProducer, timeout(5000)).flush();
+        closer.join(200);
+        assertTrue(closer.isAlive());
+        verify(mockProducer, never()).close();
+        assertEquals(1, pool.size());
+
+        callback.getValue().onCompletion(null, null);
+        closer.join(5000);
+        assertFalse(closer.isAlive());
+        assertTrue(future.isDone());
+        verify(mockProducer).close();
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void testClose_Interrupted() {
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+        publisher.sendAsync("partitionId", "my-key", "testMessage");
+
+        // gives up waiting, but still closes the producer
+        Thread.currentThread().interrupt();
+        publisher.close();
+        assertTrue(Thread.interrupted());
+        verify(mockProducer).flush();
+        verify(mockProducer).close();
+    }
+
+    @Test
+    void testFlush() {
+        KafkaPublisherWrapper publisher = new KafkaPublisherWrapper(mockBusTopicParams, props -> mockProducer);
+
+        doThrow(new RuntimeException("expected exception")).when(mockProducer).flush();
+        assertThatCode(publisher::flush).doesNotThrowAnyException();
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2022, 2024 Nordix Foundation.
+ * Copyright (C) 2022, 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,16 @@ package org.onap.policy.common.message.bus.event.kafka;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_MAX_IN_FLIGHT;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_KAFKA_SINK_TOPICS;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_ASYNC_PUBLISH_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_KEY_FIELD_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_KEY_STRATEGY_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_SHARED_PRODUCER_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SINK_MAX_IN_FLIGHT_SUFFIX;
 
 import java.util.Deque;
 import java.util.LinkedList;
@@ -89,6 +96,11 @@ class KafkaTopicSinkFactoryTest extends KafkaTopicFactoryTestBase<KafkaTopicSink
         assertEquals(MY_EFFECTIVE_TOPIC, params.getEffectiveTopic());
         assertEquals(MY_PARTITION, params.getPartitionId());
         assertNotNull(params.getAdditionalProps());
+        assertFalse(params.isAsyncPublish());
+        assertEquals(DEFAULT_MAX_IN_FLIGHT, params.getMaxInFlight());
+        assertNull(params.getKeyStrategy());
+        assertNull(params.getKeyField());
+        assertFalse(params.isSharedProducer());
 
         List<KafkaTopicSink> topics2 = buildTopics(makePropBuilder().makeTopic(TOPIC3)
             .removeTopicProperty(PROPERTY_TOPIC_EFFECTIVE_TOPIC_SUFFIX).build());
@@ -101,6 +113,49 @@ class KafkaTopicSinkFactoryTest extends KafkaTopicFactoryTestBase<KafkaTopicSink
         assertEquals(1, buildTopics(makePropBuilder().makeTopic(MY_TOPIC).build()).size());
     }
 
+    @Test
+    void testBuildProperties_AsyncPublish() {
+        initFactory();
+
+        buildTopics(makePropBuilder().makeTopic(MY_TOPIC)
+            .setTopicProperty(PROPERTY_TOPIC_SINK_ASYNC_PUBLISH_SUFFIX, "true")
+            .setTopicProperty(PROPERTY_TOPIC_SINK_MAX_IN_FLIGHT_SUFFIX, "10").build());
+
+        BusTopicParams params = getLastParams();
+        assertTrue(params.isAsyncPublish());
+        assertEquals(10, params.getMaxInFlight());
+    }
+
+    @Test
+    void testBuildProperties_KeyStrategy() {
+        initFactory();
+
+        buildTopics(makePropBuilder().makeTopic(MY_TOPIC)
+            .setTopicProperty(PROPERTY_TOPIC_SINK_KEY_STRATEGY_SUFFIX, "field")
+            .setTopicProperty(PROPERTY_TOPIC_SINK_KEY_FIELD_SUFFIX, "requestId").build());
+
+        BusTopicParams params = getLastParams();
+        assertEquals("field", params.getKeyStrategy());
+        assertEquals("requestId", params.getKeyField());
+    }
+
+    @Test
+    void testBuildProperties_SharedProducer() {
+        initFactory();
+
+        List<KafkaTopicSink> topics = buildTopics(makePropBuilder()
+            .makeTopic(MY_TOPIC).setTopicProperty(PROPERTY_TOPIC_SINK_SHARED_PRODUCER_SUFFIX, "true")
+            .makeTopic(TOPIC3).setTopicProperty(PROPERTY_TOPIC_SINK_SHARED_PRODUCER_SUFFIX, "true").build());
+        assertEquals(2, topics.size());
+        assertTrue(getLastParams().isSharedProducer());
+
+        topics.forEach(KafkaTopicSink::start);
+        assertEquals(1, factory.producerPool.size());
+
+        factory.destroy();
+        assertEquals(0, factory.producerPool.size());
+    }
+
     @Test
     void testBuildFromProperties() {
         Properties props = makePropBuilder().makeTopic(MY_TOPIC).build();
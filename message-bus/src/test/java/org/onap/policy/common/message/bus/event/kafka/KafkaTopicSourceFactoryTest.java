@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  * ONAP Policy Engine - Common Modules
  * ================================================================================
- * Copyright (C) 2022-2024 Nordix Foundation.
+ * Copyright (C) 2022-2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_KAFKA_SOURCE_TOPICS;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_BUS_CLIENT_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_CONSUMER_GROUP_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_PARTITION_WORKERS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_SOURCE_SHARED_CONSUMER_SUFFIX;
 
 import java.util.Deque;
 import java.util.LinkedList;
@@ -76,6 +80,38 @@ class KafkaTopicSourceFactoryTest extends KafkaTopicFactoryTestBase<KafkaTopicSo
         assertEquals(MY_EFFECTIVE_TOPIC, params.getEffectiveTopic());
     }
 
+    @Test
+    void testBuildProperties_SharedConsumer() {
+        initFactory();
+
+        assertFalse(buildTopics(makePropBuilder().makeTopic(MY_TOPIC).build()).isEmpty());
+        assertFalse(getLastParams().isSharedConsumer());
+
+        initFactory();
+
+        List<KafkaTopicSource> topics = buildTopics(makePropBuilder().makeTopic(MY_TOPIC)
+                        .setTopicProperty(PROPERTY_TOPIC_SOURCE_CONSUMER_GROUP_SUFFIX, MY_CONS_GROUP)
+                        .setTopicProperty(PROPERTY_TOPIC_SOURCE_SHARED_CONSUMER_SUFFIX, "true").build());
+        assertTrue(getLastParams().isSharedConsumer());
+        assertTrue(topics.get(0) instanceof SharedKafkaTopicSource);
+        assertEquals(1, factory.sharedConsumers.size());
+    }
+
+    @Test
+    void testBuildProperties_MemoryClient() {
+        initFactory();
+
+        // the in-memory client takes precedence over partition workers and shared consumers
+        List<KafkaTopicSource> topics = buildTopics(makePropBuilder().makeTopic(MY_TOPIC)
+                        .setTopicProperty(PROPERTY_TOPIC_BUS_CLIENT_SUFFIX, "memory")
+                        .setTopicProperty(PROPERTY_TOPIC_SOURCE_CONSUMER_GROUP_SUFFIX, MY_CONS_GROUP)
+                        .setTopicProperty(PROPERTY_TOPIC_SOURCE_SHARED_CONSUMER_SUFFIX, "true")
+                        .setTopicProperty(PROPERTY_TOPIC_SOURCE_PARTITION_WORKERS_SUFFIX, "2").build());
+        assertEquals("memory", getLastParams().getBusClient());
+        assertTrue(topics.get(0) instanceof SingleThreadedKafkaTopicSource);
+        assertTrue(factory.sharedConsumers.isEmpty());
+    }
+
     @Test
     @Override
     public void testDestroyString_testGet_testInventory() {
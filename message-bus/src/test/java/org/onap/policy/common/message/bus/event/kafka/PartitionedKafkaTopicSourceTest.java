@@ -0,0 +1,464 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.DEFAULT_MAX_PENDING_RECORDS;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.TraceId;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.onap.policy.common.message.bus.event.BatchTopicListener;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.KafkaConsumerWrapper;
+import org.onap.policy.common.message.bus.event.base.TopicTestBase;
+import org.onap.policy.common.message.bus.event.base.TracedRecords;
+
+class PartitionedKafkaTopicSourceTest extends TopicTestBase {
+    private static final int WORKERS = 2;
+    private static final long WAIT_SEC = 5;
+    private static final long WAIT_INTERVAL_MS = 10;
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+
+    private KafkaConsumerWrapper cons;
+    private PartitionedKafkaTopicSourceImpl source;
+
+    /**
+     * Creates the object to be tested.
+     */
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+
+        cons = mock(KafkaConsumerWrapper.class);
+        source = new PartitionedKafkaTopicSourceImpl();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        source.shutdown();
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(source.toString().startsWith("PartitionedKafkaTopicSource ["));
+    }
+
+    @Test
+    void testGetTopicCommInfrastructure() {
+        assertEquals(CommInfrastructure.KAFKA, source.getTopicCommInfrastructure());
+    }
+
+    @Test
+    void testGetPartitionWorkers() {
+        assertEquals(WORKERS, source.getPartitionWorkers());
+
+        // at least one worker
+        var source2 = new PartitionedKafkaTopicSource(makeKafkaBuilder().partitionWorkers(-1).build());
+        assertEquals(1, source2.getPartitionWorkers());
+        source2.shutdown();
+    }
+
+    @Test
+    void testFactory() {
+        var factory = new IndexedKafkaTopicSourceFactory();
+        assertThat(factory.build(makeKafkaBuilder().partitionWorkers(WORKERS).build()))
+                        .isInstanceOf(PartitionedKafkaTopicSource.class);
+        factory.destroy();
+
+        factory = new IndexedKafkaTopicSourceFactory();
+        assertThat(factory.build(makeKafkaBuilder().build())).isInstanceOf(SingleThreadedKafkaTopicSource.class);
+        factory.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRun() throws Exception {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        TopicListener listener = (infra, topic, event) -> received.add(event);
+
+        // lock it so that registration does not start the poller thread
+        source.lock();
+        source.register(listener);
+
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap = new HashMap<>();
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        TopicPartition part1 = new TopicPartition(MY_EFFECTIVE_TOPIC, 1);
+        recordsMap.put(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a"),
+                        new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 11, "key", "msg-0b")));
+        recordsMap.put(part1, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 1, 20, "key", "msg-1a")));
+
+        when(cons.poll()).thenReturn(new ConsumerRecords<>(recordsMap)).thenAnswer(args -> {
+            // the poller doesn't wait for the workers, so wait here, before the next commit
+            waitFor(() -> source.pendingRecords.get() == 0);
+            return ConsumerRecords.empty();
+        }).thenAnswer(args -> {
+            source.setAlive(false);
+            return ConsumerRecords.empty();
+        });
+
+        source.assigned.addAll(List.of(part0, part1));
+        source.setConsumer(cons);
+        source.setAlive(true);
+        source.run();
+
+        assertThat(received).containsExactlyInAnyOrder("msg-0a", "msg-0b", "msg-1a");
+        assertThat(received.indexOf("msg-0a")).isLessThan(received.indexOf("msg-0b"));
+
+        // offsets should be committed once the records have been processed
+        ArgumentCaptor<Map<TopicPartition, OffsetAndMetadata>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(cons, times(3)).commit(captor.capture(), anyInt());
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        captor.getAllValues().forEach(offsets::putAll);
+        assertEquals(12, offsets.get(part0).offset());
+        assertEquals(21, offsets.get(part1).offset());
+        assertTrue(captor.getAllValues().get(2).isEmpty());
+    }
+
+    @Test
+    void testRun_Backpressure() throws Exception {
+        source.shutdown();
+        source = new PartitionedKafkaTopicSourceImpl(2);
+
+        CountDownLatch release = new CountDownLatch(1);
+        TopicListener listener = (infra, topic, event) -> {
+            try {
+                release.await(WAIT_SEC, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        source.lock();
+        source.register(listener);
+
+        AtomicBoolean paused = new AtomicBoolean(false);
+        when(cons.isPaused()).thenAnswer(args -> paused.get());
+        doAnswer(args -> {
+            paused.set(true);
+            return null;
+        }).when(cons).pause();
+        doAnswer(args -> {
+            paused.set(false);
+            return null;
+        }).when(cons).resume();
+
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap = Map.of(part0,
+                        List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-a"),
+                                new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 11, "key", "msg-b"),
+                                new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 12, "key", "msg-c")));
+
+        when(cons.poll()).thenReturn(new ConsumerRecords<>(recordsMap)).thenAnswer(args -> {
+            // high-water mark was reached by the first batch
+            assertTrue(paused.get());
+
+            release.countDown();
+            waitFor(() -> source.pendingRecords.get() == 0);
+            return ConsumerRecords.empty();
+        }).thenAnswer(args -> {
+            source.setAlive(false);
+            return ConsumerRecords.empty();
+        });
+
+        source.setConsumer(cons);
+        source.setAlive(true);
+        source.run();
+
+        verify(cons).pause();
+        verify(cons).resume();
+        assertFalse(paused.get());
+    }
+
+    @Test
+    void testProcessRecords_Batch() {
+        BatchTopicListener listener = mock(BatchTopicListener.class);
+        source.lock();
+        source.register(listener);
+        source.setAlive(true);
+        source.pendingRecords.set(2);
+
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        source.assigned.add(part0);
+        source.processRecords(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a"),
+                        new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 11, "key", "msg-0b")));
+
+        verify(listener).onTopicEvents(CommInfrastructure.KAFKA, MY_TOPIC, List.of("msg-0a", "msg-0b"));
+        assertEquals(Map.of(part0, new OffsetAndMetadata(12)), source.drainProcessed());
+        assertEquals(0, source.pendingRecords.get());
+        assertThat(source.getRecentEvents()).containsExactly("msg-0a", "msg-0b");
+
+        // empty batch
+        source.processRecords(part0, List.of());
+        verify(listener, times(1)).onTopicEvents(any(), any(), any());
+
+        // not alive
+        source.setAlive(false);
+        source.processRecords(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 12, "key", "msg-0c")));
+        verify(listener, times(1)).onTopicEvents(any(), any(), any());
+        assertTrue(source.drainProcessed().isEmpty());
+    }
+
+    @Test
+    void testProcessRecords_Traced() {
+        List<String> traceIds = new ArrayList<>();
+        source.lock();
+        source.register((infra, topic, event) -> traceIds.add(Span.current().getSpanContext().getTraceId()));
+        source.setAlive(true);
+
+        var traced = new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a");
+        traced.headers().add(TracedRecords.TRACEPARENT_HEADER,
+                        ("00-" + TRACE_ID + "-b7ad6b7169203331-01").getBytes(StandardCharsets.UTF_8));
+        var untraced = new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 11, "key", "msg-0b");
+
+        source.processRecords(new TopicPartition(MY_EFFECTIVE_TOPIC, 0), List.of(traced, untraced));
+
+        // the context is only current while its own record is dispatched
+        assertEquals(List.of(TRACE_ID, TraceId.getInvalid()), traceIds);
+        assertFalse(Span.current().getSpanContext().isValid());
+    }
+
+    @Test
+    void testRevocationListener() {
+        TopicListener listener = mock(TopicListener.class);
+        source.lock();
+        source.register(listener);
+        source.setConsumer(cons);
+        source.setAlive(true);
+
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        TopicPartition part1 = new TopicPartition(MY_EFFECTIVE_TOPIC, 1);
+
+        var revocation = source.new RevocationListener();
+        revocation.onPartitionsAssigned(List.of(part0, part1));
+        assertEquals(Set.of(part0, part1), source.assigned);
+
+        source.processRecords(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a")));
+        verify(cons, never()).commit(any(), anyInt());
+
+        revocation.onPartitionsRevoked(List.of(part0));
+        verify(cons).commit(Map.of(part0, new OffsetAndMetadata(11)), 1);
+        assertTrue(source.drainProcessed().isEmpty());
+        assertEquals(Set.of(part1), source.assigned);
+
+        // worker finishes after the partition was revoked - should not be committed
+        source.processRecords(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 11, "key", "msg-0b")));
+        source.processRecords(part1, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 1, 20, "key", "msg-1a")));
+        assertEquals(Map.of(part1, new OffsetAndMetadata(21)), source.drainProcessed());
+
+        // left over from a previous assignment - discarded when reassigned
+        source.processRecords(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 12, "key", "msg-0c")));
+        revocation.onPartitionsAssigned(List.of(part0));
+        assertTrue(source.drainProcessed().isEmpty());
+    }
+
+    @Test
+    void testStop() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TopicListener listener = (infra, topic, event) -> {
+            started.countDown();
+            try {
+                release.await(WAIT_SEC, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        source.lock();
+        source.register(listener);
+
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap =
+                        Map.of(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a")));
+
+        when(cons.poll()).thenReturn(new ConsumerRecords<>(recordsMap)).thenAnswer(args -> {
+            Thread.sleep(WAIT_INTERVAL_MS);
+            return ConsumerRecords.empty();
+        });
+
+        source.assigned.add(part0);
+        source.setConsumer(cons);
+        source.setAlive(true);
+
+        Thread poller = new Thread(source::run);
+        poller.setDaemon(true);
+        source.setPoller(poller);
+        poller.start();
+
+        assertTrue(started.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        // stop while the worker is still processing the record
+        Thread stopper = new Thread(source::stop);
+        stopper.setDaemon(true);
+        stopper.start();
+
+        waitFor(() -> !source.isAlive());
+        release.countDown();
+        stopper.join(TimeUnit.SECONDS.toMillis(WAIT_SEC));
+        poller.join(TimeUnit.SECONDS.toMillis(WAIT_SEC));
+
+        // offset of the record processed by the worker should be committed on close
+        InOrder inOrder = inOrder(cons);
+        inOrder.verify(cons).wakeup();
+        inOrder.verify(cons).commitLater(Map.of(part0, new OffsetAndMetadata(11)));
+        inOrder.verify(cons).close();
+        assertFalse(poller.isAlive());
+        assertFalse(stopper.isAlive());
+    }
+
+    @Test
+    void testStop_WhilePolling() throws Exception {
+        TopicListener listener = mock(TopicListener.class);
+        source.lock();
+        source.register(listener);
+
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap =
+                        Map.of(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a")));
+
+        // the source is stopped while the poller is polling
+        CountDownLatch polling = new CountDownLatch(1);
+        when(cons.poll()).thenAnswer(args -> {
+            polling.countDown();
+            waitFor(() -> !source.isAlive());
+            return new ConsumerRecords<>(recordsMap);
+        });
+
+        source.assigned.add(part0);
+        source.setConsumer(cons);
+        source.setAlive(true);
+
+        Thread poller = new Thread(source::run);
+        poller.setDaemon(true);
+        source.setPoller(poller);
+        poller.start();
+
+        assertTrue(polling.await(WAIT_SEC, TimeUnit.SECONDS));
+        source.stop();
+        assertFalse(poller.isAlive());
+
+        // the workers were still running when the records were handed to them
+        assertEquals(1, source.processCalls.get());
+        verify(listener, never()).onTopicEvent(any(), any(), any());
+
+        InOrder inOrder = inOrder(cons);
+        inOrder.verify(cons).commitLater(Map.of());
+        inOrder.verify(cons).close();
+    }
+
+    @Test
+    void testGetMaxPendingRecords() {
+        assertEquals(DEFAULT_MAX_PENDING_RECORDS, source.getMaxPendingRecords());
+        source.shutdown();
+
+        source = new PartitionedKafkaTopicSourceImpl(2);
+        assertEquals(2, source.getMaxPendingRecords());
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(WAIT_SEC);
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(WAIT_INTERVAL_MS);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    void testProcessRecords_NotAlive() {
+        TopicListener listener = mock(TopicListener.class);
+        source.lock();
+        source.register(listener);
+
+        TopicPartition part0 = new TopicPartition(MY_EFFECTIVE_TOPIC, 0);
+        source.processRecords(part0, List.of(new ConsumerRecord<>(MY_EFFECTIVE_TOPIC, 0, 10, "key", "msg-0a")));
+
+        verify(listener, never()).onTopicEvent(any(), any(), any());
+        assertTrue(source.drainProcessed().isEmpty());
+    }
+
+    /**
+     * Source whose consumer can be replaced by a mock.
+     */
+    private class PartitionedKafkaTopicSourceImpl extends PartitionedKafkaTopicSource {
+        private final AtomicInteger processCalls = new AtomicInteger();
+
+        public PartitionedKafkaTopicSourceImpl() {
+            super(makeKafkaBuilder().partitionWorkers(WORKERS).build());
+        }
+
+        public PartitionedKafkaTopicSourceImpl(int maxPendingRecords) {
+            super(makeKafkaBuilder().partitionWorkers(WORKERS).maxPendingRecords(maxPendingRecords).build());
+        }
+
+        private void setConsumer(KafkaConsumerWrapper consumer) {
+            this.consumer = consumer;
+        }
+
+        private void setAlive(boolean alive) {
+            this.alive = alive;
+        }
+
+        private void setPoller(Thread poller) {
+            this.busPollerThread = poller;
+        }
+
+        @Override
+        protected void processRecords(TopicPartition partition,
+                        List<ConsumerRecord<String, String>> partitionRecords) {
+            processCalls.incrementAndGet();
+            super.processRecords(partition, partitionRecords);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.message.bus.event.base.BusConsumer.KafkaConsumerWrapper;
+import org.onap.policy.common.message.bus.event.base.TopicTestBase;
+
+class SharedKafkaConsumerTest extends TopicTestBase {
+    private static final String TOPIC_A = "my-topic-a";
+    private static final String TOPIC_B = "my-topic-b";
+    private static final String TOPIC_C = "my-topic-c";
+    private static final long WAIT_SEC = 5;
+    private static final long WAIT_INTERVAL_MS = 10;
+    private static final long WAIT_MS = TimeUnit.SECONDS.toMillis(WAIT_SEC);
+
+    private KafkaConsumerWrapper cons;
+    private SharedKafkaConsumerImpl shared;
+    private SharedKafkaTopicSource sourceA;
+    private SharedKafkaTopicSource sourceB;
+    private List<Collection<String>> subscriptions;
+
+    /**
+     * Creates the objects to be tested.
+     */
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+
+        subscriptions = new ArrayList<>();
+
+        cons = mock(KafkaConsumerWrapper.class);
+        doAnswer(args -> {
+            synchronized (subscriptions) {
+                subscriptions.add(new ArrayList<>(args.getArgument(0)));
+            }
+            return null;
+        }).when(cons).subscribe(any());
+
+        when(cons.poll()).thenAnswer(args -> {
+            Thread.sleep(WAIT_INTERVAL_MS);
+            return ConsumerRecords.empty();
+        });
+
+        shared = new SharedKafkaConsumerImpl();
+        sourceA = new SharedKafkaTopicSource(makeKafkaBuilder().effectiveTopic(TOPIC_A).build(), shared);
+        sourceB = new SharedKafkaTopicSource(makeKafkaBuilder().effectiveTopic(TOPIC_B).build(), shared);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sourceA.shutdown();
+        sourceB.shutdown();
+    }
+
+    @Test
+    void testGetConsumerGroup() {
+        assertEquals(MY_CONS_GROUP, shared.getConsumerGroup());
+    }
+
+    @Test
+    void testAttach_testDetach() throws InterruptedException {
+        assertFalse(shared.isPolling());
+
+        assertTrue(sourceA.start());
+        assertTrue(shared.isPolling());
+        waitFor(() -> lastSubscription().equals(List.of(TOPIC_A)));
+
+        // attaching again has no effect
+        shared.attach(sourceA);
+
+        assertTrue(sourceB.start());
+        verify(cons).wakeup();
+        waitFor(() -> lastSubscription().size() == 2);
+        assertThat(lastSubscription()).containsExactlyInAnyOrder(TOPIC_A, TOPIC_B);
+
+        assertTrue(sourceA.stop());
+        assertTrue(shared.isPolling());
+        waitFor(() -> lastSubscription().equals(List.of(TOPIC_B)));
+        verify(cons, never()).close();
+
+        // detaching again has no effect
+        shared.detach(sourceA);
+
+        assertTrue(sourceB.stop());
+        assertFalse(shared.isPolling());
+        verify(cons, timeout(WAIT_MS)).close();
+
+        // only one consumer was ever created
+        assertEquals(1, shared.created);
+    }
+
+    @Test
+    void testAttach_SameTopic() {
+        SharedKafkaTopicSource other =
+                        new SharedKafkaTopicSource(makeKafkaBuilder().effectiveTopic(TOPIC_A).build(), shared);
+
+        sourceA.start();
+
+        assertThatIllegalStateException().isThrownBy(() -> shared.attach(other)).withMessageContaining(TOPIC_A);
+        assertThatIllegalStateException().isThrownBy(other::start);
+        assertFalse(other.isAlive());
+
+        // should not have detached the original
+        other.stop();
+        assertTrue(shared.isPolling());
+    }
+
+    @Test
+    void testAttach_ConsumerEx() {
+        shared.ex = new IllegalArgumentException("expected exception");
+
+        assertThatIllegalStateException().isThrownBy(sourceA::start);
+        assertFalse(shared.isPolling());
+        assertFalse(sourceA.isAlive());
+
+        // should be able to attach once the consumer can be created
+        shared.ex = null;
+        assertTrue(sourceA.start());
+        assertTrue(shared.isPolling());
+    }
+
+    @Test
+    void testDispatch() {
+        TopicListener listenerA = mock(TopicListener.class);
+        TopicListener listenerB = mock(TopicListener.class);
+        sourceA.register(listenerA);
+        sourceB.register(listenerB);
+
+        TopicPartition partA = new TopicPartition(TOPIC_A, 0);
+        TopicPartition partB = new TopicPartition(TOPIC_B, 1);
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap = new HashMap<>();
+        recordsMap.put(partA, List.of(new ConsumerRecord<>(TOPIC_A, 0, 10, "key", "msg-a1"),
+                        new ConsumerRecord<>(TOPIC_A, 0, 11, "key", "msg-a2")));
+        recordsMap.put(partB, List.of(new ConsumerRecord<>(TOPIC_B, 1, 20, "key", "msg-b1")));
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = shared.dispatch(cons, new ConsumerRecords<>(recordsMap));
+
+        verify(listenerA).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-a1");
+        verify(listenerA).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-a2");
+        verify(listenerB).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-b1");
+
+        assertEquals(Map.of(partA, new OffsetAndMetadata(12), partB, new OffsetAndMetadata(21)), offsets);
+        verify(cons, never()).seek(any(), anyLong());
+    }
+
+    @Test
+    void testDispatch_Detached() {
+        TopicListener listenerA = mock(TopicListener.class);
+        sourceA.register(listenerA);
+
+        TopicPartition partB = new TopicPartition(TOPIC_B, 0);
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap =
+                        Map.of(partB, List.of(new ConsumerRecord<>(TOPIC_B, 0, 5, "key", "msg-b1")));
+
+        // records are discarded, and their offsets are not committed
+        assertEquals(Map.of(), shared.dispatch(cons, new ConsumerRecords<>(recordsMap)));
+        verify(listenerA, never()).onTopicEvent(any(), any(), any());
+        verify(cons).seek(partB, 5);
+
+        // partition can't be rewound
+        doThrow(new IllegalStateException("expected exception")).when(cons).seek(partB, 5);
+        assertEquals(Map.of(), shared.dispatch(cons, new ConsumerRecords<>(recordsMap)));
+    }
+
+    @Test
+    void testDispatch_NotDelivered() {
+        TopicListener listenerA = mock(TopicListener.class);
+        sourceA.register(listenerA);
+
+        // attached, but not alive
+        shared.attach(sourceB);
+
+        TopicPartition partA = new TopicPartition(TOPIC_A, 0);
+        TopicPartition partB = new TopicPartition(TOPIC_B, 1);
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsMap = new HashMap<>();
+        recordsMap.put(partA, List.of(new ConsumerRecord<>(TOPIC_A, 0, 10, "key", "msg-a1")));
+        recordsMap.put(partB, List.of(new ConsumerRecord<>(TOPIC_B, 1, 20, "key", "msg-b1"),
+                        new ConsumerRecord<>(TOPIC_B, 1, 21, "key", "msg-b2")));
+
+        // only the delivered partition is committed
+        assertEquals(Map.of(partA, new OffsetAndMetadata(11)),
+                        shared.dispatch(cons, new ConsumerRecords<>(recordsMap)));
+        verify(listenerA).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-a1");
+        verify(cons).seek(partB, 20);
+        verify(cons, never()).seek(partA, 10);
+
+        // delivery throws an exception
+        SharedKafkaTopicSource sourceC =
+                        spy(new SharedKafkaTopicSource(makeKafkaBuilder().effectiveTopic(TOPIC_C).build(), shared));
+        doThrow(new IllegalStateException("expected exception")).when(sourceC).onRecords(any());
+        shared.attach(sourceC);
+
+        TopicPartition partC = new TopicPartition(TOPIC_C, 2);
+        recordsMap = Map.of(partC, List.of(new ConsumerRecord<>(TOPIC_C, 2, 30, "key", "msg-c1")));
+        assertEquals(Map.of(), shared.dispatch(cons, new ConsumerRecords<>(recordsMap)));
+        verify(cons).seek(partC, 30);
+
+        shared.detach(sourceB);
+        shared.detach(sourceC);
+    }
+
+    @Test
+    void testPoll_Commit() {
+        TopicPartition partA = new TopicPartition(TOPIC_A, 0);
+        ConsumerRecords<String, String> records = new ConsumerRecords<>(
+                        Map.of(partA, List.of(new ConsumerRecord<>(TOPIC_A, 0, 30, "key", "msg-a1"))));
+
+        when(cons.poll()).thenReturn(records).thenAnswer(args -> {
+            Thread.sleep(WAIT_INTERVAL_MS);
+            return ConsumerRecords.empty();
+        });
+
+        TopicListener listenerA = mock(TopicListener.class);
+        sourceA.register(listenerA);
+
+        verify(cons, timeout(WAIT_MS)).commit(Map.of(partA, new OffsetAndMetadata(31)), 1);
+        verify(listenerA).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-a1");
+    }
+
+    @Test
+    void testPoll_Ex() {
+        when(cons.poll()).thenThrow(new IllegalStateException("expected exception")).thenAnswer(args -> {
+            Thread.sleep(WAIT_INTERVAL_MS);
+            return ConsumerRecords.empty();
+        });
+
+        sourceA.start();
+
+        // should continue polling after the exception
+        verify(cons, timeout(WAIT_MS)).commit(Map.of(), 0);
+        assertTrue(shared.isPolling());
+    }
+
+    @Test
+    void testToString() {
+        sourceA.start();
+        assertThat(shared.toString()).startsWith("SharedKafkaConsumer [").contains(MY_CONS_GROUP, TOPIC_A);
+    }
+
+    private List<String> lastSubscription() {
+        synchronized (subscriptions) {
+            return (subscriptions.isEmpty() ? List.of() : new ArrayList<>(subscriptions.get(subscriptions.size() - 1)));
+        }
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + WAIT_MS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(WAIT_INTERVAL_MS);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private class SharedKafkaConsumerImpl extends SharedKafkaConsumer {
+        private int created = 0;
+        private RuntimeException ex;
+
+        public SharedKafkaConsumerImpl() {
+            super(MY_CONS_GROUP);
+        }
+
+        @Override
+        protected KafkaConsumerWrapper makeConsumer(SharedKafkaTopicSource source) {
+            if (ex != null) {
+                throw ex;
+            }
+
+            ++created;
+            return cons;
+        }
+    }
+}
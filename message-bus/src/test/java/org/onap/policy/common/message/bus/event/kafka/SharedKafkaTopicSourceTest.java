@@ -0,0 +1,164 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.message.bus.event.base.TopicTestBase;
+
+class SharedKafkaTopicSourceTest extends TopicTestBase {
+    private static final String TOPIC2 = "my-topic-2";
+
+    private SharedKafkaConsumer shared;
+    private SharedKafkaTopicSource source;
+
+    /**
+     * Creates the object to be tested.
+     */
+    @BeforeEach
+    @Override
+    public void setUp() {
+        super.setUp();
+
+        shared = mock(SharedKafkaConsumer.class);
+        source = new SharedKafkaTopicSource(makeKafkaBuilder().build(), shared);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        source.shutdown();
+    }
+
+    @Test
+    void testStart_testStop() {
+        assertTrue(source.start());
+        assertTrue(source.isAlive());
+        verify(shared).attach(source);
+
+        // already started - should not attach again
+        assertTrue(source.start());
+        verify(shared).attach(source);
+
+        assertTrue(source.stop());
+        assertFalse(source.isAlive());
+        verify(shared).detach(source);
+    }
+
+    @Test
+    void testStart_Locked() {
+        source.lock();
+        assertThatIllegalStateException().isThrownBy(source::start);
+        verify(shared, never()).attach(any());
+    }
+
+    @Test
+    void testStart_AttachEx() {
+        doThrow(new IllegalStateException("expected exception")).when(shared).attach(source);
+
+        assertThatIllegalStateException().isThrownBy(source::start).withMessageContaining("cannot start");
+        assertFalse(source.isAlive());
+    }
+
+    @Test
+    void testStart_AliveBeforeAttach() {
+        // records may be dispatched as soon as it's attached, thus it must already be alive
+        doAnswer(args -> {
+            assertTrue(source.isAlive());
+            return null;
+        }).when(shared).attach(source);
+
+        assertTrue(source.start());
+        verify(shared).attach(source);
+    }
+
+    @Test
+    void testFactory() {
+        var factory = new IndexedKafkaTopicSourceFactory();
+        KafkaTopicSource source1 = factory.build(makeKafkaBuilder().sharedConsumer(true).build());
+        KafkaTopicSource source2 = factory.build(
+                        makeKafkaBuilder().sharedConsumer(true).topic(TOPIC2).effectiveTopic(TOPIC2).build());
+        assertThat(source1).isInstanceOf(SharedKafkaTopicSource.class);
+        assertThat(source2).isInstanceOf(SharedKafkaTopicSource.class);
+        assertEquals(1, factory.sharedConsumers.size());
+        factory.destroy();
+
+        // partition workers take precedence
+        factory = new IndexedKafkaTopicSourceFactory();
+        assertThat(factory.build(makeKafkaBuilder().sharedConsumer(true).partitionWorkers(2).build()))
+                        .isInstanceOf(PartitionedKafkaTopicSource.class);
+        factory.destroy();
+
+        // requires a consumer group
+        factory = new IndexedKafkaTopicSourceFactory();
+        assertThat(factory.build(makeKafkaBuilder().sharedConsumer(true).consumerGroup(null).build()))
+                        .isInstanceOf(SingleThreadedKafkaTopicSource.class)
+                        .isNotInstanceOf(SharedKafkaTopicSource.class);
+        assertEquals(0, factory.sharedConsumers.size());
+        factory.destroy();
+    }
+
+    @Test
+    void testOnRecords() {
+        TopicListener listener = mock(TopicListener.class);
+        source.register(listener);
+
+        assertTrue(source.onRecords(List.of("msg-a", "msg-b")));
+
+        verify(listener).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-a");
+        verify(listener).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "msg-b");
+        assertThat(source.getRecentEvents()).containsExactly("msg-a", "msg-b");
+    }
+
+    @Test
+    void testOnRecords_NotAlive() {
+        TopicListener listener = mock(TopicListener.class);
+        source.lock();
+        source.register(listener);
+
+        assertFalse(source.onRecords(List.of("msg-a")));
+
+        verify(listener, never()).onTopicEvent(any(), any(), any());
+    }
+
+    @Test
+    void testToString() {
+        assertThat(source.toString()).startsWith("SharedKafkaTopicSource [");
+    }
+
+    @Test
+    void testGetTopicCommInfrastructure() {
+        assertEquals(CommInfrastructure.KAFKA, source.getTopicCommInfrastructure());
+    }
+}
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2018-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,12 +22,17 @@ package org.onap.policy.common.message.bus.event.kafka;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
 import org.onap.policy.common.message.bus.event.base.TopicTestBase;
+import org.onap.policy.common.message.bus.event.memory.InMemoryBroker;
 
 class SingleThreadedKafkaTopicSourceTest extends TopicTestBase {
     private SingleThreadedKafkaTopicSource source;
@@ -45,6 +51,7 @@ class SingleThreadedKafkaTopicSourceTest extends TopicTestBase {
     @AfterEach
     public void tearDown() {
         source.shutdown();
+        InMemoryBroker.clearInstances();
     }
 
     @Test
@@ -53,6 +60,21 @@ class SingleThreadedKafkaTopicSourceTest extends TopicTestBase {
         source.shutdown();
     }
 
+    @Test
+    void testInit_MemoryClient() throws InterruptedException {
+        source.shutdown();
+        source = new SingleThreadedKafkaTopicSource(makeKafkaBuilder().busClient("memory").fetchTimeout(100).build());
+
+        TopicListener listener = mock(TopicListener.class);
+        source.register(listener);
+        assertTrue(source.start());
+
+        InMemoryBroker broker = InMemoryBroker.getInstance(kafkaServers);
+        broker.publish(source.getEffectiveTopic(), null, "hello");
+
+        verify(listener, timeout(5000)).onTopicEvent(CommInfrastructure.KAFKA, MY_TOPIC, "hello");
+    }
+
     @Test
     void testGetTopicCommInfrastructure() {
         assertEquals(CommInfrastructure.KAFKA, source.getTopicCommInfrastructure());
@@ -0,0 +1,366 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.memory;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.RecordAck;
+
+class InMemoryBrokerTest {
+    private static final String MY_NAME = "my-broker";
+    private static final String MY_TOPIC = "my-topic";
+    private static final String MY_GROUP = "my-group";
+    private static final String MEMBER1 = "member-1";
+    private static final String MEMBER2 = "member-2";
+    private static final long WAIT_MS = 5000;
+
+    private List<Long> delays;
+    private InMemoryBroker broker;
+
+    /**
+     * Creates the broker, recording its delays rather than sleeping.
+     */
+    @BeforeEach
+    public void setUp() {
+        delays = new ArrayList<>();
+        broker = new InMemoryBroker(MY_NAME) {
+            @Override
+            protected void delay(long delayMs) {
+                delays.add(delayMs);
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        InMemoryBroker.clearInstances();
+    }
+
+    @Test
+    void testGetInstance() {
+        InMemoryBroker shared = InMemoryBroker.getInstance(MY_NAME);
+        assertEquals(MY_NAME, shared.getName());
+        assertSame(shared, InMemoryBroker.getInstance(MY_NAME));
+        assertSame(shared, InMemoryBroker.getInstance(List.of(MY_NAME, "other")));
+        assertNotSame(shared, InMemoryBroker.getInstance("other"));
+
+        assertNull(InMemoryBroker.getInstance((List<String>) null));
+        assertNull(InMemoryBroker.getInstance(List.of()));
+
+        InMemoryBroker.clearInstances();
+        assertNotSame(shared, InMemoryBroker.getInstance(MY_NAME));
+    }
+
+    @Test
+    void testCreateTopic() {
+        assertEquals(3, broker.createTopic(MY_TOPIC, 3));
+
+        // already exists
+        assertEquals(3, broker.createTopic(MY_TOPIC, 5));
+        assertEquals(3, broker.getPartitionCount(MY_TOPIC));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> broker.createTopic("other", 0));
+
+        // implicit creation
+        assertEquals(InMemoryBroker.DEFAULT_PARTITIONS, broker.getPartitionCount("other"));
+
+        broker.setDefaultPartitions(4);
+        assertEquals(4, broker.getDefaultPartitions());
+        assertEquals(4, broker.getPartitionCount("another"));
+    }
+
+    @Test
+    void testPublish() throws InterruptedException {
+        broker.createTopic(MY_TOPIC, 4);
+        broker.setPublishLatencyMs(10);
+        assertEquals(10, broker.getPublishLatencyMs());
+
+        // the same key always maps to the same partition
+        RecordAck ack1 = broker.publish(MY_TOPIC, "my-key", "hello");
+        RecordAck ack2 = broker.publish(MY_TOPIC, "my-key", "world");
+        assertEquals(MY_TOPIC, ack1.getTopic());
+        assertEquals(ack1.getPartition(), ack2.getPartition());
+        assertEquals(0, ack1.getOffset());
+        assertEquals(1, ack2.getOffset());
+        assertTrue(ack1.getTimestamp() > 0);
+        assertEquals(2, broker.getEndOffset(MY_TOPIC, ack1.getPartition()));
+        assertEquals(List.of(10L, 10L), delays);
+
+        // records without a key are spread across the partitions
+        for (var count = 0; count < 4; ++count) {
+            broker.publish(MY_TOPIC, null, "unkeyed");
+        }
+
+        for (var partition = 0; partition < 4; ++partition) {
+            assertEquals((partition == ack1.getPartition() ? 3 : 1), broker.getEndOffset(MY_TOPIC, partition));
+        }
+    }
+
+    @Test
+    void testRetention() throws Exception {
+        assertEquals(InMemoryBroker.DEFAULT_RETENTION, broker.getRetention());
+        assertThatIllegalArgumentException().isThrownBy(() -> broker.setRetention(0));
+
+        broker.setRetention(20);
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+
+        // the log grows, up to the retention limit
+        for (var count = 0; count < 20; ++count) {
+            publish("r" + count);
+        }
+        assertEquals(0, broker.getBaseOffset(MY_TOPIC, 0));
+
+        Map<Integer, Long> positions = new HashMap<>();
+        assertEquals(List.of("r0", "r1"), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 2, 0));
+
+        // after which the oldest records are discarded
+        for (var count = 20; count < 30; ++count) {
+            publish("r" + count);
+        }
+        assertEquals(10, broker.getBaseOffset(MY_TOPIC, 0));
+        assertEquals(30, broker.getEndOffset(MY_TOPIC, 0));
+
+        // the consumer, having fallen behind, resumes from the oldest record retained
+        assertEquals(List.of("r10", "r11", "r12"), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 3, 0));
+        assertEquals(Map.of(0, 13L), positions);
+
+        List<String> rest = broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 100, 0);
+        assertEquals(17, rest.size());
+        assertEquals("r13", rest.get(0));
+        assertEquals("r29", rest.get(16));
+        assertEquals(Map.of(0, 30L), positions);
+
+        // topics created earlier keep their retention
+        broker.setRetention(100);
+        publish("r30");
+        assertEquals(11, broker.getBaseOffset(MY_TOPIC, 0));
+        assertEquals(31, broker.publish(MY_TOPIC, null, "r31").getOffset());
+        assertEquals(12, broker.getBaseOffset(MY_TOPIC, 0));
+    }
+
+    @Test
+    void testGetAssignment() {
+        broker.createTopic(MY_TOPIC, 4);
+
+        assertEquals(List.of(), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER1));
+
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+        assertEquals(List.of(0, 1, 2, 3), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER1));
+
+        // joining again has no effect
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER2);
+        assertEquals(List.of(0, 2), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER1));
+        assertEquals(List.of(1, 3), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER2));
+
+        // other groups are independent
+        broker.join("other", MY_TOPIC, MEMBER2);
+        assertEquals(List.of(0, 1, 2, 3), broker.getAssignment("other", MY_TOPIC, MEMBER2));
+
+        broker.leave(MY_GROUP, MY_TOPIC, MEMBER1, Map.of());
+        assertEquals(List.of(), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER1));
+        assertEquals(List.of(0, 1, 2, 3), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER2));
+
+        // leaving again, or leaving an unknown group, has no effect
+        broker.leave(MY_GROUP, MY_TOPIC, MEMBER1, Map.of());
+        broker.leave("unknown", MY_TOPIC, MEMBER1, Map.of());
+        assertEquals(List.of(0, 1, 2, 3), broker.getAssignment(MY_GROUP, MY_TOPIC, MEMBER2));
+    }
+
+    @Test
+    void testFetch() throws Exception {
+        broker.setFetchLatencyMs(20);
+        assertEquals(20, broker.getFetchLatencyMs());
+
+        publish("a", "b", "c");
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+
+        Map<Integer, Long> positions = new HashMap<>();
+        assertEquals(List.of("a", "b"), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 2, 0));
+        assertEquals(Map.of(0, 2L), positions);
+
+        assertEquals(List.of("c"), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 2, 0));
+        assertEquals(List.of(), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 2, 0));
+        assertEquals(List.of(20L, 20L, 20L), delays);
+
+        // not yet committed
+        assertEquals(0, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+
+        broker.commit(MY_GROUP, MY_TOPIC, MEMBER1, positions);
+        assertEquals(3, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+        assertEquals(0, broker.getCommittedOffset("unknown", MY_TOPIC, 0));
+
+        // a new member resumes from the committed offset
+        broker.leave(MY_GROUP, MY_TOPIC, MEMBER1, positions);
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER2);
+        publish("d");
+
+        Map<Integer, Long> positions2 = new HashMap<>();
+        assertEquals(List.of("d"), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER2, positions2, 10, 0));
+
+        // non-members fetch nothing and cannot commit
+        assertEquals(List.of(), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, new HashMap<>(), 10, 0));
+        broker.commit(MY_GROUP, MY_TOPIC, MEMBER1, Map.of(0, 0L));
+        broker.commit("unknown", MY_TOPIC, MEMBER1, Map.of(0, 0L));
+        assertEquals(3, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+    }
+
+    @Test
+    void testFetch_Rebalance() throws Exception {
+        broker.createTopic(MY_TOPIC, 2);
+        broker.publish(MY_TOPIC, null, "a");
+        broker.publish(MY_TOPIC, null, "b");
+
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+
+        Map<Integer, Long> positions = new HashMap<>();
+        assertEquals(2, broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 10, 0).size());
+        assertEquals(Map.of(0, 1L, 1, 1L), positions);
+
+        // partition 1 moves to the new member, which starts from the committed offset
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER2);
+        assertEquals(List.of(), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 10, 0));
+        assertEquals(Map.of(0, 1L), positions);
+
+        Map<Integer, Long> positions2 = new HashMap<>();
+        assertEquals(1, broker.fetch(MY_GROUP, MY_TOPIC, MEMBER2, positions2, 10, 0).size());
+        assertEquals(Map.of(1, 1L), positions2);
+    }
+
+    @Test
+    void testFetch_Rotates() throws Exception {
+        broker.createTopic(MY_TOPIC, 2);
+        for (var count = 0; count < 4; ++count) {
+            broker.publish(MY_TOPIC, null, "msg-" + count);
+        }
+
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+
+        // limited reads alternate between the partitions
+        Map<Integer, Long> positions = new HashMap<>();
+        broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 1, 0);
+        broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 1, 0);
+        assertEquals(Map.of(0, 1L, 1, 1L), positions);
+    }
+
+    @Test
+    void testFetch_Waits() throws Exception {
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+
+        AtomicReference<List<String>> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(fetchQuietly(MEMBER1)));
+        thread.start();
+
+        // wait for the fetch to begin waiting
+        waitFor(() -> thread.getState() == Thread.State.TIMED_WAITING);
+
+        publish("hello");
+        thread.join(WAIT_MS);
+        assertEquals(List.of("hello"), result.get());
+    }
+
+    @Test
+    void testFetch_Leave() throws Exception {
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+
+        AtomicReference<List<String>> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(fetchQuietly(MEMBER1)));
+        thread.start();
+
+        waitFor(() -> thread.getState() == Thread.State.TIMED_WAITING);
+
+        // leaving interrupts the fetch
+        broker.leave(MY_GROUP, MY_TOPIC, MEMBER1, Map.of());
+        thread.join(WAIT_MS);
+        assertEquals(List.of(), result.get());
+    }
+
+    @Test
+    void testFailFetches() throws Exception {
+        publish("hello");
+        broker.join(MY_GROUP, MY_TOPIC, MEMBER1);
+        broker.failFetches(2);
+
+        Map<Integer, Long> positions = new HashMap<>();
+        assertThatThrownBy(() -> broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 10, 0))
+                        .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 10, 0))
+                        .isInstanceOf(IOException.class);
+
+        assertEquals(List.of("hello"), broker.fetch(MY_GROUP, MY_TOPIC, MEMBER1, positions, 10, 0));
+    }
+
+    @Test
+    void testDelay() throws InterruptedException {
+        broker = new InMemoryBroker(MY_NAME);
+
+        // no delay
+        broker.delay(0);
+
+        long tbeg = System.currentTimeMillis();
+        broker.delay(10);
+        assertTrue(System.currentTimeMillis() - tbeg >= 10);
+    }
+
+    @Test
+    void testToString() {
+        broker.createTopic(MY_TOPIC, 1);
+        assertEquals("InMemoryBroker [name=my-broker, topics=[my-topic]]", broker.toString());
+    }
+
+    private void publish(String... messages) throws InterruptedException {
+        for (String message : messages) {
+            broker.publish(MY_TOPIC, null, message);
+        }
+    }
+
+    private List<String> fetchQuietly(String member) {
+        try {
+            return broker.fetch(MY_GROUP, MY_TOPIC, member, new HashMap<>(), 10, WAIT_MS);
+
+        } catch (IOException | InterruptedException e) {
+            return null;
+        }
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long tend = System.currentTimeMillis() + WAIT_MS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < tend) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+}
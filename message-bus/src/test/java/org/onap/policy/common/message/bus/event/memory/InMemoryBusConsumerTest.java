@@ -0,0 +1,210 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.memory;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.base.CommitStrategy;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.onap.policy.common.parameters.topic.BusTopicParams.TopicParamsBuilder;
+
+class InMemoryBusConsumerTest {
+    private static final String MY_SERVER = "my-server";
+    private static final String MY_TOPIC = "my-topic";
+    private static final String MY_GROUP = "my-group";
+
+    private InMemoryBroker broker;
+    private InMemoryBusConsumer consumer;
+    private int sleeps;
+
+    /**
+     * Initializes the broker.
+     */
+    @BeforeEach
+    public void setUp() {
+        broker = InMemoryBroker.getInstance(MY_SERVER);
+        sleeps = 0;
+    }
+
+    /**
+     * Closes the consumer and discards the broker.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (consumer != null) {
+            consumer.close();
+        }
+
+        InMemoryBroker.clearInstances();
+    }
+
+    @Test
+    void testInMemoryBusConsumer() {
+        consumer = new InMemoryBusConsumer(makeBuilder().build());
+        assertSame(broker, consumer.getBroker());
+        assertEquals(MY_GROUP, consumer.getConsumerGroup());
+        assertEquals(CommitStrategy.SYNC, consumer.getCommitStrategy());
+
+        // generates a group when none is provided
+        InMemoryBusConsumer consumer2 = new InMemoryBusConsumer(makeBuilder().consumerGroup(null).build());
+        assertFalse(consumer2.getConsumerGroup().isEmpty());
+
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new InMemoryBusConsumer(makeBuilder().topic(null).build()));
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new InMemoryBusConsumer(makeBuilder().servers(List.of()).build()));
+    }
+
+    @Test
+    void testFetch() throws Exception {
+        consumer = new InMemoryBusConsumer(makeBuilder().build());
+
+        broker.publish(MY_TOPIC, null, "hello");
+        broker.publish(MY_TOPIC, null, "world");
+
+        assertEquals(List.of("hello", "world"), consumer.fetch());
+        assertEquals(2, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+
+        // limited by the fetch limit
+        for (var count = 0; count < 5; ++count) {
+            broker.publish(MY_TOPIC, null, "msg-" + count);
+        }
+
+        assertEquals(List.of("msg-0", "msg-1", "msg-2"), consumer.fetch());
+        assertEquals(5, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+    }
+
+    @Test
+    void testFetch_Periodic() throws Exception {
+        consumer = new InMemoryBusConsumer(makeBuilder().commitStrategy("periodic").commitMaxRecords(2)
+                        .commitIntervalMs(60000).build());
+        assertEquals(CommitStrategy.PERIODIC, consumer.getCommitStrategy());
+
+        broker.publish(MY_TOPIC, null, "a");
+        assertEquals(List.of("a"), consumer.fetch());
+        assertEquals(0, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+
+        broker.publish(MY_TOPIC, null, "b");
+        assertEquals(List.of("b"), consumer.fetch());
+        assertEquals(2, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+
+        // closing commits the remaining positions
+        broker.publish(MY_TOPIC, null, "c");
+        assertEquals(List.of("c"), consumer.fetch());
+        assertEquals(2, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+
+        consumer.close();
+        assertEquals(3, broker.getCommittedOffset(MY_GROUP, MY_TOPIC, 0));
+    }
+
+    @Test
+    void testFetch_Failure() throws Exception {
+        consumer = new InMemoryBusConsumer(makeBuilder().build(), broker) {
+            @Override
+            protected void sleepAfterFetchFailure() {
+                ++sleeps;
+            }
+        };
+
+        broker.failFetches(1);
+        assertThatThrownBy(() -> consumer.fetch()).isInstanceOf(IOException.class);
+        assertEquals(1, sleeps);
+
+        broker.publish(MY_TOPIC, null, "hello");
+        assertEquals(List.of("hello"), consumer.fetch());
+        assertEquals(1, sleeps);
+    }
+
+    @Test
+    void testFetch_Interrupted() throws Exception {
+        consumer = new InMemoryBusConsumer(makeBuilder().build());
+
+        Thread.currentThread().interrupt();
+        try {
+            assertEquals(List.of(), consumer.fetch());
+            assertTrue(Thread.currentThread().isInterrupted());
+
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testClose() throws Exception {
+        broker.createTopic(MY_TOPIC, 2);
+
+        consumer = new InMemoryBusConsumer(makeBuilder().build());
+        broker.publish(MY_TOPIC, null, "hello");
+
+        InMemoryBusConsumer consumer2 = new InMemoryBusConsumer(makeBuilder().build());
+        assertEquals(List.of("hello"), consumer2.fetch());
+
+        // the first consumer gets both partitions once the second leaves
+        consumer2.close();
+        broker.publish(MY_TOPIC, null, "world");
+        assertEquals(List.of("world"), consumer.fetch());
+
+        // closed consumers do not rejoin the group
+        assertEquals(List.of(), consumer2.fetch());
+
+        broker.publish(MY_TOPIC, null, "a");
+        broker.publish(MY_TOPIC, null, "b");
+        assertEquals(2, ((List<String>) consumer.fetch()).size());
+    }
+
+    @Test
+    void testWakeup() throws Exception {
+        broker.createTopic(MY_TOPIC, 1);
+        consumer = new InMemoryBusConsumer(makeBuilder().fetchTimeout(60_000).build());
+
+        // waking the consumer interrupts a fetch that is waiting for records, or causes
+        // the next one to return immediately
+        Thread fetcher = new Thread(() -> assertDoesNotThrow(() -> consumer.fetch()));
+        fetcher.start();
+
+        consumer.wakeup();
+        fetcher.join(5000);
+        assertFalse(fetcher.isAlive());
+
+        // closing it again, as the source's poller does, is harmless
+        assertDoesNotThrow(() -> consumer.close());
+    }
+
+    @Test
+    void testToString() {
+        consumer = new InMemoryBusConsumer(makeBuilder().build());
+        assertTrue(consumer.toString().startsWith("InMemoryBusConsumer [broker=my-server, topic=my-topic"));
+    }
+
+    private TopicParamsBuilder makeBuilder() {
+        return BusTopicParams.builder().servers(List.of(MY_SERVER)).topic(MY_TOPIC).consumerGroup(MY_GROUP)
+                        .fetchLimit(3).fetchTimeout(1);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.event.memory;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.RecordAck;
+import org.onap.policy.common.message.bus.event.base.KeyStrategy;
+import org.onap.policy.common.parameters.topic.BusTopicParams;
+import org.onap.policy.common.parameters.topic.BusTopicParams.TopicParamsBuilder;
+
+class InMemoryBusPublisherTest {
+    private static final String MY_SERVER = "my-server";
+    private static final String MY_TOPIC = "my-topic";
+    private static final String MY_PARTITION = "my-partition";
+    private static final String MY_MESSAGE = "{\"requestId\": \"abc\"}";
+
+    private InMemoryBroker broker;
+    private InMemoryBusPublisher publisher;
+
+    /**
+     * Creates the object to be tested.
+     */
+    @BeforeEach
+    public void setUp() {
+        broker = InMemoryBroker.getInstance(MY_SERVER);
+        broker.createTopic(MY_TOPIC, 4);
+
+        publisher = new InMemoryBusPublisher(makeBuilder().build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        InMemoryBroker.clearInstances();
+    }
+
+    @Test
+    void testInMemoryBusPublisher() {
+        assertSame(broker, publisher.getBroker());
+        assertEquals(KeyStrategy.RANDOM, publisher.getKeyStrategy());
+
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new InMemoryBusPublisher(makeBuilder().topic(null).build()));
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new InMemoryBusPublisher(makeBuilder().servers(List.of()).build()));
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new InMemoryBusPublisher(makeBuilder().keyStrategy("field").build()));
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new InMemoryBusPublisher(makeBuilder().keyStrategy("bogus").build()));
+    }
+
+    @Test
+    void testSend() {
+        assertTrue(publisher.send(MY_PARTITION, MY_MESSAGE));
+        assertTrue(publisher.send(MY_PARTITION, MY_MESSAGE));
+        assertEquals(2, publisher.getAckedCount());
+        assertEquals(0, publisher.getFailedCount());
+
+        long total = 0;
+        for (var partition = 0; partition < 4; ++partition) {
+            total += broker.getEndOffset(MY_TOPIC, partition);
+        }
+        assertEquals(2, total);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> publisher.send(MY_PARTITION, null));
+    }
+
+    @Test
+    void testSendAsync() {
+        publisher = new InMemoryBusPublisher(makeBuilder().keyStrategy("fixed").build());
+
+        CompletableFuture<RecordAck> future1 = publisher.sendAsync(MY_PARTITION, null, MY_MESSAGE);
+        CompletableFuture<RecordAck> future2 = publisher.sendAsync(MY_PARTITION, null, MY_MESSAGE);
+        assertTrue(future1.isDone());
+
+        // the same key maps to the same partition
+        RecordAck ack1 = future1.join();
+        RecordAck ack2 = future2.join();
+        assertEquals(MY_TOPIC, ack1.getTopic());
+        assertEquals(ack1.getPartition(), ack2.getPartition());
+        assertEquals(ack1.getOffset() + 1, ack2.getOffset());
+
+        // explicit keys take precedence
+        RecordAck ack3 = publisher.sendAsync(MY_PARTITION, "other-key", MY_MESSAGE).join();
+        assertEquals(Math.floorMod("other-key".hashCode(), 4), ack3.getPartition());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> publisher.sendAsync(MY_PARTITION, null, null));
+    }
+
+    @Test
+    void testSendAsync_Interrupted() {
+        InMemoryBroker broker2 = new InMemoryBroker(MY_SERVER) {
+            @Override
+            protected void delay(long delayMs) throws InterruptedException {
+                throw new InterruptedException("expected exception");
+            }
+        };
+
+        publisher = new InMemoryBusPublisher(makeBuilder().build(), broker2);
+
+        try {
+            assertTrue(publisher.sendAsync(MY_PARTITION, null, MY_MESSAGE).isCompletedExceptionally());
+            assertTrue(Thread.currentThread().isInterrupted());
+
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertFalse(publisher.send(MY_PARTITION, MY_MESSAGE));
+        Thread.interrupted();
+
+        assertEquals(0, publisher.getAckedCount());
+        assertEquals(2, publisher.getFailedCount());
+    }
+
+    @Test
+    void testMakeKey() {
+        assertNotNull(publisher.makeKey(MY_PARTITION, MY_MESSAGE));
+
+        publisher = new InMemoryBusPublisher(makeBuilder().keyStrategy("none").build());
+        assertNull(publisher.makeKey(MY_PARTITION, MY_MESSAGE));
+
+        publisher = new InMemoryBusPublisher(makeBuilder().keyStrategy("fixed").build());
+        assertEquals(MY_PARTITION, publisher.makeKey(MY_PARTITION, MY_MESSAGE));
+
+        publisher = new InMemoryBusPublisher(makeBuilder().keyStrategy("field").keyField("requestId").build());
+        assertEquals("abc", publisher.makeKey(MY_PARTITION, MY_MESSAGE));
+        assertNull(publisher.makeKey(MY_PARTITION, "{}"));
+    }
+
+    @Test
+    void testClose() {
+        assertThatCode(() -> publisher.close()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("InMemoryBusPublisher [broker=my-server, topic=my-topic, keyStrategy=RANDOM]",
+                        publisher.toString());
+    }
+
+    private TopicParamsBuilder makeBuilder() {
+        return BusTopicParams.builder().servers(List.of(MY_SERVER)).topic(MY_TOPIC).partitionId(MY_PARTITION);
+    }
+}
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +23,13 @@
 package org.onap.policy.common.message.bus.event.noop;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.RecordAck;
 
 class NoopTopicSinkTest extends NoopTopicEndpointTest<NoopTopicSinkFactory, NoopTopicSink> {
 
@@ -55,4 +60,25 @@ class NoopTopicSinkTest extends NoopTopicEndpointTest<NoopTopicSinkFactory, Noop
         sink.start();
         assertFalse(sink.send(MY_MESSAGE));
     }
+
+    @Test
+    void testSendAsync() throws Exception {
+        endpoint.start();
+
+        CompletableFuture<RecordAck> future = endpoint.sendAsync(MY_MESSAGE);
+        assertTrue(future.isDone());
+        assertEquals(new RecordAck(MY_TOPIC), future.get());
+        assertEquals(MY_MESSAGE, endpoint.getRecentEvents()[0]);
+
+        NoopTopicSink sink = new NoopTopicSink(servers, MY_TOPIC) {
+            @Override
+            protected boolean broadcast(String message) {
+                throw new RuntimeException(EXPECTED);
+            }
+
+        };
+
+        sink.start();
+        assertTrue(sink.sendAsync(MY_MESSAGE).isCompletedExceptionally());
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * ============LICENSE_START=======================================================
- * Copyright (C) 2025 Nordix Foundation.
+ * Copyright (C) 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,9 @@ class TopicHealthCheckFactoryTest {
         param.setTopicCommInfrastructure(Topic.CommInfrastructure.KAFKA.name());
         topicHealthCheck = topicHealthCheckFactory.getTopicHealthCheck(param);
         assertNotNull(topicHealthCheck);
+        param.setTopicCommInfrastructure(Topic.CommInfrastructure.INPROC.name());
+        topicHealthCheck = topicHealthCheckFactory.getTopicHealthCheck(param);
+        assertNotNull(topicHealthCheck);
         param.setTopicCommInfrastructure(Topic.CommInfrastructure.REST.name());
         topicHealthCheck = topicHealthCheckFactory.getTopicHealthCheck(param);
         assertNull(topicHealthCheck);
@@ -0,0 +1,121 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncNetLogWriterTest {
+    private static final long MAX_WAIT_MS = 5000;
+
+    private AsyncNetLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void testOffer() throws InterruptedException {
+        writer = new AsyncNetLogWriter(4);
+
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        var done = new CountDownLatch(3);
+        for (var count = 0; count < 3; ++count) {
+            final var value = count;
+            assertTrue(writer.offer(() -> {
+                executed.add(value);
+                done.countDown();
+            }));
+        }
+
+        assertTrue(done.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(0, 1, 2), executed);
+    }
+
+    @Test
+    void testOffer_Full() throws InterruptedException {
+        writer = new AsyncNetLogWriter(2);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        assertTrue(writer.offer(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        }));
+        assertTrue(started.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+
+        assertTrue(writer.offer(() -> { }));
+        assertTrue(writer.offer(() -> { }));
+        assertEquals(2, writer.getPendingCount());
+
+        assertFalse(writer.offer(() -> { }));
+
+        release.countDown();
+    }
+
+    @Test
+    void testStop() {
+        writer = new AsyncNetLogWriter(16);
+
+        var release = new CountDownLatch(1);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        writer.offer(() -> awaitQuietly(release));
+        writer.offer(() -> executed.add(1));
+        writer.offer(() -> executed.add(2));
+
+        release.countDown();
+
+        // operations queued before the writer is stopped are still executed
+        writer.stop();
+        assertEquals(List.of(1, 2), executed);
+        assertEquals(0, writer.getPendingCount());
+    }
+
+    @Test
+    void testRun_Exception() throws InterruptedException {
+        writer = new AsyncNetLogWriter(4);
+
+        var done = new CountDownLatch(1);
+        writer.offer(() -> {
+            throw new IllegalStateException("expected exception");
+        });
+        writer.offer(done::countDown);
+
+        assertTrue(done.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
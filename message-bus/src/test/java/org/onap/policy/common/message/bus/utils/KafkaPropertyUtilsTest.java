@@ -1,6 +1,6 @@
 /*-
  * ============LICENSE_START=======================================================
- * Copyright (C) 2024 Nordix Foundation.
+ * Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,9 @@
 package org.onap.policy.common.message.bus.utils;
 
 import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_ADDITIONAL_PROPS_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_BUS_CLIENT_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_RECENT_EVENTS_MAX_LENGTH_SUFFIX;
+import static org.onap.policy.common.message.bus.properties.MessageBusProperties.PROPERTY_TOPIC_RECENT_EVENTS_SUFFIX;
 
 import java.util.Properties;
 import org.junit.jupiter.api.Assertions;
@@ -50,5 +53,34 @@ class KafkaPropertyUtilsTest {
         build = KafkaPropertyUtils.makeBuilder(props, "mytopic", "servers").build();
         Assertions.assertTrue(build.getAdditionalProps().isEmpty());
     }
+
+    @Test
+    void testRecentEvents() {
+        var properties = new Properties();
+        PropertyUtils props = new PropertyUtils(properties, "mytopic", null);
+
+        var build = KafkaPropertyUtils.makeBuilder(props, "mytopic", "servers").build();
+        Assertions.assertEquals(-1, build.getRecentEventsCapacity());
+        Assertions.assertEquals(0, build.getRecentEventsMaxLength());
+
+        properties.setProperty("mytopic" + PROPERTY_TOPIC_RECENT_EVENTS_SUFFIX, "0");
+        properties.setProperty("mytopic" + PROPERTY_TOPIC_RECENT_EVENTS_MAX_LENGTH_SUFFIX, "200");
+        build = KafkaPropertyUtils.makeBuilder(props, "mytopic", "servers").build();
+        Assertions.assertEquals(0, build.getRecentEventsCapacity());
+        Assertions.assertEquals(200, build.getRecentEventsMaxLength());
+    }
+
+    @Test
+    void testBusClient() {
+        var properties = new Properties();
+        PropertyUtils props = new PropertyUtils(properties, "mytopic", null);
+
+        var build = KafkaPropertyUtils.makeBuilder(props, "mytopic", "servers").build();
+        Assertions.assertNull(build.getBusClient());
+
+        properties.setProperty("mytopic" + PROPERTY_TOPIC_BUS_CLIENT_SUFFIX, "memory");
+        build = KafkaPropertyUtils.makeBuilder(props, "mytopic", "servers").build();
+        Assertions.assertEquals("memory", build.getBusClient());
+    }
   
 }
\ No newline at end of file
@@ -2,6 +2,7 @@
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +21,25 @@
 package org.onap.policy.common.message.bus.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +48,7 @@ import org.onap.policy.common.message.bus.features.NetLoggerFeatureApi;
 import org.onap.policy.common.message.bus.features.NetLoggerFeatureProviders;
 import org.onap.policy.common.message.bus.utils.NetLoggerUtil.EventType;
 import org.slf4j.Logger;
+import org.slf4j.MDC;
 
 /**
  * Test class for network log utilities such as logging and feature invocation.
@@ -41,6 +57,7 @@ class NetLoggerUtilTest {
 
     private static final String TEST_TOPIC = "test-topic";
     private static final String MESSAGE = "hello world!";
+    private static final long MAX_WAIT_MS = 5000;
     /**
      * Test feature used for junits.
      */
@@ -64,6 +81,14 @@ class NetLoggerUtilTest {
         netLoggerFeature.setExceptions(false, false);
     }
 
+    /**
+     * Restores the default, synchronous, configuration.
+     */
+    @AfterEach
+    public void tearDown() {
+        NetLoggerUtil.configure(new Properties());
+    }
+
     /**
      * Tests obtaining the network logger instance.
      */
@@ -91,6 +116,20 @@ class NetLoggerUtilTest {
         assertEquals("network", TestAppender.events.get(0).getLoggerName());
     }
 
+    /**
+     * Tests that neither the logger nor the features are invoked if the logger is disabled.
+     */
+    @Test
+    void logDisabledTest() {
+        Logger disabled = mock(Logger.class);
+
+        NetLoggerUtil.log(disabled, EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+
+        verify(disabled).isInfoEnabled();
+        verifyNoMoreInteractions(disabled);
+        assertEquals(0, TestAppender.events.size());
+    }
+
     /**
      * Tests a NetLoggerFeature that replaces base implementation before logging.
      */
@@ -131,6 +170,165 @@ class NetLoggerUtilTest {
         assertEquals(2, TestAppender.events.size());
     }
 
+    /**
+     * Tests logging via the background writer.
+     */
+    @Test
+    void configureAsyncTest() {
+        var props = new Properties();
+        props.setProperty("network.log.async", "true");
+        NetLoggerUtil.configure(props);
+        assertTrue(NetLoggerUtil.isAsync());
+
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+
+        // reverting to synchronous logging drains the writer
+        NetLoggerUtil.configure(new Properties());
+        assertFalse(NetLoggerUtil.isAsync());
+        assertEquals(0, NetLoggerUtil.getPendingCount());
+
+        assertEquals(3, TestAppender.events.size());
+        assertTrue(TestAppender.events.get(1).getFormattedMessage().endsWith(MESSAGE));
+    }
+
+    /**
+     * Tests that the background writer logs, and invokes the features, with the caller's
+     * MDC.
+     */
+    @Test
+    void configureAsyncMdcTest() {
+        var props = new Properties();
+        props.setProperty("network.log.async", "true");
+        NetLoggerUtil.configure(props);
+
+        MDC.put("requestId", "req-1");
+        try {
+            NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        } finally {
+            MDC.remove("requestId");
+        }
+
+        NetLoggerUtil.log(EventType.OUT, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+
+        // drain the writer
+        NetLoggerUtil.configure(new Properties());
+
+        assertEquals(6, TestAppender.events.size());
+        for (var index = 0; index < 3; ++index) {
+            assertEquals("req-1", TestAppender.events.get(index).getMDCPropertyMap().get("requestId"));
+        }
+
+        // the caller's MDC is not carried over to subsequent messages
+        for (var index = 3; index < 6; ++index) {
+            assertNull(TestAppender.events.get(index).getMDCPropertyMap().get("requestId"));
+        }
+    }
+
+    /**
+     * Tests counting messages that arrive while the writer's buffer is full.
+     */
+    @Test
+    void configureAsyncDroppedTest() throws InterruptedException {
+        var props = new Properties();
+        props.setProperty("network.log.async", "true");
+        props.setProperty("network.log.bufferCapacity", "2");
+        NetLoggerUtil.configure(props);
+
+        // block the writer on the first message
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Logger blocking = mock(Logger.class);
+        when(blocking.isInfoEnabled()).thenReturn(true);
+        doAnswer(args -> {
+            started.countDown();
+            return release.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+        }).when(blocking).info(anyString());
+
+        NetLoggerUtil.log(blocking, EventType.OUT, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertTrue(started.await(MAX_WAIT_MS, TimeUnit.MILLISECONDS));
+
+        long dropped = NetLoggerUtil.getDroppedCount();
+
+        // fill the buffer, then overflow it
+        NetLoggerUtil.log(blocking, EventType.OUT, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        NetLoggerUtil.log(blocking, EventType.OUT, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertEquals(2, NetLoggerUtil.getPendingCount());
+        assertEquals(dropped, NetLoggerUtil.getDroppedCount());
+
+        NetLoggerUtil.log(blocking, EventType.OUT, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertEquals(dropped + 1, NetLoggerUtil.getDroppedCount());
+
+        release.countDown();
+        assertTrue(waitFor(() -> NetLoggerUtil.getPendingCount() == 0));
+    }
+
+    /**
+     * Tests the general and per-topic sample rates.
+     */
+    @Test
+    void configureSampleRateTest() {
+        var props = new Properties();
+        props.setProperty("network.log.sampleRate", "0");
+        NetLoggerUtil.configure(props);
+
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertEquals(0, TestAppender.events.size());
+
+        // topic override, with the topic name in a different case
+        props.setProperty("network.log.sampleRate." + TEST_TOPIC.toUpperCase(), "1.0");
+        NetLoggerUtil.configure(props);
+
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertEquals(3, TestAppender.events.size());
+
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, "other-topic", MESSAGE);
+        assertEquals(3, TestAppender.events.size());
+
+        // invalid rates are ignored
+        props.setProperty("network.log.sampleRate", "2.5");
+        props.setProperty("network.log.sampleRate." + TEST_TOPIC, "abc");
+        NetLoggerUtil.configure(props);
+
+        TestAppender.clear();
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, "other-topic", MESSAGE);
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertEquals(6, TestAppender.events.size());
+    }
+
+    /**
+     * Tests truncating the logged message body.
+     */
+    @Test
+    void configureMaxBodyLengthTest() {
+        var props = new Properties();
+        props.setProperty("network.log.maxBodyLength", "5");
+        NetLoggerUtil.configure(props);
+
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, MESSAGE);
+        assertEquals(3, TestAppender.events.size());
+
+        String logged = TestAppender.events.get(1).getFormattedMessage();
+        assertTrue(logged.endsWith("hello...[truncated 7 chars]"));
+        assertFalse(logged.contains("world"));
+
+        // short messages are logged in full
+        TestAppender.clear();
+        NetLoggerUtil.log(EventType.IN, CommInfrastructure.NOOP, TEST_TOPIC, "abc");
+        assertTrue(TestAppender.events.get(1).getFormattedMessage().endsWith("abc"));
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_WAIT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+
+        return true;
+    }
+
     /**
      * A custom list appender to track messages being logged to the network logger.
      * NOTE: Check src/test/resources/logback-test.xml for network logger configurations.
@@ -0,0 +1,132 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.message.bus.utils;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 10000;
+
+    @Test
+    void testCapacity() {
+        assertEquals(2, new RingBuffer<String>(1).getCapacity());
+        assertEquals(2, new RingBuffer<String>(2).getCapacity());
+        assertEquals(4, new RingBuffer<String>(3).getCapacity());
+        assertEquals(1024, new RingBuffer<String>(1000).getCapacity());
+        assertEquals(1024, new RingBuffer<String>(1024).getCapacity());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBuffer<String>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBuffer<String>(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBuffer<String>(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testOfferPoll() {
+        RingBuffer<String> buffer = new RingBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> buffer.offer(null));
+
+        // wrap around several times
+        for (var lap = 0; lap < 3; ++lap) {
+            for (var count = 0; count < 4; ++count) {
+                assertTrue(buffer.offer("event-" + count));
+            }
+
+            assertFalse(buffer.offer("overflow"));
+            assertEquals(4, buffer.size());
+
+            for (var count = 0; count < 4; ++count) {
+                assertEquals("event-" + count, buffer.poll());
+            }
+
+            assertNull(buffer.poll());
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    void testDrainTo() {
+        RingBuffer<String> buffer = new RingBuffer<>(8);
+        for (var count = 0; count < 5; ++count) {
+            buffer.offer("event-" + count);
+        }
+
+        List<String> events = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(events, 3));
+        assertEquals(List.of("event-0", "event-1", "event-2"), events);
+
+        events.clear();
+        assertEquals(2, buffer.drainTo(events, 10));
+        assertEquals(List.of("event-3", "event-4"), events);
+
+        assertEquals(0, buffer.drainTo(events, 10));
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        RingBuffer<int[]> buffer = new RingBuffer<>(64);
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+
+        for (var producer = 0; producer < PRODUCERS; ++producer) {
+            final int producerId = producer;
+            new Thread(() -> {
+                for (var seq = 0; seq < EVENTS_PER_PRODUCER; ++seq) {
+                    int[] event = {producerId, seq};
+                    while (!buffer.offer(event)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        // each producer's events must arrive exactly once, and in order
+        int[] next = new int[PRODUCERS];
+        var received = 0;
+        long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+
+        while (received < PRODUCERS * EVENTS_PER_PRODUCER && System.currentTimeMillis() < end) {
+            int[] event = buffer.poll();
+            if (event == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            assertEquals(next[event[0]]++, event[1]);
+            ++received;
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(PRODUCERS * EVENTS_PER_PRODUCER, received);
+        assertTrue(buffer.isEmpty());
+    }
+}
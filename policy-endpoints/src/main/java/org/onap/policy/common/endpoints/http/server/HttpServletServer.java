@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2017-2019 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2020, 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2020, 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * Modifications Copyright (C) 2021 Bell Canada. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -127,7 +127,7 @@ public interface HttpServletServer extends Startable {
     public boolean isPrometheus();
 
     /**
-     * Enable prometheus metrics.
+     * Enable prometheus metrics, including those of the managed topic sources and sinks.
      */
     public void setPrometheus(String metricsPath);
 }
@@ -496,6 +496,7 @@ public abstract class JettyServletServer implements HttpServletServer, Runnable
     public void setPrometheus(String metricsPath) {
         this.getServlet(PrometheusMetricsServlet.class, metricsPath);
         JvmMetrics.builder().register();
+        TopicMetricsCollector.register();
     }
 
     @Override
@@ -0,0 +1,199 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.endpoints.http.server.internal;
+
+import static org.onap.policy.common.utils.resources.PrometheusUtils.BUS_METRIC_LABEL;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.DIRECTION_IN;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.DIRECTION_METRIC_LABEL;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.DIRECTION_OUT;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.PARTITION_METRIC_LABEL;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_BYTES_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_BYTES_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_COMMIT_DURATION_SECONDS_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_COMMIT_DURATION_SECONDS_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_CONSUMER_LAG_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_CONSUMER_LAG_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_DISPATCH_LATENCY_SECONDS_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_DISPATCH_LATENCY_SECONDS_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_MESSAGES_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_MESSAGES_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_METRIC_LABEL;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_POLL_BATCH_SIZE_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_POLL_BATCH_SIZE_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_POLL_DURATION_SECONDS_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_POLL_DURATION_SECONDS_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_POLL_INTERVAL_SECONDS_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_POLL_INTERVAL_SECONDS_METRIC;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_SEND_FAILURES_HELP;
+import static org.onap.policy.common.utils.resources.PrometheusUtils.TOPIC_SEND_FAILURES_METRIC;
+
+import io.prometheus.metrics.model.registry.MultiCollector;
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
+import io.prometheus.metrics.model.snapshots.ClassicHistogramBuckets;
+import io.prometheus.metrics.model.snapshots.CounterSnapshot;
+import io.prometheus.metrics.model.snapshots.CounterSnapshot.CounterDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot.GaugeDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot.HistogramDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.Labels;
+import io.prometheus.metrics.model.snapshots.MetricSnapshots;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import org.onap.policy.common.message.bus.event.Topic;
+import org.onap.policy.common.message.bus.event.TopicEndpoint;
+import org.onap.policy.common.message.bus.event.TopicEndpointManager;
+import org.onap.policy.common.message.bus.event.base.ConsumerStats;
+import org.onap.policy.common.message.bus.event.base.SingleThreadedBusTopicSource;
+import org.onap.policy.common.message.bus.event.base.StripedHistogram;
+import org.onap.policy.common.message.bus.event.base.TopicBase;
+import org.onap.policy.common.message.bus.event.base.TopicMetrics;
+
+/**
+ * Exports the metrics of the managed topic sources and sinks to Prometheus. The metrics
+ * are read from the topics each time they are scraped, thus the topics themselves only
+ * maintain striped counters.
+ */
+@AllArgsConstructor
+public class TopicMetricsCollector implements MultiCollector {
+
+    private static final AtomicBoolean registered = new AtomicBoolean(false);
+
+    /**
+     * Manager whose topics are to be exported.
+     */
+    private final TopicEndpoint manager;
+
+    /**
+     * Registers a collector, for the topics of the default topic endpoint manager, with the
+     * default Prometheus registry, if one has not already been registered. Enables the
+     * topics' detailed metrics, as they are now exported.
+     */
+    public static void register() {
+        TopicMetrics.setDetailed(true);
+
+        if (registered.compareAndSet(false, true)) {
+            PrometheusRegistry.defaultRegistry.register(new TopicMetricsCollector(TopicEndpointManager.getManager()));
+        }
+    }
+
+    @Override
+    public MetricSnapshots collect() {
+        var snapshot = new Snapshot();
+
+        for (Topic source : manager.getTopicSources()) {
+            if (source instanceof TopicBase topic) {
+                snapshot.addSource(topic);
+            }
+        }
+
+        for (Topic sink : manager.getTopicSinks()) {
+            if (sink instanceof TopicBase topic) {
+                snapshot.addSink(topic);
+            }
+        }
+
+        return snapshot.build();
+    }
+
+    /**
+     * Snapshot of the metrics of all topics, built while collecting.
+     */
+    private static class Snapshot {
+        private final CounterSnapshot.Builder messages =
+                        CounterSnapshot.builder().name(TOPIC_MESSAGES_METRIC).help(TOPIC_MESSAGES_HELP);
+        private final CounterSnapshot.Builder bytes =
+                        CounterSnapshot.builder().name(TOPIC_BYTES_METRIC).help(TOPIC_BYTES_HELP);
+        private final CounterSnapshot.Builder sendFailures =
+                        CounterSnapshot.builder().name(TOPIC_SEND_FAILURES_METRIC).help(TOPIC_SEND_FAILURES_HELP);
+        private final HistogramSnapshot.Builder dispatchLatency = HistogramSnapshot.builder()
+                        .name(TOPIC_DISPATCH_LATENCY_SECONDS_METRIC).help(TOPIC_DISPATCH_LATENCY_SECONDS_HELP);
+        private final HistogramSnapshot.Builder pollDuration = HistogramSnapshot.builder()
+                        .name(TOPIC_POLL_DURATION_SECONDS_METRIC).help(TOPIC_POLL_DURATION_SECONDS_HELP);
+        private final HistogramSnapshot.Builder pollBatchSize = HistogramSnapshot.builder()
+                        .name(TOPIC_POLL_BATCH_SIZE_METRIC).help(TOPIC_POLL_BATCH_SIZE_HELP);
+        private final HistogramSnapshot.Builder pollInterval = HistogramSnapshot.builder()
+                        .name(TOPIC_POLL_INTERVAL_SECONDS_METRIC).help(TOPIC_POLL_INTERVAL_SECONDS_HELP);
+        private final HistogramSnapshot.Builder commitDuration = HistogramSnapshot.builder()
+                        .name(TOPIC_COMMIT_DURATION_SECONDS_METRIC).help(TOPIC_COMMIT_DURATION_SECONDS_HELP);
+        private final GaugeSnapshot.Builder consumerLag =
+                        GaugeSnapshot.builder().name(TOPIC_CONSUMER_LAG_METRIC).help(TOPIC_CONSUMER_LAG_HELP);
+
+        void addSource(TopicBase topic) {
+            TopicMetrics metrics = topic.getMetrics();
+            var labels = makeLabels(topic, DIRECTION_IN);
+
+            messages.dataPoint(counter(metrics.getMessagesIn(), labels));
+            bytes.dataPoint(counter(metrics.getBytesIn(), labels));
+            dispatchLatency.dataPoint(histogram(metrics.getDispatchLatency(), labels));
+            pollDuration.dataPoint(histogram(metrics.getPollDuration(), labels));
+            pollBatchSize.dataPoint(histogram(metrics.getPollBatchSize(), labels));
+
+            if (topic instanceof SingleThreadedBusTopicSource source && source.getConsumerStats() != null) {
+                addConsumer(source, labels);
+            }
+        }
+
+        private void addConsumer(SingleThreadedBusTopicSource source, Labels labels) {
+            ConsumerStats stats = source.getConsumerStats();
+
+            pollInterval.dataPoint(histogram(stats.getPollInterval(), labels));
+            commitDuration.dataPoint(histogram(stats.getCommitDuration(), labels));
+
+            source.getPartitionLag().forEach((partition, lag) -> consumerLag.dataPoint(GaugeDataPointSnapshot
+                            .builder().value(lag).labels(labels.add(PARTITION_METRIC_LABEL, String.valueOf(partition)))
+                            .build()));
+        }
+
+        void addSink(TopicBase topic) {
+            TopicMetrics metrics = topic.getMetrics();
+            var labels = makeLabels(topic, DIRECTION_OUT);
+
+            messages.dataPoint(counter(metrics.getMessagesOut(), labels));
+            bytes.dataPoint(counter(metrics.getBytesOut(), labels));
+            sendFailures.dataPoint(counter(metrics.getSendFailures(), labels));
+            dispatchLatency.dataPoint(histogram(metrics.getDispatchLatency(), labels));
+        }
+
+        MetricSnapshots build() {
+            return MetricSnapshots.builder().metricSnapshot(messages.build()).metricSnapshot(bytes.build())
+                            .metricSnapshot(sendFailures.build()).metricSnapshot(dispatchLatency.build())
+                            .metricSnapshot(pollDuration.build()).metricSnapshot(pollBatchSize.build())
+                            .metricSnapshot(pollInterval.build()).metricSnapshot(commitDuration.build())
+                            .metricSnapshot(consumerLag.build()).build();
+        }
+
+        private static Labels makeLabels(TopicBase topic, String direction) {
+            return Labels.of(TOPIC_METRIC_LABEL, topic.getTopic(), BUS_METRIC_LABEL,
+                            topic.getTopicCommInfrastructure().name().toLowerCase(), DIRECTION_METRIC_LABEL,
+                            direction);
+        }
+
+        private static CounterDataPointSnapshot counter(LongAdder counter, Labels labels) {
+            return CounterDataPointSnapshot.builder().value(counter.sum()).labels(labels).build();
+        }
+
+        private static HistogramDataPointSnapshot histogram(StripedHistogram histogram, Labels labels) {
+            var buckets = ClassicHistogramBuckets.of(histogram.getUpperBounds(), histogram.getBucketCounts());
+            return HistogramDataPointSnapshot.builder().classicHistogramBuckets(buckets).sum(histogram.getSum())
+                            .labels(labels).build();
+        }
+    }
+}
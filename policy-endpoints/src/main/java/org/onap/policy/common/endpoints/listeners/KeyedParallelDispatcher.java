@@ -0,0 +1,366 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.endpoints.listeners;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.utils.coder.JsonFieldReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Topic listener that hands each message to another listener on one of several "lanes",
+ * each of which is a single thread, thus freeing the source's thread to carry on
+ * fetching. Messages are assigned to lanes by a key (e.g., request id) peeked from the
+ * message, thus messages having the same key are delivered in the order they were
+ * received, while messages having different keys may be delivered concurrently.
+ * Messages without a key are spread across the lanes, with no ordering guarantee.
+ *
+ * <p/>Each lane has a bounded queue. When a lane's queue is full, the message is either
+ * discarded or the source's thread is blocked until there is room, depending on the
+ * {@link OverflowPolicy}.
+ */
+public class KeyedParallelDispatcher implements TopicListener {
+    private static final Logger logger = LoggerFactory.getLogger(KeyedParallelDispatcher.class);
+
+    /**
+     * Minimum time, in milliseconds, between warnings about discarded messages, per lane.
+     */
+    private static final long REJECT_WARN_INTERVAL_MS = 10_000;
+
+    /**
+     * What to do when a lane's queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the message.
+         */
+        REJECT,
+
+        /**
+         * Block until there is room in the queue.
+         */
+        BLOCK
+    }
+
+    /**
+     * Name of the dispatcher, used to name the lanes' threads.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Listener to which messages are handed.
+     */
+    private final TopicListener listener;
+
+    /**
+     * Name of the key field, which may be hierarchical.
+     */
+    private final Object[] keyFieldNames;
+
+    /**
+     * Lanes onto which messages are dispatched.
+     */
+    private final Lane[] lanes;
+
+    /**
+     * Used to spread messages that have no key across the lanes.
+     */
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    /**
+     * Constructs the object and starts the lanes.
+     *
+     * @param name name of the dispatcher, used to name the lanes' threads
+     * @param listener listener to which messages are handed
+     * @param laneCount number of lanes
+     * @param queueCapacity maximum number of messages that may be waiting in each lane
+     * @param overflowPolicy what to do when a lane's queue is full
+     * @param keyFieldNames name of the key field, which may be hierarchical
+     */
+    public KeyedParallelDispatcher(String name, TopicListener listener, int laneCount, int queueCapacity,
+                    OverflowPolicy overflowPolicy, String... keyFieldNames) {
+
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("invalid lane count: " + laneCount);
+        }
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("invalid queue capacity: " + queueCapacity);
+        }
+
+        this.name = name;
+        this.listener = listener;
+        this.keyFieldNames = keyFieldNames;
+
+        this.lanes = new Lane[laneCount];
+        for (var index = 0; index < laneCount; ++index) {
+            lanes[index] = new Lane(name + "-lane-" + index, queueCapacity, overflowPolicy);
+        }
+    }
+
+    @Override
+    public void onTopicEvent(CommInfrastructure infra, String topic, String event) {
+        final var lane = getLane(JsonFieldReader.getString(event, keyFieldNames));
+        lane.execute(() -> lane.deliver(infra, topic, event));
+    }
+
+    /**
+     * Gets the number of lanes.
+     *
+     * @return the number of lanes
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Gets a lane, for examining its statistics.
+     *
+     * @param index index of the lane of interest
+     * @return the lane
+     */
+    public Lane getLane(int index) {
+        return lanes[index];
+    }
+
+    /**
+     * Stops accepting messages. Messages that are already queued are still delivered.
+     */
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the lanes to deliver the messages that were queued before
+     * {@link #shutdown()} was invoked.
+     *
+     * @param timeout maximum time to wait
+     * @param unit time unit of the timeout
+     * @return {@code true} if all of the lanes finished, {@code false} if the timeout
+     *         elapsed first
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Lane lane : lanes) {
+            if (!lane.executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the lane for a key.
+     *
+     * @param key key extracted from a message, or {@code null} if it has none
+     * @return the lane to which the message should be handed
+     */
+    private Lane getLane(String key) {
+        if (key == null) {
+            return lanes[Math.floorMod(nextLane.getAndIncrement(), lanes.length)];
+        }
+
+        // spread the hash code, in case only its upper bits vary
+        int hash = key.hashCode();
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedParallelDispatcher [name=" + name + ", lanes=" + lanes.length + "]";
+    }
+
+    /**
+     * A single thread, with a bounded queue of messages waiting to be delivered, along
+     * with its statistics.
+     */
+    public class Lane {
+
+        /**
+         * Executes the deliveries, one at a time.
+         */
+        private final ThreadPoolExecutor executor;
+
+        /**
+         * Number of messages that were handed to the listener.
+         */
+        private final LongAdder processed = new LongAdder();
+
+        /**
+         * Number of messages that the listener failed to process.
+         */
+        private final LongAdder failed = new LongAdder();
+
+        /**
+         * Number of messages that were discarded, because the queue was full or the
+         * dispatcher was shut down.
+         */
+        private final LongAdder rejected = new LongAdder();
+
+        /**
+         * Time, in milliseconds, before which discarded messages are not warned about.
+         */
+        private final AtomicLong nextRejectWarnMs = new AtomicLong();
+
+        /**
+         * Constructs the object.
+         *
+         * @param threadName name of the lane's thread
+         * @param queueCapacity maximum number of messages that may be waiting
+         * @param overflowPolicy what to do when the queue is full
+         */
+        private Lane(String threadName, int queueCapacity, OverflowPolicy overflowPolicy) {
+            RejectedExecutionHandler handler =
+                            (overflowPolicy == OverflowPolicy.BLOCK ? this::waitForRoom : this::reject);
+
+            this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                                var thread = new Thread(runnable, threadName);
+                                thread.setDaemon(true);
+                                return thread;
+                            }, handler);
+        }
+
+        /**
+         * Gets the number of messages waiting to be delivered.
+         *
+         * @return the number of messages waiting in the queue
+         */
+        public int getQueueSize() {
+            return executor.getQueue().size();
+        }
+
+        /**
+         * Gets the number of messages that were handed to the listener.
+         *
+         * @return the number of processed messages
+         */
+        public long getProcessedCount() {
+            return processed.sum();
+        }
+
+        /**
+         * Gets the number of messages that the listener failed to process.
+         *
+         * @return the number of failed messages
+         */
+        public long getFailedCount() {
+            return failed.sum();
+        }
+
+        /**
+         * Gets the number of messages that were discarded, because the queue was full or
+         * the dispatcher was shut down.
+         *
+         * @return the number of rejected messages
+         */
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        /**
+         * Queues a delivery.
+         *
+         * @param delivery delivery to be queued
+         */
+        private void execute(Runnable delivery) {
+            executor.execute(delivery);
+        }
+
+        /**
+         * Hands a message to the listener.
+         *
+         * @param infra infrastructure with which the message was received
+         * @param topic topic on which the message was received
+         * @param event event that was received
+         */
+        private void deliver(CommInfrastructure infra, String topic, String event) {
+            processed.increment();
+
+            try {
+                listener.onTopicEvent(infra, topic, event);
+
+            } catch (RuntimeException e) {
+                failed.increment();
+                logger.warn("{}: listener {} failed to process message: {}", name, listener, event, e);
+            }
+        }
+
+        /**
+         * Discards a delivery that could not be queued.
+         *
+         * @param delivery delivery that was rejected
+         * @param rejector executor that rejected the delivery
+         */
+        private void reject(Runnable delivery, ThreadPoolExecutor rejector) {
+            rejected.increment();
+
+            long now = System.currentTimeMillis();
+            long next = nextRejectWarnMs.get();
+            if (now >= next && nextRejectWarnMs.compareAndSet(next, now + REJECT_WARN_INTERVAL_MS)) {
+                logger.warn("{}: discarding message, as the queue is full or the dispatcher is shut down,"
+                                + " {} discarded so far", name, rejected.sum());
+            } else {
+                logger.debug("{}: discarding message, as the queue is full or the dispatcher is shut down", name);
+            }
+        }
+
+        /**
+         * Waits for room in the queue, and then queues a delivery that was rejected
+         * because the queue was full.
+         *
+         * @param delivery delivery that was rejected
+         * @param rejector executor that rejected the delivery
+         */
+        private void waitForRoom(Runnable delivery, ThreadPoolExecutor rejector) {
+            if (rejector.isShutdown()) {
+                reject(delivery, rejector);
+                return;
+            }
+
+            try {
+                rejector.getQueue().put(delivery);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(delivery, rejector);
+                return;
+            }
+
+            // shut down while waiting for room, thus the lane's thread may never take it
+            if (rejector.isShutdown() && rejector.getQueue().remove(delivery)) {
+                reject(delivery, rejector);
+            }
+        }
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,13 +23,17 @@ package org.onap.policy.common.endpoints.listeners;
 
 import java.util.concurrent.ConcurrentHashMap;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.utils.coder.JsonFieldReader;
 import org.onap.policy.common.utils.coder.StandardCoderObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Dispatches standard objects to listeners, based on the message type extracted from the
- * message. Only one listener may be registered for a given type.
+ * message. Only one listener may be registered for a given type. The type is peeked from
+ * the raw message, so that messages of types having no listener are discarded without
+ * being decoded. Messages destined for a listener having "directDecode" enabled are
+ * decoded by that listener, directly into its message type, in a single pass.
  */
 public class MessageTypeDispatcher extends JsonListener {
     private static final Logger logger = LoggerFactory.getLogger(MessageTypeDispatcher.class);
@@ -78,6 +82,26 @@ public class MessageTypeDispatcher extends JsonListener {
         type2listener.remove(type);
     }
 
+    @Override
+    public void onTopicEvent(CommInfrastructure infra, String topic, String event) {
+        final var type = JsonFieldReader.getString(event, messageFieldNames);
+        if (type != null) {
+            ScoListener<?> listener = type2listener.get(type);
+            if (listener == null) {
+                logger.info("discarding event of type {}", type);
+                return;
+            }
+
+            if (listener.isDirectDecode()) {
+                listener.onTopicEvent(infra, topic, event);
+                return;
+            }
+        }
+
+        // if the type can't be extracted, let the decoder report what's wrong
+        super.onTopicEvent(infra, topic, event);
+    }
+
     @Override
     public void onTopicEvent(CommInfrastructure infra, String topic, StandardCoderObject sco) {
         // extract the message type
@@ -21,11 +21,21 @@
 
 package org.onap.policy.common.endpoints.listeners;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.commons.lang3.StringUtils;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.base.StripedHistogram;
 import org.onap.policy.common.utils.coder.StandardCoderObject;
+import org.onap.policy.common.utils.time.HashedTimingWheel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,7 +43,13 @@ import org.slf4j.LoggerFactory;
  * Dispatches messages to listeners based on the request id extracted from the message. A
  * listener may be registered for a specific request id or for messages that have no
  * request id (i.e., autonomous messages). Note: only one listener may be registered for a
- * specific request id.
+ * specific request id. A registration for a specific request id may be given a timeout,
+ * in which case it is discarded when the first response arrives or when the timeout
+ * expires, whichever comes first.
+ *
+ * <p/>By default, autonomous messages are offered to the listeners one after another, on
+ * the caller's thread. Alternatively, they may be fanned out to the listeners
+ * concurrently, via {@link #setFanOut(Executor, boolean)}.
  *
  * @param <T> type of message/POJO this handles
  */
@@ -51,10 +67,39 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
      */
     private final ConcurrentLinkedQueue<TypedMessageListener<T>> listeners = new ConcurrentLinkedQueue<>();
 
+    /**
+     * Time, in seconds, taken by each listener for autonomous messages to process a
+     * message.
+     */
+    private final ConcurrentHashMap<TypedMessageListener<T>, StripedHistogram> listenerTimings =
+                    new ConcurrentHashMap<>();
+
+    /**
+     * How autonomous messages are fanned out to the listeners, or {@code null} if they
+     * are offered to the listeners sequentially.
+     */
+    private volatile FanOut fanOut = null;
+
     /**
      * Listeners for specific request ids.
      */
-    private final ConcurrentHashMap<String, TypedMessageListener<T>> req2listener = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Registration<T>> req2listener = new ConcurrentHashMap<>();
+
+    /**
+     * Number of responses that were offered to the listener registered for their request
+     * id.
+     */
+    private final LongAdder matchedCount = new LongAdder();
+
+    /**
+     * Number of registrations that expired before a response arrived.
+     */
+    private final LongAdder expiredCount = new LongAdder();
+
+    /**
+     * Number of responses for which no listener was registered.
+     */
+    private final LongAdder unmatchedCount = new LongAdder();
 
     /**
      * Constructs the object.
@@ -63,7 +108,19 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
      * @param requestIdFieldNames name of the request id field, which may be hierarchical
      */
     public RequestIdDispatcher(Class<T> clazz, String... requestIdFieldNames) {
-        super(clazz);
+        this(clazz, false, requestIdFieldNames);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param clazz class of message this handles
+     * @param directDecode {@code true} if raw messages should be decoded directly into the
+     *        message class, {@code false} otherwise
+     * @param requestIdFieldNames name of the request id field, which may be hierarchical
+     */
+    public RequestIdDispatcher(Class<T> clazz, boolean directDecode, String... requestIdFieldNames) {
+        super(clazz, directDecode);
         this.requestIdFieldNames = requestIdFieldNames;
     }
 
@@ -73,6 +130,8 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
      * @param listener listener to be registered
      */
     public void register(TypedMessageListener<T> listener) {
+        listenerTimings.computeIfAbsent(listener,
+                        key -> new StripedHistogram(StripedHistogram.LATENCY_BOUNDS_SECONDS));
         listeners.add(listener);
     }
 
@@ -87,7 +146,31 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
             throw new IllegalArgumentException("attempt to register a listener with an empty request id");
         }
 
-        req2listener.put(reqid, listener);
+        cancel(req2listener.put(reqid, new Registration<>(listener, false)));
+    }
+
+    /**
+     * Registers a listener for a particular request id, for a limited time. The listener
+     * is unregistered as soon as a response is offered to it. If no response arrives
+     * within the given time, the listener is unregistered and the timeout callback is
+     * invoked instead, by one of the threads of the shared timing wheel's pool; as that
+     * pool is shared by all dispatchers and clients, the callback should not block.
+     *
+     * @param reqid request id of interest
+     * @param listener listener to be registered
+     * @param timeout maximum time to wait for a response
+     * @param onTimeout invoked if no response arrives within the timeout
+     */
+    public void register(String reqid, TypedMessageListener<T> listener, Duration timeout, Runnable onTimeout) {
+        if (StringUtils.isEmpty(reqid)) {
+            throw new IllegalArgumentException("attempt to register a listener with an empty request id");
+        }
+
+        var registration = new Registration<>(listener, true);
+        cancel(req2listener.put(reqid, registration));
+
+        registration.expiry = getTimingWheel().schedule(() -> expire(reqid, registration, onTimeout),
+                        timeout.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -97,6 +180,39 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
      */
     public void unregister(TypedMessageListener<T> listener) {
         listeners.remove(listener);
+
+        if (!listeners.contains(listener)) {
+            listenerTimings.remove(listener);
+        }
+    }
+
+    /**
+     * Causes autonomous messages to be offered to the listeners concurrently, using the
+     * given executor, rather than sequentially, on the caller's thread. If the executor
+     * rejects a task, the message is not offered to the corresponding listener. A
+     * virtual thread executor (available with Java 21 or later) is well suited to this,
+     * as the listeners typically spend their time blocked.
+     *
+     * @param executor executor used to offer messages to the listeners, or {@code null}
+     *        to offer them sequentially
+     * @param awaitCompletion {@code true} to wait for all of the listeners to process a
+     *        message before returning, {@code false} to return as soon as the message has
+     *        been handed to the executor
+     */
+    public void setFanOut(Executor executor, boolean awaitCompletion) {
+        this.fanOut = (executor == null ? null : new FanOut(executor, awaitCompletion));
+    }
+
+    /**
+     * Gets the time, in seconds, taken by a listener for autonomous messages to process
+     * each message, to help identify slow listeners.
+     *
+     * @param listener listener of interest
+     * @return the listener's processing times, or {@code null} if the listener is not
+     *         registered
+     */
+    public StripedHistogram getListenerTiming(TypedMessageListener<T> listener) {
+        return listenerTimings.get(listener);
     }
 
     /**
@@ -105,7 +221,45 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
      * @param reqid request id whose listener is to be unregistered
      */
     public void unregister(String reqid) {
-        req2listener.remove(reqid);
+        cancel(req2listener.remove(reqid));
+    }
+
+    /**
+     * Gets the number of request ids for which a listener is currently registered.
+     *
+     * @return the number of pending request ids
+     */
+    public int getPendingCount() {
+        return req2listener.size();
+    }
+
+    /**
+     * Gets the number of responses that were offered to the listener registered for their
+     * request id.
+     *
+     * @return the number of matched responses
+     */
+    public long getMatchedCount() {
+        return matchedCount.sum();
+    }
+
+    /**
+     * Gets the number of registrations that expired before a response arrived.
+     *
+     * @return the number of expired registrations
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /**
+     * Gets the number of responses for which no listener was registered, including
+     * responses that arrived after their registration expired.
+     *
+     * @return the number of unmatched responses
+     */
+    public long getUnmatchedCount() {
+        return unmatchedCount.sum();
     }
 
     @Override
@@ -121,33 +275,104 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
                 logger.info("no listeners for autonomous message of type {}", message.getClass().getSimpleName());
             }
 
-            for (TypedMessageListener<T> listener : listeners) {
-                offerToListener(infra, topic, message, reqid, listener);
-            }
+            offerAutonomous(infra, topic, message);
 
         } else {
             // it's a response to a particular request
-            offerToListener(infra, topic, message, reqid, req2listener.get(reqid));
+            offerResponse(infra, topic, message, reqid);
         }
     }
 
     /**
-     * Offers a message to a listener.
+     * Offers an autonomous message to all of the autonomous listeners, either
+     * sequentially or concurrently, depending on the fan-out configuration.
+     *
+     * @param infra infrastructure on which the message was received
+     * @param topic topic on which the message was received
+     * @param msg message that was received
+     */
+    private void offerAutonomous(CommInfrastructure infra, String topic, T msg) {
+        final var fanOutCopy = this.fanOut;
+        if (fanOutCopy == null) {
+            for (TypedMessageListener<T> listener : listeners) {
+                timeListener(infra, topic, msg, listener);
+            }
+
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (TypedMessageListener<T> listener : listeners) {
+            try {
+                futures.add(CompletableFuture.runAsync(() -> timeListener(infra, topic, msg, listener),
+                                fanOutCopy.executor));
+
+            } catch (RejectedExecutionException e) {
+                logger.warn("cannot fan out message to listener {}: {}", listener, msg, e);
+            }
+        }
+
+        if (fanOutCopy.awaitCompletion) {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        }
+    }
+
+    /**
+     * Offers a message to an autonomous listener, recording the time it takes the
+     * listener to process it.
+     *
+     * @param infra infrastructure on which the message was received
+     * @param topic topic on which the message was received
+     * @param msg message that was received
+     * @param listener listener to which the message should be offered
+     */
+    private void timeListener(CommInfrastructure infra, String topic, T msg, TypedMessageListener<T> listener) {
+        long start = System.nanoTime();
+        offerToListener(infra, topic, msg, listener);
+
+        var timing = listenerTimings.get(listener);
+        if (timing != null) {
+            timing.observeNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Offers a response to the listener registered for its request id.
      *
      * @param infra infrastructure on which the message was received
      * @param topic topic on which the message was received
      * @param msg message that was received
      * @param reqid request id extracted from the message
-     * @param listener listener to which the message should be offered, or {@code null}
      */
-    private void offerToListener(CommInfrastructure infra, String topic, T msg, String reqid,
-                    TypedMessageListener<T> listener) {
+    private void offerResponse(CommInfrastructure infra, String topic, T msg, String reqid) {
+        Registration<T> registration = req2listener.get(reqid);
+
+        // registrations having a timeout only receive a single response
+        if (registration != null && registration.timed && !req2listener.remove(reqid, registration)) {
+            // lost the race with another response or with the timeout
+            registration = null;
+        }
 
-        if (listener == null) {
+        if (registration == null) {
+            unmatchedCount.increment();
             logger.info("no listener for request id {}", reqid);
             return;
         }
 
+        cancel(registration);
+        matchedCount.increment();
+        offerToListener(infra, topic, msg, registration.listener);
+    }
+
+    /**
+     * Offers a message to a listener.
+     *
+     * @param infra infrastructure on which the message was received
+     * @param topic topic on which the message was received
+     * @param msg message that was received
+     * @param listener listener to which the message should be offered
+     */
+    private void offerToListener(CommInfrastructure infra, String topic, T msg, TypedMessageListener<T> listener) {
         try {
             listener.onTopicEvent(infra, topic, msg);
 
@@ -155,4 +380,87 @@ public class RequestIdDispatcher<T> extends ScoListener<T> {
             logger.warn("listener {} failed to process message: {}", listener, msg, e);
         }
     }
+
+    /**
+     * Discards a registration whose timeout has expired, and invokes its timeout
+     * callback, provided a response has not already been offered to it.
+     *
+     * @param reqid request id with which the listener was registered
+     * @param registration registration that expired
+     * @param onTimeout callback to be invoked
+     */
+    private void expire(String reqid, Registration<T> registration, Runnable onTimeout) {
+        if (!req2listener.remove(reqid, registration)) {
+            // already received a response or was unregistered
+            return;
+        }
+
+        expiredCount.increment();
+        logger.info("no response for request id {}", reqid);
+
+        try {
+            onTimeout.run();
+
+        } catch (RuntimeException e) {
+            logger.warn("timeout callback failed for request id {}", reqid, e);
+        }
+    }
+
+    /**
+     * Cancels a registration's timeout, if it has one.
+     *
+     * @param registration registration to be cancelled, or {@code null}
+     */
+    private static void cancel(Registration<?> registration) {
+        if (registration != null && registration.expiry != null) {
+            registration.expiry.cancel();
+        }
+    }
+
+    /**
+     * Gets the timing wheel used to expire registrations.
+     *
+     * @return the timing wheel
+     */
+    protected HashedTimingWheel getTimingWheel() {
+        return HashedTimingWheel.getShared();
+    }
+
+    /**
+     * How autonomous messages are fanned out to the listeners.
+     */
+    private static class FanOut {
+        private final Executor executor;
+        private final boolean awaitCompletion;
+
+        FanOut(Executor executor, boolean awaitCompletion) {
+            this.executor = executor;
+            this.awaitCompletion = awaitCompletion;
+        }
+    }
+
+    /**
+     * Listener registered for a particular request id.
+     *
+     * @param <T> type of message/POJO the listener handles
+     */
+    private static class Registration<T> {
+        private final TypedMessageListener<T> listener;
+
+        /**
+         * {@code true} if the registration has a timeout.
+         */
+        private final boolean timed;
+
+        /**
+         * Scheduled expiry, or {@code null} if there is none (or it hasn't been scheduled
+         * yet).
+         */
+        private volatile HashedTimingWheel.Timeout expiry;
+
+        Registration(TypedMessageListener<T> listener, boolean timed) {
+            this.listener = listener;
+            this.timed = timed;
+        }
+    }
 }
@@ -4,7 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019, 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2020 Bell Canada. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,9 +24,11 @@ package org.onap.policy.common.endpoints.listeners;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.LazyStandardCoderObject;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.coder.StandardCoderObject;
 import org.slf4j.Logger;
@@ -34,7 +36,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Listens for receipt of a {@link StandardCoderObject}, translating it into an object of
- * the appropriate type, and then passing it to the subclass.
+ * the appropriate type, and then passing it to the subclass. Alternatively, if
+ * "directDecode" is enabled, the raw message may be decoded straight into the desired
+ * type, in a single pass, in which case the {@link StandardCoderObject} passed to the
+ * subclass is only built if the subclass actually needs it.
  *
  * @param <T> type of message/POJO this handles
  */
@@ -53,6 +58,22 @@ public abstract class ScoListener<T> {
      */
     private final Class<T> clazz;
 
+    /**
+     * {@code true} if raw messages should be decoded directly into the desired type,
+     * without first building a {@link StandardCoderObject}.
+     */
+    @Getter
+    private final boolean directDecode;
+
+    /**
+     * Constructs the object.
+     *
+     * @param clazz class of message this handles
+     */
+    protected ScoListener(Class<T> clazz) {
+        this(clazz, false);
+    }
+
     /**
      * Receives an event, translates it into the desired type of object, and passes it to
      * the subclass.
@@ -75,6 +96,28 @@ public abstract class ScoListener<T> {
         onTopicEvent(infra, topic, sco, msg);
     }
 
+    /**
+     * Receives a raw event, decodes it directly into the desired type of object, and
+     * passes it to the subclass, along with a standard object that is only built from the
+     * event if the subclass uses it.
+     *
+     * @param infra infrastructure with which the message was received
+     * @param topic topic on which the message was received
+     * @param event event that was received
+     */
+    public void onTopicEvent(CommInfrastructure infra, String topic, String event) {
+        final T msg;
+        try {
+            msg = coder.decode(event, clazz);
+
+        } catch (CoderException e) {
+            logger.warn("unable to decode {}: {}", clazz.getName(), event, e);
+            return;
+        }
+
+        onTopicEvent(infra, topic, new LazyStandardCoderObject(event), msg);
+    }
+
     /**
      * Indicates that a message was received.
      *
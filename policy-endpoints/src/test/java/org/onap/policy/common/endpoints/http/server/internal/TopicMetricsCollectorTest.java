@@ -0,0 +1,203 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.endpoints.http.server.internal;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.prometheus.metrics.model.snapshots.CounterSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot;
+import io.prometheus.metrics.model.snapshots.Labels;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import io.prometheus.metrics.model.snapshots.MetricSnapshots;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicEndpoint;
+import org.onap.policy.common.message.bus.event.TopicSink;
+import org.onap.policy.common.message.bus.event.TopicSource;
+import org.onap.policy.common.message.bus.event.base.ConsumerStats;
+import org.onap.policy.common.message.bus.event.base.SingleThreadedBusTopicSource;
+import org.onap.policy.common.message.bus.event.base.TopicMetrics;
+import org.onap.policy.common.message.bus.event.noop.NoopTopicSink;
+import org.onap.policy.common.message.bus.event.noop.NoopTopicSource;
+import org.onap.policy.common.utils.resources.PrometheusUtils;
+
+class TopicMetricsCollectorTest {
+    private static final List<String> SERVERS = List.of("my-server");
+    private static final String SOURCE_TOPIC = "my-source";
+    private static final String SINK_TOPIC = "my-sink";
+    private static final String KAFKA_TOPIC = "my-kafka";
+    private static final String MESSAGE = "hello";
+
+    private NoopTopicSource source;
+    private NoopTopicSink sink;
+    private TopicMetricsCollector collector;
+
+    /**
+     * Creates a source and a sink and a collector for them.
+     */
+    @BeforeEach
+    void setUp() {
+        TopicMetrics.setDetailed(true);
+        source = new NoopTopicSource(SERVERS, SOURCE_TOPIC);
+        sink = new NoopTopicSink(SERVERS, SINK_TOPIC);
+        source.start();
+        sink.start();
+
+        TopicEndpoint manager = mock(TopicEndpoint.class);
+        when(manager.getTopicSources()).thenReturn(List.<TopicSource>of(source, mock(TopicSource.class)));
+        when(manager.getTopicSinks()).thenReturn(List.<TopicSink>of(sink));
+
+        collector = new TopicMetricsCollector(manager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        source.shutdown();
+        sink.shutdown();
+        TopicMetrics.setDetailed(false);
+    }
+
+    @Test
+    void testCollect() {
+        source.offer(MESSAGE);
+        source.offer(MESSAGE);
+        sink.send(MESSAGE);
+
+        MetricSnapshots snapshots = collector.collect();
+
+        var sourceLabels = Labels.of(PrometheusUtils.TOPIC_METRIC_LABEL, SOURCE_TOPIC, PrometheusUtils.BUS_METRIC_LABEL,
+                        "noop", PrometheusUtils.DIRECTION_METRIC_LABEL, PrometheusUtils.DIRECTION_IN);
+        var sinkLabels = Labels.of(PrometheusUtils.TOPIC_METRIC_LABEL, SINK_TOPIC, PrometheusUtils.BUS_METRIC_LABEL,
+                        "noop", PrometheusUtils.DIRECTION_METRIC_LABEL, PrometheusUtils.DIRECTION_OUT);
+
+        var messages = (CounterSnapshot) find(snapshots, PrometheusUtils.TOPIC_MESSAGES_METRIC);
+        assertEquals(2, messages.getDataPoints().size());
+        assertEquals(2.0, counterValue(messages, sourceLabels));
+        assertEquals(1.0, counterValue(messages, sinkLabels));
+
+        var bytes = (CounterSnapshot) find(snapshots, PrometheusUtils.TOPIC_BYTES_METRIC);
+        assertEquals(2.0 * MESSAGE.length(), counterValue(bytes, sourceLabels));
+        assertEquals(MESSAGE.length(), counterValue(bytes, sinkLabels));
+
+        // only sinks have send failures
+        var failures = (CounterSnapshot) find(snapshots, PrometheusUtils.TOPIC_SEND_FAILURES_METRIC);
+        assertEquals(1, failures.getDataPoints().size());
+        assertEquals(0.0, counterValue(failures, sinkLabels));
+
+        // without listeners, dispatching still takes place
+        var dispatch = (HistogramSnapshot) find(snapshots, PrometheusUtils.TOPIC_DISPATCH_LATENCY_SECONDS_METRIC);
+        assertEquals(2, dispatch.getDataPoints().size());
+        assertEquals(2, histogramCount(dispatch, sourceLabels));
+        assertEquals(1, histogramCount(dispatch, sinkLabels));
+
+        // only sources poll, but noop sources never do
+        var poll = (HistogramSnapshot) find(snapshots, PrometheusUtils.TOPIC_POLL_DURATION_SECONDS_METRIC);
+        assertEquals(1, poll.getDataPoints().size());
+        assertEquals(0, histogramCount(poll, sourceLabels));
+
+        var batch = (HistogramSnapshot) find(snapshots, PrometheusUtils.TOPIC_POLL_BATCH_SIZE_METRIC);
+        assertEquals(1, batch.getDataPoints().size());
+
+        // noop sources have no consumer
+        var interval = (HistogramSnapshot) find(snapshots, PrometheusUtils.TOPIC_POLL_INTERVAL_SECONDS_METRIC);
+        assertTrue(interval.getDataPoints().isEmpty());
+        var lag = (GaugeSnapshot) find(snapshots, PrometheusUtils.TOPIC_CONSUMER_LAG_METRIC);
+        assertTrue(lag.getDataPoints().isEmpty());
+    }
+
+    @Test
+    void testCollectConsumerStats() {
+        var stats = new ConsumerStats();
+        stats.recordPollInterval(1_000_000L);
+        stats.recordPollInterval(1_000_000L);
+        stats.recordCommit(1_000_000L);
+
+        var kafkaSource = mock(SingleThreadedBusTopicSource.class);
+        when(kafkaSource.getMetrics()).thenReturn(new TopicMetrics());
+        when(kafkaSource.getTopic()).thenReturn(KAFKA_TOPIC);
+        when(kafkaSource.getTopicCommInfrastructure()).thenReturn(CommInfrastructure.KAFKA);
+        when(kafkaSource.getConsumerStats()).thenReturn(stats);
+        when(kafkaSource.getPartitionLag()).thenReturn(Map.of(0, 3L, 1, 0L));
+
+        TopicEndpoint manager = mock(TopicEndpoint.class);
+        when(manager.getTopicSources()).thenReturn(List.<TopicSource>of(kafkaSource));
+
+        MetricSnapshots snapshots = new TopicMetricsCollector(manager).collect();
+
+        var labels = Labels.of(PrometheusUtils.TOPIC_METRIC_LABEL, KAFKA_TOPIC, PrometheusUtils.BUS_METRIC_LABEL,
+                        "kafka", PrometheusUtils.DIRECTION_METRIC_LABEL, PrometheusUtils.DIRECTION_IN);
+
+        var interval = (HistogramSnapshot) find(snapshots, PrometheusUtils.TOPIC_POLL_INTERVAL_SECONDS_METRIC);
+        assertEquals(2, histogramCount(interval, labels));
+
+        var commit = (HistogramSnapshot) find(snapshots, PrometheusUtils.TOPIC_COMMIT_DURATION_SECONDS_METRIC);
+        assertEquals(1, histogramCount(commit, labels));
+
+        var lag = (GaugeSnapshot) find(snapshots, PrometheusUtils.TOPIC_CONSUMER_LAG_METRIC);
+        assertEquals(2, lag.getDataPoints().size());
+        assertEquals(3.0, gaugeValue(lag, labels.add(PrometheusUtils.PARTITION_METRIC_LABEL, "0")));
+        assertEquals(0.0, gaugeValue(lag, labels.add(PrometheusUtils.PARTITION_METRIC_LABEL, "1")));
+    }
+
+    @Test
+    void testRegister() {
+        TopicMetrics.setDetailed(false);
+
+        // registering more than once is harmless
+        assertDoesNotThrow(TopicMetricsCollector::register);
+        assertDoesNotThrow(TopicMetricsCollector::register);
+
+        // exported metrics are detailed
+        assertTrue(TopicMetrics.isDetailed());
+    }
+
+    private static MetricSnapshot find(MetricSnapshots snapshots, String name) {
+        for (MetricSnapshot snapshot : snapshots) {
+            if (snapshot.getMetadata().getName().equals(name)) {
+                return snapshot;
+            }
+        }
+
+        throw new AssertionError("missing metric " + name);
+    }
+
+    private static double counterValue(CounterSnapshot snapshot, Labels labels) {
+        return snapshot.getDataPoints().stream().filter(point -> point.getLabels().equals(labels)).findFirst()
+                        .orElseThrow().getValue();
+    }
+
+    private static double gaugeValue(GaugeSnapshot snapshot, Labels labels) {
+        return snapshot.getDataPoints().stream().filter(point -> point.getLabels().equals(labels)).findFirst()
+                        .orElseThrow().getValue();
+    }
+
+    private static long histogramCount(HistogramSnapshot snapshot, Labels labels) {
+        return snapshot.getDataPoints().stream().filter(point -> point.getLabels().equals(labels)).findFirst()
+                        .orElseThrow().getCount();
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.endpoints.listeners;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.endpoints.listeners.KeyedParallelDispatcher.OverflowPolicy;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.common.message.bus.event.TopicListener;
+import org.onap.policy.common.utils.coder.JsonFieldReader;
+
+class KeyedParallelDispatcherTest {
+    private static final CommInfrastructure INFRA = CommInfrastructure.NOOP;
+    private static final String TOPIC = "my-topic";
+    private static final String NAME = "my-dispatcher";
+    private static final String KEY_FIELD = "requestId";
+    private static final int LANES = 4;
+    private static final int CAPACITY = 2;
+    private static final long WAIT_SEC = 5;
+
+    private KeyedParallelDispatcher primary;
+
+    @AfterEach
+    public void tearDown() {
+        if (primary != null) {
+            primary.shutdown();
+        }
+    }
+
+    @Test
+    void testKeyedParallelDispatcher() {
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> { }, LANES, CAPACITY,
+                        OverflowPolicy.REJECT, KEY_FIELD);
+        assertEquals(NAME, primary.getName());
+        assertEquals(LANES, primary.getLaneCount());
+        assertEquals(0, primary.getLane(0).getQueueSize());
+        assertTrue(primary.toString().startsWith("KeyedParallelDispatcher ["));
+
+        TopicListener listener = (infra, topic, event) -> { };
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new KeyedParallelDispatcher(NAME, listener, 0, CAPACITY, OverflowPolicy.REJECT, KEY_FIELD))
+                        .withMessage("invalid lane count: 0");
+        assertThatIllegalArgumentException().isThrownBy(
+            () -> new KeyedParallelDispatcher(NAME, listener, LANES, 0, OverflowPolicy.REJECT, KEY_FIELD))
+                        .withMessage("invalid queue capacity: 0");
+    }
+
+    @Test
+    void testOnTopicEvent_OrderedByKey() throws InterruptedException {
+        final int keys = 10;
+        final int perKey = 50;
+
+        Map<String, List<String>> received = new ConcurrentHashMap<>();
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        var latch = new CountDownLatch(keys * perKey);
+
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> {
+            var key = JsonFieldReader.getString(event, KEY_FIELD);
+            received.computeIfAbsent(key, unused -> new ArrayList<>()).add(event);
+            threads.merge(key, Thread.currentThread().getName(), (prev, cur) -> prev.equals(cur) ? prev : "mixed");
+            latch.countDown();
+        }, LANES, keys * perKey, OverflowPolicy.BLOCK, KEY_FIELD);
+
+        for (var count = 0; count < perKey; ++count) {
+            for (var key = 0; key < keys; ++key) {
+                primary.onTopicEvent(INFRA, TOPIC, makeMessage("req-" + key, count));
+            }
+        }
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        // each key is always delivered, in order, on the same lane
+        for (var key = 0; key < keys; ++key) {
+            List<String> expected = new ArrayList<>();
+            for (var count = 0; count < perKey; ++count) {
+                expected.add(makeMessage("req-" + key, count));
+            }
+
+            assertEquals(expected, received.get("req-" + key));
+            assertTrue(threads.get("req-" + key).startsWith(NAME + "-lane-"));
+        }
+
+        long processed = 0;
+        for (var index = 0; index < LANES; ++index) {
+            processed += primary.getLane(index).getProcessedCount();
+        }
+        assertEquals(keys * perKey, processed);
+    }
+
+    @Test
+    void testOnTopicEvent_NoKey() throws InterruptedException {
+        Map<String, Boolean> threads = new ConcurrentHashMap<>();
+        var latch = new CountDownLatch(LANES);
+
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> {
+            threads.put(Thread.currentThread().getName(), true);
+            latch.countDown();
+        }, LANES, CAPACITY, OverflowPolicy.BLOCK, KEY_FIELD);
+
+        // messages without a key are spread across the lanes
+        for (var count = 0; count < LANES; ++count) {
+            primary.onTopicEvent(INFRA, TOPIC, "{}");
+        }
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+        assertEquals(LANES, threads.size());
+    }
+
+    @Test
+    void testOnTopicEvent_ListenerFails() throws InterruptedException {
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> {
+            throw new IllegalStateException("expected exception");
+        }, 1, CAPACITY, OverflowPolicy.REJECT, KEY_FIELD);
+
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", 0));
+
+        primary.shutdown();
+        assertTrue(primary.awaitTermination(WAIT_SEC, TimeUnit.SECONDS));
+
+        assertEquals(1, primary.getLane(0).getProcessedCount());
+        assertEquals(1, primary.getLane(0).getFailedCount());
+    }
+
+    @Test
+    void testOnTopicEvent_Reject() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> {
+            started.countDown();
+            awaitQuietly(release);
+        }, 1, CAPACITY, OverflowPolicy.REJECT, KEY_FIELD);
+
+        var lane = primary.getLane(0);
+
+        // first message occupies the thread
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", 0));
+        assertTrue(started.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        // fill the queue, then overflow it
+        for (var count = 1; count <= CAPACITY + 2; ++count) {
+            primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", count));
+        }
+
+        assertEquals(CAPACITY, lane.getQueueSize());
+        assertEquals(2, lane.getRejectedCount());
+
+        release.countDown();
+        primary.shutdown();
+        assertTrue(primary.awaitTermination(WAIT_SEC, TimeUnit.SECONDS));
+
+        assertEquals(1 + CAPACITY, lane.getProcessedCount());
+
+        // rejected once shut down
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", 0));
+        assertEquals(3, lane.getRejectedCount());
+    }
+
+    @Test
+    void testOnTopicEvent_Block() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> {
+            started.countDown();
+            awaitQuietly(release);
+        }, 1, CAPACITY, OverflowPolicy.BLOCK, KEY_FIELD);
+
+        var lane = primary.getLane(0);
+
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", 0));
+        assertTrue(started.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        for (var count = 1; count <= CAPACITY; ++count) {
+            primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", count));
+        }
+
+        // the next one should block until there's room
+        var sent = new CountDownLatch(1);
+        var sender = new Thread(() -> {
+            primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", CAPACITY + 1));
+            sent.countDown();
+        });
+        sender.setDaemon(true);
+        sender.start();
+
+        assertFalse(sent.await(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(sent.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        primary.shutdown();
+        assertTrue(primary.awaitTermination(WAIT_SEC, TimeUnit.SECONDS));
+
+        assertEquals(CAPACITY + 2, lane.getProcessedCount());
+        assertEquals(0, lane.getRejectedCount());
+
+        // rejected once shut down, rather than blocking
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", 0));
+        assertEquals(1, lane.getRejectedCount());
+    }
+
+    @Test
+    void testOnTopicEvent_BlockThenShutdown() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var permits = new Semaphore(0);
+
+        primary = new KeyedParallelDispatcher(NAME, (infra, topic, event) -> {
+            started.countDown();
+            permits.acquireUninterruptibly();
+        }, 1, CAPACITY, OverflowPolicy.BLOCK, KEY_FIELD);
+
+        var lane = primary.getLane(0);
+
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", 0));
+        assertTrue(started.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        for (var count = 1; count <= CAPACITY; ++count) {
+            primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", count));
+        }
+
+        var sent = new CountDownLatch(1);
+        var sender = new Thread(() -> {
+            primary.onTopicEvent(INFRA, TOPIC, makeMessage("req", CAPACITY + 1));
+            sent.countDown();
+        });
+        sender.setDaemon(true);
+        sender.start();
+
+        assertFalse(sent.await(200, TimeUnit.MILLISECONDS));
+
+        // shut down while the sender is waiting for room, then make room
+        primary.shutdown();
+        permits.release();
+
+        // the message that was waiting is rejected rather than left in the queue
+        assertTrue(sent.await(WAIT_SEC, TimeUnit.SECONDS));
+        assertEquals(1, lane.getRejectedCount());
+
+        permits.release(CAPACITY);
+        assertTrue(primary.awaitTermination(WAIT_SEC, TimeUnit.SECONDS));
+        assertEquals(1 + CAPACITY, lane.getProcessedCount());
+        assertEquals(0, lane.getQueueSize());
+    }
+
+    /**
+     * Waits for a latch, ignoring interruptions.
+     *
+     * @param latch latch for which to wait
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(WAIT_SEC, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Makes a JSON message with the given key.
+     *
+     * @param key the key
+     * @param count message counter, included in the message
+     * @return a JSON message with the given key
+     */
+    private String makeMessage(String key, int count) {
+        String json = "{'" + KEY_FIELD + "':'" + key + "', 'count':" + count + "}";
+        return json.replace('\'', '"');
+    }
+}
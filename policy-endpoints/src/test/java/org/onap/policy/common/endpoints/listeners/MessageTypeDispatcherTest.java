@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,8 +28,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
@@ -166,6 +169,52 @@ class MessageTypeDispatcherTest {
         verify(secondary1, times(2)).onTopicEvent(any(), any(), any());
     }
 
+    @Test
+    void testOnTopicEvent_DiscardedBeforeDecoding() {
+        primary = spy(new MessageTypeDispatcher("header", TYPE_FIELD));
+        primary.register(TYPE1, secondary1);
+
+        logger.addAppender(appender);
+
+        // unknown type - the rest of the message isn't even examined
+        primary.onTopicEvent(INFRA, TOPIC, "{'header': {'msg-type': 'msg-type-2'}, 'abc': ".replace('\'', '"'));
+        assertTrue(appender.getExtracted().toString().contains("discarding event of type msg-type-2"));
+        verify(primary, never()).onTopicEvent(any(), any(), any(StandardCoderObject.class));
+
+        // known type
+        appender.clearExtractions();
+        primary.onTopicEvent(INFRA, TOPIC, "{'abc': [1, 2], 'header': {'msg-type': 'msg-type-1'}}".replace('\'', '"'));
+        verify(primary).onTopicEvent(eq(INFRA), eq(TOPIC), any(StandardCoderObject.class));
+        verify(secondary1).onTopicEvent(eq(INFRA), eq(TOPIC), any(StandardCoderObject.class));
+        assertFalse(appender.getExtracted().toString().contains("discarding"));
+
+        // type is not a primitive - decoded, so the problem is reported
+        primary.onTopicEvent(INFRA, TOPIC, "{'header': {'msg-type': {}}}".replace('\'', '"'));
+        verify(primary, times(2)).onTopicEvent(eq(INFRA), eq(TOPIC), any(StandardCoderObject.class));
+        assertTrue(appender.getExtracted().toString().contains("unable to extract"));
+    }
+
+    @Test
+    void testOnTopicEvent_DirectDecode() {
+        when(secondary1.isDirectDecode()).thenReturn(true);
+        primary.register(TYPE1, secondary1);
+        primary.register(TYPE2, secondary2);
+
+        primary = spy(primary);
+
+        // direct - the raw message goes straight to the listener
+        final var message1 = makeMessage(TYPE1);
+        primary.onTopicEvent(INFRA, TOPIC, message1);
+        verify(secondary1).onTopicEvent(INFRA, TOPIC, message1);
+        verify(secondary1, never()).onTopicEvent(any(), any(), any(StandardCoderObject.class));
+        verify(primary, never()).onTopicEvent(any(), any(), any(StandardCoderObject.class));
+
+        // not direct - decoded into a standard object first
+        primary.onTopicEvent(INFRA, TOPIC, makeMessage(TYPE2));
+        verify(secondary2, never()).onTopicEvent(any(), any(), any(String.class));
+        verify(secondary2).onTopicEvent(eq(INFRA), eq(TOPIC), any(StandardCoderObject.class));
+    }
+
     /**
      * Makes a JSON message of the given type.
      *
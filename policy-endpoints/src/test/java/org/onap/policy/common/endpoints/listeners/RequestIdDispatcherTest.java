@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +23,9 @@
 package org.onap.policy.common.endpoints.listeners;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -32,6 +35,14 @@ import static org.mockito.Mockito.verify;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import java.time.Duration;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -43,6 +54,7 @@ import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.coder.StandardCoderObject;
 import org.onap.policy.common.utils.test.log.logback.ExtractAppender;
+import org.onap.policy.common.utils.time.HashedTimingWheel;
 import org.slf4j.LoggerFactory;
 
 class RequestIdDispatcherTest {
@@ -228,6 +240,188 @@ class RequestIdDispatcherTest {
         verify(secondary4, never()).onTopicEvent(INFRA, TOPIC, status);
     }
 
+    @Test
+    void testOnTopicEvent_DirectDecode() throws CoderException {
+        primary = new RequestIdDispatcher<>(MyMessage.class, true, REQID_FIELD);
+        assertTrue(primary.isDirectDecode());
+        assertFalse(new RequestIdDispatcher<>(MyMessage.class, REQID_FIELD).isDirectDecode());
+
+        primary.register(REQID1, secondary1);
+        primary.register(secondary3);
+
+        // without request id
+        status = new MyMessage();
+        primary.onTopicEvent(INFRA, TOPIC, coder.encode(status));
+        verify(secondary1, never()).onTopicEvent(INFRA, TOPIC, status);
+        verify(secondary3).onTopicEvent(INFRA, TOPIC, status);
+
+        // with request id
+        status = new MyMessage(REQID1);
+        primary.onTopicEvent(INFRA, TOPIC, coder.encode(status));
+        verify(secondary1).onTopicEvent(INFRA, TOPIC, status);
+        verify(secondary3, never()).onTopicEvent(INFRA, TOPIC, status);
+    }
+
+    @Test
+    void testRegisterWithTimeout_Response() {
+        Runnable onTimeout = mock(Runnable.class);
+        primary.register(REQID1, secondary1, Duration.ofMinutes(1), onTimeout);
+        primary.register(REQID2, secondary2);
+        assertEquals(2, primary.getPendingCount());
+
+        // should process the response and then discard the registration
+        status = new MyMessage(REQID1);
+        primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+        verify(secondary1).onTopicEvent(INFRA, TOPIC, status);
+        assertEquals(1, primary.getPendingCount());
+        assertEquals(1, primary.getMatchedCount());
+
+        // should NOT process a second response
+        primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+        verify(secondary1, times(1)).onTopicEvent(INFRA, TOPIC, status);
+        assertEquals(1, primary.getMatchedCount());
+        assertEquals(1, primary.getUnmatchedCount());
+
+        // registrations without a timeout remain
+        status = new MyMessage(REQID2);
+        primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+        primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+        verify(secondary2, times(2)).onTopicEvent(INFRA, TOPIC, status);
+        assertEquals(1, primary.getPendingCount());
+        assertEquals(3, primary.getMatchedCount());
+
+        verify(onTimeout, never()).run();
+        assertEquals(0, primary.getExpiredCount());
+
+        // empty request id => exception
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> primary.register("", secondary1, Duration.ofMinutes(1), onTimeout));
+    }
+
+    @Test
+    void testRegisterWithTimeout_Expired() throws InterruptedException {
+        var wheel = new HashedTimingWheel("my-wheel", 1, TimeUnit.MILLISECONDS, 16);
+        primary = new RequestIdDispatcher<>(MyMessage.class, REQID_FIELD) {
+            @Override
+            protected HashedTimingWheel getTimingWheel() {
+                return wheel;
+            }
+        };
+
+        logger.addAppender(appender);
+
+        try {
+            // unregistered and replaced registrations should not expire
+            Runnable unexpected = mock(Runnable.class);
+            primary.register(REQID1, secondary1, Duration.ofMillis(10), unexpected);
+            primary.unregister(REQID1);
+            primary.register(REQID2, secondary2, Duration.ofMillis(10), unexpected);
+            primary.register(REQID2, secondary2);
+
+            // callback throws an exception
+            primary.register(REQID1, secondary1, Duration.ofMillis(10), () -> {
+                throw new IllegalStateException("expected exception");
+            });
+
+            var latch = new CountDownLatch(1);
+            primary.register("request-3", secondary3, Duration.ofMillis(200), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(2, primary.getExpiredCount());
+            assertEquals(1, primary.getPendingCount());
+            verify(unexpected, never()).run();
+            assertTrue(appender.getExtracted().toString().contains("timeout callback failed"));
+
+            // response arrives too late
+            status = new MyMessage(REQID1);
+            primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+            verify(secondary1, never()).onTopicEvent(INFRA, TOPIC, status);
+            assertEquals(1, primary.getUnmatchedCount());
+            assertEquals(0, primary.getMatchedCount());
+
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void testSetFanOut_AwaitCompletion() throws InterruptedException {
+        // listeners can only get past the barrier if they're invoked concurrently
+        var barrier = new CyclicBarrier(2);
+        TypedMessageListener<MyMessage> listener1 = (infra, topic, msg) -> awaitQuietly(barrier);
+        TypedMessageListener<MyMessage> listener2 = (infra, topic, msg) -> awaitQuietly(barrier);
+        primary.register(listener1);
+        primary.register(listener2);
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            primary.setFanOut(executor, true);
+
+            primary.onTopicEvent(INFRA, TOPIC, makeSco(new MyMessage()));
+
+            // both should have completed by the time it returns
+            assertFalse(barrier.isBroken());
+            assertEquals(1, primary.getListenerTiming(listener1).getCount());
+            assertEquals(1, primary.getListenerTiming(listener2).getCount());
+
+        } finally {
+            executor.shutdown();
+        }
+
+        // back to sequential
+        primary.setFanOut(null, true);
+        primary.unregister(listener1);
+        primary.unregister(listener2);
+        primary.register(secondary1);
+
+        status = new MyMessage();
+        primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+        verify(secondary1).onTopicEvent(INFRA, TOPIC, status);
+        assertEquals(1, primary.getListenerTiming(secondary1).getCount());
+        assertNull(primary.getListenerTiming(listener2));
+    }
+
+    @Test
+    void testSetFanOut_FireAndForget() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+        TypedMessageListener<MyMessage> listener = (infra, topic, msg) -> {
+            awaitQuietly(release);
+            done.countDown();
+        };
+        primary.register(listener);
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            primary.setFanOut(executor, false);
+
+            // should return while the listener is still blocked
+            primary.onTopicEvent(INFRA, TOPIC, makeSco(new MyMessage()));
+            assertEquals(1, done.getCount());
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSetFanOut_Rejected() {
+        logger.addAppender(appender);
+
+        primary.register(secondary1);
+        primary.setFanOut(task -> {
+            throw new RejectedExecutionException("expected exception");
+        }, true);
+
+        status = new MyMessage();
+        primary.onTopicEvent(INFRA, TOPIC, makeSco(status));
+        verify(secondary1, never()).onTopicEvent(INFRA, TOPIC, status);
+        assertTrue(appender.getExtracted().toString().contains("cannot fan out message"));
+    }
+
     @Test
     void testOfferToListener() {
         logger.addAppender(appender);
@@ -250,6 +444,34 @@ class RequestIdDispatcherTest {
         assertTrue(appender.getExtracted().toString().contains("failed to process message"));
     }
 
+    /**
+     * Waits for a latch, ignoring interruptions.
+     *
+     * @param latch latch for which to wait
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for a barrier, ignoring failures, which are detected via the barrier.
+     *
+     * @param barrier barrier for which to wait
+     */
+    private static void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (BrokenBarrierException | TimeoutException e) {
+            // the test checks whether the barrier is broken
+        }
+    }
+
     /**
      * Makes a standard object from a status message.
      *
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +22,11 @@
 
 package org.onap.policy.common.endpoints.listeners;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
@@ -120,6 +125,34 @@ class ScoListenerTest {
         assertTrue(appender.getExtracted().toString().contains("unable to decode"));
     }
 
+    @Test
+    void testOnTopicEventString() throws CoderException {
+        primary = spy(new ScoListener<MyMessage>(MyMessage.class, true) {
+            @Override
+            public void onTopicEvent(CommInfrastructure infra, String topic, StandardCoderObject sco,
+                            MyMessage message) {
+                // do nothing
+            }
+        });
+        assertTrue(primary.isDirectDecode());
+
+        MyMessage status = new MyMessage(NAME);
+        primary.onTopicEvent(INFRA, TOPIC, coder.encode(status));
+
+        ArgumentCaptor<StandardCoderObject> captor = ArgumentCaptor.forClass(StandardCoderObject.class);
+        verify(primary).onTopicEvent(eq(INFRA), eq(TOPIC), captor.capture(), eq(status));
+        assertEquals(NAME, captor.getValue().getString("name"));
+        assertEquals(status, coder.fromStandard(captor.getValue(), MyMessage.class));
+
+        assertFalse(appender.getExtracted().toString().contains("unable to decode"));
+
+        // undecodable message
+        logger.addAppender(appender);
+        primary.onTopicEvent(INFRA, TOPIC, "[]");
+        verify(primary, times(1)).onTopicEvent(any(), any(), any(), any());
+        assertTrue(appender.getExtracted().toString().contains("unable to decode"));
+    }
+
     /**
      * Makes a standard object from a JSON string.
      *
@@ -0,0 +1,155 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.utils.coder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.StringReader;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Extracts individual fields from a JSON string without decoding the whole string. The
+ * string is read only as far as necessary to locate the field, skipping over the values
+ * of any other fields, thus this is much cheaper than decoding the string when only a
+ * field or two is of interest (e.g., to route a message). As a consequence, JSON that is
+ * malformed beyond the located field is not detected.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonFieldReader {
+
+    /**
+     * Gets a field's value from a JSON string, traversing the object hierarchy.
+     *
+     * @param json JSON string from which to extract the field
+     * @param fields field hierarchy. These may be strings, identifying fields within the
+     *               object, or Integers, identifying an index within an array
+     * @return the field value or {@code null} if the field does not exist, is not a
+     *         primitive, or the JSON is malformed
+     */
+    public static String getString(String json, Object... fields) {
+        for (Object field : fields) {
+            if (field instanceof Integer index) {
+                if (index < 0) {
+                    throw new IllegalArgumentException("subscript is invalid: " + index);
+                }
+
+            } else if (!(field instanceof String)) {
+                throw new IllegalArgumentException("subscript is not a string or integer: " + field);
+            }
+        }
+
+        if (json == null) {
+            return null;
+        }
+
+        try (var reader = new JsonReader(new StringReader(json))) {
+            for (Object field : fields) {
+                boolean found = (field instanceof String name ? moveToField(reader, name)
+                                : moveToItem(reader, (Integer) field));
+                if (!found) {
+                    return null;
+                }
+            }
+
+            return readPrimitive(reader);
+
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            // malformed JSON
+            return null;
+        }
+    }
+
+    /**
+     * Positions the reader at the value of a field within an object.
+     *
+     * @param reader reader positioned at the object
+     * @param name name of the field of interest
+     * @return {@code true} if the reader is positioned at the field's value,
+     *         {@code false} if the reader is not positioned at an object or if the field
+     *         does not exist
+     * @throws IOException if the JSON is malformed
+     */
+    private static boolean moveToField(JsonReader reader, String name) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            if (name.equals(reader.nextName())) {
+                return true;
+            }
+
+            reader.skipValue();
+        }
+
+        return false;
+    }
+
+    /**
+     * Positions the reader at an item within an array.
+     *
+     * @param reader reader positioned at the array
+     * @param index index of the item of interest
+     * @return {@code true} if the reader is positioned at the item, {@code false} if the
+     *         reader is not positioned at an array or if the index is out of bounds
+     * @throws IOException if the JSON is malformed
+     */
+    private static boolean moveToItem(JsonReader reader, int index) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            return false;
+        }
+
+        reader.beginArray();
+
+        for (var count = 0; count < index; ++count) {
+            if (!reader.hasNext()) {
+                return false;
+            }
+
+            reader.skipValue();
+        }
+
+        return reader.hasNext();
+    }
+
+    /**
+     * Reads a primitive value.
+     *
+     * @param reader reader positioned at the value
+     * @return the value, as a string, or {@code null} if the value is not a primitive
+     * @throws IOException if the JSON is malformed
+     */
+    private static String readPrimitive(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+
+        if (token == JsonToken.BOOLEAN) {
+            return String.valueOf(reader.nextBoolean());
+        }
+
+        return null;
+    }
+}
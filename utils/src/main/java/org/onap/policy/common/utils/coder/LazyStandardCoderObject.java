@@ -0,0 +1,80 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.utils.coder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.Serial;
+
+/**
+ * Standard object wrapping a JSON string, which is only decoded into a tree when the tree
+ * is actually needed (e.g., to translate it into a POJO). Until then, fields are extracted
+ * directly from the string, via {@link JsonFieldReader}. Useful when the string has
+ * already been decoded into a POJO, and the standard object is rarely used.
+ */
+public class LazyStandardCoderObject extends StandardCoderObject {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * JSON string from which the tree is built.
+     */
+    private final String json;
+
+    /**
+     * Tree decoded from the JSON string, or {@code null} if it has not been decoded yet.
+     */
+    private transient volatile JsonElement tree;
+
+    /**
+     * Constructs the object.
+     *
+     * @param json JSON string to be wrapped
+     */
+    public LazyStandardCoderObject(String json) {
+        this.json = json;
+    }
+
+    @Override
+    public String getString(Object... fields) {
+        if (tree == null) {
+            return JsonFieldReader.getString(json, fields);
+        }
+
+        return super.getString(fields);
+    }
+
+    /**
+     * Gets the tree, decoding the JSON string, if it hasn't been decoded yet.
+     *
+     * @return the tree decoded from the JSON string
+     */
+    @Override
+    protected JsonElement getData() {
+        var result = tree;
+        if (result == null) {
+            // concurrent callers may both decode it, but they'll produce the same tree
+            result = JsonParser.parseString(json);
+            tree = result;
+        }
+
+        return result;
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2024, 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -63,8 +63,8 @@ public class StandardCoder implements Coder {
     private static final Gson GSON_STD_PRETTY;
 
     static {
-        GsonBuilder builder = GsonMessageBodyHandler.configBuilder(
-                        new GsonBuilder().registerTypeAdapter(StandardCoderObject.class, new StandardTypeAdapter()));
+        GsonBuilder builder = GsonMessageBodyHandler.configBuilder(new GsonBuilder()
+                        .registerTypeHierarchyAdapter(StandardCoderObject.class, new StandardTypeAdapter()));
 
         GSON_STD = builder.create();
         GSON_STD_PRETTY = builder.setPrettyPrinting().create();
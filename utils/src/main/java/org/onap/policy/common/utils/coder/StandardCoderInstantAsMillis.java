@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,7 +45,7 @@ public class StandardCoderInstantAsMillis extends StandardCoder {
 
     static {
         GsonBuilder builder = GsonMessageBodyHandler
-                        .configBuilder(new GsonBuilder().registerTypeAdapter(StandardCoderObject.class,
+                        .configBuilder(new GsonBuilder().registerTypeHierarchyAdapter(StandardCoderObject.class,
                                         new StandardTypeAdapter()))
                         .registerTypeAdapter(Instant.class, new InstantAsMillisTypeAdapter());
 
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2022 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2022 Bell Canada. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -64,6 +65,138 @@ public class PrometheusUtils {
     public static final String POLICY_EXECUTIONS_LATENCY_SECONDS_HELP =
                                     "The latency in seconds of TOSCA policy executions.";
 
+    /**
+     * Topic Messages Metric Name.
+     */
+    public static final String TOPIC_MESSAGES_METRIC = "topic_messages";
+
+    /**
+     * Topic Messages Metric Help Message.
+     */
+    public static final String TOPIC_MESSAGES_HELP = "The total number of messages received from or sent to a topic.";
+
+    /**
+     * Topic Bytes Metric Name.
+     */
+    public static final String TOPIC_BYTES_METRIC = "topic_bytes";
+
+    /**
+     * Topic Bytes Metric Help Message.
+     */
+    public static final String TOPIC_BYTES_HELP =
+                                    "The total number of bytes (UTF-8) of messages received from or sent to a topic.";
+
+    /**
+     * Topic Send Failures Metric Name.
+     */
+    public static final String TOPIC_SEND_FAILURES_METRIC = "topic_send_failures";
+
+    /**
+     * Topic Send Failures Metric Help Message.
+     */
+    public static final String TOPIC_SEND_FAILURES_HELP =
+                                    "The total number of messages that could not be sent to a topic.";
+
+    /**
+     * Topic Dispatch Latency in Seconds Metric Name.
+     * This metric name is not to be used as a counter.
+     */
+    public static final String TOPIC_DISPATCH_LATENCY_SECONDS_METRIC = "topic_dispatch_latency_seconds";
+
+    /**
+     * Topic Dispatch Latency in Seconds Metric Help Message.
+     */
+    public static final String TOPIC_DISPATCH_LATENCY_SECONDS_HELP =
+                                    "The latency in seconds of notifying a topic's listeners of messages.";
+
+    /**
+     * Topic Poll Duration in Seconds Metric Name.
+     * This metric name is not to be used as a counter.
+     */
+    public static final String TOPIC_POLL_DURATION_SECONDS_METRIC = "topic_poll_duration_seconds";
+
+    /**
+     * Topic Poll Duration in Seconds Metric Help Message.
+     */
+    public static final String TOPIC_POLL_DURATION_SECONDS_HELP = "The time in seconds taken to poll a topic.";
+
+    /**
+     * Topic Poll Batch Size Metric Name.
+     * This metric name is not to be used as a counter.
+     */
+    public static final String TOPIC_POLL_BATCH_SIZE_METRIC = "topic_poll_batch_size";
+
+    /**
+     * Topic Poll Batch Size Metric Help Message.
+     */
+    public static final String TOPIC_POLL_BATCH_SIZE_HELP = "The number of messages fetched by each poll of a topic.";
+
+    /**
+     * Topic Poll Interval in Seconds Metric Name.
+     * This metric name is not to be used as a counter.
+     */
+    public static final String TOPIC_POLL_INTERVAL_SECONDS_METRIC = "topic_poll_interval_seconds";
+
+    /**
+     * Topic Poll Interval in Seconds Metric Help Message.
+     */
+    public static final String TOPIC_POLL_INTERVAL_SECONDS_HELP =
+                                    "The time in seconds between the starts of successive polls of a topic.";
+
+    /**
+     * Topic Commit Duration in Seconds Metric Name.
+     * This metric name is not to be used as a counter.
+     */
+    public static final String TOPIC_COMMIT_DURATION_SECONDS_METRIC = "topic_commit_duration_seconds";
+
+    /**
+     * Topic Commit Duration in Seconds Metric Help Message.
+     */
+    public static final String TOPIC_COMMIT_DURATION_SECONDS_HELP =
+                                    "The time in seconds taken to synchronously commit the offsets of a topic.";
+
+    /**
+     * Topic Consumer Lag Metric Name.
+     * This metric name is not to be used as a counter.
+     */
+    public static final String TOPIC_CONSUMER_LAG_METRIC = "topic_consumer_lag";
+
+    /**
+     * Topic Consumer Lag Metric Help Message.
+     */
+    public static final String TOPIC_CONSUMER_LAG_HELP =
+                                    "The number of records published to a topic partition, but not yet committed.";
+
+    /**
+     * Metric label for topic partitions.
+     */
+    public static final String PARTITION_METRIC_LABEL = "partition";
+
+    /**
+     * Metric label for topic names.
+     */
+    public static final String TOPIC_METRIC_LABEL = "topic";
+
+    /**
+     * Metric label for the bus infrastructure of a topic (ie. kafka or noop).
+     */
+    public static final String BUS_METRIC_LABEL = "bus";
+
+    /**
+     * Metric label for the direction of messages (ie. in or out).
+     */
+    public static final String DIRECTION_METRIC_LABEL = "direction";
+
+    /**
+     * Direction value for messages received from a topic.
+     */
+    public static final String DIRECTION_IN = "in";
+
+    /**
+     * Direction value for messages sent to a topic.
+     */
+    public static final String DIRECTION_OUT = "out";
+
     /**
      * Metric label for arbitrary operations (eg. deploy, undeploy, execute).
      */
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +22,8 @@
 
 package org.onap.policy.common.utils.services;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -38,8 +38,9 @@ public class OrderedServiceImpl<T extends OrderedService> {
     // logger
     private static final Logger logger = LoggerFactory.getLogger(OrderedServiceImpl.class);
 
-    // sorted list of instances implementing the service
-    private List<T> implementers = null;
+    // sorted, immutable list of instances implementing the service; replaced as a
+    // whole when the list is rebuilt, so it can be read without locking
+    private volatile List<T> implementers = null;
 
     // 'ServiceLoader' that is used to discover and create the services
     private final ServiceLoader<T> serviceLoader;
@@ -63,11 +64,18 @@ public class OrderedServiceImpl<T extends OrderedService> {
      *
      * @return the sorted list of services implementing interface 'T' discovered by 'ServiceLoader'.
      */
-    public synchronized List<T> getList() {
-        if (implementers == null) {
-            rebuildList();
+    public List<T> getList() {
+        List<T> list = implementers;
+        if (list != null) {
+            return list;
+        }
+
+        synchronized (this) {
+            if (implementers == null) {
+                rebuildList();
+            }
+            return implementers;
         }
-        return implementers;
     }
 
     /**
@@ -83,7 +91,7 @@ public class OrderedServiceImpl<T extends OrderedService> {
     @SuppressWarnings("unchecked")
     public synchronized List<T> rebuildList() {
         // build a list of all the current implementors
-        List<T> tmp = new LinkedList<>();
+        List<T> tmp = new ArrayList<>();
         for (T service : serviceLoader) {
             tmp.add((T) getSingleton(service));
         }
@@ -102,10 +110,11 @@ public class OrderedServiceImpl<T extends OrderedService> {
             }
         });
 
-        // create an unmodifiable version of this list
-        implementers = Collections.unmodifiableList(tmp);
-        logger.info("***** OrderedServiceImpl implementers:\n {}", implementers);
-        return implementers;
+        // create an immutable version of this list
+        List<T> list = List.copyOf(tmp);
+        implementers = list;
+        logger.info("***** OrderedServiceImpl implementers:\n {}", list);
+        return list;
     }
 
     /**
@@ -0,0 +1,547 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.utils.time;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timing wheel, for scheduling large numbers of short, approximate timeouts (e.g.,
+ * request timeouts) at a cost of O(1) each, regardless of how many are outstanding. Time
+ * is divided into "ticks", and each timeout is placed in the bucket of the tick in which
+ * it expires; once per tick, a single daemon thread expires the timeouts in the current
+ * bucket. A timeout may thus fire up to one tick late. Unless the wheel is given an
+ * executor, tasks are executed on the wheel's thread, in which case they should be brief,
+ * as a slow task delays the expiry of every other timeout.
+ *
+ * <p/>The thread is not started until the first timeout is scheduled. A single wheel,
+ * whose tasks are executed by a small pool of daemon threads, is shared, via
+ * {@link #getShared()}, by the components that need one, so that they do not each start
+ * a thread of their own.
+ */
+public class HashedTimingWheel {
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    /**
+     * Default duration, in milliseconds, of a tick.
+     */
+    public static final long DEFAULT_TICK_MS = 100;
+
+    /**
+     * Default number of buckets in the wheel.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /**
+     * Maximum number of newly scheduled timeouts to move into the wheel per tick, so that
+     * a burst of them cannot delay the expiry of others indefinitely.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    /**
+     * Minimum number of threads executing the tasks of the shared wheel.
+     */
+    private static final int MIN_SHARED_TASK_THREADS = 4;
+
+    /**
+     * Time, in seconds, after which idle threads of the shared wheel's pool are stopped.
+     */
+    private static final long SHARED_TASK_KEEP_ALIVE_SEC = 60;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    @Getter
+    private final String name;
+
+    /**
+     * Used to execute the tasks of the expired timeouts.
+     */
+    private final Executor executor;
+
+    /**
+     * {@code true} if this is the shared wheel, which cannot be stopped.
+     */
+    private final boolean shared;
+
+    /**
+     * Duration of a tick, in nanoseconds.
+     */
+    private final long tickNanos;
+
+    private final Bucket[] wheel;
+
+    /**
+     * Mask used to map a tick to its bucket.
+     */
+    private final int mask;
+
+    /**
+     * Timeouts that have been scheduled, but not yet moved into the wheel.
+     */
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Timeouts that have been cancelled, but not yet removed from the wheel.
+     */
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of timeouts that have neither expired nor been cancelled.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Time, from {@link System#nanoTime()}, at which the thread was started. Set before
+     * {@link #started} is set.
+     */
+    private long startNanos;
+
+    private volatile boolean started = false;
+    private volatile boolean stopped = false;
+
+    private Thread worker;
+
+    /**
+     * Current tick. Only accessed by the worker thread.
+     */
+    private long tick = 0;
+
+    /**
+     * Constructs the object, with the default tick duration and wheel size.
+     *
+     * @param name name of the wheel, used to name its thread
+     */
+    public HashedTimingWheel(String name) {
+        this(name, DEFAULT_TICK_MS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param name name of the wheel, used to name its thread
+     * @param tickDuration duration of a tick, which determines the precision of the
+     *        timeouts
+     * @param unit time unit of the tick duration
+     * @param ticksPerWheel number of buckets in the wheel; rounded up to a power of two
+     */
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(name, tickDuration, unit, ticksPerWheel, Runnable::run, false);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param name name of the wheel, used to name its thread
+     * @param tickDuration duration of a tick, which determines the precision of the
+     *        timeouts
+     * @param unit time unit of the tick duration
+     * @param ticksPerWheel number of buckets in the wheel; rounded up to a power of two
+     * @param executor used to execute the tasks, once their timeouts expire
+     */
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor) {
+        this(name, tickDuration, unit, ticksPerWheel, executor, false);
+    }
+
+    private HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor,
+                    boolean shared) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration must be positive: " + tickDuration);
+        }
+
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticks per wheel is invalid: " + ticksPerWheel);
+        }
+
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.executor = executor;
+        this.shared = shared;
+
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+
+        this.wheel = new Bucket[size];
+        for (var index = 0; index < size; ++index) {
+            this.wheel[index] = new Bucket();
+        }
+
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the shared wheel, whose tasks are executed by a pool of daemon threads, thus a
+     * slow task only delays the tasks queued behind it once all of the threads are busy.
+     *
+     * @return the shared wheel
+     */
+    public static HashedTimingWheel getShared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Schedules a task to be executed once a delay has elapsed.
+     *
+     * @param task task to be executed
+     * @param delay time to wait before executing the task
+     * @param unit time unit of the delay
+     * @return a handle that can be used to cancel the task
+     * @throws IllegalStateException if the wheel has been stopped
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("timing wheel " + name + " is stopped");
+        }
+
+        if (!started) {
+            start();
+        }
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, delay)) - startNanos;
+        if (deadline < 0) {
+            // overflow
+            deadline = Long.MAX_VALUE;
+        }
+
+        var timeout = new Timeout(task, deadline);
+        pending.incrementAndGet();
+        added.add(timeout);
+
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts that have neither expired nor been cancelled.
+     *
+     * @return the number of outstanding timeouts
+     */
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the wheel. Outstanding timeouts will never expire.
+     *
+     * @throws IllegalStateException if this is the shared wheel
+     */
+    public void stop() {
+        if (shared) {
+            throw new IllegalStateException("the shared timing wheel cannot be stopped");
+        }
+
+        Thread thread;
+        synchronized (this) {
+            stopped = true;
+            thread = worker;
+        }
+
+        if (thread != null && thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+
+            try {
+                thread.join();
+
+            } catch (InterruptedException e) {
+                logger.warn("{}: interrupted while stopping", this);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Starts the thread, if it hasn't been started yet.
+     */
+    private synchronized void start() {
+        if (started || stopped) {
+            return;
+        }
+
+        startNanos = System.nanoTime();
+
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+
+        started = true;
+    }
+
+    /**
+     * Expires timeouts, once per tick, until the wheel is stopped.
+     */
+    private void run() {
+        while (!stopped) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+
+            removeCancelled();
+            transferAdded();
+            wheel[(int) (tick & mask)].expire(deadline);
+
+            ++tick;
+        }
+    }
+
+    /**
+     * Waits for the current tick to end.
+     *
+     * @return the time, relative to the start, at which the tick ended, or -1 if the wheel
+     *         was stopped
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+
+        for (;;) {
+            long now = System.nanoTime() - startNanos;
+            if (now >= deadline) {
+                return now;
+            }
+
+            if (stopped) {
+                return -1;
+            }
+
+            LockSupport.parkNanos(this, deadline - now);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferAdded() {
+        for (var count = 0; count < MAX_TRANSFERS_PER_TICK; ++count) {
+            Timeout timeout = added.poll();
+            if (timeout == null) {
+                return;
+            }
+
+            if (timeout.state.get() != STATE_INIT) {
+                continue;
+            }
+
+            long expiryTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+
+            // if already past due, expire it in the current tick
+            wheel[(int) (Math.max(expiryTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashedTimingWheel [name=" + name + ", tickNanos=" + tickNanos + ", ticksPerWheel=" + wheel.length
+                        + "]";
+    }
+
+    /**
+     * Handle for a scheduled task.
+     */
+    public final class Timeout {
+        private final Runnable task;
+
+        /**
+         * Time, relative to the start of the wheel, at which the task is to be executed.
+         */
+        private final long deadline;
+
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+
+        // these are only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task, if it has not already been executed.
+         *
+         * @return {@code true} if the task was cancelled, {@code false} if it had already
+         *         been executed or cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+
+            pending.decrementAndGet();
+            cancelled.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return (state.get() == STATE_CANCELLED);
+        }
+
+        public boolean isExpired() {
+            return (state.get() == STATE_EXPIRED);
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                return;
+            }
+
+            pending.decrementAndGet();
+
+            try {
+                executor.execute(this::runTask);
+            } catch (RejectedExecutionException e) {
+                logger.warn("{}: timeout task rejected", HashedTimingWheel.this, e);
+            }
+        }
+
+        private void runTask() {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("{}: timeout task failed", HashedTimingWheel.this, e);
+            }
+        }
+    }
+
+    /**
+     * Holds the shared wheel, which is not created until it is first requested.
+     */
+    private static class SharedHolder {
+        private static final String NAME = "policy-timeouts";
+        private static final HashedTimingWheel INSTANCE = new HashedTimingWheel(NAME, DEFAULT_TICK_MS,
+                        TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL, makeExecutor(), true);
+
+        private static Executor makeExecutor() {
+            int nthreads = Math.max(MIN_SHARED_TASK_THREADS, Runtime.getRuntime().availableProcessors());
+            var count = new AtomicInteger();
+
+            var executor = new ThreadPoolExecutor(nthreads, nthreads, SHARED_TASK_KEEP_ALIVE_SEC, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), runnable -> {
+                                var thread = new Thread(runnable, NAME + "-task-" + count.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            executor.allowCoreThreadTimeOut(true);
+
+            return executor;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts that expire within a given tick, or within the
+     * same tick of a later round.
+     */
+    private static class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Removes a timeout from the bucket.
+         *
+         * @param timeout timeout to be removed
+         * @return the timeout that followed the removed timeout
+         */
+        Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                head = next;
+            }
+
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+
+            return next;
+        }
+
+        /**
+         * Expires the timeouts in the current round, and counts down the rounds of the
+         * others.
+         *
+         * @param deadline time, relative to the start of the wheel, at which the current
+         *        tick ended
+         */
+        void expire(long deadline) {
+            Timeout timeout = head;
+
+            while (timeout != null) {
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    Timeout next = remove(timeout);
+                    timeout.expire();
+                    timeout = next;
+
+                } else if (timeout.isCancelled()) {
+                    timeout = remove(timeout);
+
+                } else {
+                    --timeout.remainingRounds;
+                    timeout = timeout.next;
+                }
+            }
+        }
+    }
+}
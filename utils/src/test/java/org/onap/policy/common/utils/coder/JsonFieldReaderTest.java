@@ -0,0 +1,73 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.utils.coder;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class JsonFieldReaderTest {
+    private static final String JSON =
+                    "{'abc':'def','ghi':[{'x':{'y':[1,2]}},{'jkl':'mno','num':10.5,'flag':true,'none':null}]}"
+                                    .replace('\'', '"');
+
+    @Test
+    void testGetString() {
+        // one field
+        assertEquals("def", JsonFieldReader.getString(JSON, "abc"));
+
+        // multiple fields, skipping over nested values
+        assertEquals("mno", JsonFieldReader.getString(JSON, "ghi", 1, "jkl"));
+
+        // non-string primitives
+        assertEquals("10.5", JsonFieldReader.getString(JSON, "ghi", 1, "num"));
+        assertEquals("true", JsonFieldReader.getString(JSON, "ghi", 1, "flag"));
+        assertEquals("2", JsonFieldReader.getString(JSON, "ghi", 0, "x", "y", 1));
+
+        // null value
+        assertNull(JsonFieldReader.getString(JSON, "ghi", 1, "none"));
+
+        // not found
+        assertNull(JsonFieldReader.getString(JSON, "xyz"));
+        assertNull(JsonFieldReader.getString(JSON, "ghi", 2));
+
+        // not a primitive
+        assertNull(JsonFieldReader.getString(JSON, "ghi"));
+        assertNull(JsonFieldReader.getString(JSON));
+
+        // not a JSON object or array
+        assertNull(JsonFieldReader.getString(JSON, "abc", "def"));
+        assertNull(JsonFieldReader.getString(JSON, "abc", 0));
+        assertNull(JsonFieldReader.getString(JSON, 0));
+
+        // null or malformed JSON
+        assertNull(JsonFieldReader.getString(null, "abc"));
+        assertNull(JsonFieldReader.getString("{'abc' 'def'}".replace('\'', '"'), "abc"));
+        assertNull(JsonFieldReader.getString("{\"abc\":", "abc"));
+
+        // fields following the located field are not examined
+        assertEquals("def", JsonFieldReader.getString("{\"abc\":\"def\",", "abc"));
+
+        // invalid subscripts
+        assertThatIllegalArgumentException().isThrownBy(() -> JsonFieldReader.getString(JSON, 10.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> JsonFieldReader.getString(JSON, -1));
+    }
+}
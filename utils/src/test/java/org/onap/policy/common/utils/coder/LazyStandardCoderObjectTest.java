@@ -0,0 +1,84 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.utils.coder;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.gson.Gson;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazyStandardCoderObjectTest {
+    private static final Gson gson = new Gson();
+
+    private static final String PROP1 = "abc";
+    private static final String PROP2 = "ghi";
+    private static final Integer PROP2_INDEX = 1;
+    private static final String PROP_2_B = "jkl";
+    private static final String VAL1 = "def";
+    private static final String VAL2 = "mno";
+    private static final String JSON = "{'abc':'def','ghi':[{},{'jkl':'mno'}]}".replace('\'', '"');
+
+    private LazyStandardCoderObject sco;
+
+    @BeforeEach
+    public void setUp() {
+        sco = new LazyStandardCoderObject(JSON);
+    }
+
+    @Test
+    void testGetString() {
+        // before the tree is built
+        assertEquals(VAL1, sco.getString(PROP1));
+        assertEquals(VAL2, sco.getString(PROP2, PROP2_INDEX, PROP_2_B));
+        assertNull(sco.getString("xyz"));
+        assertThatIllegalArgumentException().isThrownBy(() -> sco.getString(PROP2, -1))
+                        .withMessage("subscript is invalid: -1");
+
+        // after the tree is built
+        sco.getData();
+        assertEquals(VAL1, sco.getString(PROP1));
+        assertEquals(VAL2, sco.getString(PROP2, PROP2_INDEX, PROP_2_B));
+        assertNull(sco.getString("xyz"));
+        assertThatIllegalArgumentException().isThrownBy(() -> sco.getString(PROP2, -1))
+                        .withMessage("subscript is invalid: -1");
+    }
+
+    @Test
+    void testGetData() {
+        var tree = sco.getData();
+        assertEquals(JSON, gson.toJson(tree));
+
+        // should only be decoded once
+        assertSame(tree, sco.getData());
+    }
+
+    @Test
+    void testFromStandard() throws CoderException {
+        var coder = new StandardCoder();
+        assertEquals(Map.of(PROP1, VAL1), coder.fromStandard(new LazyStandardCoderObject("{'abc':'def'}"
+                        .replace('\'', '"')), Map.class));
+
+        assertEquals(JSON, coder.encode(sco));
+    }
+}
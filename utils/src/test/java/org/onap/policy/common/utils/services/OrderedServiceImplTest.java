@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2019 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +23,9 @@
 package org.onap.policy.common.utils.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
@@ -70,6 +74,20 @@ class OrderedServiceImplTest {
         assertEquals(LOW_PRIORITY_NUM, lowPrioService.getSequenceNumber());
     }
 
+    /**
+     * Tests that the list is immutable and only replaced when it is rebuilt.
+     */
+    @Test
+    void getListSameInstanceTest() {
+        List<GenericService> implementers = GenericService.providers.getList();
+        assertSame(implementers, GenericService.providers.getList());
+        assertThrows(UnsupportedOperationException.class, () -> implementers.add(lowPrioService));
+
+        List<GenericService> rebuilt = GenericService.providers.rebuildList();
+        assertNotSame(implementers, rebuilt);
+        assertSame(rebuilt, GenericService.providers.getList());
+    }
+
     /**
      * Tests inverting the priority of two services to ensure the list is rebuilt
      * with the new order.
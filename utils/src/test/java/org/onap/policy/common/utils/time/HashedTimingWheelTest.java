@@ -0,0 +1,229 @@
+/*
+ * ============LICENSE_START=======================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.common.utils.time;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+    private static final long TICK_MS = 10;
+    private static final int TICKS_PER_WHEEL = 4;
+    private static final long WAIT_SEC = 5;
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel("my-wheel", TICK_MS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals("my-wheel", wheel.getName());
+        assertEquals("my-wheel", new HashedTimingWheel("other").getName());
+
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> new HashedTimingWheel("bad", 0, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL));
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> new HashedTimingWheel("bad", TICK_MS, TimeUnit.MILLISECONDS, 0));
+    }
+
+    @Test
+    void testSchedule() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        long start = System.nanoTime();
+
+        // spans several rotations of the wheel
+        var timeout3 = wheel.schedule(() -> fire(fired, latch, "c"), 15 * TICK_MS, TimeUnit.MILLISECONDS);
+        var timeout1 = wheel.schedule(() -> fire(fired, latch, "a"), 0, TimeUnit.MILLISECONDS);
+        var timeout2 = wheel.schedule(() -> fire(fired, latch, "b"), 5 * TICK_MS, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b", "c"), fired);
+
+        // never early
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(15 * TICK_MS));
+
+        assertTrue(timeout1.isExpired());
+        assertTrue(timeout2.isExpired());
+        assertTrue(timeout3.isExpired());
+        assertFalse(timeout3.isCancelled());
+        assertEquals(0, wheel.getPendingCount());
+
+        // too late to cancel
+        assertFalse(timeout3.cancel());
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        var cancelled = wheel.schedule(() -> fire(fired, latch, "cancelled"), 10 * TICK_MS, TimeUnit.MILLISECONDS);
+        var cancelledLater = wheel.schedule(() -> fire(fired, latch, "later"), 20 * TICK_MS, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> fire(fired, latch, "kept"), 25 * TICK_MS, TimeUnit.MILLISECONDS);
+        assertEquals(3, wheel.getPendingCount());
+
+        // cancel one before it's in the wheel, and the other once it is
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        Thread.sleep(TICK_MS);
+        assertTrue(cancelledLater.cancel());
+
+        assertEquals(1, wheel.getPendingCount());
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.isExpired());
+
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+        assertEquals(List.of("kept"), fired);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testTaskException() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            throw new IllegalStateException("expected exception");
+        }, 0, TimeUnit.MILLISECONDS);
+        wheel.schedule(latch::countDown, TICK_MS, TimeUnit.MILLISECONDS);
+
+        // the wheel keeps running
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testExecutor() throws InterruptedException {
+        var executor = Executors.newSingleThreadExecutor();
+        var wheel2 = new HashedTimingWheel("executed", TICK_MS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL, executor);
+
+        try {
+            CountDownLatch blocker = new CountDownLatch(1);
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<String> thread = new AtomicReference<>();
+
+            // a slow task does not delay the expiry of the others
+            wheel2.schedule(() -> awaitQuietly(blocker), 0, TimeUnit.MILLISECONDS);
+            wheel2.schedule(() -> {
+                thread.set(Thread.currentThread().getName());
+                latch.countDown();
+            }, TICK_MS, TimeUnit.MILLISECONDS);
+
+            assertTrue(waitFor(() -> wheel2.getPendingCount() == 0));
+            assertEquals(1, latch.getCount());
+
+            blocker.countDown();
+            assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+            assertNotEquals("executed", thread.get());
+
+            // rejected tasks are discarded
+            executor.shutdown();
+            wheel2.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+            assertTrue(waitFor(() -> wheel2.getPendingCount() == 0));
+
+        } finally {
+            wheel2.stop();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetShared() throws InterruptedException {
+        HashedTimingWheel shared = HashedTimingWheel.getShared();
+        assertSame(shared, HashedTimingWheel.getShared());
+        assertThatIllegalStateException().isThrownBy(shared::stop);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> thread = new AtomicReference<>();
+        shared.schedule(() -> {
+            thread.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, 0, TimeUnit.MILLISECONDS);
+
+        // executed by the pool rather than by the wheel's thread
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+        assertNotEquals(shared.getName(), thread.get());
+    }
+
+    @Test
+    void testStop() {
+        var timeout = wheel.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        wheel.stop();
+        assertThatIllegalStateException().isThrownBy(() -> wheel.schedule(() -> { }, 0, TimeUnit.MILLISECONDS));
+        assertFalse(timeout.isExpired());
+
+        // stopping again, or before starting, is harmless
+        wheel.stop();
+        new HashedTimingWheel("unused").stop();
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(wheel.toString().startsWith("HashedTimingWheel [name=my-wheel"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(WAIT_SEC, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(WAIT_SEC);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(TICK_MS);
+        }
+
+        return true;
+    }
+
+    private static void fire(List<String> fired, CountDownLatch latch, String name) {
+        fired.add(name);
+        latch.countDown();
+    }
+}